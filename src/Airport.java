@@ -19,6 +19,8 @@ import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 /// - **`name`:** Nome do aeroporto (por exemplo, "Belo Horizonte").
 /// - **`code`:** Código do aeroporto (por exemplo, "CNF").
 /// - **`flights`:** Lista encadeada de voos associados ao aeroporto.
+/// - **`latitude`, `longitude`:** Coordenadas opcionais do aeroporto, em graus (`NaN` quando não informadas).
+/// - **`minimumConnectionMinutes`:** Tempo mínimo de conexão entre voos neste aeroporto.
 ///
 /// ## Uso
 /// Crie instâncias de `Airport` utilizando o construtor padrão ou o construtor de cópia, e utilize os metodos disponíveis para gerenciar voos e comparar aeroportos.
@@ -40,9 +42,17 @@ public class Airport implements Cloneable {
     /// - **`name`:** Nome do aeroporto (por exemplo, "Belo Horizonte").
     /// - **`code`:** Código do aeroporto (por exemplo, "CNF").
     /// - **`flights`:** Lista encadeada de voos associados ao aeroporto.
+    /// - **`latitude`, `longitude`:** Coordenadas do aeroporto em graus; `NaN` quando não informadas.
+    /// - **`minimumConnectionMinutes`:** Tempo mínimo, em minutos, entre a chegada de um voo e a partida do próximo.
+    /// - **`DEFAULT_MINIMUM_CONNECTION_MINUTES`:** Tempo mínimo de conexão padrão.
+    public static final int DEFAULT_MINIMUM_CONNECTION_MINUTES = 30;
+
     private String name;
     private String code;
     private final LinkedListDisordered<Flight> flights;
+    private double latitude = Double.NaN;
+    private double longitude = Double.NaN;
+    private int minimumConnectionMinutes = DEFAULT_MINIMUM_CONNECTION_MINUTES;
 
     /// ## Airport
     ///
@@ -189,6 +199,86 @@ public class Airport implements Cloneable {
         return flights;  // Retorna a lista de voos associados ao aeroporto.
     }
 
+    /// ## setCoordinates
+    ///
+    /// Define as coordenadas geográficas do aeroporto, usadas para estimar distâncias entre aeroportos.
+    ///
+    /// ### Parâmetros
+    /// - **`latitude`:** A latitude em graus, entre -90 e 90.
+    /// - **`longitude`:** A longitude em graus, entre -180 e 180.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se alguma coordenada estiver fora do intervalo válido.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// airport.setCoordinates(-23.4356, -46.4731);
+    ///```
+    ///
+    /// @param latitude  A latitude em graus.
+    /// @param longitude A longitude em graus.
+    public void setCoordinates(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180))
+            throw new IllegalArgumentException("Coordenadas inválidas");
+
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /// ## hasCoordinates
+    ///
+    /// Informa se as coordenadas do aeroporto foram definidas.
+    ///
+    /// @return `true` se o aeroporto tem coordenadas.
+    public boolean hasCoordinates() {
+        return !Double.isNaN(latitude);
+    }
+
+    /// ## getLatitude
+    ///
+    /// Retorna a latitude do aeroporto em graus.
+    ///
+    /// @return A latitude, ou `NaN` se não informada.
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /// ## getLongitude
+    ///
+    /// Retorna a longitude do aeroporto em graus.
+    ///
+    /// @return A longitude, ou `NaN` se não informada.
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /// ## getMinimumConnectionMinutes
+    ///
+    /// Retorna o tempo mínimo de conexão do aeroporto.
+    ///
+    /// @return O tempo mínimo, em minutos, entre a chegada de um voo e a partida do próximo.
+    public int getMinimumConnectionMinutes() {
+        return minimumConnectionMinutes;
+    }
+
+    /// ## setMinimumConnectionMinutes
+    ///
+    /// Define o tempo mínimo de conexão do aeroporto.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o tempo for negativo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// airport.setMinimumConnectionMinutes(60);
+    ///```
+    ///
+    /// @param minutes O tempo mínimo de conexão, em minutos.
+    public void setMinimumConnectionMinutes(int minutes) {
+        if (minutes < 0) throw new IllegalArgumentException("Tempo mínimo de conexão inválido");
+        this.minimumConnectionMinutes = minutes;
+    }
+
     /// ## Airport (Construtor de Cópia)
     ///
     /// Construtor de cópia. Cria um novo objeto `Airport` a partir de outro, realizando uma cópia profunda
@@ -226,6 +316,11 @@ public class Airport implements Cloneable {
 
         // Realiza uma cópia profunda da lista de voos.
         this.flights = (LinkedListDisordered<Flight>) verifyAndCopy(other.flights);
+
+        // Copia as coordenadas, que são primitivas.
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.minimumConnectionMinutes = other.minimumConnectionMinutes;
     }
 
     /// ## clone
@@ -0,0 +1,211 @@
+import estruturas.LinkedList.Disordered.LinkedListDisordered;
+
+import java.util.Locale;
+
+/// # AirportRegistry
+///
+/// A classe `AirportRegistry` mantém o cadastro de aeroportos do sistema. Além da lista encadeada
+/// desordenada (`LinkedListDisordered`) que preserva a ordem de cadastro, mantém um índice hash de
+/// endereçamento aberto que associa o código do aeroporto (normalizado para maiúsculas) ao próprio
+/// `Airport`, permitindo buscas por código em tempo constante.
+///
+/// ## Funcionalidades
+/// - **Cadastro (`add`):** Adiciona um aeroporto, garantindo que o código seja único (sem diferenciar maiúsculas/minúsculas).
+/// - **Busca (`find`):** Localiza um aeroporto pelo código em O(1) esperado.
+/// - **Listagem (`getAirports`):** Expõe a lista de aeroportos na ordem de cadastro.
+///
+/// ## Estrutura Interna
+/// - **`airports`:** Lista encadeada desordenada com os aeroportos na ordem de cadastro.
+/// - **`keys`:** Tabela de códigos normalizados (sondagem linear).
+/// - **`values`:** Tabela paralela a `keys` com os aeroportos armazenados na lista.
+///
+/// ## Uso
+/// ```java
+/// AirportRegistry registry = new AirportRegistry();
+/// registry.add(new Airport("São Paulo", "GRU"));
+/// Airport gru = registry.find("gru"); // encontra "GRU"
+///```
+public class AirportRegistry {
+
+    /// ### Campos
+    ///
+    /// - **`INITIAL_CAPACITY`:** Capacidade inicial da tabela hash (potência de dois).
+    /// - **`airports`:** Lista encadeada desordenada com os aeroportos na ordem de cadastro.
+    /// - **`keys`:** Códigos normalizados; `null` indica posição livre.
+    /// - **`values`:** Aeroportos associados a cada posição de `keys`.
+    /// - **`size`:** Quantidade de aeroportos indexados.
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final LinkedListDisordered<Airport> airports;
+    private String[] keys;
+    private Airport[] values;
+    private int size;
+
+    /// ## AirportRegistry
+    ///
+    /// Construtor da classe `AirportRegistry`. Inicializa a lista de aeroportos vazia e a tabela
+    /// hash com a capacidade inicial.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste construtor.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// AirportRegistry registry = new AirportRegistry();
+    ///```
+    public AirportRegistry() {
+        this.airports = new LinkedListDisordered<>();
+        this.keys = new String[INITIAL_CAPACITY];
+        this.values = new Airport[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /// ## add
+    ///
+    /// Adiciona um aeroporto ao cadastro, desde que ainda não exista outro com o mesmo código.
+    ///
+    /// ### Parâmetros
+    /// - **`airport`:** O aeroporto a ser cadastrado.
+    ///
+    /// ### Retorno
+    /// - **`boolean`:** `true` se o aeroporto foi cadastrado, `false` se o código já existia.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Normaliza o código e verifica se ele já está indexado.
+    /// 2. Adiciona o aeroporto ao final da lista `airports`.
+    /// 3. Indexa o aeroporto efetivamente armazenado na lista (a lista guarda uma cópia do elemento),
+    ///    para que as alterações feitas pelo índice sejam vistas também pela lista.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o aeroporto ou o seu código forem nulos.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// boolean added = registry.add(new Airport("Salvador", "SSA"));
+    ///```
+    ///
+    /// @param airport O aeroporto a ser cadastrado.
+    /// @return `true` se o aeroporto foi cadastrado, `false` se o código já existia.
+    public boolean add(Airport airport) {
+        if (airport == null || airport.getCode() == null)
+            throw new IllegalArgumentException("Aeroporto não pode ser nulo");
+
+        String key = normalize(airport.getCode());
+        if (indexOf(key) >= 0) return false;  // Código já cadastrado
+
+        airports.addLast(airport);
+        Airport stored = airports.getLast();  // Instância efetivamente armazenada na lista
+
+        if ((size + 1) * 2 > keys.length) resize();  // Mantém o fator de carga abaixo de 1/2
+        insert(key, stored);
+        size++;
+        return true;
+    }
+
+    /// ## find
+    ///
+    /// Procura um aeroporto pelo seu código, sem diferenciar maiúsculas de minúsculas.
+    ///
+    /// ### Parâmetros
+    /// - **`code`:** O código do aeroporto a ser encontrado.
+    ///
+    /// ### Retorno
+    /// - **`Airport`:** O aeroporto correspondente ou `null` se não for encontrado.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Airport airport = registry.find("gig");
+    ///```
+    ///
+    /// @param code O código do aeroporto a ser encontrado.
+    /// @return O aeroporto correspondente ou `null` se não for encontrado.
+    public Airport find(String code) {
+        if (code == null) return null;
+        int slot = indexOf(normalize(code));
+        return (slot >= 0) ? values[slot] : null;
+    }
+
+    /// ## getAirports
+    ///
+    /// Retorna a lista de aeroportos cadastrados, na ordem de cadastro.
+    ///
+    /// @return A lista encadeada de aeroportos.
+    public LinkedListDisordered<Airport> getAirports() {
+        return airports;
+    }
+
+    /// ## size
+    ///
+    /// Retorna a quantidade de aeroportos cadastrados.
+    ///
+    /// @return A quantidade de aeroportos cadastrados.
+    public int size() {
+        return size;
+    }
+
+    /// ## normalize
+    ///
+    /// Normaliza um código de aeroporto para uso como chave do índice (sem espaços e em maiúsculas).
+    ///
+    /// @param code O código a ser normalizado.
+    /// @return O código normalizado.
+    static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /// ## indexOf
+    ///
+    /// Localiza a posição da chave na tabela por sondagem linear.
+    ///
+    /// @param key A chave normalizada.
+    /// @return A posição da chave na tabela ou `-1` se não estiver presente.
+    private int indexOf(String key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != null) {  // Uma posição livre encerra a sondagem
+            if (keys[slot].equals(key)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /// ## insert
+    ///
+    /// Insere a chave e o valor na primeira posição livre a partir do hash da chave.
+    ///
+    /// @param key   A chave normalizada.
+    /// @param value O aeroporto associado.
+    private void insert(String key, Airport value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != null)
+            slot = (slot + 1) & mask;
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /// ## resize
+    ///
+    /// Dobra a capacidade da tabela e reinsere todas as entradas.
+    private void resize() {
+        String[] oldKeys = keys;
+        Airport[] oldValues = values;
+
+        keys = new String[oldKeys.length * 2];
+        values = new Airport[oldValues.length * 2];
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldKeys[i] != null) insert(oldKeys[i], oldValues[i]);
+    }
+
+    /// ## hash
+    ///
+    /// Espalha os bits altos do `hashCode` da chave para reduzir colisões com máscaras pequenas.
+    ///
+    /// @param key A chave normalizada.
+    /// @return O hash espalhado.
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
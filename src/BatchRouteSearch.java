@@ -0,0 +1,299 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// # BatchRouteSearch
+///
+/// A classe `BatchRouteSearch` responde muitas consultas de rota de uma só vez sobre um mesmo `RouteGraph`
+/// imutável. As consultas são agrupadas por origem: uma única busca a partir de cada origem (BFS ou
+/// Dijkstra) responde todos os destinos do grupo, e os grupos são distribuídos entre as threads de um
+/// `ForkJoinPool`.
+///
+/// ## Funcionalidades
+/// - **Consultas em lote (`run`):** Retorna o trajeto de cada consulta, na ordem das consultas.
+///
+/// ## Estrutura Interna
+/// - **Agrupamento:** Contagem e soma de prefixos por origem (como os `offsets` do `RouteGraph`), em O(V + Q).
+/// - **Busca por origem:** Para assim que todos os destinos do grupo foram fixados, sem percorrer o resto da malha.
+/// - **Tarefas:** Cada tarefa divide os grupos ao meio até ter no máximo `GROUPS_PER_TASK` grupos; cada folha
+///   aloca os vetores de busca uma única vez e os reaproveita (marcados por rodada) em todos os seus grupos.
+/// - Cada consulta escreve apenas na sua própria posição do resultado, então as tarefas não precisam de sincronização.
+///
+/// ## Uso
+/// ```java
+/// Itinerary[] routes = BatchRouteSearch.run(graph, sources, dests, RouteWeight.FARE, ForkJoinPool.commonPool());
+///```
+public final class BatchRouteSearch {
+
+    /// ### Campos
+    ///
+    /// - **`GROUPS_PER_TASK`:** Quantidade de origens que uma tarefa processa sem se dividir.
+    private static final int GROUPS_PER_TASK = 4;
+
+    /// ## BatchRouteSearch
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private BatchRouteSearch() {
+    }
+
+    /// ## run
+    ///
+    /// Responde um lote de consultas. A consulta `i` vai de `sources[i]` para `dests[i]`.
+    ///
+    /// ### Retorno
+    /// - **`Itinerary[]`:** O trajeto de cada consulta (com menos trechos ou, com um critério de peso, de
+    ///   menor custo), ou `null` se o destino for inalcançável ou se algum identificador for negativo
+    ///   (consultas com aeroportos desconhecidos ou já rejeitadas).
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Agrupa os índices das consultas válidas por origem.
+    /// 2. Distribui as origens entre as tarefas do pool (ou executa na thread atual, se forem poucas).
+    /// 3. Para cada origem, executa uma única busca até fixar todos os destinos do grupo e monta os trajetos.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se os vetores de origens e destinos tiverem tamanhos diferentes.
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador for maior ou igual ao tamanho do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary[] routes = BatchRouteSearch.run(graph, sources, dests, null, ForkJoinPool.commonPool());
+    ///```
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param sources Identificador da origem de cada consulta.
+    /// @param dests   Identificador do destino de cada consulta.
+    /// @param weight  O critério de peso, ou `null` para o menor número de trechos.
+    /// @param pool    O pool de threads.
+    /// @return O trajeto de cada consulta.
+    public static Itinerary[] run(RouteGraph graph, int[] sources, int[] dests, RouteWeight weight, ForkJoinPool pool) {
+        if (sources.length != dests.length)
+            throw new IllegalArgumentException("Quantidades de origens e destinos diferentes");
+        int n = graph.size();
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] >= n || dests[i] >= n) throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        }
+
+        // Agrupa as consultas por origem
+        int[] starts = new int[n + 1];
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] >= 0 && dests[i] >= 0) starts[sources[i] + 1]++;
+        }
+        int groups = 0;
+        for (int u = 0; u < n; u++) {
+            if (starts[u + 1] > 0) groups++;
+            starts[u + 1] += starts[u];  // Soma de prefixos
+        }
+        int[] order = new int[starts[n]];
+        int[] fill = Arrays.copyOf(starts, n);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] >= 0 && dests[i] >= 0) order[fill[sources[i]]++] = i;
+        }
+        int[] origins = new int[groups];
+        groups = 0;
+        for (int u = 0; u < n; u++) {
+            if (starts[u + 1] > starts[u]) origins[groups++] = u;
+        }
+
+        Itinerary[] results = new Itinerary[sources.length];
+        GroupTask task = new GroupTask(graph, weight, dests, starts, order, origins, results, 0, groups);
+        if (groups <= GROUPS_PER_TASK) task.compute();  // Poucas origens: evita o pool
+        else pool.invoke(task);
+        return results;
+    }
+
+    /// ## GroupTask
+    ///
+    /// Tarefa fork/join que responde os grupos de consultas de um intervalo de origens.
+    @SuppressWarnings("serial")  // Executada apenas no `ForkJoinPool`, nunca serializada
+    private static final class GroupTask extends RecursiveAction {
+
+        /// ### Campos
+        ///
+        /// - **`graph`, `weight`:** O retrato e o critério de peso.
+        /// - **`dests`, `starts`, `order`, `origins`:** Destinos e consultas agrupadas por origem.
+        /// - **`results`:** O trajeto de cada consulta.
+        /// - **`from`, `to`:** O intervalo de origens da tarefa.
+        private final RouteGraph graph;
+        private final RouteWeight weight;
+        private final int[] dests;
+        private final int[] starts;
+        private final int[] order;
+        private final int[] origins;
+        private final Itinerary[] results;
+        private final int from;
+        private final int to;
+
+        /// ## GroupTask
+        ///
+        /// Cria a tarefa para as origens `origins[from..to)`.
+        GroupTask(RouteGraph graph, RouteWeight weight, int[] dests, int[] starts, int[] order, int[] origins,
+                  Itinerary[] results, int from, int to) {
+            this.graph = graph;
+            this.weight = weight;
+            this.dests = dests;
+            this.starts = starts;
+            this.order = order;
+            this.origins = origins;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        /// ## compute
+        ///
+        /// Divide o intervalo ao meio enquanto for grande; caso contrário, responde cada grupo em sequência,
+        /// reaproveitando os mesmos vetores de busca.
+        @Override
+        protected void compute() {
+            if (to - from > GROUPS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new GroupTask(graph, weight, dests, starts, order, origins, results, from, mid),
+                          new GroupTask(graph, weight, dests, starts, order, origins, results, mid, to));
+                return;
+            }
+
+            Searcher searcher = new Searcher(graph, weight);
+            for (int g = from; g < to; g++) {
+                int source = origins[g];
+                searcher.search(source, dests, order, starts[source], starts[source + 1]);
+                for (int i = starts[source]; i < starts[source + 1]; i++)
+                    results[order[i]] = searcher.itinerary(source, dests[order[i]]);
+            }
+        }
+    }
+
+    /// ## Searcher
+    ///
+    /// Busca de origem única (BFS ou Dijkstra) que para ao fixar todos os destinos pedidos. Os vetores são
+    /// alocados uma vez e marcados por rodada, de modo que buscas sucessivas não precisam limpá-los.
+    private static final class Searcher {
+
+        /// ### Campos
+        ///
+        /// - **`graph`, `weight`:** O retrato e o critério de peso (`null` = trechos).
+        /// - **`dist`, `edgeTo`, `seen`:** Distância, voo de chegada e rodada de cada aeroporto alcançado.
+        /// - **`pending`:** Rodada em que o aeroporto é um destino ainda não fixado.
+        /// - **`queue`, `heap`:** Fila da BFS e heap do Dijkstra.
+        /// - **`round`:** A rodada atual.
+        private final RouteGraph graph;
+        private final RouteWeight weight;
+        private final long[] dist;
+        private final int[] edgeTo;
+        private final int[] seen;
+        private final int[] pending;
+        private final int[] queue;
+        private final NodeHeap heap;
+        private int round;
+
+        /// ## Searcher
+        ///
+        /// @param graph  O retrato CSR da malha.
+        /// @param weight O critério de peso, ou `null`.
+        Searcher(RouteGraph graph, RouteWeight weight) {
+            int n = graph.size();
+            this.graph = graph;
+            this.weight = weight;
+            this.dist = new long[n];
+            this.edgeTo = new int[n];
+            this.seen = new int[n];
+            this.pending = new int[n];
+            this.queue = (weight == null) ? new int[n] : null;
+            this.heap = (weight == null) ? null : new NodeHeap(n);
+        }
+
+        /// ## search
+        ///
+        /// Busca a partir de `source` até fixar os destinos das consultas `order[start..end)`.
+        ///
+        /// @param source A origem do grupo.
+        /// @param dests  Destino de cada consulta.
+        /// @param order  Índices das consultas agrupadas por origem.
+        /// @param start  Início do grupo em `order`.
+        /// @param end    Fim (exclusivo) do grupo em `order`.
+        void search(int source, int[] dests, int[] order, int start, int end) {
+            round++;
+            int remaining = 0;
+            for (int i = start; i < end; i++) {
+                int t = dests[order[i]];
+                if (pending[t] != round) {
+                    pending[t] = round;
+                    remaining++;
+                }
+            }
+
+            seen[source] = round;
+            dist[source] = 0;
+            if (weight == null) bfs(source, remaining);
+            else dijkstra(source, remaining);
+        }
+
+        /// ## bfs
+        ///
+        /// Busca em largura; cada aeroporto é fixado ao sair da fila.
+        private void bfs(int source, int remaining) {
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int u = queue[head++];
+                if (pending[u] == round && --remaining == 0) return;  // Todos os destinos do grupo fixados
+
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.target(e);
+                    if (seen[v] == round) continue;
+                    seen[v] = round;
+                    dist[v] = dist[u] + 1;
+                    edgeTo[v] = e;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        /// ## dijkstra
+        ///
+        /// Algoritmo de Dijkstra; voos sem o peso informado são ignorados.
+        private void dijkstra(int source, int remaining) {
+            heap.offer(source, 0);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                if (pending[u] == round && --remaining == 0) break;  // Todos os destinos do grupo fixados
+
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int w = graph.weight(e, weight);
+                    if (w == Flight.UNKNOWN_WEIGHT) continue;
+
+                    int v = graph.target(e);
+                    long candidate = dist[u] + w;
+                    if (seen[v] == round && candidate >= dist[v]) continue;
+                    seen[v] = round;
+                    dist[v] = candidate;
+                    edgeTo[v] = e;
+                    heap.offer(v, candidate);
+                }
+            }
+            heap.clear();
+        }
+
+        /// ## itinerary
+        ///
+        /// Monta o trajeto até um destino da última busca, seguindo os voos de chegada até a origem.
+        ///
+        /// @param source A origem da busca.
+        /// @param dest   O destino.
+        /// @return O trajeto, ou `null` se o destino não foi alcançado.
+        Itinerary itinerary(int source, int dest) {
+            if (seen[dest] != round) return null;
+
+            int hops = 0;
+            for (int v = dest; v != source; v = graph.source(edgeTo[v]))
+                hops++;
+            int[] edges = new int[hops];
+            for (int v = dest, i = hops - 1; v != source; v = graph.source(edgeTo[v]), i--)
+                edges[i] = edgeTo[v];
+
+            return (weight == null)
+                    ? Itinerary.fromEdges(graph, source, edges, hops)
+                    : Itinerary.fromEdges(graph, source, edges, hops, dist[dest]);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/// # ConnectivityReport
+///
+/// A classe `ConnectivityReport` resume a conectividade da malha a partir das componentes fortemente conexas
+/// de um `RouteGraph`: aeroportos isolados, becos sem saída (é possível chegar, mas não voltar), origens
+/// inalcançáveis (é possível partir, mas não chegar) e o maior grupo de aeroportos mutuamente alcançáveis.
+/// Toda a análise é linear, O(V + E), e pode ser repetida após cada importação de voos.
+///
+/// ## Funcionalidades
+/// - **Análise (`analyze`):** Calcula o relatório a partir do retrato (e, opcionalmente, de componentes já calculadas).
+/// - **Consulta (`getIsolatedAirports`, `getDeadEndAirports`, `getUnreachableOrigins`, `getLargestComponent`):**
+///   Códigos dos aeroportos de cada categoria, na ordem de cadastro.
+/// - **Representação Textual (`toString`).**
+///
+/// ## Estrutura Interna
+/// - Uma componente é um **beco sem saída** se recebe voos de outras componentes, mas não tem voos para
+///   nenhuma delas: quem chega não consegue voltar ao restante da malha. Um aeroporto que só recebe voos é o
+///   caso mais simples (uma componente de um único aeroporto).
+/// - Uma componente é uma **origem inalcançável** se tem voos para outras componentes, mas não recebe voos
+///   de nenhuma delas.
+/// - Um aeroporto é **isolado** se não tem voos de partida nem de chegada (voos para ele mesmo são ignorados).
+///
+/// ## Uso
+/// ```java
+/// ConnectivityReport report = ConnectivityReport.analyze(graph);
+/// System.out.println(report);
+///```
+public final class ConnectivityReport {
+
+    /// ### Campos
+    ///
+    /// - **`airportCount`, `componentCount`:** Quantidade de aeroportos e de componentes.
+    /// - **`isolated`, `deadEnds`, `unreachableOrigins`:** Códigos dos aeroportos de cada categoria.
+    /// - **`largestComponent`:** Códigos dos aeroportos do maior grupo mutuamente alcançável.
+    private final int airportCount;
+    private final int componentCount;
+    private final String[] isolated;
+    private final String[] deadEnds;
+    private final String[] unreachableOrigins;
+    private final String[] largestComponent;
+
+    /// ## ConnectivityReport
+    ///
+    /// Construtor privado. Use `analyze` para gerar o relatório.
+    private ConnectivityReport(int airportCount, int componentCount, String[] isolated, String[] deadEnds,
+                               String[] unreachableOrigins, String[] largestComponent) {
+        this.airportCount = airportCount;
+        this.componentCount = componentCount;
+        this.isolated = isolated;
+        this.deadEnds = deadEnds;
+        this.unreachableOrigins = unreachableOrigins;
+        this.largestComponent = largestComponent;
+    }
+
+    /// ## analyze
+    ///
+    /// Gera o relatório de conectividade de um retrato, calculando as suas componentes fortemente conexas.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ConnectivityReport report = ConnectivityReport.analyze(RouteGraph.build(registry));
+    ///```
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @return O relatório de conectividade.
+    public static ConnectivityReport analyze(RouteGraph graph) {
+        return analyze(graph, StronglyConnectedComponents.compute(graph));
+    }
+
+    /// ## analyze (com componentes)
+    ///
+    /// Gera o relatório de conectividade reaproveitando componentes já calculadas para o mesmo retrato.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Percorre todos os voos uma vez, contando os voos de partida e de chegada de cada aeroporto e marcando
+    ///    as componentes que enviam e que recebem voos de outras componentes.
+    /// 2. Classifica os aeroportos e escolhe a maior componente (a primeira encontrada, na ordem de cadastro,
+    ///    em caso de empate).
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ConnectivityReport report = ConnectivityReport.analyze(graph, index.getComponents());
+    ///```
+    ///
+    /// @param graph      O retrato CSR da malha.
+    /// @param components As componentes fortemente conexas do retrato.
+    /// @return O relatório de conectividade.
+    public static ConnectivityReport analyze(RouteGraph graph, StronglyConnectedComponents components) {
+        int n = graph.size();
+        int k = components.count();
+        boolean[] hasFlights = new boolean[n];     // Aeroporto com algum voo de partida ou de chegada
+        boolean[] sendsOut = new boolean[k];       // Componente com voos para outras componentes
+        boolean[] receivesIn = new boolean[k];     // Componente com voos vindos de outras componentes
+
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int v = graph.target(e);
+                if (v == u) continue;  // Voo para o próprio aeroporto não conecta nada
+                hasFlights[u] = true;
+                hasFlights[v] = true;
+
+                int from = components.componentOf(u);
+                int to = components.componentOf(v);
+                if (from != to) {
+                    sendsOut[from] = true;
+                    receivesIn[to] = true;
+                }
+            }
+        }
+
+        int isolatedCount = 0;
+        int deadEndCount = 0;
+        int originCount = 0;
+        int largest = -1;
+        for (int u = 0; u < n; u++) {
+            int c = components.componentOf(u);
+            if (!hasFlights[u]) isolatedCount++;
+            else if (receivesIn[c] && !sendsOut[c]) deadEndCount++;
+            else if (sendsOut[c] && !receivesIn[c]) originCount++;
+            if (largest < 0 || components.size(c) > components.size(largest)) largest = c;
+        }
+
+        String[] isolated = new String[isolatedCount];
+        String[] deadEnds = new String[deadEndCount];
+        String[] unreachableOrigins = new String[originCount];
+        isolatedCount = deadEndCount = originCount = 0;
+        for (int u = 0; u < n; u++) {
+            int c = components.componentOf(u);
+            if (!hasFlights[u]) isolated[isolatedCount++] = graph.codeOf(u);
+            else if (receivesIn[c] && !sendsOut[c]) deadEnds[deadEndCount++] = graph.codeOf(u);
+            else if (sendsOut[c] && !receivesIn[c]) unreachableOrigins[originCount++] = graph.codeOf(u);
+        }
+
+        String[] largestComponent = new String[0];
+        if (largest >= 0) {
+            int[] members = components.members(largest);
+            largestComponent = new String[members.length];
+            for (int i = 0; i < members.length; i++)
+                largestComponent[i] = graph.codeOf(members[i]);
+        }
+
+        return new ConnectivityReport(n, k, isolated, deadEnds, unreachableOrigins, largestComponent);
+    }
+
+    /// ## getAirportCount
+    ///
+    /// @return A quantidade de aeroportos analisados.
+    public int getAirportCount() {
+        return airportCount;
+    }
+
+    /// ## getComponentCount
+    ///
+    /// @return A quantidade de componentes fortemente conexas.
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /// ## getIsolatedAirports
+    ///
+    /// @return Os códigos dos aeroportos sem voos de partida nem de chegada.
+    public String[] getIsolatedAirports() {
+        return isolated.clone();
+    }
+
+    /// ## getDeadEndAirports
+    ///
+    /// @return Os códigos dos aeroportos em becos sem saída (alcançáveis, mas sem volta ao restante da malha).
+    public String[] getDeadEndAirports() {
+        return deadEnds.clone();
+    }
+
+    /// ## getUnreachableOrigins
+    ///
+    /// @return Os códigos dos aeroportos de onde se parte, mas aos quais nenhum outro aeroporto chega.
+    public String[] getUnreachableOrigins() {
+        return unreachableOrigins.clone();
+    }
+
+    /// ## getLargestComponent
+    ///
+    /// @return Os códigos dos aeroportos do maior grupo mutuamente alcançável, na ordem de cadastro.
+    public String[] getLargestComponent() {
+        return largestComponent.clone();
+    }
+
+    /// ## toString
+    ///
+    /// Retorna o relatório em várias linhas, uma por categoria.
+    ///
+    /// @return Uma string que representa o relatório.
+    @Override
+    public String toString() {
+        String nl = System.lineSeparator();
+        return "Aeroportos: " + airportCount + nl +
+               "Componentes fortemente conexas: " + componentCount + nl +
+               "Maior grupo mutuamente alcançável (" + largestComponent.length + "): " + join(largestComponent) + nl +
+               "Aeroportos isolados (" + isolated.length + "): " + join(isolated) + nl +
+               "Becos sem saída (" + deadEnds.length + "): " + join(deadEnds) + nl +
+               "Origens inalcançáveis (" + unreachableOrigins.length + "): " + join(unreachableOrigins);
+    }
+
+    /// ## join
+    ///
+    /// @param codes Os códigos a unir.
+    /// @return Os códigos separados por vírgula, ou `-` se não houver nenhum.
+    private static String join(String[] codes) {
+        return (codes.length == 0) ? "-" : String.join(", ", codes);
+    }
+}
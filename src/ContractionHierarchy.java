@@ -0,0 +1,876 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/// # ContractionHierarchy
+///
+/// A classe `ContractionHierarchy` é um pré-processamento da malha para consultas de menor custo em
+/// microssegundos. Os aeroportos são "contraídos" um a um, do menos ao mais importante; ao contrair um
+/// aeroporto, são criados atalhos (*shortcuts*) entre os vizinhos restantes sempre que o único caminho de
+/// menor custo entre eles passava pelo aeroporto contraído. Uma consulta então só sobe na hierarquia: uma
+/// busca a partir da origem e outra a partir do destino, ambas por arcos que levam a aeroportos mais
+/// importantes, que se encontram no topo (em geral, um grande hub).
+///
+/// ## Funcionalidades
+/// - **Construção (`build`):** Contrai todos os aeroportos para um critério de peso (duração, distância ou tarifa).
+/// - **Consulta (`query`):** Busca bidirecional ascendente; retorna o mesmo custo que `RouteSearch.cheapest`.
+/// - **Persistência (`save`, `load`):** Grava e lê o grafo de atalhos em arquivo, para não repetir o
+///   pré-processamento a cada inicialização.
+///
+/// ## Estrutura Interna
+/// - **Arcos:** Cada arco é um voo original (o de menor peso entre os voos paralelos do par) ou um atalho que
+///   representa dois arcos consecutivos (`arcFirst`, `arcSecond`), desdobrados recursivamente ao montar o trajeto.
+/// - **`upOffsets`, `upArcs`:** CSR dos arcos que saem de cada aeroporto para aeroportos mais importantes.
+/// - **`downOffsets`, `downArcs`:** CSR dos arcos que chegam a cada aeroporto vindos de aeroportos mais importantes.
+/// - **Ordem de contração:** Fila de prioridade pela diferença de arestas (o dobro dos atalhos criados menos
+///   os arcos removidos) mais a quantidade de vizinhos já contraídos, com atualização preguiçosa: a prioridade do
+///   aeroporto retirado da fila é recalculada e, se piorou, ele volta para a fila.
+/// - **Buscas de testemunha:** Um atalho só é criado se uma busca de Dijkstra limitada (a partir do vizinho
+///   de entrada, sem passar pelo aeroporto contraído) não encontrar caminho tão barato quanto ele.
+/// - As consultas reaproveitam, por thread, os vetores de distâncias (marcados por rodada) e os heaps; a
+///   hierarquia é imutável e pode ser consultada por várias threads ao mesmo tempo.
+///
+/// ## Uso
+/// ```java
+/// ContractionHierarchy hierarchy = ContractionHierarchy.build(graph, RouteWeight.DURATION);
+/// hierarchy.save(Path.of("malha.ch"));
+/// Itinerary itinerary = hierarchy.query(graph.idOf("GRU"), graph.idOf("SSA"));
+///```
+public final class ContractionHierarchy {
+
+    /// ### Campos
+    ///
+    /// - **`MAGIC`:** Assinatura do arquivo gravado por `save`.
+    /// - **`WITNESS_SETTLED_LIMIT`:** Quantidade máxima de aeroportos fixados por busca de testemunha.
+    /// - **`graph`, `weight`:** O retrato e o critério de peso da hierarquia.
+    /// - **`fingerprint`:** Resumo dos voos e pesos do retrato, conferido ao ler um arquivo.
+    /// - **`rank`:** Posição de cada aeroporto na ordem de contração (maior = mais importante).
+    /// - **`upOffsets`, `upArcs`, `downOffsets`, `downArcs`:** Arcos ascendentes de cada aeroporto (CSR).
+    /// - **`arcFrom`, `arcTo`, `arcWeight`:** Extremidades e peso de cada arco.
+    /// - **`arcFlight`:** Voo (aresta do retrato) de um arco original, ou `-1` para atalhos.
+    /// - **`arcFirst`, `arcSecond`:** Os dois arcos representados por um atalho, ou `-1`.
+    /// - **`workspaces`:** Vetores de consulta reaproveitados por thread.
+    private static final int MAGIC = 0x43484731;  // "CHG1"
+    private static final int WITNESS_SETTLED_LIMIT = 64;
+
+    private final RouteGraph graph;
+    private final RouteWeight weight;
+    private final long fingerprint;
+    private final int[] rank;
+    private final int[] upOffsets;
+    private final int[] upArcs;
+    private final int[] downOffsets;
+    private final int[] downArcs;
+    private final int[] arcFrom;
+    private final int[] arcTo;
+    private final long[] arcWeight;
+    private final int[] arcFlight;
+    private final int[] arcFirst;
+    private final int[] arcSecond;
+    private final ThreadLocal<Workspace> workspaces;
+
+    /// ## ContractionHierarchy
+    ///
+    /// Construtor privado. Use `build` ou `load` para obter uma hierarquia.
+    private ContractionHierarchy(
+            RouteGraph graph,
+            RouteWeight weight,
+            long fingerprint,
+            int[] rank,
+            int[] upOffsets,
+            int[] upArcs,
+            int[] downOffsets,
+            int[] downArcs,
+            int[] arcFrom,
+            int[] arcTo,
+            long[] arcWeight,
+            int[] arcFlight,
+            int[] arcFirst,
+            int[] arcSecond
+    ) {
+        this.graph = graph;
+        this.weight = weight;
+        this.fingerprint = fingerprint;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upArcs = upArcs;
+        this.downOffsets = downOffsets;
+        this.downArcs = downArcs;
+        this.arcFrom = arcFrom;
+        this.arcTo = arcTo;
+        this.arcWeight = arcWeight;
+        this.arcFlight = arcFlight;
+        this.arcFirst = arcFirst;
+        this.arcSecond = arcSecond;
+        this.workspaces = ThreadLocal.withInitial(() -> new Workspace(graph.size()));
+    }
+
+    /// ## build
+    ///
+    /// Contrai todos os aeroportos do retrato para o critério de peso informado.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Cria um arco por par origem/destino, com o voo de menor peso (voos sem o peso informado e voos
+    ///    para o próprio aeroporto são ignorados).
+    /// 2. Calcula a prioridade inicial de cada aeroporto simulando a sua contração.
+    /// 3. Retira da fila o aeroporto de menor prioridade, recalcula-a e, se ainda for a menor, contrai-o:
+    ///    cria os atalhos necessários e fixa os seus arcos restantes como arcos da hierarquia.
+    /// 4. Numera os arcos da hierarquia na ordem em que foram fixados (os arcos de um atalho sempre têm
+    ///    números menores que ele) e monta os CSR ascendentes.
+    ///
+    /// ### Exceções
+    /// - **`NullPointerException`:** Se o critério de peso for `null`.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ContractionHierarchy hierarchy = ContractionHierarchy.build(RouteGraph.build(registry), RouteWeight.FARE);
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param weight O critério de peso.
+    /// @return A hierarquia de contração.
+    public static ContractionHierarchy build(RouteGraph graph, RouteWeight weight) {
+        if (weight == null) throw new NullPointerException("Critério de peso não informado");
+        return new Contractor(graph, weight).contractAll();
+    }
+
+    /// ## getGraph
+    ///
+    /// @return O retrato a partir do qual a hierarquia foi construída.
+    public RouteGraph getGraph() {
+        return graph;
+    }
+
+    /// ## getWeight
+    ///
+    /// @return O critério de peso da hierarquia.
+    public RouteWeight getWeight() {
+        return weight;
+    }
+
+    /// ## shortcutCount
+    ///
+    /// @return A quantidade de atalhos criados pelo pré-processamento.
+    public int shortcutCount() {
+        int count = 0;
+        for (int flight : arcFlight)
+            if (flight < 0) count++;
+        return count;
+    }
+
+    /// ## query
+    ///
+    /// Encontra o trajeto de menor custo entre dois aeroportos pela busca bidirecional ascendente.
+    ///
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto de menor custo, com os voos originais e o custo total em `getCost`, ou
+    ///   `null` se o destino for inalcançável por voos com o peso da hierarquia.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Alterna entre a busca a partir da origem (pelos arcos ascendentes de saída) e a busca a partir do
+    ///    destino (pelos arcos ascendentes de chegada), sempre pelo lado de menor prioridade.
+    /// 2. Cada aeroporto fixado que já foi alcançado pelo outro lado atualiza o melhor custo conhecido;
+    ///    cada lado para quando o topo do seu heap atinge esse custo. Aeroportos com distância comprovadamente
+    ///    maior que a real (`stalled`) não são expandidos.
+    /// 3. Reconstrói a cadeia de arcos até o aeroporto de encontro e desdobra os atalhos nos voos originais.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = hierarchy.query(graph.idOf("GRU"), graph.idOf("SSA"));
+    /// if (itinerary != null) System.out.println(itinerary + " (" + itinerary.getCost() + ")");
+    ///```
+    ///
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return Um trajeto de menor custo, ou `null` se o destino for inalcançável.
+    public Itinerary query(int source, int dest) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (source == dest) return Itinerary.fromEdges(graph, source, new int[0], 0, 0);
+
+        Workspace ws = workspaces.get();
+        int round = ws.nextRound();
+        NodeHeap forward = ws.forward;
+        NodeHeap backward = ws.backward;
+        ws.forwardRound[source] = round;
+        ws.forwardDist[source] = 0;
+        ws.backwardRound[dest] = round;
+        ws.backwardDist[dest] = 0;
+        forward.offer(source, 0);
+        backward.offer(dest, 0);
+
+        long mu = Long.MAX_VALUE;  // Custo do melhor trajeto conhecido
+        int meet = -1;
+        while (true) {
+            boolean forwardOpen = !forward.isEmpty() && forward.peekPriority() < mu;
+            boolean backwardOpen = !backward.isEmpty() && backward.peekPriority() < mu;
+            if (!forwardOpen && !backwardOpen) break;
+
+            if (forwardOpen && (!backwardOpen || forward.peekPriority() <= backward.peekPriority())) {
+                int u = forward.poll();
+                long d = ws.forwardDist[u];
+                if (ws.backwardRound[u] == round && d + ws.backwardDist[u] < mu) {
+                    mu = d + ws.backwardDist[u];
+                    meet = u;
+                }
+                if (stalled(u, d, downOffsets, downArcs, arcFrom, ws.forwardRound, ws.forwardDist, round)) continue;
+                for (int i = upOffsets[u]; i < upOffsets[u + 1]; i++) {
+                    int a = upArcs[i];
+                    int v = arcTo[a];
+                    long candidate = d + arcWeight[a];
+                    if (ws.forwardRound[v] == round && candidate >= ws.forwardDist[v]) continue;
+
+                    ws.forwardRound[v] = round;
+                    ws.forwardDist[v] = candidate;
+                    ws.forwardArc[v] = a;
+                    forward.offer(v, candidate);
+                }
+            } else {
+                int v = backward.poll();
+                long d = ws.backwardDist[v];
+                if (ws.forwardRound[v] == round && d + ws.forwardDist[v] < mu) {
+                    mu = d + ws.forwardDist[v];
+                    meet = v;
+                }
+                if (stalled(v, d, upOffsets, upArcs, arcTo, ws.backwardRound, ws.backwardDist, round)) continue;
+                for (int i = downOffsets[v]; i < downOffsets[v + 1]; i++) {
+                    int a = downArcs[i];
+                    int u = arcFrom[a];
+                    long candidate = d + arcWeight[a];
+                    if (ws.backwardRound[u] == round && candidate >= ws.backwardDist[u]) continue;
+
+                    ws.backwardRound[u] = round;
+                    ws.backwardDist[u] = candidate;
+                    ws.backwardArc[u] = a;
+                    backward.offer(u, candidate);
+                }
+            }
+        }
+        forward.clear();
+        backward.clear();
+
+        if (meet < 0) return null;
+        return unpack(ws, source, dest, meet, mu);
+    }
+
+    /// ## stalled
+    ///
+    /// Poda *stall-on-demand*: um aeroporto fixado por um dos lados não precisa ser expandido se um aeroporto
+    /// mais importante, já alcançado pelo mesmo lado, chega a ele por um arco descendente com custo menor. A
+    /// distância ascendente não é a real, e nenhum trajeto ótimo passa por ele nesse lado.
+    ///
+    /// @param v       O aeroporto fixado.
+    /// @param d       A distância de `v` nesse lado.
+    /// @param offsets CSR dos arcos descendentes, vistos pelo lado da busca.
+    /// @param arcs    Os arcos do CSR.
+    /// @param ends    A ponta mais importante de cada arco.
+    /// @param rounds  Rodada de cada distância do lado.
+    /// @param dist    Distâncias do lado.
+    /// @param round   A rodada atual.
+    /// @return `true` se `v` pode deixar de ser expandido.
+    private boolean stalled(int v, long d, int[] offsets, int[] arcs, int[] ends, int[] rounds, long[] dist, int round) {
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            int a = arcs[i];
+            int w = ends[a];
+            if (rounds[w] == round && dist[w] + arcWeight[a] < d) return true;
+        }
+        return false;
+    }
+
+    /// ## unpack
+    ///
+    /// Monta o trajeto de uma consulta: encadeia os arcos da origem ao encontro e do encontro ao destino e
+    /// desdobra cada atalho, com uma pilha explícita, nos voos originais.
+    ///
+    /// @param ws     Os vetores da consulta.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @param meet   O aeroporto de encontro.
+    /// @param cost   O custo total do trajeto.
+    /// @return O trajeto com os voos originais.
+    private Itinerary unpack(Workspace ws, int source, int dest, int meet, long cost) {
+        // A pilha guarda o trajeto do último arco (base) ao primeiro (topo)
+        int[] stack = ws.stack;
+        int top = 0;
+        for (int u = meet; u != dest; u = arcTo[ws.backwardArc[u]])
+            stack[top++] = ws.backwardArc[u];
+        for (int i = 0, j = top - 1; i < j; i++, j--) {  // A metade do destino foi empilhada do início para o fim
+            int swap = stack[i];
+            stack[i] = stack[j];
+            stack[j] = swap;
+        }
+        for (int v = meet; v != source; v = arcFrom[ws.forwardArc[v]])
+            stack[top++] = ws.forwardArc[v];
+
+        int[] edges = new int[Math.max(4, top)];
+        int count = 0;
+        while (top > 0) {
+            int a = stack[--top];
+            if (arcFlight[a] >= 0) {
+                if (count == edges.length) edges = Arrays.copyOf(edges, count * 2);
+                edges[count++] = arcFlight[a];
+                continue;
+            }
+            if (top + 2 > stack.length) stack = ws.stack = Arrays.copyOf(stack, stack.length * 2);
+            stack[top++] = arcSecond[a];
+            stack[top++] = arcFirst[a];
+        }
+
+        return Itinerary.fromEdges(graph, source, edges, count, cost);
+    }
+
+    /// ## save
+    ///
+    /// Grava o grafo de atalhos e a ordem de contração em um arquivo binário, junto com o resumo do retrato
+    /// de origem.
+    ///
+    /// ### Exceções
+    /// - **`IOException`:** Se o arquivo não puder ser gravado.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// hierarchy.save(Path.of("malha-duracao.ch"));
+    ///```
+    ///
+    /// @param file O arquivo de destino.
+    /// @throws IOException Se ocorrer um erro de escrita.
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(graph.size());
+            out.writeInt(graph.edgeCount());
+            out.writeLong(fingerprint);
+            out.writeInt(weight.ordinal());
+            for (int v = 0; v < rank.length; v++)
+                out.writeInt(rank[v]);
+            out.writeInt(arcFrom.length);
+            for (int a = 0; a < arcFrom.length; a++) {
+                out.writeInt(arcFrom[a]);
+                out.writeInt(arcTo[a]);
+                out.writeLong(arcWeight[a]);
+                out.writeInt(arcFlight[a]);
+                out.writeInt(arcFirst[a]);
+                out.writeInt(arcSecond[a]);
+            }
+        }
+    }
+
+    /// ## load
+    ///
+    /// Lê um grafo de atalhos gravado por `save` e o associa ao retrato informado, que precisa ter os mesmos
+    /// aeroportos, voos e pesos do retrato original.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Confere a assinatura, o tamanho e o resumo do retrato, e lê a ordem de contração.
+    /// 2. Lê os arcos, validando cada um:
+    ///    - extremidades dentro do retrato e arcos de um atalho com números menores;
+    ///    - um arco original deve ser o voo indicado, com as mesmas extremidades e o mesmo peso no retrato;
+    ///    - um atalho deve encadear os seus dois arcos (`origem -> meio -> destino`), passando por um aeroporto
+    ///      contraído antes das pontas, e custar exatamente a soma deles.
+    /// 3. Reconstrói os CSR ascendentes com `assemble`.
+    ///
+    /// ### Exceções
+    /// - **`IOException`:** Se o arquivo não puder ser lido, estiver corrompido ou pertencer a outra malha.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ContractionHierarchy hierarchy = ContractionHierarchy.load(Path.of("malha-duracao.ch"), graph);
+    ///```
+    ///
+    /// @param file  O arquivo gravado por `save`.
+    /// @param graph O retrato da malha.
+    /// @return A hierarquia lida.
+    /// @throws IOException Se ocorrer um erro de leitura ou o arquivo não corresponder ao retrato.
+    public static ContractionHierarchy load(Path file, RouteGraph graph) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Arquivo não é uma hierarquia de contração");
+            int n = in.readInt();
+            int edgeCount = in.readInt();
+            long fingerprint = in.readLong();
+            int ordinal = in.readInt();
+            if (ordinal < 0 || ordinal >= RouteWeight.values().length)
+                throw new IOException("Critério de peso inválido no arquivo");
+            RouteWeight weight = RouteWeight.values()[ordinal];
+            if (n != graph.size() || edgeCount != graph.edgeCount() || fingerprint != fingerprint(graph, weight))
+                throw new IOException("A hierarquia gravada não corresponde à malha atual");
+
+            int[] rank = new int[n];
+            boolean[] used = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                rank[v] = in.readInt();
+                if (rank[v] < 0 || rank[v] >= n || used[rank[v]]) throw new IOException("Ordem de contração inválida");
+                used[rank[v]] = true;
+            }
+
+            int arcCount = in.readInt();
+            if (arcCount < 0) throw new IOException("Quantidade de arcos inválida");
+            int[] arcFrom = new int[arcCount];
+            int[] arcTo = new int[arcCount];
+            long[] arcWeight = new long[arcCount];
+            int[] arcFlight = new int[arcCount];
+            int[] arcFirst = new int[arcCount];
+            int[] arcSecond = new int[arcCount];
+            for (int a = 0; a < arcCount; a++) {
+                arcFrom[a] = in.readInt();
+                arcTo[a] = in.readInt();
+                arcWeight[a] = in.readLong();
+                arcFlight[a] = in.readInt();
+                arcFirst[a] = in.readInt();
+                arcSecond[a] = in.readInt();
+
+                boolean valid = arcFrom[a] >= 0 && arcFrom[a] < n && arcTo[a] >= 0 && arcTo[a] < n
+                                && arcWeight[a] >= 0 && arcFlight[a] < edgeCount
+                                && (arcFlight[a] >= 0
+                                    ? arcFirst[a] == -1 && arcSecond[a] == -1
+                                    : arcFirst[a] >= 0 && arcFirst[a] < a && arcSecond[a] >= 0 && arcSecond[a] < a);
+                if (!valid) throw new IOException("Arco inválido no arquivo: " + a);
+
+                if (arcFlight[a] >= 0) {
+                    // Arco original: precisa ser o próprio voo do retrato, com o seu peso
+                    int e = arcFlight[a];
+                    valid = graph.source(e) == arcFrom[a] && graph.target(e) == arcTo[a]
+                            && graph.weight(e, weight) != Flight.UNKNOWN_WEIGHT && graph.weight(e, weight) == arcWeight[a];
+                } else {
+                    // Atalho: encadeia os dois arcos por um aeroporto contraído antes das pontas, e custa a soma deles
+                    int first = arcFirst[a];
+                    int second = arcSecond[a];
+                    int middle = arcTo[first];
+                    valid = arcFrom[first] == arcFrom[a] && arcFrom[second] == middle && arcTo[second] == arcTo[a]
+                            && rank[middle] < rank[arcFrom[a]] && rank[middle] < rank[arcTo[a]]
+                            && arcWeight[first] <= arcWeight[a] && arcWeight[a] - arcWeight[first] == arcWeight[second];
+                }
+                if (!valid) throw new IOException("Arco não corresponde à malha atual: " + a);
+            }
+
+            return assemble(graph, weight, fingerprint, rank, arcFrom, arcTo, arcWeight, arcFlight, arcFirst, arcSecond);
+        }
+    }
+
+    /// ## assemble
+    ///
+    /// Monta a hierarquia a partir dos arcos fixados e da ordem de contração: um arco vai para a lista de
+    /// saída da origem se o destino foi contraído depois, e para a lista de chegada do destino caso contrário.
+    ///
+    /// @return A hierarquia pronta para consultas.
+    private static ContractionHierarchy assemble(
+            RouteGraph graph,
+            RouteWeight weight,
+            long fingerprint,
+            int[] rank,
+            int[] arcFrom,
+            int[] arcTo,
+            long[] arcWeight,
+            int[] arcFlight,
+            int[] arcFirst,
+            int[] arcSecond
+    ) {
+        int n = graph.size();
+        int[] upOffsets = new int[n + 1];
+        int[] downOffsets = new int[n + 1];
+        for (int a = 0; a < arcFrom.length; a++) {
+            if (rank[arcFrom[a]] < rank[arcTo[a]]) upOffsets[arcFrom[a] + 1]++;
+            else downOffsets[arcTo[a] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];  // Soma de prefixos
+            downOffsets[v + 1] += downOffsets[v];
+        }
+
+        int[] upArcs = new int[upOffsets[n]];
+        int[] downArcs = new int[downOffsets[n]];
+        int[] upFill = Arrays.copyOf(upOffsets, n);
+        int[] downFill = Arrays.copyOf(downOffsets, n);
+        for (int a = 0; a < arcFrom.length; a++) {
+            if (rank[arcFrom[a]] < rank[arcTo[a]]) upArcs[upFill[arcFrom[a]]++] = a;
+            else downArcs[downFill[arcTo[a]]++] = a;
+        }
+
+        return new ContractionHierarchy(graph, weight, fingerprint, rank, upOffsets, upArcs, downOffsets, downArcs,
+                                        arcFrom, arcTo, arcWeight, arcFlight, arcFirst, arcSecond);
+    }
+
+    /// ## fingerprint
+    ///
+    /// Calcula um resumo dos códigos, voos e pesos do retrato, usado para recusar arquivos de outra malha.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param weight O critério de peso.
+    /// @return O resumo.
+    private static long fingerprint(RouteGraph graph, RouteWeight weight) {
+        long h = 1125899906842597L;
+        for (int u = 0; u < graph.size(); u++) {
+            h = 31 * h + graph.codeOf(u).hashCode();
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                h = 31 * h + graph.target(e);
+                h = 31 * h + graph.flightNumber(e);
+                h = 31 * h + graph.weight(e, weight);
+            }
+        }
+        return h;
+    }
+
+    /// ## Workspace
+    ///
+    /// Vetores de uma consulta, reaproveitados pelas consultas seguintes da mesma thread. As distâncias
+    /// valem apenas para os aeroportos marcados com a rodada atual, o que dispensa limpá-las.
+    private static final class Workspace {
+
+        /// ### Campos
+        ///
+        /// - **`forwardDist`, `backwardDist`:** Distância de cada lado.
+        /// - **`forwardRound`, `backwardRound`:** Rodada em que a distância foi definida.
+        /// - **`forwardArc`, `backwardArc`:** Arco pelo qual cada lado chegou ao aeroporto.
+        /// - **`forward`, `backward`:** Os heaps das duas buscas.
+        /// - **`stack`:** Pilha usada para desdobrar os atalhos.
+        /// - **`round`:** A rodada atual.
+        private final long[] forwardDist;
+        private final long[] backwardDist;
+        private final int[] forwardRound;
+        private final int[] backwardRound;
+        private final int[] forwardArc;
+        private final int[] backwardArc;
+        private final NodeHeap forward;
+        private final NodeHeap backward;
+        private int[] stack;
+        private int round;
+
+        /// ## Workspace
+        ///
+        /// @param n A quantidade de aeroportos.
+        private Workspace(int n) {
+            forwardDist = new long[n];
+            backwardDist = new long[n];
+            forwardRound = new int[n];
+            backwardRound = new int[n];
+            forwardArc = new int[n];
+            backwardArc = new int[n];
+            forward = new NodeHeap(n);
+            backward = new NodeHeap(n);
+            stack = new int[Math.max(16, 2 * n)];
+        }
+
+        /// ## nextRound
+        ///
+        /// Inicia uma nova rodada, zerando as marcas apenas quando o contador se esgota.
+        ///
+        /// @return A nova rodada.
+        private int nextRound() {
+            if (++round == Integer.MAX_VALUE) {
+                Arrays.fill(forwardRound, 0);
+                Arrays.fill(backwardRound, 0);
+                round = 1;
+            }
+            return round;
+        }
+    }
+
+    /// ## Contractor
+    ///
+    /// Estado mutável do pré-processamento: o grafo restante (listas de arcos de entrada e de saída de cada
+    /// aeroporto ainda não contraído), a tabela de arcos e os vetores das buscas de testemunha.
+    private static final class Contractor {
+
+        /// ### Campos
+        ///
+        /// - **`graph`, `weight`, `n`:** O retrato, o critério de peso e a quantidade de aeroportos.
+        /// - **`from`, `to`, `cost`, `flight`, `first`, `second`, `arcCount`:** Tabela de todos os arcos criados.
+        /// - **`out`, `in`, `outSize`, `inSize`:** Arcos de saída e de entrada do grafo restante.
+        /// - **`contracted`, `deleted`:** Aeroportos contraídos e quantidade de vizinhos contraídos de cada um.
+        /// - **`fixed`, `fixedCount`, `rank`:** Arcos fixados na hierarquia, em ordem, e o posto de cada aeroporto.
+        /// - **`dist`, `seen`, `round`, `heap`:** Vetores das buscas de testemunha.
+        private final RouteGraph graph;
+        private final RouteWeight weight;
+        private final int n;
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private long[] cost = new long[16];
+        private int[] flight = new int[16];
+        private int[] first = new int[16];
+        private int[] second = new int[16];
+        private int arcCount;
+        private final int[][] out;
+        private final int[][] in;
+        private final int[] outSize;
+        private final int[] inSize;
+        private final boolean[] contracted;
+        private final int[] deleted;
+        private int[] fixed = new int[16];
+        private int fixedCount;
+        private final int[] rank;
+        private final long[] dist;
+        private final int[] seen;
+        private int round;
+        private final NodeHeap heap;
+
+        /// ## Contractor
+        ///
+        /// Cria um arco por par origem/destino, com o voo de menor peso.
+        ///
+        /// @param graph  O retrato CSR da malha.
+        /// @param weight O critério de peso.
+        private Contractor(RouteGraph graph, RouteWeight weight) {
+            this.graph = graph;
+            this.weight = weight;
+            this.n = graph.size();
+            out = new int[n][];
+            in = new int[n][];
+            outSize = new int[n];
+            inSize = new int[n];
+            contracted = new boolean[n];
+            deleted = new int[n];
+            rank = new int[n];
+            dist = new long[n];
+            seen = new int[n];
+            heap = new NodeHeap(n);
+
+            int[] lastSource = new int[n];  // Último aeroporto de origem que criou arco para cada destino
+            int[] lastArc = new int[n];
+            Arrays.fill(lastSource, -1);
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int w = graph.weight(e, weight);
+                    int v = graph.target(e);
+                    if (w == Flight.UNKNOWN_WEIGHT || v == u) continue;
+
+                    if (lastSource[v] == u) {  // Voo paralelo: fica o de menor peso
+                        int a = lastArc[v];
+                        if (w < cost[a]) {
+                            cost[a] = w;
+                            flight[a] = e;
+                        }
+                        continue;
+                    }
+                    lastSource[v] = u;
+                    lastArc[v] = addArc(u, v, w, e, -1, -1);
+                }
+            }
+        }
+
+        /// ## contractAll
+        ///
+        /// Contrai todos os aeroportos, na ordem da fila de prioridade com atualização preguiçosa.
+        ///
+        /// @return A hierarquia montada.
+        private ContractionHierarchy contractAll() {
+            NodeHeap queue = new NodeHeap(n);
+            for (int v = 0; v < n; v++)
+                queue.offer(v, contract(v, true));
+
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                long priority = contract(v, true);
+                if (!queue.isEmpty() && priority > queue.peekPriority()) {
+                    queue.offer(v, priority);  // A prioridade piorou: outro aeroporto é contraído antes
+                    continue;
+                }
+                contract(v, false);
+                rank[v] = order++;
+            }
+
+            // Renumera os arcos fixados na ordem em que foram fixados
+            int[] renumber = new int[arcCount];
+            for (int i = 0; i < fixedCount; i++)
+                renumber[fixed[i]] = i;
+            int[] arcFrom = new int[fixedCount];
+            int[] arcTo = new int[fixedCount];
+            long[] arcWeight = new long[fixedCount];
+            int[] arcFlight = new int[fixedCount];
+            int[] arcFirst = new int[fixedCount];
+            int[] arcSecond = new int[fixedCount];
+            for (int i = 0; i < fixedCount; i++) {
+                int a = fixed[i];
+                arcFrom[i] = from[a];
+                arcTo[i] = to[a];
+                arcWeight[i] = cost[a];
+                arcFlight[i] = flight[a];
+                arcFirst[i] = (first[a] < 0) ? -1 : renumber[first[a]];
+                arcSecond[i] = (second[a] < 0) ? -1 : renumber[second[a]];
+            }
+
+            return assemble(graph, weight, fingerprint(graph, weight), rank,
+                            arcFrom, arcTo, arcWeight, arcFlight, arcFirst, arcSecond);
+        }
+
+        /// ## contract
+        ///
+        /// Contrai o aeroporto `v` ou apenas simula a contração para calcular a sua prioridade.
+        ///
+        /// ### Fluxo de Operações
+        /// 1. Para cada arco de entrada `u -> v`, executa uma busca de testemunha a partir de `u`, sem passar
+        ///    por `v`, limitada ao maior custo `u -> v -> x` possível.
+        /// 2. Para cada arco de saída `v -> x` sem testemunha, conta (ou cria) o atalho `u -> x`.
+        /// 3. Na contração real, fixa os arcos restantes de `v` e os retira das listas dos vizinhos.
+        ///
+        /// @param v        O aeroporto.
+        /// @param simulate `true` para apenas calcular a prioridade.
+        /// @return A prioridade do aeroporto (2 * atalhos - arcos removidos + vizinhos já contraídos).
+        private long contract(int v, boolean simulate) {
+            int shortcuts = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int a = in[v][i];
+                int u = from[a];
+                long maxOut = -1;
+                for (int j = 0; j < outSize[v]; j++) {
+                    int b = out[v][j];
+                    if (to[b] != u) maxOut = Math.max(maxOut, cost[b]);
+                }
+                if (maxOut < 0) continue;
+
+                witnessSearch(u, v, cost[a] + maxOut);
+                for (int j = 0; j < outSize[v]; j++) {
+                    int b = out[v][j];
+                    int x = to[b];
+                    if (x == u) continue;
+
+                    long viaV = cost[a] + cost[b];
+                    if (seen[x] == round && dist[x] <= viaV) continue;  // Há testemunha: o atalho é dispensável
+                    shortcuts++;
+                    if (!simulate) addShortcut(u, x, viaV, a, b);
+                }
+            }
+
+            if (simulate) return 2L * shortcuts - inSize[v] - outSize[v] + deleted[v];
+
+            contracted[v] = true;
+            for (int i = 0; i < inSize[v]; i++) {
+                int a = in[v][i];
+                fix(a);
+                removeOut(from[a], a);
+                deleted[from[a]]++;
+            }
+            for (int j = 0; j < outSize[v]; j++) {
+                int b = out[v][j];
+                fix(b);
+                removeIn(to[b], b);
+                deleted[to[b]]++;
+            }
+            in[v] = out[v] = null;  // Libera as listas do aeroporto contraído
+            inSize[v] = outSize[v] = 0;
+            return 0;
+        }
+
+        /// ## witnessSearch
+        ///
+        /// Busca de Dijkstra a partir de `source` no grafo restante, sem passar por `excluded`, até o custo
+        /// `limit` ou `WITNESS_SETTLED_LIMIT` aeroportos fixados. As distâncias provisórias também valem como
+        /// testemunha, pois correspondem a caminhos existentes.
+        ///
+        /// @param source   O aeroporto de partida.
+        /// @param excluded O aeroporto em contração.
+        /// @param limit    O maior custo de interesse.
+        private void witnessSearch(int source, int excluded, long limit) {
+            round++;
+            seen[source] = round;
+            dist[source] = 0;
+            heap.offer(source, 0);
+
+            int settled = 0;
+            while (!heap.isEmpty() && heap.peekPriority() <= limit && settled++ < WITNESS_SETTLED_LIMIT) {
+                int u = heap.poll();
+                long d = dist[u];
+                for (int i = 0; i < outSize[u]; i++) {
+                    int a = out[u][i];
+                    int x = to[a];
+                    if (x == excluded) continue;
+
+                    long candidate = d + cost[a];
+                    if (seen[x] == round && candidate >= dist[x]) continue;
+                    seen[x] = round;
+                    dist[x] = candidate;
+                    heap.offer(x, candidate);
+                }
+            }
+            heap.clear();
+        }
+
+        /// ## addShortcut
+        ///
+        /// Cria o atalho `u -> x`, substituindo um arco mais caro entre o mesmo par, se houver.
+        private void addShortcut(int u, int x, long viaV, int a, int b) {
+            for (int i = 0; i < outSize[u]; i++) {
+                int c = out[u][i];
+                if (to[c] != x) continue;
+                if (cost[c] <= viaV) return;  // O arco existente já é tão barato quanto o atalho
+
+                removeOut(u, c);
+                removeIn(x, c);
+                break;
+            }
+            addArc(u, x, viaV, -1, a, b);
+        }
+
+        /// ## addArc
+        ///
+        /// Inclui um arco na tabela e nas listas das suas pontas.
+        ///
+        /// @return O número do arco.
+        private int addArc(int u, int v, long w, int e, int a, int b) {
+            if (arcCount == from.length) {
+                int capacity = arcCount * 2;
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                cost = Arrays.copyOf(cost, capacity);
+                flight = Arrays.copyOf(flight, capacity);
+                first = Arrays.copyOf(first, capacity);
+                second = Arrays.copyOf(second, capacity);
+            }
+            int arc = arcCount++;
+            from[arc] = u;
+            to[arc] = v;
+            cost[arc] = w;
+            flight[arc] = e;
+            first[arc] = a;
+            second[arc] = b;
+
+            if (out[u] == null) out[u] = new int[4];
+            else if (outSize[u] == out[u].length) out[u] = Arrays.copyOf(out[u], outSize[u] * 2);
+            out[u][outSize[u]++] = arc;
+            if (in[v] == null) in[v] = new int[4];
+            else if (inSize[v] == in[v].length) in[v] = Arrays.copyOf(in[v], inSize[v] * 2);
+            in[v][inSize[v]++] = arc;
+            return arc;
+        }
+
+        /// ## fix
+        ///
+        /// Registra um arco como parte da hierarquia.
+        private void fix(int arc) {
+            if (fixedCount == fixed.length) fixed = Arrays.copyOf(fixed, fixedCount * 2);
+            fixed[fixedCount++] = arc;
+        }
+
+        /// ## removeOut
+        ///
+        /// Retira um arco da lista de saída de `u` (troca com o último).
+        private void removeOut(int u, int arc) {
+            for (int i = 0; i < outSize[u]; i++) {
+                if (out[u][i] == arc) {
+                    out[u][i] = out[u][--outSize[u]];
+                    return;
+                }
+            }
+        }
+
+        /// ## removeIn
+        ///
+        /// Retira um arco da lista de entrada de `v` (troca com o último).
+        private void removeIn(int v, int arc) {
+            for (int i = 0; i < inSize[v]; i++) {
+                if (in[v][i] == arc) {
+                    in[v][i] = in[v][--inSize[v]];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/// # ContractionHierarchyBenchmark
+///
+/// Programa de medição que compara as consultas da `ContractionHierarchy` com o Dijkstra simples
+/// (`RouteSearch.cheapest`) em uma malha gerada: por padrão, 10 mil aeroportos e 500 mil voos.
+///
+/// ## Malha Gerada
+/// - Aeroportos com coordenadas aleatórias; os primeiros 2% são hubs.
+/// - Cada aeroporto tem rotas de ida e volta para os seus vizinhos mais próximos e para os dois hubs mais
+///   próximos, e todos os hubs são ligados entre si.
+/// - Os voos são distribuídos pelas rotas (várias frequências por rota), com duração proporcional à
+///   distância e uma pequena variação por voo.
+///
+/// ## Fluxo de Operações
+/// 1. Gera a malha e o retrato CSR.
+/// 2. Constrói a hierarquia por duração, grava-a em um arquivo temporário e a lê de volta.
+/// 3. Executa as mesmas consultas aleatórias com Dijkstra e com a hierarquia, conferindo se os custos são iguais.
+///
+/// ## Uso
+/// ```
+/// java ContractionHierarchyBenchmark [aeroportos] [voos] [consultas] [semente]
+///```
+public final class ContractionHierarchyBenchmark {
+
+    /// ### Campos
+    ///
+    /// - **`DEFAULT_AIRPORTS`, `DEFAULT_FLIGHTS`, `DEFAULT_QUERIES`, `DEFAULT_SEED`:** Parâmetros padrão.
+    /// - **`NEAREST`:** Quantidade de vizinhos mais próximos ligados a cada aeroporto.
+    /// - **`HUB_SHARE`:** Um hub a cada `HUB_SHARE` aeroportos.
+    private static final int DEFAULT_AIRPORTS = 10_000;
+    private static final int DEFAULT_FLIGHTS = 500_000;
+    private static final int DEFAULT_QUERIES = 1_000;
+    private static final long DEFAULT_SEED = 42;
+    private static final int NEAREST = 6;
+    private static final int HUB_SHARE = 50;
+
+    /// ## ContractionHierarchyBenchmark
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private ContractionHierarchyBenchmark() {
+    }
+
+    /// ## main
+    ///
+    /// Executa a medição.
+    ///
+    /// ### Exceções
+    /// - **`IOException`:** Se o arquivo temporário da hierarquia não puder ser gravado ou lido.
+    ///
+    /// @param args Aeroportos, voos, consultas e semente (todos opcionais).
+    /// @throws IOException Se ocorrer um erro ao gravar ou ler a hierarquia.
+    public static void main(String[] args) throws IOException {
+        int airports = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_AIRPORTS;
+        int flights = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_FLIGHTS;
+        int queries = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_QUERIES;
+        long seed = (args.length > 3) ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long start = System.nanoTime();
+        AirportRegistry registry = generate(airports, flights, random);
+        RouteGraph graph = RouteGraph.build(registry);
+        System.out.printf("Malha: %d aeroportos, %d voos (%.0f ms)%n",
+                          graph.size(), graph.edgeCount(), millis(start));
+
+        start = System.nanoTime();
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph, RouteWeight.DURATION);
+        System.out.printf("Pré-processamento: %d atalhos (%.0f ms)%n", hierarchy.shortcutCount(), millis(start));
+
+        Path file = Files.createTempFile("hierarquia", ".ch");
+        try {
+            start = System.nanoTime();
+            hierarchy.save(file);
+            ContractionHierarchy loaded = ContractionHierarchy.load(file, graph);
+            System.out.printf("Gravação e leitura: %d KiB (%.0f ms)%n", Files.size(file) / 1024, millis(start));
+            hierarchy = loaded;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(graph.size());
+            targets[i] = random.nextInt(graph.size());
+        }
+
+        // Aquecimento, para que o compilador JIT otimize os dois caminhos antes da medição
+        for (int i = 0; i < Math.min(queries, 200); i++) {
+            RouteSearch.cheapest(graph, sources[i], targets[i], RouteWeight.DURATION);
+            hierarchy.query(sources[i], targets[i]);
+        }
+
+        long[] expected = new long[queries];
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            Itinerary itinerary = RouteSearch.cheapest(graph, sources[i], targets[i], RouteWeight.DURATION);
+            expected[i] = (itinerary == null) ? -1 : itinerary.getCost();
+        }
+        double dijkstraMillis = millis(start);
+
+        int mismatches = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            Itinerary itinerary = hierarchy.query(sources[i], targets[i]);
+            if (((itinerary == null) ? -1 : itinerary.getCost()) != expected[i]) mismatches++;
+        }
+        double hierarchyMillis = millis(start);
+
+        System.out.printf("Dijkstra: %.1f µs por consulta%n", dijkstraMillis * 1000 / queries);
+        System.out.printf("Hierarquia: %.1f µs por consulta (%.0fx mais rápida)%n",
+                          hierarchyMillis * 1000 / queries, dijkstraMillis / hierarchyMillis);
+        System.out.println((mismatches == 0)
+                           ? "Custos idênticos em todas as " + queries + " consultas."
+                           : "ATENÇÃO: " + mismatches + " consultas com custos diferentes.");
+    }
+
+    /// ## generate
+    ///
+    /// Gera a malha descrita na documentação da classe.
+    ///
+    /// @param airports Quantidade de aeroportos.
+    /// @param flights  Quantidade de voos.
+    /// @param random   Gerador de números aleatórios.
+    /// @return O cadastro com os aeroportos e voos gerados.
+    private static AirportRegistry generate(int airports, int flights, SplittableRandom random) {
+        double[] latitudes = new double[airports];
+        double[] longitudes = new double[airports];
+        AirportRegistry registry = new AirportRegistry();
+        Airport[] byId = new Airport[airports];
+        for (int i = 0; i < airports; i++) {
+            latitudes[i] = random.nextDouble(-55, 70);
+            longitudes[i] = random.nextDouble(-180, 180);
+            Airport airport = new Airport("Aeroporto " + i, "X" + i);
+            airport.setCoordinates(latitudes[i], longitudes[i]);
+            registry.add(airport);
+            byId[i] = registry.find(airport.getCode());  // O cadastro guarda uma cópia do aeroporto
+        }
+
+        int hubs = Math.max(1, airports / HUB_SHARE);
+        int[] routeFrom = new int[16];
+        int[] routeTo = new int[16];
+        int routes = 0;
+        for (int i = 0; i < airports; i++) {
+            int[] nearest = nearest(i, 0, airports, NEAREST, latitudes, longitudes);
+            int[] nearestHubs = nearest(i, 0, hubs, 2, latitudes, longitudes);
+            for (int[] group : new int[][]{nearest, nearestHubs}) {
+                for (int j : group) {
+                    if (routes + 2 > routeFrom.length) {
+                        routeFrom = Arrays.copyOf(routeFrom, routeFrom.length * 2);
+                        routeTo = Arrays.copyOf(routeTo, routeTo.length * 2);
+                    }
+                    routeFrom[routes] = i;
+                    routeTo[routes++] = j;
+                    routeFrom[routes] = j;
+                    routeTo[routes++] = i;
+                }
+            }
+        }
+        for (int h = 0; h < hubs; h++) {
+            for (int g = 0; g < hubs; g++) {
+                if (g == h) continue;
+                if (routes == routeFrom.length) {
+                    routeFrom = Arrays.copyOf(routeFrom, routeFrom.length * 2);
+                    routeTo = Arrays.copyOf(routeTo, routeTo.length * 2);
+                }
+                routeFrom[routes] = h;
+                routeTo[routes++] = g;
+            }
+        }
+
+        for (int number = 1; number <= flights; number++) {
+            // Cada rota recebe ao menos um voo; os demais são frequências adicionais em rotas aleatórias
+            int r = (number <= routes) ? number - 1 : random.nextInt(routes);
+            int u = routeFrom[r];
+            int v = routeTo[r];
+            double km = RouteGraph.greatCircleKm(latitudes[u], longitudes[u], latitudes[v], longitudes[v]);
+            int minutes = 30 + (int) (km * 60 / 800) + random.nextInt(20);
+            int fare = 50 + (int) (km * random.nextDouble(0.08, 0.16));
+            byId[u].getFlights().addLast(new Flight(byId[v].getCode(), number, minutes, Flight.UNKNOWN_WEIGHT, fare));
+        }
+        return registry;
+    }
+
+    /// ## nearest
+    ///
+    /// Encontra os `k` aeroportos mais próximos de `u` entre os identificadores `[from, to)`, pela distância
+    /// plana aproximada (suficiente para gerar a malha).
+    ///
+    /// @return Os identificadores encontrados (menos de `k` se o intervalo for pequeno).
+    private static int[] nearest(int u, int from, int to, int k, double[] latitudes, double[] longitudes) {
+        int[] best = new int[k];
+        double[] bestDistance = new double[k];
+        int count = 0;
+        double scale = Math.cos(Math.toRadians(latitudes[u]));
+        for (int v = from; v < to; v++) {
+            if (v == u) continue;
+            double dLat = latitudes[v] - latitudes[u];
+            double dLon = Math.abs(longitudes[v] - longitudes[u]);
+            dLon = Math.min(dLon, 360 - dLon) * scale;
+            double d = dLat * dLat + dLon * dLon;
+            if (count == k && d >= bestDistance[k - 1]) continue;
+
+            int i = (count < k) ? count++ : k - 1;  // Inserção ordenada nos k melhores
+            while (i > 0 && bestDistance[i - 1] > d) {
+                best[i] = best[i - 1];
+                bestDistance[i] = bestDistance[i - 1];
+                i--;
+            }
+            best[i] = v;
+            bestDistance[i] = d;
+        }
+        return Arrays.copyOf(best, count);
+    }
+
+    /// ## millis
+    ///
+    /// @param start O instante inicial, em nanossegundos.
+    /// @return Os milissegundos decorridos desde `start`.
+    private static double millis(long start) {
+        return (System.nanoTime() - start) / 1e6;
+    }
+}
@@ -2,7 +2,8 @@ import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
 /// # Flight
 ///
-/// A classe `Flight` representa um voo com um número de voo e um código de destino.
+/// A classe `Flight` representa um voo com um número de voo e um código de destino e, opcionalmente,
+/// com os pesos usados para classificar trajetos: duração (minutos de bloco), distância e tarifa.
 /// Esta classe permite criar, copiar e comparar objetos de voos, e é capaz de verificar
 /// a igualdade entre voos e gerar uma representação textual.
 ///
@@ -15,6 +16,8 @@ import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 /// ## Estrutura Interna
 /// - **destinationCode:** Código do aeroporto de destino para o qual o voo está indo.
 /// - **flightNumber:** Número que identifica de forma única o voo.
+/// - **blockMinutes, distanceKm, fare:** Pesos opcionais do voo (`UNKNOWN_WEIGHT` quando não informados).
+/// - **schedule:** Horário semanal opcional do voo (`null` quando o voo não tem horário).
 ///
 /// ## Uso
 /// Crie instâncias de `Flight` utilizando o construtor padrão ou o construtor de cópia, e utilize os metodos disponíveis para gerenciar e comparar voos.
@@ -32,8 +35,19 @@ public class Flight implements Cloneable {
     ///
     /// - **`destinationCode`:** O código do aeroporto de destino para o qual o voo está indo.
     /// - **`flightNumber`:** O número que identifica de forma única o voo.
+    /// - **`blockMinutes`:** Duração do voo, de calço a calço, em minutos.
+    /// - **`distanceKm`:** Distância voada, em quilômetros.
+    /// - **`fare`:** Tarifa do voo, em reais.
+    /// - **`schedule`:** Horário semanal do voo, ou `null`.
+    /// - **`UNKNOWN_WEIGHT`:** Valor dos pesos não informados.
+    public static final int UNKNOWN_WEIGHT = -1;
+
     private final String destinationCode;
     private final int flightNumber;
+    private final int blockMinutes;
+    private final int distanceKm;
+    private final int fare;
+    private final FlightSchedule schedule;
 
     /// ## Flight
     ///
@@ -59,8 +73,60 @@ public class Flight implements Cloneable {
     /// @param destinationCode O código do aeroporto de destino.
     /// @param flightNumber    O número do voo.
     public Flight(String destinationCode, int flightNumber) {
+        this(destinationCode, flightNumber, UNKNOWN_WEIGHT, UNKNOWN_WEIGHT, UNKNOWN_WEIGHT);
+    }
+
+    /// ## Flight (com pesos)
+    ///
+    /// Construtor da classe `Flight` com os pesos usados para classificar trajetos. Valores negativos
+    /// indicam que o peso não foi informado e são armazenados como `UNKNOWN_WEIGHT`.
+    ///
+    /// ### Parâmetros
+    /// - **`destinationCode`:** O código do aeroporto de destino.
+    /// - **`flightNumber`:** O número do voo.
+    /// - **`blockMinutes`:** A duração do voo em minutos.
+    /// - **`distanceKm`:** A distância voada em quilômetros.
+    /// - **`fare`:** A tarifa do voo em reais.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste construtor.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Flight flight = new Flight("GIG", 1234, 65, 360, 420);
+    ///```
+    ///
+    /// @param destinationCode O código do aeroporto de destino.
+    /// @param flightNumber    O número do voo.
+    /// @param blockMinutes    A duração do voo em minutos.
+    /// @param distanceKm      A distância voada em quilômetros.
+    /// @param fare            A tarifa do voo em reais.
+    public Flight(String destinationCode, int flightNumber, int blockMinutes, int distanceKm, int fare) {
+        this(destinationCode, flightNumber, blockMinutes, distanceKm, fare, null);
+    }
+
+    /// ## Flight (com horário)
+    ///
+    /// Construtor da classe `Flight` com pesos e horário semanal, usado pela busca de conexões com horários.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Flight flight = new Flight("GIG", 1234, 65, 360, 420, FlightSchedule.parse(800, 905, "12345"));
+    ///```
+    ///
+    /// @param destinationCode O código do aeroporto de destino.
+    /// @param flightNumber    O número do voo.
+    /// @param blockMinutes    A duração do voo em minutos.
+    /// @param distanceKm      A distância voada em quilômetros.
+    /// @param fare            A tarifa do voo em reais.
+    /// @param schedule        O horário semanal do voo, ou `null`.
+    public Flight(String destinationCode, int flightNumber, int blockMinutes, int distanceKm, int fare, FlightSchedule schedule) {
         this.destinationCode = destinationCode;  // Atribui o código de destino
         this.flightNumber = flightNumber;        // Atribui o número do voo
+        this.blockMinutes = Math.max(blockMinutes, UNKNOWN_WEIGHT);  // Negativos = não informado
+        this.distanceKm = Math.max(distanceKm, UNKNOWN_WEIGHT);
+        this.fare = Math.max(fare, UNKNOWN_WEIGHT);
+        this.schedule = schedule;
     }
 
     /// ## getDestinationCode
@@ -109,6 +175,42 @@ public class Flight implements Cloneable {
         return flightNumber;  // Retorna o número do voo
     }
 
+    /// ## getBlockMinutes
+    ///
+    /// Retorna a duração do voo em minutos.
+    ///
+    /// @return A duração do voo, ou `UNKNOWN_WEIGHT` se não informada.
+    public int getBlockMinutes() {
+        return blockMinutes;
+    }
+
+    /// ## getDistanceKm
+    ///
+    /// Retorna a distância voada em quilômetros.
+    ///
+    /// @return A distância do voo, ou `UNKNOWN_WEIGHT` se não informada.
+    public int getDistanceKm() {
+        return distanceKm;
+    }
+
+    /// ## getFare
+    ///
+    /// Retorna a tarifa do voo em reais.
+    ///
+    /// @return A tarifa do voo, ou `UNKNOWN_WEIGHT` se não informada.
+    public int getFare() {
+        return fare;
+    }
+
+    /// ## getSchedule
+    ///
+    /// Retorna o horário semanal do voo.
+    ///
+    /// @return O horário do voo, ou `null` se o voo não tem horário.
+    public FlightSchedule getSchedule() {
+        return schedule;
+    }
+
     /// ## Flight (Construtor de Cópia)
     ///
     /// Construtor de cópia. Cria um novo objeto `Flight` a partir de outro, realizando uma
@@ -142,6 +244,14 @@ public class Flight implements Cloneable {
 
         // Copia o número do voo diretamente, pois 'int' é um tipo primitivo e não precisa de cópia profunda.
         this.flightNumber = other.flightNumber;
+
+        // Copia os pesos do voo, também primitivos.
+        this.blockMinutes = other.blockMinutes;
+        this.distanceKm = other.distanceKm;
+        this.fare = other.fare;
+
+        // O horário é imutável e pode ser compartilhado.
+        this.schedule = other.schedule;
     }
 
     /// ## clone
@@ -0,0 +1,202 @@
+/// # FlightIndex
+///
+/// A classe `FlightIndex` é um índice hash de endereçamento aberto, com chaves primitivas `int`,
+/// que associa o número de cada voo ao aeroporto de origem que o mantém em sua lista de voos.
+/// Permite verificar duplicidade e localizar o dono de um voo em tempo constante, sem percorrer
+/// os voos de todos os aeroportos.
+///
+/// ## Funcionalidades
+/// - **Indexação (`put`):** Associa um número de voo ao aeroporto de origem.
+/// - **Consulta (`get`, `contains`):** Localiza o aeroporto de origem de um voo em O(1) esperado.
+/// - **Remoção (`remove`):** Remove a associação usando deslocamento para trás (sem marcadores de remoção).
+///
+/// ## Estrutura Interna
+/// - **`keys`:** Números de voo (sondagem linear).
+/// - **`owners`:** Aeroporto de origem de cada posição; `null` indica posição livre.
+///
+/// ## Uso
+/// ```java
+/// FlightIndex index = new FlightIndex();
+/// index.put(1234, gru);
+/// Airport owner = index.get(1234); // gru
+/// index.remove(1234);
+///```
+public class FlightIndex {
+
+    /// ### Campos
+    ///
+    /// - **`INITIAL_CAPACITY`:** Capacidade inicial da tabela (potência de dois).
+    /// - **`keys`:** Números de voo armazenados.
+    /// - **`owners`:** Aeroportos de origem associados; `null` indica posição livre.
+    /// - **`size`:** Quantidade de voos indexados.
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] keys;
+    private Airport[] owners;
+    private int size;
+
+    /// ## FlightIndex
+    ///
+    /// Construtor da classe `FlightIndex`. Inicializa a tabela vazia com a capacidade inicial.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightIndex index = new FlightIndex();
+    ///```
+    public FlightIndex() {
+        this.keys = new int[INITIAL_CAPACITY];
+        this.owners = new Airport[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /// ## put
+    ///
+    /// Associa um número de voo ao seu aeroporto de origem, substituindo uma associação anterior.
+    ///
+    /// ### Parâmetros
+    /// - **`flightNumber`:** O número do voo.
+    /// - **`owner`:** O aeroporto de origem do voo.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o aeroporto for nulo.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @param owner        O aeroporto de origem do voo.
+    public void put(int flightNumber, Airport owner) {
+        if (owner == null) throw new IllegalArgumentException("Aeroporto não pode ser nulo");
+
+        int slot = indexOf(flightNumber);
+        if (slot >= 0) {
+            owners[slot] = owner;  // Número já indexado: apenas atualiza o dono
+            return;
+        }
+
+        if ((size + 1) * 2 > keys.length) resize();  // Mantém o fator de carga abaixo de 1/2
+        insert(flightNumber, owner);
+        size++;
+    }
+
+    /// ## get
+    ///
+    /// Retorna o aeroporto de origem do voo com o número informado.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @return O aeroporto de origem ou `null` se o voo não estiver indexado.
+    public Airport get(int flightNumber) {
+        int slot = indexOf(flightNumber);
+        return (slot >= 0) ? owners[slot] : null;
+    }
+
+    /// ## contains
+    ///
+    /// Verifica se já existe um voo com o número informado.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @return `true` se o número estiver indexado, `false` caso contrário.
+    public boolean contains(int flightNumber) {
+        return indexOf(flightNumber) >= 0;
+    }
+
+    /// ## remove
+    ///
+    /// Remove a associação do número de voo informado.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Localiza a posição do número na tabela.
+    /// 2. Libera a posição e desloca para trás as entradas seguintes do mesmo agrupamento,
+    ///    para que a sondagem linear continue encontrando-as sem marcadores de remoção.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @return O aeroporto de origem que estava associado ou `null` se o voo não estava indexado.
+    public Airport remove(int flightNumber) {
+        int slot = indexOf(flightNumber);
+        if (slot < 0) return null;
+
+        Airport removed = owners[slot];
+        int mask = keys.length - 1;
+        int free = slot;
+        int next = (slot + 1) & mask;
+
+        // Deslocamento para trás: move para a posição livre toda entrada cuja posição ideal
+        // não esteja entre a posição livre (exclusive) e a posição atual (inclusive).
+        while (owners[next] != null) {
+            int ideal = hash(keys[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                owners[free] = owners[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        owners[free] = null;
+        keys[free] = 0;
+        size--;
+        return removed;
+    }
+
+    /// ## size
+    ///
+    /// Retorna a quantidade de voos indexados.
+    ///
+    /// @return A quantidade de voos indexados.
+    public int size() {
+        return size;
+    }
+
+    /// ## indexOf
+    ///
+    /// Localiza a posição do número de voo na tabela por sondagem linear.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @return A posição na tabela ou `-1` se o número não estiver presente.
+    private int indexOf(int flightNumber) {
+        int mask = keys.length - 1;
+        int slot = hash(flightNumber) & mask;
+        while (owners[slot] != null) {  // Uma posição livre encerra a sondagem
+            if (keys[slot] == flightNumber) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /// ## insert
+    ///
+    /// Insere o número e o aeroporto na primeira posição livre a partir do hash do número.
+    ///
+    /// @param flightNumber O número do voo.
+    /// @param owner        O aeroporto de origem.
+    private void insert(int flightNumber, Airport owner) {
+        int mask = keys.length - 1;
+        int slot = hash(flightNumber) & mask;
+        while (owners[slot] != null)
+            slot = (slot + 1) & mask;
+        keys[slot] = flightNumber;
+        owners[slot] = owner;
+    }
+
+    /// ## resize
+    ///
+    /// Dobra a capacidade da tabela e reinsere todas as entradas.
+    private void resize() {
+        int[] oldKeys = keys;
+        Airport[] oldOwners = owners;
+
+        keys = new int[oldKeys.length * 2];
+        owners = new Airport[oldOwners.length * 2];
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldOwners[i] != null) insert(oldKeys[i], oldOwners[i]);
+    }
+
+    /// ## hash
+    ///
+    /// Mistura os bits do número do voo (números sequenciais cairiam em posições vizinhas).
+    ///
+    /// @param flightNumber O número do voo.
+    /// @return O hash misturado.
+    private static int hash(int flightNumber) {
+        int h = flightNumber * 0x9E3779B9;  // Multiplicação de Fibonacci
+        return h ^ (h >>> 16);
+    }
+}
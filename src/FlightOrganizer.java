@@ -1,7 +1,19 @@
-import estruturas.LinkedList.Disordered.LinkedListDisordered;
-
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static util.Input.getInt;
 import static util.Input.getNonEmptyString;
@@ -10,19 +22,46 @@ import static util.Input.getNonEmptyString;
 ///
 /// A classe `FlightOrganizer` é responsável por organizar aeroportos e voos, permitindo
 /// o cadastro de novos aeroportos e voos, bem como a listagem de voos e trajetos possíveis
-/// entre aeroportos. Utiliza uma estrutura de dados encadeada desordenada (`LinkedListDisordered`)
-/// para armazenar os aeroportos e seus respectivos voos.
+/// entre aeroportos. Utiliza um cadastro de aeroportos (`AirportRegistry`), que combina uma lista
+/// encadeada desordenada (`LinkedListDisordered`) com um índice hash por código, para armazenar os
+/// aeroportos e seus respectivos voos.
 ///
 /// ## Funcionalidades
 /// - **Cadastro de Aeroportos (`addAirport`):** Permite adicionar novos aeroportos ao sistema, garantindo que os códigos sejam únicos.
 /// - **Cadastro de Voos (`addFlight`):** Permite adicionar novos voos entre aeroportos existentes, garantindo que os números de voo sejam únicos.
 /// - **Remoção de Voos (`removeFlight`):** Permite remover voos existentes do sistema com base no número do voo.
 /// - **Listagem de Voos (`listFlightsFromAirport`):** Exibe todos os voos partindo de um aeroporto específico.
-/// - **Listagem de Trajetos (`listPathsBetweenAirports`, `listAllPossiblePaths`):** Exibe todos os trajetos possíveis entre dois aeroportos, incluindo trajetos diretos e indiretos.
+/// - **Listagem de Trajetos (`listPathsBetweenAirports`, `listAllPossiblePaths`):** Exibe todos os trajetos possíveis entre dois aeroportos, incluindo trajetos diretos e indiretos (opcionalmente, apenas os que têm voos em todos os trechos).
+/// - **Contagem de Combinações (`countAllPossiblePaths`):** Calcula, pela fórmula fechada, quantas combinações `listAllPossiblePaths` listaria.
+/// - **Alcançabilidade (`isReachable`):** Informa em O(1) se existe trajeto entre dois aeroportos; todas as consultas de rotas a usam para rejeitar pares sem trajeto.
+/// - **Trajeto com Menos Conexões (`findShortestRoute`, `listShortestRoute`):** Encontra, por busca em largura, um trajeto com o menor número de trechos.
+/// - **Quantidade de Trechos (`hopDistance`, `printHopDistance`):** Consulta em O(1) a matriz de trechos entre todos os pares.
+/// - **Trajeto de Menor Custo (`findCheapestRoute`, `findCheapestRouteAStar`, `listCheapestRoute`):** Encontra, por Dijkstra ou A*, o trajeto de menor duração, distância ou tarifa.
+/// - **Hierarquia de Contração (`contractionHierarchy`, `loadContractionHierarchy`, `findCheapestRouteContracted`):** Pré-processa a malha (opcionalmente lida de arquivo) para consultas de menor custo em microssegundos.
+/// - **K Melhores Trajetos (`findKShortestRoutes`, `listKShortestRoutes`):** Encontra, pelo algoritmo de Yen, os `k` trajetos simples de menor custo.
+/// - **Opções Não Dominadas (`findParetoRoutes`, `listParetoRoutes`):** Encontra a fronteira de Pareto entre trechos, tarifa e duração (a opção mais barata, a mais rápida, a com menos conexões e os compromissos entre elas).
+/// - **Chegada Mais Cedo (`findEarliestArrival`, `listEarliestArrival`):** Varre as conexões com horários (CSA), respeitando o tempo mínimo de conexão de cada aeroporto.
+/// - **Trajetos com Limites (`streamPaths`, `listBoundedPaths`):** Enumera trajetos sob demanda, com limites de conexões, resultados e tempo.
+/// - **Busca Paralela (`countPathsParallel`, `forEachPathParallel`):** Conta ou entrega trajetos usando várias threads (fork/join).
+/// - **Consultas em Lote (`findRoutes`):** Responde listas ou fluxos de consultas em paralelo, com uma única busca por origem.
+/// - **Relatório de Conectividade (`connectivityReport`, `printConnectivityReport`):** Aponta, em tempo linear, aeroportos isolados, becos sem saída e o maior grupo mutuamente alcançável.
+/// - **Leituras Concorrentes (`snapshot`, `applyBatch`):** Publica cada lote de alterações como uma nova versão imutável da malha (`NetworkSnapshot`), que leitores de outras threads consultam sem bloqueio.
+/// - **Cache de Consultas:** Consultas e listagens de rotas repetidas são respondidas pela cache LRU (`RouteQueryCache`) até a próxima alteração da malha.
 /// - **Listagem de Aeroportos (`listAirports`):** Exibe todos os aeroportos cadastrados no sistema.
 ///
 /// ## Estrutura Interna
-/// - **airports:** Lista encadeada desordenada que armazena os aeroportos do sistema.
+/// - **registry:** Cadastro de aeroportos do sistema, com busca por código em tempo constante. Usado apenas pelos
+///   escritores (`commit`).
+/// - **flightIndex:** Índice que associa cada número de voo ao seu aeroporto de origem. Usado apenas pelos escritores.
+/// - **published:** Versão imutável atual da malha, trocada atomicamente a cada lote de alterações. Cada versão
+///   guarda o seu retrato CSR (com identificadores inteiros) e os índices derivados dele: fecho transitivo,
+///   matriz de trechos (mantida incrementalmente entre versões), tabela de horários e hierarquias de contração.
+/// - **queryCache:** Cache LRU dos resultados das consultas de rotas, indexada pela versão em que foram calculados.
+///
+/// Cada consulta e cada listagem lê `published` uma única vez e usa apenas essa versão e os seus índices (nomes,
+/// voos e quantidade de aeroportos inclusive), de modo que uma consulta feita enquanto outra thread aplica
+/// alterações vê a malha inteira antes ou depois do lote. O cadastro, as listas de voos e o índice de voos,
+/// que são alterados no lugar, ficam restritos aos escritores, serializados por `commit`.
 ///
 /// ## Uso
 /// Crie uma instância de `FlightOrganizer` e utilize os metodos disponíveis para gerenciar aeroportos e voos.
@@ -40,8 +79,17 @@ public class FlightOrganizer {
 
     /// ### Campos
     ///
-    /// - **`airports`:** Lista encadeada desordenada que armazena os aeroportos do sistema.
-    private final LinkedListDisordered<Airport> airports;
+    /// - **`registry`:** Cadastro de aeroportos do sistema, indexado pelo código do aeroporto.
+    /// - **`flightIndex`:** Índice de voos, que associa o número do voo ao aeroporto de origem.
+    /// - **`published`:** Versão imutável atual da malha (`NetworkSnapshot`), com o seu retrato CSR e os índices
+    ///   derivados dele; só é trocada por `commit`, que também mantém `registry` e `flightIndex` em sincronia com ela.
+    ///   É a única estrutura lida pelas consultas: `registry` e `flightIndex` só são tocados dentro de `commit`.
+    /// - **`queryCache`:** Resultados das consultas de rotas recentes (LRU), indexados pela versão da malha
+    ///   sobre a qual foram calculados.
+    private final AirportRegistry registry;
+    private final FlightIndex flightIndex;
+    private final AtomicReference<NetworkSnapshot> published;
+    private final RouteQueryCache queryCache;
 
     /// ## FlightOrganizer
     ///
@@ -49,8 +97,9 @@ public class FlightOrganizer {
     /// adiciona alguns aeroportos predefinidos no sistema.
     ///
     /// ### Fluxo de Operações
-    /// 1. Inicializa `airports` como uma nova instância de `LinkedListDisordered`.
+    /// 1. Inicializa `registry` como uma nova instância de `AirportRegistry`, `flightIndex` vazio e a cache de consultas.
     /// 2. Chama o metodo `initializeAirports` para adicionar aeroportos predefinidos.
+    /// 3. Publica a versão inicial da malha (`NetworkSnapshot`).
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste construtor.
@@ -62,8 +111,11 @@ public class FlightOrganizer {
     ///
     /// @see #initializeAirports()
     public FlightOrganizer() {
-        airports = new LinkedListDisordered<>();
+        registry = new AirportRegistry();
+        flightIndex = new FlightIndex();
+        queryCache = new RouteQueryCache(RouteQueryCache.DEFAULT_CAPACITY);
         initializeAirports();
+        published = new AtomicReference<>(NetworkSnapshot.of(registry));
     }
 
     /// ## initializeAirports
@@ -72,7 +124,8 @@ public class FlightOrganizer {
     /// aeroportos: Belo Horizonte, Brasília, Rio de Janeiro, Salvador e São Paulo.
     ///
     /// ### Fluxo de Operações
-    /// 1. Adiciona cinco instâncias de `Airport` com nomes e códigos específicos à lista `airports`.
+    /// 1. Adiciona cinco instâncias de `Airport` com nomes e códigos específicos ao cadastro `registry`.
+    /// 2. Define as coordenadas de cada aeroporto, usadas pela busca A* e para estimar distâncias.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -84,17 +137,26 @@ public class FlightOrganizer {
     ///
     /// @see #FlightOrganizer()
     private void initializeAirports() {
-        airports.addLast(new Airport("Belo Horizonte", "CNF"));
-        airports.addLast(new Airport("Brasília", "BSB"));
-        airports.addLast(new Airport("Rio de Janeiro", "GIG"));
-        airports.addLast(new Airport("Salvador", "SSA"));
-        airports.addLast(new Airport("São Paulo", "GRU"));
+        registry.add(new Airport("Belo Horizonte", "CNF"));
+        registry.add(new Airport("Brasília", "BSB"));
+        registry.add(new Airport("Rio de Janeiro", "GIG"));
+        registry.add(new Airport("Salvador", "SSA"));
+        registry.add(new Airport("São Paulo", "GRU"));
+
+        registry.find("CNF").setCoordinates(-19.6244, -43.9719);
+        registry.find("BSB").setCoordinates(-15.8711, -47.9186);
+        registry.find("GIG").setCoordinates(-22.8099, -43.2505);
+        registry.find("SSA").setCoordinates(-12.9086, -38.3225);
+        registry.find("GRU").setCoordinates(-23.4356, -46.4731);
     }
 
     /// ## findAirportByCode
     ///
-    /// Procura um aeroporto pelo seu código. Percorre a lista encadeada de aeroportos
-    /// e retorna o aeroporto correspondente ao código fornecido.
+    /// Procura um aeroporto pelo seu código. Consulta o índice hash do cadastro de aeroportos
+    /// e retorna o aeroporto correspondente ao código fornecido, sem percorrer a lista.
+    ///
+    /// O cadastro é alterado no lugar pelos lotes, então este metodo só pode ser chamado dentro de `commit`
+    /// (pelo `Batch`). As consultas usam `airportName` sobre a versão publicada.
     ///
     /// ### Parâmetros
     /// - **`code`:** O código do aeroporto a ser encontrado.
@@ -103,9 +165,8 @@ public class FlightOrganizer {
     /// - **`Airport`:** O aeroporto correspondente ao código fornecido ou `null` se não for encontrado.
     ///
     /// ### Fluxo de Operações
-    /// 1. Inicia a busca pelo primeiro nó da lista `airports`.
-    /// 2. Itera através da lista até encontrar o aeroporto com o código correspondente.
-    /// 3. Retorna o aeroporto encontrado ou `null` se não existir.
+    /// 1. Delega a busca ao `registry`, que normaliza o código (ignora maiúsculas/minúsculas).
+    /// 2. Retorna o aeroporto encontrado ou `null` se não existir.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -121,27 +182,198 @@ public class FlightOrganizer {
     /// @param code O código do aeroporto a ser encontrado.
     /// @return O aeroporto correspondente ao código fornecido ou `null` se não for encontrado.
     private Airport findAirportByCode(String code) {
-        LinkedListDisordered<Airport>.Node current = airports.getPrimeiro();  // Começa pelo primeiro nó da lista
-        while (current != null) {  // Continua até percorrer todos os aeroportos
-            // Verifica se o código do aeroporto atual corresponde ao código buscado (ignora maiúsculas/minúsculas)
-            if (current.getElemento().getCode().equalsIgnoreCase(code))
-                return current.getElemento();  // Retorna o aeroporto se for encontrado
-            current = current.getProximo();  // Passa para o próximo aeroporto na lista
+        return registry.find(code);  // Busca em O(1) pelo índice hash do cadastro
+    }
+
+    /// ## airportName
+    ///
+    /// Procura, em uma versão publicada da malha, o nome do aeroporto com o código informado. É a busca das
+    /// consultas e listagens: não toca no cadastro, que os escritores alteram no lugar.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// NetworkSnapshot network = published.get();
+    /// String name = airportName(network, "GRU");
+    ///```
+    ///
+    /// @param network A versão da malha.
+    /// @param code    O código do aeroporto (sem diferenciar maiúsculas/minúsculas).
+    /// @return O nome do aeroporto, ou `null` se o código não estiver na versão.
+    private static String airportName(NetworkSnapshot network, String code) {
+        int id = network.idOf(code);
+        return (id < 0) ? null : network.nameOf(id);
+    }
+
+    /// ## snapshot
+    ///
+    /// Retorna a versão publicada atual da malha. A leitura é atômica e não bloqueia: pode ser feita por
+    /// qualquer thread enquanto outra aplica alterações. A versão retornada nunca muda; as alterações
+    /// seguintes publicam uma nova versão, de modo que o leitor nunca vê um lote aplicado pela metade
+    /// (por exemplo, um voo removido da lista do aeroporto, mas ainda presente no retrato).
+    ///
+    /// ### Retorno
+    /// - **`NetworkSnapshot`:** A versão publicada atual.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// NetworkSnapshot snapshot = organizer.snapshot();
+    /// RouteGraph graph = snapshot.routeGraph();
+    /// Itinerary route = RouteSearch.shortestHops(graph, graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @return A versão publicada atual da malha.
+    public NetworkSnapshot snapshot() {
+        return published.get();
+    }
+
+    /// ## applyBatch
+    ///
+    /// Aplica um lote de alterações e publica o resultado como uma única nova versão da malha. Os leitores
+    /// continuam na versão anterior até a publicação e, depois dela, veem o lote inteiro.
+    ///
+    /// ### Parâmetros
+    /// - **`changes`:** Recebe o lote (`Batch`) e registra nele as alterações.
+    ///
+    /// ### Retorno
+    /// - **`NetworkSnapshot`:** A versão publicada pelo lote (a versão atual, se nenhuma alteração foi aceita).
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Delega a `commit`, que serializa os escritores e publica a nova versão.
+    ///
+    /// ### Exceções
+    /// - Exceções lançadas por `changes` são propagadas; as alterações aceitas até ali são publicadas.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// organizer.applyBatch(batch -> {
+    ///     batch.addFlight("GRU", new Flight("SSA", 100));
+    ///     batch.removeFlight(200);
+    ///});
+    ///```
+    ///
+    /// @param changes Registra as alterações do lote.
+    /// @return A versão publicada pelo lote.
+    public NetworkSnapshot applyBatch(Consumer<Batch> changes) {
+        return commit(changes).result;
+    }
+
+    /// ## commit
+    ///
+    /// Executa um lote de alterações com exclusão mútua entre escritores e publica a nova versão.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Abre um `NetworkSnapshot.Builder` sobre a versão publicada e entrega o lote a `changes`; cada
+    ///    alteração aceita é aplicada ao cadastro, ao `flightIndex` e ao construtor.
+    /// 2. Se houve alterações, prepara a matriz de trechos da nova versão a partir da matriz da versão anterior.
+    /// 3. Publica a nova versão em `published` (troca atômica), mesmo que `changes` lance uma exceção. Os
+    ///    índices e a cache de consultas acompanham a versão, então nada mais precisa ser invalidado.
+    ///
+    /// @param changes Registra as alterações do lote.
+    /// @return O lote aplicado.
+    private synchronized Batch commit(Consumer<Batch> changes) {
+        NetworkSnapshot base = published.get();
+        Batch batch = new Batch(base.toBuilder());
+        try {
+            changes.accept(batch);
+        } finally {
+            batch.result = batch.builder.build();
+            if (batch.changes() > 0) {
+                try {
+                    updateHopMatrix(base, batch);
+                } finally {
+                    published.set(batch.result);  // Publicação: os leitores passam a ver o lote inteiro
+                }
+            }
+        }
+        return batch;
+    }
+
+    /// ## updateHopMatrix
+    ///
+    /// Prepara a matriz de trechos da versão produzida por um lote, se a versão anterior já tiver a sua. Lotes só
+    /// com inclusões, ou com uma única remoção, são aplicados incrementalmente sobre uma cópia da matriz anterior
+    /// que compartilha com ela as linhas não afetadas (a anterior continua sendo consultada pelos leitores da
+    /// versão anterior); nos demais casos a nova versão constrói
+    /// a sua matriz na primeira consulta.
+    ///
+    /// @param base  A versão sobre a qual o lote foi aplicado.
+    /// @param batch O lote aplicado, ainda não publicado.
+    private void updateHopMatrix(NetworkSnapshot base, Batch batch) {
+        HopMatrix previous = base.builtHopMatrix();
+        if (previous == null) return;
+        if (batch.removedFrom != null && batch.changes() > 1) return;  // Várias alterações com remoção: reconstrói sob demanda
+
+        NetworkSnapshot next = batch.result;
+        HopMatrix matrix = previous.copy();  // Copia só o vetor de linhas: as linhas alteradas são copiadas sob demanda
+        if (batch.removedFrom == null) {
+            if (previous.size() + batch.airportsAdded > HopMatrix.MAX_SIZE) return;  // A consulta informará o erro
+            for (int i = 0; i < batch.airportsAdded; i++)
+                matrix.airportAdded();  // Cada novo aeroporto recebe o próximo identificador
+            for (String[] route : batch.addedRoutes)
+                matrix.flightAdded(next.idOf(route[0]), next.idOf(route[1]));  // Atualiza só as linhas afetadas
+        } else {
+            int from = next.idOf(batch.removedFrom);
+            int to = next.idOf(batch.removedTo);
+            if (to >= 0) matrix.flightRemoved(next.routeGraph(), from, to, ForkJoinPool.commonPool());  // Refaz só as linhas afetadas
         }
-        return null;  // Retorna null se o aeroporto não for encontrado
+        next.seedHopMatrix(matrix);
+    }
+
+    /// ## isReachable (versão)
+    ///
+    /// Informa se existe trajeto entre dois aeroportos em uma versão da malha, pelo seu índice de alcançabilidade.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return `true` se houver trajeto; `false` se não houver ou se algum dos aeroportos não existir.
+    private static boolean isReachable(NetworkSnapshot network, String sourceCode, String destCode) {
+        int source = network.idOf(sourceCode);
+        int dest = network.idOf(destCode);
+
+        return source >= 0 && dest >= 0 && network.reachability().isReachable(source, dest);
+    }
+
+    /// ## isReachable
+    ///
+    /// Informa se existe algum trajeto de um aeroporto para outro, consultando o fecho transitivo da malha
+    /// (`ReachabilityIndex`) em O(1), sem executar busca. O índice é construído uma vez por versão da malha.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    ///
+    /// ### Retorno
+    /// - **`boolean`:** `true` se houver trajeto; `false` se não houver ou se algum dos aeroportos não existir.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// if (!organizer.isReachable("GRU", "SSA")) System.out.println("Sem trajeto");
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return `true` se houver trajeto.
+    public boolean isReachable(String sourceCode, String destCode) {
+        return isReachable(published.get(), sourceCode, destCode);
     }
 
     /// ## addAirport
     ///
     /// Adiciona um novo aeroporto ao sistema. Solicita ao usuário o nome e o código
-    /// do aeroporto e o adiciona à lista encadeada, desde que o código não exista previamente.
+    /// do aeroporto e o adiciona ao cadastro, desde que o código não exista previamente.
     ///
     /// ### Fluxo de Operações
     /// 1. Solicita ao usuário o nome do aeroporto.
     /// 2. Solicita ao usuário o código do aeroporto.
-    /// 3. Verifica se já existe um aeroporto com o mesmo código usando `findAirportByCode`.
-    /// 4. Se o código for único, cria uma nova instância de `Airport` e a adiciona à lista `airports`.
-    /// 5. Informa ao usuário que o aeroporto foi adicionado com sucesso ou exibe uma mensagem de erro se o código já existir.
+    /// 3. Cria uma nova instância de `Airport`, com o tempo mínimo de conexão padrão, e a cadastra com
+    ///    `registerAirport`.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -152,19 +384,56 @@ public class FlightOrganizer {
     /// organizer.addAirport();
     ///```
     ///
-    /// @see #findAirportByCode(String)
+    /// @see #addAirportDetailed()
     public void addAirport() {
         String name = getNonEmptyString("Digite o nome do aeroporto: ");
         String code = getNonEmptyString("Digite o código do aeroporto: ");
 
-        // Verifica se já existe um aeroporto com o mesmo código
-        if (findAirportByCode(code) != null) {
+        registerAirport(new Airport(name, code));
+    }
+
+    /// ## addAirportDetailed
+    ///
+    /// Adiciona um novo aeroporto ao sistema informando também o seu tempo mínimo de conexão, usado pela
+    /// consulta de chegada mais cedo. As perguntas de `addAirport` são feitas na mesma ordem, seguidas da nova.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita ao usuário o nome e o código do aeroporto.
+    /// 2. Solicita ao usuário o tempo mínimo de conexão (0 = padrão).
+    /// 3. Cria uma nova instância de `Airport` e a cadastra com `registerAirport`.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.addAirportDetailed();
+    ///```
+    ///
+    /// @see #addAirport()
+    public void addAirportDetailed() {
+        String name = getNonEmptyString("Digite o nome do aeroporto: ");
+        String code = getNonEmptyString("Digite o código do aeroporto: ");
+        int minimumConnection = getInt("Digite o tempo mínimo de conexão em minutos (0 = padrão): ");
+
+        Airport newAirport = new Airport(name, code);
+        if (minimumConnection > 0) newAirport.setMinimumConnectionMinutes(minimumConnection);
+        registerAirport(newAirport);
+    }
+
+    /// ## registerAirport
+    ///
+    /// Cadastra um aeroporto por meio de um lote (`commit`), que rejeita códigos já existentes e publica a
+    /// nova versão da malha, e informa o resultado ao usuário.
+    ///
+    /// @param newAirport O aeroporto a ser cadastrado.
+    private void registerAirport(Airport newAirport) {
+        // Cadastra e publica o aeroporto; o lote o rejeita se já existir um aeroporto com o mesmo código
+        if (commit(batch -> batch.addAirport(newAirport)).changes() == 0) {
             System.err.println("Código de aeroporto já existe.");
             return;  // Se o código já existir, exibe mensagem de erro e encerra
         }
-
-        Airport newAirport = new Airport(name, code); // Se o código não existir, cria e adiciona o novo aeroporto à lista
-        airports.addLast(newAirport);  // Adiciona ao final da lista
         System.out.println("Aeroporto adicionado com sucesso.");
     }
 
@@ -178,10 +447,7 @@ public class FlightOrganizer {
     /// 1. Solicita ao usuário o código do aeroporto de origem.
     /// 2. Solicita ao usuário o código do aeroporto de destino.
     /// 3. Solicita ao usuário o número do voo.
-    /// 4. Verifica se os aeroportos de origem e destino existem usando `findAirportByCode`.
-    /// 5. Verifica se o número do voo já existe em qualquer aeroporto.
-    /// 6. Se todas as verificações passarem, cria uma nova instância de `Flight` e a adiciona ao aeroporto de origem.
-    /// 7. Informa ao usuário que o voo foi adicionado com sucesso ou exibe uma mensagem de erro se houver duplicações.
+    /// 4. Cria uma nova instância de `Flight`, sem pesos nem horário, e a cadastra com `registerFlight`.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -192,50 +458,105 @@ public class FlightOrganizer {
     /// organizer.addFlight();
     ///```
     ///
-    /// @see #findAirportByCode(String)
+    /// @see #addFlightDetailed()
     public void addFlight() {
         String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
         String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
         int flightNumber = getInt("Digite o número do voo: ");
 
-        // Busca os aeroportos de origem e destino
-        Airport sourceAirport = findAirportByCode(sourceCode);
-        Airport destAirport = findAirportByCode(destCode);
+        registerFlight(sourceCode, destCode, new Flight(destCode, flightNumber));
+    }
+
+    /// ## addFlightDetailed
+    ///
+    /// Adiciona um voo informando também a sua duração, distância e tarifa, usadas pelas consultas de menor
+    /// custo, e o seu horário semanal, usado pela consulta de chegada mais cedo. As perguntas de `addFlight`
+    /// são feitas na mesma ordem, seguidas das novas.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita ao usuário os códigos de origem e de destino e o número do voo.
+    /// 2. Solicita a duração, a distância e a tarifa (0 = não informada) e o horário de partida em `HHMM`
+    ///    (-1 = sem horário); com horário, solicita também a chegada e os dias de operação.
+    /// 3. Cria uma nova instância de `Flight` (pesos não positivos ficam como não informados) e a cadastra com
+    ///    `registerFlight`.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.addFlightDetailed();
+    ///```
+    ///
+    /// @see #addFlight()
+    public void addFlightDetailed() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int flightNumber = getInt("Digite o número do voo: ");
+        int blockMinutes = getInt("Digite a duração do voo em minutos (0 = não informada): ");
+        int distanceKm = getInt("Digite a distância do voo em km (0 = não informada): ");
+        int fare = getInt("Digite a tarifa do voo em reais (0 = não informada): ");
+        int departureHhmm = getInt("Digite o horário de partida em HHMM (-1 = sem horário): ");
+
+        FlightSchedule schedule = null;
+        if (departureHhmm >= 0) {
+            int arrivalHhmm = getInt("Digite o horário de chegada em HHMM: ");
+            String days = getNonEmptyString("Digite os dias de operação (1 = segunda ... 7 = domingo, ex.: 12345): ");
+            try {
+                schedule = FlightSchedule.parse(departureHhmm, arrivalHhmm, days);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Horário inválido: " + e.getMessage());
+                return;  // Horário ou dias inválidos, exibe erro e encerra
+            }
+        }
+
+        Flight newFlight = new Flight(
+                destCode,
+                flightNumber,
+                (blockMinutes > 0) ? blockMinutes : Flight.UNKNOWN_WEIGHT,
+                (distanceKm > 0) ? distanceKm : Flight.UNKNOWN_WEIGHT,
+                (fare > 0) ? fare : Flight.UNKNOWN_WEIGHT,
+                schedule
+        );
+        registerFlight(sourceCode, destCode, newFlight);
+    }
+
+    /// ## registerFlight
+    ///
+    /// Cadastra um voo e informa o resultado ao usuário.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Verifica, na versão publicada da malha, se os aeroportos de origem e destino existem.
+    /// 2. Cadastra o voo por meio de um lote (`commit`), que confere o número do voo no `flightIndex`, adiciona o
+    ///    voo ao aeroporto de origem, registra o número no índice e publica a nova versão da malha.
+    /// 3. Informa ao usuário que o voo foi adicionado com sucesso somente se o lote o aceitou. Como aeroportos
+    ///    não são removidos, um voo recusado tem o número de um voo já cadastrado.
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param newFlight  O voo a ser cadastrado.
+    private void registerFlight(String sourceCode, String destCode, Flight newFlight) {
+        // Busca os aeroportos de origem e destino na versão publicada
+        NetworkSnapshot network = published.get();
 
         // Verifica se o aeroporto de origem foi encontrado
-        if (sourceAirport == null) {
+        if (network.idOf(sourceCode) < 0) {
             System.err.println("Aeroporto de origem não encontrado.");
             return;  // Se não encontrado, exibe mensagem de erro e encerra
         }
 
         // Verifica se o aeroporto de destino foi encontrado
-        if (destAirport == null) {
+        if (network.idOf(destCode) < 0) {
             System.err.println("Aeroporto de destino não encontrado.");
             return;  // Se não encontrado, exibe mensagem de erro e encerra
         }
 
-        // Verifica se já existe um voo com o mesmo número em qualquer aeroporto
-        boolean flightNumberExists = false;
-        LinkedListDisordered<Airport>.Node airportNode = airports.getPrimeiro();  // Começa pelo primeiro aeroporto
-        while (airportNode != null && !flightNumberExists) {  // Percorre todos os aeroportos
-            LinkedListDisordered<Flight>.Node current = airportNode.getElemento().getFlights().getPrimeiro();
-            while (current != null) {  // Percorre todos os voos do aeroporto
-                if (current.getElemento().getFlightNumber() == flightNumber) {
-                    flightNumberExists = true;
-                    break;
-                }
-                current = current.getProximo();  // Passa para o próximo voo
-            }
-            airportNode = airportNode.getProximo();  // Passa para o próximo aeroporto
-        }
-
-        if (flightNumberExists) {
+        // Adiciona ao final da lista de voos e publica; o lote confere o número no índice (O(1)), sob a exclusão dos escritores
+        if (commit(batch -> batch.addFlight(sourceCode, newFlight)).changes() == 0) {
             System.err.println("Número de voo já existe.");
             return;  // Se o número do voo já existir, exibe erro e encerra
         }
-
-        Flight newFlight = new Flight(destCode, flightNumber); // Se o voo não existir, cria e adiciona o novo voo à lista
-        sourceAirport.getFlights().addLast(newFlight);  // Adiciona ao final da lista de voos
         System.out.println("Voo adicionado com sucesso.");
     }
 
@@ -246,9 +567,11 @@ public class FlightOrganizer {
     ///
     /// ### Fluxo de Operações
     /// 1. Solicita ao usuário o número do voo a ser removido.
-    /// 2. Itera através da lista de aeroportos e de seus voos para encontrar o voo correspondente.
-    /// 3. Se o voo for encontrado, remove-o da lista de voos do aeroporto de origem.
-    /// 4. Informa ao usuário que o voo foi removido com sucesso ou exibe uma mensagem de erro se o voo não for encontrado.
+    /// 2. Consulta o `flightIndex` para obter o aeroporto de origem do voo, sem percorrer os demais aeroportos.
+    /// 3. Por meio de um lote (`commit`), remove o voo da lista desse aeroporto com `removeFirstMatch`, em uma
+    ///    única passagem, e publica a nova versão da malha.
+    /// 4. Remove o número do voo do `flightIndex` e, se a matriz de trechos já existir, recalcula as linhas afetadas.
+    /// 5. Informa ao usuário que o voo foi removido com sucesso ou exibe uma mensagem de erro se o voo não for encontrado.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -259,39 +582,16 @@ public class FlightOrganizer {
     /// organizer.removeFlight();
     ///```
     ///
-    /// @see #findAirportByCode(String)
+    /// @see #applyBatch(Consumer)
     public void removeFlight() {
         int flightNumber = getInt("Digite o número do voo a ser removido: ");  // Solicita o número do voo
 
-        boolean found = false;  // Variável de controle para indicar se o voo foi encontrado
-        LinkedListDisordered<Airport>.Node airportNode = airports.getPrimeiro();  // Começa pelo primeiro aeroporto
-        while (airportNode != null) {  // Percorre a lista de aeroportos
-            LinkedListDisordered<Flight> flights = airportNode.getElemento().getFlights();  // Obtém a lista de voos do aeroporto
-            LinkedListDisordered<Flight>.Node prev = null;
-            LinkedListDisordered<Flight>.Node current = flights.getPrimeiro();  // Começa pelo primeiro voo
-
-            // Percorre a lista de voos até encontrar o voo a ser removido
-            while (current != null) {
-                if (current.getElemento().getFlightNumber() == flightNumber) {  // Se o voo foi encontrado
-
-                    if (prev == null) flights.removeFirst();  // Remove o primeiro voo da lista
-                    else prev.setProximo(current.getProximo());  // Remove o voo intermediário
-
-                    flights.tamanho--;  // Ajusta corretamente o tamanho da lista
-                    System.out.println("Voo removido com sucesso.");
-
-                    found = true;  // Indica que o voo foi encontrado e removido
-                    break;
-                }
-                prev = current;  // Atualiza o ponteiro anterior
-                current = current.getProximo();  // Passa para o próximo voo
-            }
-            if (found) break;  // Se o voo foi removido, sai do loop
-            airportNode = airportNode.getProximo();  // Passa para o próximo aeroporto
-        }
-        if (!found) {
+        // Remove e publica; o lote não altera nada se o voo não existir
+        if (commit(batch -> batch.removeFlight(flightNumber)).changes() == 0) {
             System.err.println("Voo não encontrado.");  // Exibe erro se o voo não foi encontrado
+            return;
         }
+        System.out.println("Voo removido com sucesso.");
     }
 
     /// ## listFlightsFromAirport
@@ -301,8 +601,8 @@ public class FlightOrganizer {
     ///
     /// ### Fluxo de Operações
     /// 1. Solicita ao usuário o código do aeroporto.
-    /// 2. Busca o aeroporto correspondente usando `findAirportByCode`.
-    /// 3. Se o aeroporto for encontrado, itera sobre sua lista de voos e exibe detalhes de cada voo.
+    /// 2. Busca o aeroporto correspondente na versão publicada da malha, usando `NetworkSnapshot.idOf`.
+    /// 3. Se o aeroporto for encontrado, itera sobre os voos dele nessa mesma versão e exibe detalhes de cada voo.
     /// 4. Exibe mensagens de erro se o aeroporto não for encontrado ou se não houver voos cadastrados.
     ///
     /// ### Exceções
@@ -314,29 +614,26 @@ public class FlightOrganizer {
     /// organizer.listFlightsFromAirport();
     ///```
     ///
-    /// @see #findAirportByCode(String)
+    /// @see #airportName(NetworkSnapshot, String)
     public void listFlightsFromAirport() {
         String code = getNonEmptyString("Digite o código do aeroporto: ");  // Solicita o código do aeroporto
 
-        Airport airport = findAirportByCode(code);  // Busca o aeroporto pelo código
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a listagem
+        int id = network.idOf(code);  // Busca o aeroporto pelo código
 
         // Se o aeroporto não for encontrado, exibe mensagem de erro
-        if (airport == null) {
+        if (id < 0) {
             System.err.println("Aeroporto não encontrado.");
             return;
         }
 
         // Exibe os voos partindo do aeroporto encontrado
-        System.out.println("Voos a partir de " + airport.getName() + ":");
-        LinkedListDisordered<Flight>.Node flightNode = airport.getFlights().getPrimeiro();
-
-        while (flightNode != null) {  // Percorre a lista de voos do aeroporto
-            Flight flight = flightNode.getElemento();  // Obtém os detalhes do voo
+        System.out.println("Voos a partir de " + network.nameOf(id) + ":");
+        for (Flight flight : network.flights(id)) {  // Percorre os voos do aeroporto nesta versão
             String destCode = flight.getDestinationCode();  // Obtém o código do destino
-            Airport destAirport = findAirportByCode(destCode);  // Busca o aeroporto de destino
-            String destName = (destAirport != null) ? destAirport.getName() : "Desconhecido";  // Se encontrado, exibe o nome do destino
+            String destName = airportName(network, destCode);  // Busca o aeroporto de destino
+            if (destName == null) destName = "Desconhecido";  // Se não encontrado, exibe "Desconhecido"
             System.out.println("Voo " + flight.getFlightNumber() + " para " + destName + " (" + destCode + ")");
-            flightNode = flightNode.getProximo();  // Passa para o próximo voo
         }
     }
 
@@ -349,9 +646,13 @@ public class FlightOrganizer {
     /// ### Fluxo de Operações
     /// 1. Solicita ao usuário o código do aeroporto de origem.
     /// 2. Solicita ao usuário o código do aeroporto de destino.
-    /// 3. Busca os aeroportos de origem e destino usando `findAirportByCode`.
-    /// 4. Se ambos os aeroportos forem encontrados, inicia a busca por trajetos utilizando `findPaths`.
-    /// 5. Exibe mensagens de erro se os aeroportos não forem encontrados.
+    /// 3. Busca os aeroportos de origem e destino na versão publicada da malha, usando `airportName`.
+    /// 4. Se ambos os aeroportos forem encontrados, consulta o índice de alcançabilidade e, se não houver
+    ///    trajeto, informa de imediato, sem executar a busca.
+    /// 5. Caso contrário, reexibe a listagem guardada na cache de consultas, se houver; senão, obtém o retrato
+    ///    CSR da mesma versão da malha (`NetworkSnapshot.routeGraph`), inicia a busca por trajetos utilizando `findPaths` sobre os identificadores
+    ///    inteiros dos aeroportos e guarda a listagem na cache.
+    /// 6. Exibe mensagens de erro se os aeroportos não forem encontrados.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
@@ -362,373 +663,1475 @@ public class FlightOrganizer {
     /// organizer.listPathsBetweenAirports();
     ///```
     ///
-    /// @see #findAirportByCode(String)
+    /// @see #airportName(NetworkSnapshot, String)
     public void listPathsBetweenAirports() {
         String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");  // Solicita o código do aeroporto de origem
         String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");  // Solicita o código do aeroporto de destino
 
-        Airport sourceAirport = findAirportByCode(sourceCode);  // Busca o aeroporto de origem
-        Airport destAirport = findAirportByCode(destCode);  // Busca o aeroporto de destino
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a listagem
+        String sourceName = airportName(network, sourceCode);  // Busca o aeroporto de origem
+        String destName = airportName(network, destCode);  // Busca o aeroporto de destino
 
-        if (sourceAirport == null || destAirport == null) {
+        if (sourceName == null || destName == null) {
             System.err.println("Aeroporto de origem ou destino não encontrado.");
             return;
         }
 
+        // Sem trajeto no fecho transitivo: nada a visitar
+        if (!isReachable(network, sourceCode, destCode)) {
+            System.out.println("Nenhum trajeto encontrado de " + sourceName + " para " + destName + ".");
+            return;
+        }
+
         // Exibe os trajetos possíveis entre os dois aeroportos
-        System.out.println("Possíveis trajetos de " + sourceAirport.getName() + " para " + destAirport.getName() + ":");
+        System.out.println("Possíveis trajetos de " + sourceName + " para " + destName + ":");
 
-        LinkedListDisordered<String> path = new LinkedListDisordered<>();  // Lista para armazenar o trajeto atual
-        LinkedListDisordered<String> visited = new LinkedListDisordered<>();  // Lista para armazenar os aeroportos já visitados
-        findPaths(sourceCode, destCode, path, visited);  // Inicia a busca pelos trajetos
+        // Listagem repetida: reexibe as linhas guardadas, sem refazer a busca
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.PATHS, sourceCode, destCode, 0, 0);
+        List<String> cached = queryCache.lookupTranscript(network.version(), key);
+        if (cached != null) {
+            cached.forEach(System.out::println);
+            return;
+        }
+
+        RouteGraph routes = network.routeGraph();  // Retrato CSR da malha
+        int[] path = new int[routes.size()];  // Trajeto atual (um trajeto simples tem no máximo n aeroportos)
+        BitSet visited = new BitSet(routes.size());  // Aeroportos já visitados no trajeto atual
+        RouteQueryCache.Transcript out = new RouteQueryCache.Transcript();  // Exibe e registra cada linha
+        findPaths(routes, routes.idOf(sourceCode), routes.idOf(destCode), path, 0, visited, out);  // Inicia a busca pelos trajetos
+        queryCache.storeTranscript(network.version(), key, out);
     }
 
-    /// ## listAirports
+    /// ## findShortestRoute
+    ///
+    /// Encontra um trajeto com o menor número de conexões entre dois aeroportos. Executa uma busca em
+    /// largura (BFS) bidirecional sobre o retrato CSR da malha, em vez de enumerar todos os trajetos: as
+    /// buscas a partir da origem e do destino se encontram no meio, em geral em um hub.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
     ///
-    /// Lista todos os aeroportos cadastrados no sistema. Percorre a lista encadeada de aeroportos
-    /// e exibe o nome e o código de cada um.
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto ótimo (com os números dos voos), ou `null` se algum aeroporto não
+    ///   existir ou se não houver trajeto.
     ///
     /// ### Fluxo de Operações
-    /// 1. Inicia a iteração pelo primeiro nó da lista `airports`.
-    /// 2. Itera através da lista, exibindo o nome e o código de cada aeroporto.
-    /// 3. Exibe mensagens de erro se não houver aeroportos cadastrados.
+    /// 1. Obtém o retrato CSR da malha e converte os códigos em identificadores.
+    /// 2. Retorna `null` se algum dos aeroportos não for encontrado ou se o índice de alcançabilidade
+    ///    indicar que não há trajeto.
+    /// 3. Delega a busca a `RouteSearch.shortestHopsBidirectional`.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
     ///
     /// ### Exemplo
     /// ```java
-    /// FlightOrganizer organizer = new FlightOrganizer();
-    /// organizer.listAirports();
+    /// Itinerary itinerary = organizer.findShortestRoute("GRU", "SSA");
+    /// if (itinerary != null) System.out.println(itinerary);
     ///```
     ///
-    /// @see #findAirportByCode(String)
-    public void listAirports() {
-        System.out.println("Aeroportos cadastrados no sistema:");
-        LinkedListDisordered<Airport>.Node current = airports.getPrimeiro();
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return Um trajeto com o menor número de conexões, ou `null` se não houver.
+    public Itinerary findShortestRoute(String sourceCode, String destCode) {
+        return findShortestRoute(published.get(), sourceCode, destCode);  // Uma única versão para toda a consulta
+    }
 
-        if (current == null) {
-            System.err.println("Nenhum aeroporto cadastrado.");
-            return;
-        }
+    /// ## findShortestRoute (versão)
+    ///
+    /// Executa `findShortestRoute` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return Um trajeto com o menor número de conexões, ou `null` se não houver.
+    private Itinerary findShortestRoute(NetworkSnapshot network, String sourceCode, String destCode) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
 
-        while (current != null) {
-            Airport airport = current.getElemento();
-            System.out.println(airport.getName() + " (" + airport.getCode() + ")");
-            current = current.getProximo();
-        }
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return null;  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.SHORTEST, sourceCode, destCode, 0, 0);
+        return queryCache.computeIfAbsent(network.version(), key, () -> RouteSearch.shortestHopsBidirectional(routes, source, dest));
     }
 
-    /// ## findPaths
+    /// ## listShortestRoute
     ///
-    /// Função recursiva que encontra todos os caminhos possíveis entre dois aeroportos.
-    /// A função segue a técnica de busca em profundidade (DFS) para explorar todas as rotas.
-    ///
-    /// ### Parâmetros
-    /// - **`currentCode`:** Código do aeroporto atual no caminho.
-    /// - **`destCode`:** Código do aeroporto de destino.
-    /// - **`path`:** Caminho atual sendo percorrido.
-    /// - **`visited`:** Lista de aeroportos já visitados para evitar ciclos.
+    /// Exibe um trajeto com o menor número de conexões entre dois aeroportos. Solicita os códigos de
+    /// origem e destino e utiliza `findShortestRoute`.
     ///
     /// ### Fluxo de Operações
-    /// 1. Adiciona o aeroporto atual ao `path` e marca-o como visitado.
-    /// 2. Se o aeroporto atual for o destino, imprime o trajeto.
-    /// 3. Caso contrário, itera sobre todos os voos do aeroporto atual:
-    ///    - Para cada voo, se o destino não tiver sido visitado, chama recursivamente `findPaths`.
-    /// 4. Remove o aeroporto atual do `path` e da lista de `visited` (backtracking).
+    /// 1. Solicita ao usuário os códigos dos aeroportos de origem e destino.
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado.
+    /// 3. Exibe o trajeto encontrado (aeroportos e voos) ou informa que não há trajeto.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
     ///
     /// ### Exemplo
     /// ```java
-    /// findPaths("GRU", "GIG", new LinkedListDisordered<>(), new LinkedListDisordered<>());
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listShortestRoute();
     ///```
     ///
-    /// @param currentCode Código do aeroporto atual no caminho.
-    /// @param destCode    Código do aeroporto de destino.
-    /// @param path        Caminho atual sendo percorrido.
-    /// @param visited     Lista de aeroportos já visitados para evitar ciclos.
-    private void findPaths(
-            String currentCode,
-            String destCode,
-            LinkedListDisordered<String> path,
-            LinkedListDisordered<String> visited
-    ) {
-        path.addLast(currentCode);
-        visited.addLast(currentCode);
-
-        // Mensagem de depuração
-        System.out.println("Visitando: " + currentCode);
-
-        if (currentCode.equalsIgnoreCase(destCode)) {
-            System.out.println("Destino alcançado!");
-            printPath(path);
-        } else {
-            Airport currentAirport = findAirportByCode(currentCode);
-            if (currentAirport != null) {
-                LinkedListDisordered<Flight>.Node flightNode = currentAirport.getFlights().getPrimeiro();
-
-                if (flightNode == null) System.out.println("Nenhum voo encontrado a partir de: " + currentCode);
-
-                while (flightNode != null) {
-                    String nextCode = flightNode.getElemento().getDestinationCode();
+    /// @see #findShortestRoute(String, String)
+    public void listShortestRoute() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
 
-                    // Mensagem de depuração para cada voo encontrado
-                    System.out.println("Voo encontrado: " + currentCode + " -> " + nextCode);
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
 
-                    if (!visited.contains(nextCode)) findPaths(nextCode, destCode, path, visited);
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
 
-                    flightNode = flightNode.getProximo();
-                }
-            } else {
-                System.err.println("Aeroporto não encontrado: " + currentCode);
-            }
+        Itinerary itinerary = findShortestRoute(network, sourceCode, destCode);
+        if (itinerary == null) {
+            System.out.println("Nenhum trajeto encontrado de " + sourceName + " para " + destName + ".");
+            return;
         }
 
-        path.removeLast();
-        visited.removeLast();
+        System.out.println("Trajeto com menos conexões de " + sourceName + " para " + destName
+                           + " (" + itinerary.getHops() + " trecho(s)):");
+        System.out.println(itinerary);
     }
 
-    /// ## listAllPossiblePaths
+    /// ## hopDistance
     ///
-    /// Função para listar todas as combinações possíveis de trajetos entre dois aeroportos distintos.
-    /// Esta função ignora a existência de voos e lista todas as sequências possíveis de aeroportos
-    /// do aeroporto de origem ao aeroporto de destino.
+    /// Retorna a menor quantidade de trechos entre dois aeroportos, consultando a matriz de trechos entre
+    /// todos os pares (`HopMatrix`) em O(1). A matriz é construída, com uma BFS paralela a partir de cada
+    /// aeroporto, na primeira consulta; depois disso, cada lote de alterações entrega à nova versão uma cópia
+    /// atualizada, recalculando apenas as linhas afetadas.
     ///
     /// ### Parâmetros
     /// - **`sourceCode`:** Código do aeroporto de origem.
     /// - **`destCode`:** Código do aeroporto de destino.
     ///
-    /// ### Fluxo de Operações
-    /// 1. Valida se os códigos dos aeroportos de origem e destino são distintos.
-    /// 2. Busca os aeroportos de origem e destino usando `findAirportByCode`.
-    /// 3. Coleta todos os aeroportos intermediários (excluindo os de origem e destino).
-    /// 4. Gera todas as combinações possíveis de aeroportos intermediários.
-    /// 5. Para cada combinação, gera todas as permutações possíveis.
-    /// 6. Constrói e exibe cada trajeto completo a partir das permutações.
-    /// 7. Informa o número total de trajetos possíveis encontrados.
+    /// ### Retorno
+    /// - **`int`:** A quantidade de trechos, ou `-1` se algum dos aeroportos não existir ou se não houver trajeto.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
     ///
     /// ### Exemplo
     /// ```java
-    /// FlightOrganizer organizer = new FlightOrganizer();
-    /// organizer.listAllPossiblePaths("GRU", "GIG");
+    /// int hops = organizer.hopDistance("GRU", "SSA");
     ///```
     ///
     /// @param sourceCode Código do aeroporto de origem.
     /// @param destCode   Código do aeroporto de destino.
-    public void listAllPossiblePaths(String sourceCode, String destCode) {
-        // Validação inicial: verifica se os códigos dos aeroportos de origem e destino são diferentes.
-        // Caso sejam iguais, não há sentido em listar trajetos, então a função exibe um erro e retorna.
-        if (sourceCode.equalsIgnoreCase(destCode)) {
-            System.err.println("Os códigos dos aeroportos de origem e destino devem ser distintos.");
-            return;
-        }
-
-        // Busca o aeroporto de origem e o aeroporto de destino pelos códigos fornecidos.
-        // Se algum dos aeroportos não for encontrado, a função exibe uma mensagem de erro e retorna.
-        Airport sourceAirport = findAirportByCode(sourceCode);
-        Airport destAirport = findAirportByCode(destCode);
-
-        if (sourceAirport == null || destAirport == null) {
-            System.err.println("Aeroporto de origem ou destino não encontrado.");
-            return;
-        }
-
-        // Coleta todos os aeroportos intermediários (excluindo o de origem e o de destino)
-        // para poderem ser combinados nos trajetos. Usa uma lista 'intermediateCodes' para armazenar os códigos.
-        List<String> intermediateCodes = new ArrayList<>();
-        LinkedListDisordered<Airport>.Node current = airports.getPrimeiro();
-
-        // Percorre todos os aeroportos registrados, exceto o de origem e o de destino,
-        // e adiciona os códigos dos intermediários na lista 'intermediateCodes'.
-        while (current != null) {
-            String code = current.getElemento().getCode();
-            if (!code.equalsIgnoreCase(sourceCode) && !code.equalsIgnoreCase(destCode))
-                intermediateCodes.add(code.toUpperCase()); // Adiciona o código em maiúsculas para padronizar
-            current = current.getProximo(); // Move para o próximo aeroporto na lista
-        }
-
-        // Lista para armazenar todas as combinações de aeroportos intermediários.
-        List<List<String>> allCombos = new ArrayList<>();
-
-        // `n` é o número total de aeroportos intermediários.
-        int n = intermediateCodes.size();
-
-        // Gera todas as combinações possíveis de aeroportos intermediários de tamanho 'k', onde 'k' varia de 0 a 'n'.
-        // 'combine' é uma função auxiliar que gera as combinações recursivamente.
-        for (int k = 0; k <= n; k++)  // 'k' é o tamanho da combinação (número de aeroportos intermediários)
-            combine(intermediateCodes, 0, k, new ArrayList<>(), allCombos);
-
-        // Exibe uma mensagem inicial informando os trajetos possíveis de origem a destino.
-        System.out.println("Listando todas as combinações possíveis de trajetos de "
-                           + sourceAirport.getName() + " (" + sourceCode.toUpperCase() + ") para "
-                           + destAirport.getName() + " (" + destCode.toUpperCase() + "):\n");
-
-        // 'trajetoNumero' é um contador para numerar os trajetos listados.
-        int trajetoNumero = 1;
-
-        // Para cada combinação de aeroportos intermediários, geramos todas as permutações possíveis.
-        // Isso porque, para cada combinação, a ordem dos aeroportos pode ser rearranjada.
-        for (List<String> combination : allCombos) {
-
-            List<List<String>> permutations = permute(combination); // 'permute' gera todas as permutações da combinação.
-
-            for (List<String> permuted : permutations) {
-                // Constrói o trajeto completo, começando pelo aeroporto de origem, passando pelos intermediários permutados, e terminando no aeroporto de destino.
-                StringBuilder trajeto = new StringBuilder();
-                trajeto.append(sourceCode.toUpperCase()); // Adiciona o aeroporto de origem
+    /// @return A menor quantidade de trechos, ou `-1` se não houver trajeto.
+    public int hopDistance(String sourceCode, String destCode) {
+        return hopDistance(published.get(), sourceCode, destCode);  // Uma única versão para toda a consulta
+    }
 
-                for (String code : permuted)
-                    trajeto.append(" -> ").append(code); // Adiciona cada aeroporto intermediário
-                trajeto.append(" -> ").append(destCode.toUpperCase()); // Adiciona o aeroporto de destino
+    /// ## hopDistance (versão)
+    ///
+    /// Executa `hopDistance` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return A menor quantidade de trechos, ou `-1` se não houver trajeto.
+    private int hopDistance(NetworkSnapshot network, String sourceCode, String destCode) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
 
-                // Exibe o trajeto formatado.
-                System.out.println("Trajeto " + trajetoNumero + ": " + trajeto);
-                trajetoNumero++;
-            }
-        }
+        if (source < 0 || dest < 0) return -1;  // Aeroporto de origem ou destino não encontrado
+        if (network.builtHopMatrix() == null && !network.reachability().isReachable(source, dest)) return -1;  // Dispensa construir a matriz
 
-        // Exibe o número total de trajetos possíveis encontrados.
-        System.out.println("\nTotal de trajetos possíveis: " + (trajetoNumero - 1));
+        return network.hopMatrix().hops(source, dest);  // Matriz desta versão (construída na primeira consulta)
     }
 
-    /// ## combine
+    /// ## printHopDistance
     ///
-    /// Função auxiliar para gerar combinações de aeroportos.
-    /// Esta função gera todas as combinações possíveis de aeroportos a partir da lista de códigos fornecida.
-    /// A combinação é controlada pelo valor de `k`, que indica o número de elementos a serem escolhidos.
-    ///
-    /// ### Parâmetros
-    /// - **`codes`:** Lista de códigos de aeroportos.
-    /// - **`start`:** Índice inicial para a combinação atual.
-    /// - **`k`:** Tamanho da combinação desejada (quantidade de elementos).
-    /// - **`current`:** Combinação atual sendo construída (parcialmente completa).
-    /// - **`allCombos`:** Lista de todas as combinações geradas.
+    /// Exibe a menor quantidade de trechos entre dois aeroportos. Solicita os códigos de origem e destino
+    /// e utiliza `hopDistance`.
     ///
     /// ### Fluxo de Operações
-    /// 1. Se `k` for zero, adiciona a combinação atual à lista `allCombos` e retorna.
-    /// 2. Itera sobre os códigos a partir do índice `start`.
-    /// 3. Adiciona o código atual à combinação e chama recursivamente `combine` com `k-1`.
-    /// 4. Remove o último elemento adicionado (backtracking) para tentar a próxima combinação possível.
+    /// 1. Solicita ao usuário os códigos dos aeroportos de origem e destino.
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado.
+    /// 3. Exibe a quantidade de trechos ou informa que não há trajeto.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
     ///
     /// ### Exemplo
     /// ```java
-    /// List<List<String>> allCombos = new ArrayList<>();
-    /// combine(intermediateCodes, 0, 2, new ArrayList<>(), allCombos);
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.printHopDistance();
     ///```
     ///
-    /// @param codes     Lista de códigos de aeroportos.
-    /// @param start     Índice inicial para a combinação atual.
-    /// @param k         Tamanho da combinação desejada (quantidade de elementos).
-    /// @param current   Combinação atual sendo construída (parcialmente completa).
-    /// @param allCombos Lista de todas as combinações geradas.
-    private void combine(
-            List<String> codes,
-            int start,
-            int k,
-            List<String> current,
-            List<List<String>> allCombos
-    ) {
-        // Caso base: quando 'k' chega a zero, significa que a combinação atual tem o tamanho desejado.
-        // A combinação é adicionada à lista 'allCombos', criando uma nova instância para não alterar a original.
-        if (k == 0) {
-            allCombos.add(new ArrayList<>(current));  // Armazena a combinação atual
+    /// @see #hopDistance(String, String)
+    public void printHopDistance() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
             return;
         }
 
-        // Loop para percorrer os códigos de aeroportos a partir do índice 'start'.
-        // `i <= codes.size() - k` garante que ainda haja aeroportos suficientes para completar a combinação.
-        for (int i = start; i <= codes.size() - k; i++) {
-            current.add(codes.get(i)); // Adiciona o código atual à combinação em construção.
-            combine(codes, i + 1, k - 1, current, allCombos); // Chama recursivamente 'combine' para continuar construindo a combinação com o próximo elemento.
-            current.removeLast(); // Remove o último elemento adicionado (backtracking) para tentar a próxima combinação possível.
+        int hops = hopDistance(network, sourceCode, destCode);
+        if (hops < 0) {
+            System.out.println("Nenhum trajeto encontrado de " + sourceName + " para " + destName + ".");
+            return;
         }
+
+        System.out.println("Menor quantidade de trechos de " + sourceName + " para " + destName
+                           + ": " + hops);
     }
 
-    /// ## permute
+    /// ## findCheapestRoute
     ///
-    /// Função auxiliar para gerar todas as permutações de uma combinação de aeroportos.
-    /// Permutações são rearranjos das combinações onde a ordem dos aeroportos é importante.
+    /// Encontra o trajeto de menor custo entre dois aeroportos segundo um critério de peso (duração,
+    /// distância ou tarifa), usando o algoritmo de Dijkstra bidirecional sobre o retrato CSR da malha.
     ///
     /// ### Parâmetros
-    /// - **`combination`:** Combinação de códigos de aeroportos a ser permutada.
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`weight`:** O critério de peso.
     ///
     /// ### Retorno
-    /// - **`List<List<String>>`:** Lista de todas as permutações possíveis da combinação.
-    ///
-    /// ### Fluxo de Operações
-    /// 1. Se a combinação estiver vazia, adiciona uma lista vazia à lista de resultados e retorna.
-    /// 2. Itera sobre cada elemento da combinação, fixando-o como o primeiro elemento.
-    /// 3. Gera permutações recursivamente para o restante dos elementos.
-    /// 4. Adiciona cada permutação resultante à lista de resultados.
+    /// - **`Itinerary`:** Um trajeto de menor custo, com o custo total em `getCost`, ou `null` se algum dos
+    ///   aeroportos não existir ou se não houver trajeto com voos que tenham o peso informado.
     ///
     /// ### Exceções
     /// Nenhuma exceção lançada diretamente neste metodo.
     ///
     /// ### Exemplo
     /// ```java
-    /// List<String> combination = Arrays.asList("SSA", "BSB");
-    /// List<List<String>> permutations = permute(combination);
-    /// // permutations = [["SSA", "BSB"],["BSB", "SSA"]]
+    /// Itinerary itinerary = organizer.findCheapestRoute("GRU", "SSA", RouteWeight.FARE);
+    /// if (itinerary != null) System.out.println(itinerary + " custa R$ " + itinerary.getCost());
     ///```
     ///
-    /// @param combination Combinação de códigos de aeroportos a ser permutada.
-    /// @return Lista de todas as permutações possíveis da combinação.
-    private List<List<String>> permute(List<String> combination) {
-        List<List<String>> results = new ArrayList<>();
-
-        // Caso base: se a combinação estiver vazia, retorna uma permutação vazia.
-        if (combination.isEmpty()) {
-            results.add(new ArrayList<>());  // Permutação de uma lista vazia
-            return results;
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param weight     O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se não houver.
+    public Itinerary findCheapestRoute(String sourceCode, String destCode, RouteWeight weight) {
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return null;  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.CHEAPEST, sourceCode, destCode, 0, weight.ordinal());
+        return queryCache.computeIfAbsent(network.version(), key, () -> RouteSearch.cheapestBidirectional(routes, source, dest, weight));
+    }
+
+    /// ## findCheapestRouteAStar
+    ///
+    /// Variante de `findCheapestRoute` que usa A*, guiado pela distância de círculo máximo entre as
+    /// coordenadas dos aeroportos. Produz um trajeto de mesmo custo, explorando menos aeroportos quando
+    /// há coordenadas; sem elas, comporta-se como Dijkstra.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = organizer.findCheapestRouteAStar("GRU", "SSA", RouteWeight.DISTANCE);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param weight     O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se não houver.
+    public Itinerary findCheapestRouteAStar(String sourceCode, String destCode, RouteWeight weight) {
+        return findCheapestRouteAStar(published.get(), sourceCode, destCode, weight);  // Uma única versão para toda a consulta
+    }
+
+    /// ## findCheapestRouteAStar (versão)
+    ///
+    /// Executa `findCheapestRouteAStar` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param weight     O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se não houver.
+    private Itinerary findCheapestRouteAStar(NetworkSnapshot network, String sourceCode, String destCode, RouteWeight weight) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return null;  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.CHEAPEST_A_STAR, sourceCode, destCode, 0, weight.ordinal());
+        return queryCache.computeIfAbsent(network.version(), key, () -> RouteSearch.cheapestAStar(routes, source, dest, weight));
+    }
+
+    /// ## contractionHierarchy
+    ///
+    /// Retorna a hierarquia de contração da versão publicada para o critério de peso informado, construindo-a
+    /// apenas na primeira consulta após cada alteração da malha. O pré-processamento é caro (segundos em
+    /// malhas grandes), mas as consultas seguintes levam microssegundos; a hierarquia pode ser gravada com
+    /// `ContractionHierarchy.save` e lida de volta com `loadContractionHierarchy`.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// organizer.contractionHierarchy(RouteWeight.DURATION).save(Path.of("malha-duracao.ch"));
+    ///```
+    ///
+    /// @param weight O critério de peso.
+    /// @return A hierarquia de contração do retrato atual.
+    public ContractionHierarchy contractionHierarchy(RouteWeight weight) {
+        return published.get().contractionHierarchy(weight);  // A hierarquia acompanha a versão publicada
+    }
+
+    /// ## loadContractionHierarchy
+    ///
+    /// Lê uma hierarquia de contração gravada por `ContractionHierarchy.save` e passa a usá-la nas consultas
+    /// do seu critério de peso sobre a versão publicada, dispensando o pré-processamento. Uma alteração posterior
+    /// da malha publica uma nova versão, que constrói a sua própria hierarquia.
+    ///
+    /// ### Exceções
+    /// - **`IOException`:** Se o arquivo não puder ser lido ou tiver sido gerado a partir de outra malha.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// organizer.loadContractionHierarchy(Path.of("malha-duracao.ch"));
+    ///```
+    ///
+    /// @param file O arquivo da hierarquia.
+    /// @throws IOException Se ocorrer um erro de leitura ou o arquivo não corresponder à malha atual.
+    public void loadContractionHierarchy(Path file) throws IOException {
+        NetworkSnapshot network = published.get();
+        network.useContractionHierarchy(ContractionHierarchy.load(file, network.routeGraph()));
+    }
+
+    /// ## findCheapestRouteContracted
+    ///
+    /// Variante de `findCheapestRoute` que responde pela hierarquia de contração (`contractionHierarchy`):
+    /// mesmo custo, em microssegundos, depois do pré-processamento.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = organizer.findCheapestRouteContracted("GRU", "SSA", RouteWeight.DURATION);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param weight     O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se não houver.
+    public Itinerary findCheapestRouteContracted(String sourceCode, String destCode, RouteWeight weight) {
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return null;  // Rejeição imediata: não há trajeto
+
+        return network.contractionHierarchy(weight).query(source, dest);
+    }
+
+    /// ## listCheapestRoute
+    ///
+    /// Exibe o trajeto de menor custo entre dois aeroportos segundo o critério escolhido pelo usuário.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino e o critério (1 = duração, 2 = distância, 3 = tarifa).
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado ou se o critério for inválido.
+    /// 3. Calcula o trajeto com `findCheapestRouteAStar` e exibe o trajeto e o custo total, ou informa que
+    ///    não há trajeto com voos que tenham o peso escolhido.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listCheapestRoute();
+    ///```
+    ///
+    /// @see #findCheapestRouteAStar(String, String, RouteWeight)
+    public void listCheapestRoute() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int criterion = getInt("Escolha o critério (1 = duração, 2 = distância, 3 = tarifa): ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        RouteWeight weight = switch (criterion) {
+            case 1 -> RouteWeight.DURATION;
+            case 2 -> RouteWeight.DISTANCE;
+            case 3 -> RouteWeight.FARE;
+            default -> null;
+        };
+        if (weight == null) {
+            System.err.println("Critério inválido.");
+            return;
+        }
+
+        Itinerary itinerary = findCheapestRouteAStar(network, sourceCode, destCode, weight);
+        if (itinerary == null) {
+            System.out.println("Nenhum trajeto com " + weight.getLabel().toLowerCase() + " informada de "
+                               + sourceName + " para " + destName + ".");
+            return;
+        }
+
+        System.out.println("Trajeto de menor " + weight.getLabel().toLowerCase() + " de " + sourceName
+                           + " para " + destName + ":");
+        System.out.println(itinerary);
+        System.out.println(weight.getLabel() + " total: " + itinerary.getCost() + " " + weight.getUnit());
+    }
+
+    /// ## findKShortestRoutes
+    ///
+    /// Encontra os `k` trajetos simples (sem repetir aeroportos) de menor custo entre dois aeroportos, pelo
+    /// algoritmo de Yen (`KShortestPaths`). O custo é a quantidade de trechos ou, com um critério de peso,
+    /// a soma dos pesos dos voos.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`k`:** Quantidade máxima de trajetos (pelo menos 1).
+    /// - **`weight`:** O critério de peso, ou `null` para contar trechos.
+    ///
+    /// ### Retorno
+    /// - **`List<Itinerary>`:** Os trajetos, do melhor para o pior (com o custo em `getCost`), ou `null` se
+    ///   algum dos aeroportos não existir. A lista é imutável, pois é compartilhada com a cache de consultas.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `k` for menor que 1.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// List<Itinerary> alternativas = organizer.findKShortestRoutes("GRU", "SSA", 3, null);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param k          Quantidade máxima de trajetos.
+    /// @param weight     O critério de peso, ou `null` para contar trechos.
+    /// @return Os trajetos encontrados, ou `null` se a consulta for inválida.
+    public List<Itinerary> findKShortestRoutes(String sourceCode, String destCode, int k, RouteWeight weight) {
+        return findKShortestRoutes(published.get(), sourceCode, destCode, k, weight);  // Uma única versão para toda a consulta
+    }
+
+    /// ## findKShortestRoutes (versão)
+    ///
+    /// Executa `findKShortestRoutes` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param k          Quantidade máxima de trajetos.
+    /// @param weight     O critério de peso, ou `null` para contar trechos.
+    /// @return Os trajetos encontrados, ou `null` se a consulta for inválida.
+    private List<Itinerary> findKShortestRoutes(NetworkSnapshot network, String sourceCode, String destCode, int k, RouteWeight weight) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return List.of();  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(
+                RouteQueryCache.Kind.K_SHORTEST, sourceCode, destCode, k, (weight == null) ? -1 : weight.ordinal());
+        return queryCache.computeIfAbsent(network.version(), key, () -> List.copyOf(KShortestPaths.find(routes, source, dest, k, weight)));
+    }
+
+    /// ## listKShortestRoutes
+    ///
+    /// Exibe os `k` melhores trajetos entre dois aeroportos segundo o critério escolhido pelo usuário.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino, a quantidade de trajetos e o critério
+    ///    (0 = conexões, 1 = duração, 2 = distância, 3 = tarifa).
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado ou se os parâmetros forem inválidos.
+    /// 3. Exibe cada trajeto com o seu custo, do melhor para o pior.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listKShortestRoutes();
+    ///```
+    ///
+    /// @see #findKShortestRoutes(String, String, int, RouteWeight)
+    public void listKShortestRoutes() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int k = getInt("Digite a quantidade de trajetos: ");
+        int criterion = getInt("Escolha o critério (0 = conexões, 1 = duração, 2 = distância, 3 = tarifa): ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        if (k < 1 || criterion < 0 || criterion > 3) {
+            System.err.println("Quantidade de trajetos ou critério inválido.");
+            return;
+        }
+
+        RouteWeight weight = (criterion == 0) ? null : RouteWeight.values()[criterion - 1];
+        List<Itinerary> routes = findKShortestRoutes(network, sourceCode, destCode, k, weight);
+
+        System.out.println("Melhores trajetos de " + sourceName + " para " + destName + ":");
+        int trajetoNumero = 0;
+        for (Itinerary itinerary : routes) {
+            String cost = (weight == null)
+                    ? itinerary.getCost() + " trecho(s)"
+                    : itinerary.getCost() + " " + weight.getUnit();
+            System.out.println("Trajeto " + (++trajetoNumero) + ": " + itinerary + " - " + cost);
+        }
+
+        if (routes.isEmpty()) System.out.println("Nenhum trajeto encontrado.");
+    }
+
+    /// ## findParetoRoutes
+    ///
+    /// Encontra as opções de trajeto não dominadas entre dois aeroportos, considerando ao mesmo tempo a
+    /// quantidade de trechos, a tarifa total e a duração total (`ParetoSearch`).
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    ///
+    /// ### Retorno
+    /// - **`List<ParetoSearch.Option>`:** As opções, em ordem crescente de tarifa, ou `null` se algum dos
+    ///   aeroportos não existir. A lista é imutável, pois é compartilhada com a cache de consultas.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// for (ParetoSearch.Option option : organizer.findParetoRoutes("GRU", "SSA"))
+    ///     System.out.println(option);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return As opções não dominadas, ou `null` se a consulta for inválida.
+    public List<ParetoSearch.Option> findParetoRoutes(String sourceCode, String destCode) {
+        return findParetoRoutes(published.get(), sourceCode, destCode);  // Uma única versão para toda a consulta
+    }
+
+    /// ## findParetoRoutes (versão)
+    ///
+    /// Executa `findParetoRoutes` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return As opções não dominadas, ou `null` se a consulta for inválida.
+    private List<ParetoSearch.Option> findParetoRoutes(NetworkSnapshot network, String sourceCode, String destCode) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return List.of();  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(
+                RouteQueryCache.Kind.PARETO, sourceCode, destCode, ParetoSearch.DEFAULT_MAX_LABELS, 0);
+        return queryCache.computeIfAbsent(network.version(), key,
+                () -> List.copyOf(ParetoSearch.find(routes, source, dest, ParetoSearch.DEFAULT_MAX_LABELS)));
+    }
+
+    /// ## listParetoRoutes
+    ///
+    /// Exibe as opções de trajeto não dominadas entre dois aeroportos, destacando a mais barata, a mais
+    /// rápida e a com menos conexões.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino.
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado.
+    /// 3. Exibe cada opção com os seus três critérios.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listParetoRoutes();
+    ///```
+    ///
+    /// @see #findParetoRoutes(String, String)
+    public void listParetoRoutes() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        List<ParetoSearch.Option> options = findParetoRoutes(network, sourceCode, destCode);
+        if (options.isEmpty()) {
+            System.out.println("Nenhum trajeto com tarifa e duração informadas de " + sourceName
+                               + " para " + destName + ".");
+            return;
+        }
+
+        ParetoSearch.Option cheapest = options.get(0);  // A lista vem em ordem crescente de tarifa
+        ParetoSearch.Option fastest = cheapest;
+        ParetoSearch.Option fewestStops = cheapest;
+        for (ParetoSearch.Option option : options) {
+            if (option.getMinutes() < fastest.getMinutes()) fastest = option;
+            if (option.getHops() < fewestStops.getHops()) fewestStops = option;
+        }
+
+        System.out.println("Opções não dominadas de " + sourceName + " para " + destName + ":");
+        int opcaoNumero = 0;
+        for (ParetoSearch.Option option : options) {
+            StringBuilder line = new StringBuilder("Opção " + (++opcaoNumero) + ": " + option);
+            if (option == cheapest) line.append(" [mais barata]");
+            if (option == fastest) line.append(" [mais rápida]");
+            if (option == fewestStops) line.append(" [menos conexões]");
+            System.out.println(line);
+        }
+    }
+
+    /// ## findEarliestArrival
+    ///
+    /// Encontra a viagem com horários que chega mais cedo ao destino, partindo da origem a partir de um instante,
+    /// pelo algoritmo de varredura de conexões (`Timetable`). Considera apenas voos com horário e respeita o
+    /// tempo mínimo de conexão de cada aeroporto.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`departAfter`:** Instante mínimo de partida, em minutos desde segunda-feira 00:00.
+    ///
+    /// ### Retorno
+    /// - **`Timetable.Journey`:** A viagem de chegada mais cedo, ou `null` se algum dos aeroportos não existir
+    ///   ou se não houver viagem dentro do horizonte da tabela.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Timetable.Journey journey = organizer.findEarliestArrival("GRU", "SSA", 8 * 60); // segunda-feira, 08:00
+    /// if (journey != null) System.out.println(journey);
+    ///```
+    ///
+    /// @param sourceCode  Código do aeroporto de origem.
+    /// @param destCode    Código do aeroporto de destino.
+    /// @param departAfter Instante mínimo de partida.
+    /// @return A viagem de chegada mais cedo, ou `null` se não houver.
+    public Timetable.Journey findEarliestArrival(String sourceCode, String destCode, long departAfter) {
+        return findEarliestArrival(published.get(), sourceCode, destCode, departAfter);  // Uma única versão para toda a consulta
+    }
+
+    /// ## findEarliestArrival (versão)
+    ///
+    /// Executa `findEarliestArrival` sobre uma versão já obtida da malha, para que a listagem valide os aeroportos,
+    /// consulte e exiba os nomes sempre na mesma versão.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param departAfter Instante mínimo de partida.
+    /// @return A viagem de chegada mais cedo, ou `null` se não houver.
+    private Timetable.Journey findEarliestArrival(NetworkSnapshot network, String sourceCode, String destCode, long departAfter) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+        if (!network.reachability().isReachable(source, dest)) return null;  // Rejeição imediata: não há trajeto
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.EARLIEST_ARRIVAL, sourceCode, destCode, departAfter, 0);
+        return queryCache.computeIfAbsent(network.version(), key,
+                () -> network.timetable().earliestArrival(source, dest, departAfter));  // Tabela desta versão
+    }
+
+    /// ## listEarliestArrival
+    ///
+    /// Exibe a viagem com horários que chega mais cedo ao destino. Solicita os códigos de origem e destino,
+    /// o dia da semana e o horário mínimo de partida, e utiliza `findEarliestArrival`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino, o dia (1 = segunda ... 7 = domingo) e o horário (`HHMM`).
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado ou se o dia/horário for inválido.
+    /// 3. Exibe cada trecho com os horários de partida e chegada e a duração total, ou informa que não há viagem.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listEarliestArrival();
+    ///```
+    ///
+    /// @see #findEarliestArrival(String, String, long)
+    public void listEarliestArrival() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int day = getInt("Digite o dia da partida (1 = segunda ... 7 = domingo): ");
+        int hhmm = getInt("Digite o horário mínimo de partida em HHMM: ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        if (day < 1 || day > 7 || hhmm < 0 || hhmm / 100 > 23 || hhmm % 100 > 59) {
+            System.err.println("Dia ou horário inválido.");
+            return;
+        }
+
+        long departAfter = (long) (day - 1) * FlightSchedule.MINUTES_PER_DAY + (hhmm / 100) * 60 + hhmm % 100;
+        Timetable.Journey journey = findEarliestArrival(network, sourceCode, destCode, departAfter);
+        if (journey == null) {
+            System.out.println("Nenhuma viagem com horários de " + sourceName + " para " + destName
+                               + " a partir de " + FlightSchedule.formatTime(departAfter) + ".");
+            return;
+        }
+
+        System.out.println("Chegada mais cedo de " + sourceName + " para " + destName
+                           + " a partir de " + FlightSchedule.formatTime(departAfter) + ":");
+        System.out.println(journey);
+        System.out.println("Chegada: " + FlightSchedule.formatTime(journey.getArrivalTime())
+                           + " (" + journey.getItinerary().getCost() + " min após o horário informado)");
+    }
+
+    /// ## streamPaths
+    ///
+    /// Enumera, de forma preguiçosa, os trajetos simples entre dois aeroportos como um `Stream<Itinerary>`.
+    /// Os trajetos são calculados à medida que o stream é consumido, por uma busca em profundidade com
+    /// pilha explícita (`PathEnumerator`); operações como `limit` ou `findFirst` encerram a busca cedo.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`maxHops`:** Quantidade máxima de trechos por trajeto (pelo menos 1).
+    /// - **`maxResults`:** Quantidade máxima de trajetos (pelo menos 1).
+    /// - **`timeout`:** Prazo total da enumeração, ou `null` para não limitar o tempo.
+    ///
+    /// ### Retorno
+    /// - **`Stream<Itinerary>`:** Os trajetos, na mesma ordem da busca em profundidade de `findPaths`;
+    ///   vazio se algum dos aeroportos não existir.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `maxHops` ou `maxResults` forem menores que 1.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// organizer.streamPaths("GRU", "SSA", 3, 10, Duration.ofSeconds(1))
+    ///          .forEach(System.out::println);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param maxHops    Quantidade máxima de trechos por trajeto.
+    /// @param maxResults Quantidade máxima de trajetos.
+    /// @param timeout    Prazo total da enumeração, ou `null` para não limitar o tempo.
+    /// @return Os trajetos encontrados, calculados sob demanda.
+    public Stream<Itinerary> streamPaths(String sourceCode, String destCode, int maxHops, long maxResults, Duration timeout) {
+        NetworkSnapshot network = published.get();  // O stream inteiro percorre uma única versão
+        PathEnumerator paths = pathEnumerator(network, sourceCode, destCode, maxHops, maxResults, timeout);
+        if (paths == null || !isReachable(network, sourceCode, destCode)) return Stream.empty();  // Sem trajeto possível
+
+        Spliterator<Itinerary> spliterator = Spliterators.spliteratorUnknownSize(
+                paths, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /// ## listBoundedPaths
+    ///
+    /// Lista os trajetos entre dois aeroportos respeitando limites de conexões, de resultados e de tempo.
+    /// Diferente de `listPathsBetweenAirports`, não exibe o rastro da busca e sempre termina.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino e os três limites (0 = sem limite).
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado.
+    /// 3. Consome os trajetos de um `PathEnumerator`, exibindo cada um assim que é encontrado.
+    /// 4. Exibe o total e informa se a listagem foi interrompida por algum limite.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listBoundedPaths();
+    ///```
+    ///
+    /// @see #streamPaths(String, String, int, long, Duration)
+    public void listBoundedPaths() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int maxHops = getInt("Digite o número máximo de trechos por trajeto (0 = sem limite): ");
+        int maxResults = getInt("Digite o número máximo de trajetos (0 = sem limite): ");
+        int timeoutSeconds = getInt("Digite o tempo máximo de busca em segundos (0 = sem limite): ");
+
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
+
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        if (!isReachable(network, sourceCode, destCode)) {
+            System.out.println("Nenhum trajeto encontrado de " + sourceName + " para " + destName + ".");
+            return;  // Rejeição imediata pelo índice de alcançabilidade
+        }
+
+        PathEnumerator paths = pathEnumerator(
+                network,
+                sourceCode,
+                destCode,
+                (maxHops > 0) ? maxHops : Integer.MAX_VALUE,
+                (maxResults > 0) ? maxResults : Long.MAX_VALUE,
+                (timeoutSeconds > 0) ? Duration.ofSeconds(timeoutSeconds) : null
+        );
+
+        System.out.println("Trajetos de " + sourceName + " para " + destName + ":");
+
+        int trajetoNumero = 0;
+        while (paths.hasNext())
+            System.out.println("Trajeto " + (++trajetoNumero) + ": " + paths.next());
+
+        System.out.println("\nTotal de trajetos listados: " + trajetoNumero);
+        if (paths.isTimedOut()) System.out.println("Busca interrompida: tempo máximo atingido.");
+        else if (paths.isTruncated()) System.out.println("Busca interrompida: número máximo de trajetos atingido.");
+    }
+
+    /// ## pathEnumerator
+    ///
+    /// Cria um `PathEnumerator` sobre o retrato CSR de uma versão da malha para os códigos informados.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param maxHops    Quantidade máxima de trechos por trajeto.
+    /// @param maxResults Quantidade máxima de trajetos.
+    /// @param timeout    Prazo total da enumeração, ou `null` para não limitar o tempo.
+    /// @return O enumerador, ou `null` se algum dos aeroportos não existir.
+    private PathEnumerator pathEnumerator(
+            NetworkSnapshot network, String sourceCode, String destCode, int maxHops, long maxResults, Duration timeout
+    ) {
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return null;  // Aeroporto de origem ou destino não encontrado
+
+        return new PathEnumerator(routes, source, dest, maxHops, maxResults, timeout);
+    }
+
+    /// ## countPathsParallel
+    ///
+    /// Conta os trajetos simples entre dois aeroportos, com no máximo `maxHops` trechos, dividindo a busca
+    /// entre as threads do `ForkJoinPool` comum (`ParallelPathSearch`). Indicado para malhas grandes, em
+    /// que a enumeração sequencial de `listPathsBetweenAirports` seria lenta demais.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`maxHops`:** Quantidade máxima de trechos por trajeto (pelo menos 1).
+    ///
+    /// ### Retorno
+    /// - **`long`:** A quantidade de trajetos, ou `-1` se algum dos aeroportos não existir.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `maxHops` for menor que 1.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// long total = organizer.countPathsParallel("GRU", "SSA", 6);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param maxHops    Quantidade máxima de trechos por trajeto.
+    /// @return A quantidade de trajetos, ou `-1` se a consulta for inválida.
+    public long countPathsParallel(String sourceCode, String destCode, int maxHops) {
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return -1;  // Aeroporto de origem ou destino não encontrado
+        if (maxHops >= 1 && !network.reachability().isReachable(source, dest)) return 0;  // Rejeição imediata (parâmetros inválidos seguem para a validação da busca)
+
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.PARALLEL_COUNT, sourceCode, destCode, maxHops, 0);
+        return queryCache.computeIfAbsent(network.version(), key,
+                () -> ParallelPathSearch.count(routes, source, dest, maxHops, ForkJoinPool.commonPool()));
+    }
+
+    /// ## forEachPathParallel
+    ///
+    /// Entrega a um consumidor concorrente os trajetos simples entre dois aeroportos, com no máximo `maxHops`
+    /// trechos, calculados em paralelo. A ordem de entrega é indeterminada e o consumidor é chamado por várias
+    /// threads ao mesmo tempo (por exemplo, `ConcurrentLinkedQueue::add`).
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `maxHops` for menor que 1 ou se o consumidor for nulo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Queue<Itinerary> trajetos = new ConcurrentLinkedQueue<>();
+    /// organizer.forEachPathParallel("GRU", "SSA", 6, trajetos::add);
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @param maxHops    Quantidade máxima de trechos por trajeto.
+    /// @param sink       Consumidor concorrente dos trajetos.
+    /// @return A quantidade de trajetos entregues, ou `-1` se algum dos aeroportos não existir.
+    public long forEachPathParallel(String sourceCode, String destCode, int maxHops, Consumer<Itinerary> sink) {
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        RouteGraph routes = network.routeGraph();
+        int source = routes.idOf(sourceCode);
+        int dest = routes.idOf(destCode);
+
+        if (source < 0 || dest < 0) return -1;  // Aeroporto de origem ou destino não encontrado
+        if (maxHops >= 1 && sink != null && !network.reachability().isReachable(source, dest)) return 0;  // Rejeição imediata (parâmetros inválidos seguem para a validação da busca)
+
+        return ParallelPathSearch.forEach(routes, source, dest, maxHops, ForkJoinPool.commonPool(), sink);
+    }
+
+    /// ## findRoutes
+    ///
+    /// Responde um lote de consultas de rota de uma só vez, em paralelo, sobre o retrato da malha no momento
+    /// da chamada (`BatchRouteSearch`). As consultas com a mesma origem são respondidas por uma única busca.
+    /// Indicado para processamentos em massa; não usa nem preenche a cache de consultas.
+    ///
+    /// ### Parâmetros
+    /// - **`queries`:** As consultas (pares de códigos de origem e destino).
+    /// - **`weight`:** O critério de peso, ou `null` para o trajeto com menos conexões.
+    ///
+    /// ### Retorno
+    /// - **`List<Itinerary>`:** O trajeto de cada consulta, na mesma ordem; `null` nas posições cujo aeroporto
+    ///   não existe ou cujo destino é inalcançável.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Converte os códigos em identificadores e rejeita de imediato, pelo índice de alcançabilidade, os
+    ///    pares sem trajeto.
+    /// 2. Delega as demais consultas a `BatchRouteSearch.run`, no `ForkJoinPool` comum.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// List<Itinerary> routes = organizer.findRoutes(List.of(new RouteQuery("GRU", "SSA"), new RouteQuery("GRU", "BSB")), null);
+    ///```
+    ///
+    /// @param queries As consultas.
+    /// @param weight  O critério de peso, ou `null` para contar trechos.
+    /// @return O trajeto de cada consulta, ou `null` nas posições sem trajeto.
+    public List<Itinerary> findRoutes(List<RouteQuery> queries, RouteWeight weight) {
+        NetworkSnapshot network = published.get();  // Todas as consultas do lote usam a mesma versão
+        RouteGraph routes = network.routeGraph();
+        ReachabilityIndex index = network.reachability();
+        int[] sources = new int[queries.size()];
+        int[] dests = new int[queries.size()];
+
+        int i = 0;
+        for (RouteQuery query : queries) {
+            int source = routes.idOf(query.origin());
+            int dest = routes.idOf(query.destination());
+            boolean valid = source >= 0 && dest >= 0 && index.isReachable(source, dest);
+            sources[i] = valid ? source : -1;  // Aeroporto desconhecido ou rejeição imediata
+            dests[i] = valid ? dest : -1;
+            i++;
+        }
+
+        return Arrays.asList(BatchRouteSearch.run(routes, sources, dests, weight, ForkJoinPool.commonPool()));
+    }
+
+    /// ## findRoutes (fluxo)
+    ///
+    /// Variante de `findRoutes` que recebe as consultas como um `Stream`, por exemplo lidas de um arquivo.
+    /// O fluxo é consumido por completo antes de as buscas começarem.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// List<Itinerary> routes = organizer.findRoutes(Files.lines(path).map(line -> line.split(","))
+    ///         .map(parts -> new RouteQuery(parts[0], parts[1])), RouteWeight.DURATION);
+    ///```
+    ///
+    /// @param queries As consultas.
+    /// @param weight  O critério de peso, ou `null` para contar trechos.
+    /// @return O trajeto de cada consulta, na ordem do fluxo, ou `null` nas posições sem trajeto.
+    public List<Itinerary> findRoutes(Stream<RouteQuery> queries, RouteWeight weight) {
+        return findRoutes(queries.toList(), weight);
+    }
+
+    /// ## printParallelPathsCount
+    ///
+    /// Exibe quantos trajetos simples existem entre dois aeroportos, contados em paralelo por `countPathsParallel`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Solicita os códigos de origem e destino e o número máximo de trechos (0 = sem limite).
+    /// 2. Exibe uma mensagem de erro se algum dos aeroportos não for encontrado.
+    /// 3. Exibe o total e o tempo gasto na contagem.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.printParallelPathsCount();
+    ///```
+    ///
+    /// @see #countPathsParallel(String, String, int)
+    public void printParallelPathsCount() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+        int maxHops = getInt("Digite o número máximo de trechos por trajeto (0 = sem limite): ");
+
+        long start = System.nanoTime();
+        long total = countPathsParallel(sourceCode, destCode, (maxHops > 0) ? maxHops : Integer.MAX_VALUE);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        if (total < 0) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
+
+        System.out.println("Total de trajetos: " + total + " (calculado em " + elapsedMillis + " ms)");
+    }
+
+    /// ## connectivityReport
+    ///
+    /// Analisa a conectividade da malha a partir das suas componentes fortemente conexas (`ConnectivityReport`),
+    /// em tempo linear. Reaproveita as componentes do índice de alcançabilidade quando ele já existe para a
+    /// versão publicada; caso contrário, calcula apenas as componentes, sem o fecho transitivo.
+    ///
+    /// ### Retorno
+    /// - **`ConnectivityReport`:** Aeroportos isolados, becos sem saída, origens inalcançáveis e o maior grupo
+    ///   mutuamente alcançável.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ConnectivityReport report = organizer.connectivityReport();
+    /// if (report.getDeadEndAirports().length > 0) System.out.println("Há becos sem saída na malha");
+    ///```
+    ///
+    /// @return O relatório de conectividade da malha.
+    public ConnectivityReport connectivityReport() {
+        NetworkSnapshot network = published.get();
+        ReachabilityIndex index = network.builtReachability();
+        if (index != null) return ConnectivityReport.analyze(network.routeGraph(), index.getComponents());
+        return ConnectivityReport.analyze(network.routeGraph());
+    }
+
+    /// ## printConnectivityReport
+    ///
+    /// Exibe o relatório de conectividade da malha gerado por `connectivityReport`.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.printConnectivityReport();
+    ///```
+    ///
+    /// @see #connectivityReport()
+    public void printConnectivityReport() {
+        System.out.println("Relatório de conectividade da malha:");
+        System.out.println(connectivityReport());
+    }
+
+    /// ## listAirports
+    ///
+    /// Lista todos os aeroportos cadastrados no sistema. Percorre os aeroportos da versão publicada da
+    /// malha, na ordem de cadastro, e exibe o nome e o código de cada um.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Obtém a versão publicada da malha (`published`).
+    /// 2. Itera pelos identificadores dos aeroportos dessa versão, exibindo o nome e o código de cada aeroporto.
+    /// 3. Exibe mensagens de erro se não houver aeroportos cadastrados.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listAirports();
+    ///```
+    ///
+    /// @see #airportName(NetworkSnapshot, String)
+    public void listAirports() {
+        System.out.println("Aeroportos cadastrados no sistema:");
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a listagem
+        if (network.size() == 0) {
+            System.err.println("Nenhum aeroporto cadastrado.");
+            return;
+        }
+
+        for (int id = 0; id < network.size(); id++)
+            System.out.println(network.nameOf(id) + " (" + network.codeOf(id) + ")");
+    }
+
+    /// ## findPaths
+    ///
+    /// Função recursiva que encontra todos os caminhos possíveis entre dois aeroportos.
+    /// A função segue a técnica de busca em profundidade (DFS) para explorar todas as rotas,
+    /// trabalhando sobre o retrato CSR da malha: os aeroportos são identificadores inteiros,
+    /// o trajeto é um vetor indexado pela profundidade e os visitados ficam em um `BitSet`,
+    /// de modo que nenhum passo da busca aloca memória ou consulta códigos `String`.
+    ///
+    /// ### Parâmetros
+    /// - **`routes`:** Retrato CSR da malha.
+    /// - **`current`:** Identificador do aeroporto atual no caminho.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`path`:** Caminho atual sendo percorrido (as primeiras `depth` posições estão preenchidas).
+    /// - **`depth`:** Quantidade de aeroportos já presentes em `path`.
+    /// - **`visited`:** Aeroportos já visitados no caminho atual, para evitar ciclos.
+    /// - **`out`:** Saída da listagem, que exibe e registra cada linha para a cache de consultas.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Adiciona o aeroporto atual ao `path` e marca-o como visitado.
+    /// 2. Se o aeroporto atual for o destino, imprime o trajeto.
+    /// 3. Caso contrário, itera sobre todos os voos do aeroporto atual:
+    ///    - Para cada voo, se o destino não tiver sido visitado, chama recursivamente `findPaths`.
+    /// 4. Desmarca o aeroporto atual em `visited` (backtracking); a posição em `path` é sobrescrita pelo próximo passo.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// RouteGraph routes = published.get().routeGraph();
+    /// findPaths(routes, routes.idOf("GRU"), routes.idOf("GIG"), new int[routes.size()], 0, new BitSet(), new RouteQueryCache.Transcript());
+    ///```
+    ///
+    /// @param routes  Retrato CSR da malha.
+    /// @param current Identificador do aeroporto atual no caminho.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param path    Caminho atual sendo percorrido.
+    /// @param depth   Quantidade de aeroportos já presentes em `path`.
+    /// @param visited Aeroportos já visitados no caminho atual, para evitar ciclos.
+    /// @param out     Saída da listagem.
+    private void findPaths(
+            RouteGraph routes,
+            int current,
+            int dest,
+            int[] path,
+            int depth,
+            BitSet visited,
+            RouteQueryCache.Transcript out
+    ) {
+        path[depth] = current;
+        visited.set(current);
+
+        // Mensagem de depuração
+        out.println("Visitando: " + routes.codeOf(current));
+
+        if (current == dest) {
+            out.println("Destino alcançado!");
+            printPath(routes, path, depth + 1, out);
+        } else {
+            int start = routes.edgeStart(current);
+            int end = routes.edgeEnd(current);
+
+            if (start == end) out.println("Nenhum voo encontrado a partir de: " + routes.codeOf(current));
+
+            for (int e = start; e < end; e++) {
+                int next = routes.target(e);
+
+                // Mensagem de depuração para cada voo encontrado
+                out.println("Voo encontrado: " + routes.codeOf(current) + " -> " + routes.codeOf(next));
+
+                if (!visited.get(next)) findPaths(routes, next, dest, path, depth + 1, visited, out);
+            }
         }
 
-        // Loop para cada elemento da combinação. O elemento 'current' será fixado,
-        // enquanto o restante será permutado recursivamente.
-        for (int i = 0; i < combination.size(); i++) {
-            // Armazena o elemento atual da combinação como 'current'.
-            String current = combination.get(i);
+        visited.clear(current);
+    }
+
+    /// ## listAllPossiblePaths
+    ///
+    /// Função para listar todas as combinações possíveis de trajetos entre dois aeroportos distintos.
+    /// Esta função ignora a existência de voos e lista todas as sequências possíveis de aeroportos
+    /// do aeroporto de origem ao aeroporto de destino. As sequências são geradas uma a uma, no próprio
+    /// vetor, por `RouteCombinations`, sem construir previamente a lista de combinações e permutações.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Valida se os códigos dos aeroportos de origem e destino são distintos.
+    /// 2. Busca os aeroportos de origem e destino na versão publicada da malha, usando `airportName`.
+    /// 3. Coleta todos os aeroportos intermediários (excluindo os de origem e destino).
+    /// 4. Para cada tamanho de combinação, gera as combinações de aeroportos intermediários e,
+    ///    para cada uma, suas permutações, com `RouteCombinations.forEach`.
+    /// 5. Constrói e exibe cada trajeto completo assim que a sequência é gerada.
+    /// 6. Informa o número total de trajetos possíveis encontrados.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listAllPossiblePaths("GRU", "GIG");
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    public void listAllPossiblePaths(String sourceCode, String destCode) {
+        listAllPossiblePaths(sourceCode, destCode, false);
+    }
+
+    /// ## listAllPossiblePaths (com filtro de voos existentes)
+    ///
+    /// Variante de `listAllPossiblePaths` que pode listar apenas os trajetos voáveis, isto é, aqueles em que
+    /// existe voo entre cada par de aeroportos consecutivos. Nesse modo, cada trecho é verificado enquanto o
+    /// trajeto é construído (`RouteCombinations.forEachFeasible`) e o ramo é descartado no primeiro trecho
+    /// inexistente, em vez de gerar todas as permutações de intermediários.
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    /// - **`feasibleOnly`:** `true` para listar apenas trajetos com voos existentes; `false` para listar todas as combinações.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.listAllPossiblePaths("GRU", "GIG", true);
+    ///```
+    ///
+    /// @param sourceCode   Código do aeroporto de origem.
+    /// @param destCode     Código do aeroporto de destino.
+    /// @param feasibleOnly `true` para listar apenas trajetos com voos existentes.
+    public void listAllPossiblePaths(String sourceCode, String destCode, boolean feasibleOnly) {
+        // Validação inicial: verifica se os códigos dos aeroportos de origem e destino são diferentes.
+        // Caso sejam iguais, não há sentido em listar trajetos, então a função exibe um erro e retorna.
+        if (sourceCode.equalsIgnoreCase(destCode)) {
+            System.err.println("Os códigos dos aeroportos de origem e destino devem ser distintos.");
+            return;
+        }
 
-            // Cria uma nova lista 'remaining', removendo o elemento atual para permutar os restantes.
-            List<String> remaining = new ArrayList<>(combination);
-            remaining.remove(i);
+        // Busca o aeroporto de origem e o aeroporto de destino pelos códigos fornecidos, na versão publicada.
+        // Se algum dos aeroportos não for encontrado, a função exibe uma mensagem de erro e retorna.
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a listagem
+        String sourceName = airportName(network, sourceCode);
+        String destName = airportName(network, destCode);
 
-            // Chama recursivamente 'permute' para permutar o restante dos elementos.
-            List<List<String>> remainingPermuted = permute(remaining);
+        if (sourceName == null || destName == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
+        }
 
-            // Para cada permutação do restante, adiciona o elemento 'current' no início da permutação,
-            // gerando uma nova permutação completa que inclui 'current'
-            for (List<String> permuted : remainingPermuted) {
-                List<String> newPermuted = new ArrayList<>();
-                newPermuted.add(current);  // Adiciona o elemento fixado no início
-                newPermuted.addAll(permuted);  // Adiciona o restante permutado
+        // Exibe uma mensagem inicial informando os trajetos possíveis de origem a destino.
+        System.out.println((feasibleOnly
+                            ? "Listando todos os trajetos possíveis com voos existentes de "
+                            : "Listando todas as combinações possíveis de trajetos de ")
+                           + sourceName + " (" + sourceCode.toUpperCase() + ") para "
+                           + destName + " (" + destCode.toUpperCase() + "):\n");
+
+        // Listagem repetida: reexibe as linhas guardadas na cache, sem gerar as combinações novamente.
+        RouteQueryCache.Key key = new RouteQueryCache.Key(
+                feasibleOnly ? RouteQueryCache.Kind.FEASIBLE_COMBINATIONS : RouteQueryCache.Kind.ALL_COMBINATIONS,
+                sourceCode, destCode, 0, 0);
+        List<String> cached = queryCache.lookupTranscript(network.version(), key);
+        if (cached != null) {
+            cached.forEach(System.out::println);
+            return;
+        }
 
-                results.add(newPermuted); // Adiciona a nova permutação à lista de resultados.
+        String origin = sourceCode.toUpperCase();
+        String destination = destCode.toUpperCase();
+        RouteQueryCache.Transcript out = new RouteQueryCache.Transcript();  // Exibe e registra cada linha
+        StringBuilder trajeto = new StringBuilder();  // Reaproveitado entre os trajetos
+        long[] trajetoNumero = {1};  // Contador para numerar os trajetos listados
+
+        // No modo voável, os intermediários são identificadores do retrato; no modo completo, índices
+        // da lista de códigos intermediários (excluindo o de origem e o de destino).
+        RouteGraph routes = feasibleOnly ? network.routeGraph() : null;
+        String[] intermediateCodes = feasibleOnly ? null : intermediateCodes(network, sourceCode, destCode);
+
+        // Cada sequência de intermediários é entregue assim que gerada; nada é acumulado.
+        RouteCombinations.Visitor printer = (route, length) -> {
+            // Constrói o trajeto completo: origem, intermediários na ordem gerada e destino.
+            trajeto.setLength(0);
+            trajeto.append(origin); // Adiciona o aeroporto de origem
+
+            for (int i = 0; i < length; i++) {
+                String code = feasibleOnly ? routes.codeOf(route[i]).toUpperCase() : intermediateCodes[route[i]];
+                trajeto.append(" -> ").append(code); // Adiciona cada aeroporto intermediário
             }
+            trajeto.append(" -> ").append(destination); // Adiciona o aeroporto de destino
+
+            // Exibe o trajeto formatado.
+            out.println("Trajeto " + trajetoNumero[0] + ": " + trajeto);
+            trajetoNumero[0]++;
+            return true;
+        };
+
+        if (feasibleOnly && !isReachable(network, sourceCode, destCode))
+            out.println("Nenhum trajeto com voos existentes.");  // Rejeição imediata pelo índice de alcançabilidade
+        else if (feasibleOnly)
+            RouteCombinations.forEachFeasible(routes, routes.idOf(sourceCode), routes.idOf(destCode), printer);
+        else
+            RouteCombinations.forEach(intermediateCodes.length, printer);
+
+        // Exibe o número total de trajetos possíveis encontrados.
+        out.println("\nTotal de trajetos possíveis" + (feasibleOnly ? " com voos existentes: " : ": ")
+                    + (trajetoNumero[0] - 1));
+        queryCache.storeTranscript(network.version(), key, out);
+    }
+
+    /// ## countAllPossiblePaths
+    ///
+    /// Calcula quantos trajetos `listAllPossiblePaths` listaria entre dois aeroportos, sem gerá-los.
+    /// Com `n` aeroportos intermediários, o total é Σ (k = 0..n) n!/(n−k)!, calculado em O(n).
+    ///
+    /// ### Parâmetros
+    /// - **`sourceCode`:** Código do aeroporto de origem.
+    /// - **`destCode`:** Código do aeroporto de destino.
+    ///
+    /// ### Retorno
+    /// - **`BigInteger`:** A quantidade de trajetos, ou `null` se os códigos forem iguais ou algum aeroporto não existir.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// BigInteger total = organizer.countAllPossiblePaths("GRU", "GIG"); // 16 com os cinco aeroportos iniciais
+    ///```
+    ///
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return A quantidade de trajetos, ou `null` se a consulta for inválida.
+    public BigInteger countAllPossiblePaths(String sourceCode, String destCode) {
+        if (sourceCode.equalsIgnoreCase(destCode)) return null;
+        NetworkSnapshot network = published.get();  // Uma única versão para toda a consulta
+        if (network.idOf(sourceCode) < 0 || network.idOf(destCode) < 0) return null;
+
+        return RouteCombinations.count(network.size() - 2);  // Todos os demais aeroportos são intermediários
+    }
+
+    /// ## printAllPossiblePathsCount
+    ///
+    /// Exibe quantos trajetos `listAllPossiblePaths` listaria entre dois aeroportos, sem listá-los.
+    /// Solicita os códigos de origem e destino e utiliza `countAllPossiblePaths`.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightOrganizer organizer = new FlightOrganizer();
+    /// organizer.printAllPossiblePathsCount();
+    ///```
+    ///
+    /// @see #countAllPossiblePaths(String, String)
+    public void printAllPossiblePathsCount() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+
+        if (sourceCode.equalsIgnoreCase(destCode)) {
+            System.err.println("Os códigos dos aeroportos de origem e destino devem ser distintos.");
+            return;
+        }
+
+        BigInteger total = countAllPossiblePaths(sourceCode, destCode);
+        if (total == null) {
+            System.err.println("Aeroporto de origem ou destino não encontrado.");
+            return;
         }
 
-        // Retorna todas as permutações possíveis da combinação original.
-        return results;
+        System.out.println("Total de trajetos possíveis: " + total);
+    }
+
+    /// ## intermediateCodes
+    ///
+    /// Coleta, na ordem de cadastro, os códigos (em maiúsculas) de todos os aeroportos de uma versão da malha,
+    /// exceto a origem e o destino.
+    ///
+    /// @param network    A versão da malha.
+    /// @param sourceCode Código do aeroporto de origem.
+    /// @param destCode   Código do aeroporto de destino.
+    /// @return Os códigos dos aeroportos intermediários.
+    private String[] intermediateCodes(NetworkSnapshot network, String sourceCode, String destCode) {
+        // Percorre todos os aeroportos da versão (na ordem dos identificadores), exceto o de origem e o de destino.
+        return IntStream.range(0, network.size())
+                .mapToObj(network::codeOf)
+                .filter(code -> !code.equalsIgnoreCase(sourceCode) && !code.equalsIgnoreCase(destCode))
+                .map(String::toUpperCase)  // Códigos em maiúsculas para padronizar
+                .toArray(String[]::new);
     }
 
     /// ## printPath
     ///
-    /// Função para imprimir um caminho representado por uma lista encadeada de aeroportos.
-    /// Formata e exibe o caminho, ligando os aeroportos com " -> " para indicar a sequência.
+    /// Função para imprimir um caminho representado por um vetor de identificadores de aeroportos.
+    /// Formata e exibe o caminho, ligando os códigos dos aeroportos com " -> " para indicar a sequência.
     ///
     /// ### Parâmetros
-    /// - **`path`:** Lista encadeada contendo o caminho dos aeroportos.
+    /// - **`routes`:** Retrato CSR da malha, usado para obter os códigos dos aeroportos.
+    /// - **`path`:** Vetor contendo os identificadores dos aeroportos do caminho.
+    /// - **`length`:** Quantidade de aeroportos do caminho.
+    /// - **`out`:** Saída da listagem.
     ///
     /// ### Fluxo de Operações
     /// 1. Inicializa um `StringBuilder`.
-    /// 2. Itera sobre cada código de aeroporto na lista `path`, concatenando-os com " -> ".
+    /// 2. Itera sobre as `length` primeiras posições de `path`, concatenando os códigos com " -> ".
     /// 3. Exibe o caminho formatado no console.
     ///
     /// ### Exceções
@@ -736,31 +2139,124 @@ public class FlightOrganizer {
     ///
     /// ### Exemplo
     /// ```java
-    /// LinkedListDisordered<String> path = new LinkedListDisordered<>();
-    /// path.addLast("GRU");
-    /// path.addLast("GIG");
-    /// printPath(path);
+    /// RouteGraph routes = published.get().routeGraph();
+    /// printPath(routes, new int[]{routes.idOf("GRU"), routes.idOf("GIG")}, 2, new RouteQueryCache.Transcript());
     /// // Saída: GRU -> GIG
     ///```
     ///
-    /// @param path Lista encadeada contendo o caminho dos aeroportos.
-    private void printPath(LinkedListDisordered<String> path) {
+    /// @param routes Retrato CSR da malha.
+    /// @param path   Vetor contendo os identificadores dos aeroportos do caminho.
+    /// @param length Quantidade de aeroportos do caminho.
+    /// @param out    Saída da listagem.
+    private void printPath(RouteGraph routes, int[] path, int length, RouteQueryCache.Transcript out) {
         StringBuilder sb = new StringBuilder();
 
-        // Percorre a lista encadeada de aeroportos, começando pelo primeiro.
-        LinkedListDisordered<String>.Node current = path.getPrimeiro();
-
         // Concatena o código de cada aeroporto, adicionando " -> " entre eles para indicar o trajeto.
-        while (current != null) {
-            sb.append(current.getElemento());  // Adiciona o código do aeroporto atual
+        for (int i = 0; i < length; i++) {
+            if (i > 0) sb.append(" -> ");
+            sb.append(routes.codeOf(path[i]));  // Adiciona o código do aeroporto atual
+        }
+
+        // Exibe o caminho formatado.
+        out.println(sb);
+    }
+
+    /// ## Batch
+    ///
+    /// Um lote de alterações da malha, entregue por `applyBatch`. Cada alteração aceita é aplicada ao cadastro,
+    /// ao índice de voos e à próxima versão (`NetworkSnapshot.Builder`); as rejeitadas não alteram nada. A nova
+    /// versão só fica visível para os leitores quando o lote termina.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// organizer.applyBatch(batch -> {
+    ///     batch.addAirport(new Airport("Recife", "REC"));
+    ///     batch.addFlight("GRU", new Flight("REC", 300));
+    ///});
+    ///```
+    public final class Batch {
+
+        /// ### Campos
+        ///
+        /// - **`builder`:** Construtor da próxima versão da malha.
+        /// - **`airportsAdded`, `addedRoutes`:** Aeroportos e pares origem/destino incluídos (para a matriz de trechos).
+        /// - **`removedFrom`, `removedTo`:** Origem e destino do último voo removido, ou `null` se não houve remoção.
+        /// - **`result`:** A versão publicada ao final do lote.
+        private final NetworkSnapshot.Builder builder;
+        private int airportsAdded;
+        private final List<String[]> addedRoutes = new ArrayList<>();
+        private String removedFrom;
+        private String removedTo;
+        private NetworkSnapshot result;
+
+        /// ## Batch
+        ///
+        /// @param builder Construtor da próxima versão da malha.
+        private Batch(NetworkSnapshot.Builder builder) {
+            this.builder = builder;
+        }
+
+        /// ## addAirport
+        ///
+        /// Cadastra um aeroporto, desde que o código ainda não exista.
+        ///
+        /// @param airport O aeroporto.
+        /// @return `true` se o aeroporto foi cadastrado; `false` se o código já existir.
+        public boolean addAirport(Airport airport) {
+            if (findAirportByCode(airport.getCode()) != null) return false;
+
+            registry.add(airport);  // Adiciona ao final da lista e ao índice
+            builder.addAirport(airport);
+            airportsAdded++;
+            return true;
+        }
 
-            // Adiciona a seta (" -> ") se ainda houver um próximo aeroporto no trajeto.
-            if (current.getProximo() != null) sb.append(" -> ");
+        /// ## addFlight
+        ///
+        /// Acrescenta um voo à lista do aeroporto de origem, desde que a origem e o destino existam e o número do
+        /// voo ainda não esteja em uso.
+        ///
+        /// @param originCode O código do aeroporto de origem.
+        /// @param flight     O voo.
+        /// @return `true` se o voo foi cadastrado; `false` caso contrário.
+        public boolean addFlight(String originCode, Flight flight) {
+            Airport origin = findAirportByCode(originCode);
+            if (origin == null || findAirportByCode(flight.getDestinationCode()) == null) return false;
+            if (flightIndex.contains(flight.getFlightNumber())) return false;
+
+            origin.getFlights().addLast(flight);  // Adiciona ao final da lista de voos
+            flightIndex.put(flight.getFlightNumber(), origin);  // Registra o aeroporto de origem do voo no índice
+            builder.addFlight(origin.getCode(), flight);
+            addedRoutes.add(new String[]{origin.getCode(), flight.getDestinationCode()});
+            return true;
+        }
 
-            current = current.getProximo();  // Avança para o próximo aeroporto
+        /// ## removeFlight
+        ///
+        /// Remove um voo pelo número, consultando o `flightIndex` para percorrer apenas a lista do aeroporto de origem.
+        ///
+        /// @param flightNumber O número do voo.
+        /// @return O voo removido, ou `null` se não existir.
+        public Flight removeFlight(int flightNumber) {
+            Airport owner = flightIndex.get(flightNumber);  // Aeroporto de origem do voo, obtido em O(1)
+            if (owner == null) return null;
+
+            // Percorre apenas os voos do aeroporto de origem e remove o voo na mesma passagem
+            Flight removed = owner.getFlights().removeFirstMatch(flight -> flight.getFlightNumber() == flightNumber);
+            flightIndex.remove(flightNumber);  // Remove o número do voo do índice (ou a entrada desatualizada)
+            if (removed == null) return null;  // O índice estava desatualizado em relação à lista
+
+            builder.removeFlight(owner.getCode(), flightNumber);
+            removedFrom = owner.getCode();
+            removedTo = removed.getDestinationCode();
+            return removed;
         }
 
-        // Exibe o caminho formatado.
-        System.out.println(sb);
+        /// ## changes
+        ///
+        /// @return A quantidade de alterações aceitas até agora.
+        public int changes() {
+            return builder.changes();
+        }
     }
 }
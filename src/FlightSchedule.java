@@ -0,0 +1,200 @@
+/// # FlightSchedule
+///
+/// A classe `FlightSchedule` representa o horário semanal de um voo: o minuto de partida, o minuto de
+/// chegada e os dias da semana em que o voo opera. É imutável e pode ser compartilhada entre cópias de
+/// um mesmo voo.
+///
+/// ## Estrutura Interna
+/// - **`departureMinute`:** Minuto de partida a partir da meia-noite (`0` a `1439`).
+/// - **`arrivalMinute`:** Minuto de chegada a partir da meia-noite do dia da partida; passa de `1439`
+///   quando o voo chega no dia seguinte.
+/// - **`operatingDays`:** Dias de operação em bits (bit `0` = segunda-feira, ..., bit `6` = domingo).
+///
+/// ## Uso
+/// ```java
+/// FlightSchedule schedule = FlightSchedule.parse(800, 905, "12345"); // 08:00 - 09:05, segunda a sexta
+/// Flight flight = new Flight("GIG", 1234, 65, 360, 420, schedule);
+///```
+public final class FlightSchedule {
+
+    /// ### Campos
+    ///
+    /// - **`MINUTES_PER_DAY`, `DAYS_PER_WEEK`:** Constantes de calendário.
+    /// - **`EVERY_DAY`:** Máscara de um voo diário.
+    /// - **`DAY_NAMES`:** Abreviações dos dias da semana, a partir de segunda-feira.
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final int EVERY_DAY = (1 << DAYS_PER_WEEK) - 1;
+    private static final String[] DAY_NAMES = {"seg", "ter", "qua", "qui", "sex", "sáb", "dom"};
+
+    private final int departureMinute;
+    private final int arrivalMinute;
+    private final int operatingDays;
+
+    /// ## FlightSchedule
+    ///
+    /// Construtor da classe `FlightSchedule`.
+    ///
+    /// ### Parâmetros
+    /// - **`departureMinute`:** Minuto de partida a partir da meia-noite (`0` a `1439`).
+    /// - **`arrivalMinute`:** Minuto de chegada a partir da meia-noite do dia da partida (maior que a partida).
+    /// - **`operatingDays`:** Dias de operação em bits (bit `0` = segunda-feira).
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a partida estiver fora do dia, se a chegada não for posterior à
+    ///   partida ou se nenhum dia de operação for informado.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightSchedule schedule = new FlightSchedule(23 * 60, 24 * 60 + 50, FlightSchedule.EVERY_DAY);
+    ///```
+    ///
+    /// @param departureMinute Minuto de partida.
+    /// @param arrivalMinute   Minuto de chegada.
+    /// @param operatingDays   Dias de operação em bits.
+    public FlightSchedule(int departureMinute, int arrivalMinute, int operatingDays) {
+        if (departureMinute < 0 || departureMinute >= MINUTES_PER_DAY)
+            throw new IllegalArgumentException("Horário de partida inválido");
+        if (arrivalMinute <= departureMinute)
+            throw new IllegalArgumentException("Horário de chegada deve ser posterior à partida");
+        if ((operatingDays & EVERY_DAY) == 0 || (operatingDays & ~EVERY_DAY) != 0)
+            throw new IllegalArgumentException("Dias de operação inválidos");
+
+        this.departureMinute = departureMinute;
+        this.arrivalMinute = arrivalMinute;
+        this.operatingDays = operatingDays;
+    }
+
+    /// ## parse
+    ///
+    /// Cria um horário a partir de horários no formato `HHMM` e dos dias de operação como dígitos
+    /// (`1` = segunda-feira, ..., `7` = domingo). Uma chegada anterior ou igual à partida é considerada
+    /// no dia seguinte.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se algum horário ou dia for inválido.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// FlightSchedule.parse(2330, 115, "567"); // 23:30 - 01:15 do dia seguinte, sexta a domingo
+    ///```
+    ///
+    /// @param departureHhmm Horário de partida (`HHMM`).
+    /// @param arrivalHhmm   Horário de chegada (`HHMM`).
+    /// @param days          Dias de operação, como dígitos de `1` a `7`.
+    /// @return O horário correspondente.
+    public static FlightSchedule parse(int departureHhmm, int arrivalHhmm, String days) {
+        int departure = minuteOfDay(departureHhmm);
+        int arrival = minuteOfDay(arrivalHhmm);
+        if (arrival <= departure) arrival += MINUTES_PER_DAY;  // Chega no dia seguinte
+
+        int mask = 0;
+        for (char c : days.toCharArray()) {
+            if (c < '1' || c > '7') throw new IllegalArgumentException("Dia de operação inválido: " + c);
+            mask |= 1 << (c - '1');
+        }
+        return new FlightSchedule(departure, arrival, mask);
+    }
+
+    /// ## getDepartureMinute
+    ///
+    /// @return O minuto de partida a partir da meia-noite.
+    public int getDepartureMinute() {
+        return departureMinute;
+    }
+
+    /// ## getArrivalMinute
+    ///
+    /// @return O minuto de chegada a partir da meia-noite do dia da partida.
+    public int getArrivalMinute() {
+        return arrivalMinute;
+    }
+
+    /// ## getOperatingDays
+    ///
+    /// @return Os dias de operação em bits (bit `0` = segunda-feira).
+    public int getOperatingDays() {
+        return operatingDays;
+    }
+
+    /// ## operatesOn
+    ///
+    /// Informa se o voo opera no dia da semana informado.
+    ///
+    /// @param dayOfWeek O dia da semana (`0` = segunda-feira, ..., `6` = domingo).
+    /// @return `true` se o voo parte nesse dia.
+    public boolean operatesOn(int dayOfWeek) {
+        return (operatingDays & (1 << dayOfWeek)) != 0;
+    }
+
+    /// ## formatTime
+    ///
+    /// Formata um instante em minutos desde segunda-feira 00:00 como `dia HH:MM` (por exemplo, `ter 08:05`).
+    ///
+    /// @param epochMinute O instante, em minutos desde segunda-feira 00:00.
+    /// @return O instante formatado.
+    public static String formatTime(long epochMinute) {
+        int day = Math.floorMod(Math.floorDiv(epochMinute, MINUTES_PER_DAY), DAYS_PER_WEEK);
+        int minute = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+        return String.format("%s %02d:%02d", DAY_NAMES[day], minute / 60, minute % 60);
+    }
+
+    /// ## minuteOfDay
+    ///
+    /// Converte um horário `HHMM` em minutos desde a meia-noite.
+    ///
+    /// @param hhmm O horário.
+    /// @return Os minutos desde a meia-noite.
+    private static int minuteOfDay(int hhmm) {
+        int hours = hhmm / 100;
+        int minutes = hhmm % 100;
+        if (hhmm < 0 || hours > 23 || minutes > 59) throw new IllegalArgumentException("Horário inválido: " + hhmm);
+        return hours * 60 + minutes;
+    }
+
+    /// ## equals
+    ///
+    /// @param obj O objeto a ser comparado.
+    /// @return `true` se os horários forem iguais.
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        FlightSchedule that = (FlightSchedule) obj;
+        return departureMinute == that.departureMinute &&
+               arrivalMinute == that.arrivalMinute &&
+               operatingDays == that.operatingDays;
+    }
+
+    /// ## hashCode
+    ///
+    /// @return O código hash do horário.
+    @Override
+    public int hashCode() {
+        return (departureMinute * 31 + arrivalMinute) * 31 + operatingDays;
+    }
+
+    /// ## toString
+    ///
+    /// Retorna o horário no formato `08:00 - 09:05 (seg, ter)`.
+    ///
+    /// @return Uma string que representa o horário.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("%02d:%02d - %02d:%02d",
+                departureMinute / 60, departureMinute % 60,
+                (arrivalMinute / 60) % 24, arrivalMinute % 60));
+        if (arrivalMinute >= MINUTES_PER_DAY) sb.append(" (+").append(arrivalMinute / MINUTES_PER_DAY).append(')');
+
+        sb.append(" (");
+        boolean first = true;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            if (!operatesOn(day)) continue;
+            if (!first) sb.append(", ");
+            sb.append(DAY_NAMES[day]);
+            first = false;
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -0,0 +1,472 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// # HopMatrix
+///
+/// A classe `HopMatrix` guarda a menor quantidade de trechos entre todos os pares de aeroportos de um
+/// `RouteGraph`, em uma matriz `n x n` de vetores primitivos (um por linha). Depois de construída,
+/// cada consulta é um acesso direto ao vetor, em O(1). Quando um voo é incluído ou removido, apenas as
+/// linhas afetadas são atualizadas, sem recalcular a matriz inteira.
+///
+/// ## Funcionalidades
+/// - **Construção (`build`):** Uma busca em largura (BFS) a partir de cada aeroporto, em paralelo.
+/// - **Consulta (`hops`):** Menor quantidade de trechos entre dois aeroportos, em O(1).
+/// - **Inclusão de voo (`flightAdded`):** Atualiza as linhas cujo caminho até o destino do voo melhora,
+///   combinando-as com a linha do destino, sem nenhuma nova busca.
+/// - **Remoção de voo (`flightRemoved`):** Refaz, em paralelo, a BFS apenas das linhas em que o voo removido
+///   fazia parte de algum caminho mínimo.
+/// - **Inclusão de aeroporto (`airportAdded`):** Acrescenta uma linha e uma coluna, sem nenhuma busca.
+/// - **Cópia (`copy`):** Cópia independente em O(n), sobre a qual as atualizações são feitas antes da publicação.
+///
+/// ## Estrutura Interna
+/// - **Linhas:** A linha `s` é um vetor próprio; a posição `t` guarda a distância de `s` a `t`. As linhas ficam
+///   em um vetor de linhas (`byteRows` ou `shortRows`).
+/// - Enquanto houver no máximo `255` aeroportos, as distâncias (no máximo `n - 1`) cabem em `byte` sem sinal;
+///   acima disso, as linhas passam a ser `short[]`. O maior valor do tipo indica "inalcançável".
+/// - **Compartilhamento estrutural:** `copy` copia apenas o vetor de linhas; as linhas em si são compartilhadas
+///   com a matriz original e só são copiadas quando uma atualização as altera (`ownedRows` marca as linhas que
+///   já são desta matriz). Assim, uma inclusão de voo copia somente as linhas que encurta, e uma remoção,
+///   somente as que recalcula.
+/// - **Colunas implícitas:** Uma linha pode ser mais curta que a matriz; as colunas que faltam são
+///   "inalcançável". Com isso, incluir um aeroporto acrescenta apenas a sua linha, sem copiar as demais.
+/// - A matriz acompanha os identificadores densos do `RouteGraph`, que seguem a ordem de cadastro; novos
+///   aeroportos recebem o próximo identificador, então as linhas existentes continuam válidas.
+/// - Os metodos de atualização alteram a própria matriz e não são seguros para uso concorrente. Uma matriz
+///   compartilhada entre threads (como a de cada `NetworkSnapshot`) só é consultada; as atualizações são
+///   feitas em uma cópia (`copy`), que é publicada pronta com a versão seguinte.
+///
+/// ## Uso
+/// ```java
+/// HopMatrix matrix = HopMatrix.build(graph, ForkJoinPool.commonPool());
+/// int hops = matrix.hops(graph.idOf("GRU"), graph.idOf("SSA")); // -1 se inalcançável
+///```
+public final class HopMatrix {
+
+    /// ### Campos
+    ///
+    /// - **`UNREACHABLE`:** Valor retornado por `hops` quando não há trajeto.
+    /// - **`MAX_SIZE`:** Maior quantidade de aeroportos aceita (a matriz inteira fica abaixo de `Integer.MAX_VALUE` posições).
+    /// - **`BYTE_LIMIT`, `SHORT_LIMIT`:** Marcadores de "inalcançável" em cada representação.
+    /// - **`ROWS_PER_TASK`:** Quantidade de linhas que uma tarefa recalcula sem se dividir.
+    /// - **`size`:** Quantidade de aeroportos da matriz.
+    /// - **`byteRows`, `shortRows`:** As linhas da matriz; apenas um dos dois vetores é usado de cada vez.
+    /// - **`ownedRows`:** Linhas criadas ou já copiadas por esta matriz, que ela pode alterar diretamente.
+    public static final int UNREACHABLE = -1;
+    public static final int MAX_SIZE = 46_340;
+    private static final int BYTE_LIMIT = 0xFF;
+    private static final int SHORT_LIMIT = 0xFFFF;
+    private static final int ROWS_PER_TASK = 16;
+
+    private int size;
+    private byte[][] byteRows;
+    private short[][] shortRows;
+    private final BitSet ownedRows = new BitSet();
+
+    /// ## HopMatrix
+    ///
+    /// Construtor privado. Cria uma matriz ainda sem linhas, na representação adequada ao tamanho; `build` cria
+    /// cada linha com a sua BFS.
+    ///
+    /// @param size A quantidade de aeroportos.
+    private HopMatrix(int size) {
+        if (size > MAX_SIZE) throw new IllegalArgumentException("Malha grande demais para a matriz de trechos");
+        this.size = size;
+        allocate(size);
+    }
+
+    /// ## HopMatrix
+    ///
+    /// Construtor privado de cópia. Copia apenas o vetor de linhas; as linhas passam a ser compartilhadas e
+    /// nenhuma das duas matrizes pode mais alterá-las diretamente.
+    ///
+    /// @param other A matriz copiada.
+    private HopMatrix(HopMatrix other) {
+        this.size = other.size;
+        this.byteRows = (other.byteRows != null) ? other.byteRows.clone() : null;
+        this.shortRows = (other.shortRows != null) ? other.shortRows.clone() : null;
+        if (!other.ownedRows.isEmpty()) other.ownedRows.clear();  // A original também passa a copiar antes de alterar
+    }
+
+    /// ## build
+    ///
+    /// Constrói a matriz de um retrato, com uma BFS a partir de cada aeroporto.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`pool`:** O pool que executa as buscas; cada tarefa recalcula um bloco de linhas.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Aloca o vetor de linhas (`byte[][]` ou `short[][]`).
+    /// 2. Divide as linhas em blocos de `ROWS_PER_TASK`; cada bloco reaproveita uma única fila `int[]`.
+    /// 3. Cada BFS escreve apenas na sua própria linha, então as tarefas não precisam de sincronização.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o retrato tiver mais de `MAX_SIZE` aeroportos.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// HopMatrix matrix = HopMatrix.build(RouteGraph.build(registry), ForkJoinPool.commonPool());
+    ///```
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @param pool  O pool que executa as buscas.
+    /// @return A matriz de menor quantidade de trechos.
+    public static HopMatrix build(RouteGraph graph, ForkJoinPool pool) {
+        HopMatrix matrix = new HopMatrix(graph.size());
+        int[] rows = new int[graph.size()];
+        Arrays.setAll(rows, s -> s);
+        matrix.recompute(graph, rows, rows.length, pool);
+        return matrix;
+    }
+
+    /// ## copy
+    ///
+    /// Retorna uma cópia independente da matriz: atualizar a cópia não altera esta matriz, que pode continuar
+    /// sendo consultada por outras threads enquanto isso. A cópia custa O(n): as linhas são compartilhadas até
+    /// que uma das duas matrizes as altere. Não pode ser chamado enquanto esta matriz é atualizada.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// HopMatrix next = matrix.copy();
+    /// next.flightAdded(graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @return A cópia da matriz.
+    public HopMatrix copy() {
+        return new HopMatrix(this);
+    }
+
+    /// ## size
+    ///
+    /// @return A quantidade de aeroportos da matriz.
+    public int size() {
+        return size;
+    }
+
+    /// ## hops
+    ///
+    /// Retorna a menor quantidade de trechos de `source` até `dest`, em O(1).
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora da matriz.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// int hops = matrix.hops(graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return A quantidade de trechos, ou `UNREACHABLE` se não houver trajeto.
+    public int hops(int source, int dest) {
+        if (source < 0 || source >= size || dest < 0 || dest >= size)
+            throw new IndexOutOfBoundsException("Aeroporto fora da matriz");
+
+        int d = get(source, dest);
+        return (d == limit()) ? UNREACHABLE : d;
+    }
+
+    /// ## flightAdded
+    ///
+    /// Atualiza a matriz após a inclusão de um voo de `from` para `to`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Uma linha `s` só muda se o novo voo encurta o caminho até `to`, isto é, se
+    ///    `d(s, from) + 1 < d(s, to)`; as demais linhas são mantidas.
+    /// 2. Para as linhas afetadas, `d'(s, x) = min(d(s, x), d(s, from) + 1 + d(to, x))`. Todo caminho mínimo
+    ///    novo usa o voo incluído uma única vez, e a linha de `to` não muda, então basta combiná-la.
+    /// 3. Apenas as linhas afetadas são copiadas (se ainda forem compartilhadas com outra matriz).
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora da matriz.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// matrix.flightAdded(graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @param from Identificador do aeroporto de origem do voo.
+    /// @param to   Identificador do aeroporto de destino do voo.
+    /// @return A quantidade de linhas atualizadas.
+    public int flightAdded(int from, int to) {
+        checkId(from);
+        checkId(to);
+
+        int limit = limit();
+        int updated = 0;
+        for (int s = 0; s < size; s++) {
+            int viaFrom = get(s, from);
+            if (viaFrom == limit || viaFrom + 1 >= get(s, to)) continue;  // O voo não encurta nada nesta linha
+
+            own(s, true);
+            for (int x = 0; x < size; x++) {
+                int tail = get(to, x);  // A linha de `to` não muda: `d(to, from) + 1 > d(to, to) = 0`
+                if (tail == limit) continue;
+                int candidate = viaFrom + 1 + tail;
+                if (candidate < get(s, x)) set(s, x, candidate);
+            }
+            updated++;
+        }
+        return updated;
+    }
+
+    /// ## flightRemoved
+    ///
+    /// Atualiza a matriz após a remoção de um voo de `from` para `to`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Se o retrato ainda tiver outro voo de `from` para `to`, as distâncias não mudam.
+    /// 2. Caso contrário, uma linha `s` só pode mudar se o voo removido estava em algum caminho mínimo,
+    ///    isto é, se `d(s, from) + 1 == d(s, to)`; essas linhas são selecionadas.
+    /// 3. Refaz, em paralelo, a BFS das linhas selecionadas sobre o retrato já sem o voo, em vetores novos; as
+    ///    demais linhas continuam compartilhadas.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o retrato não tiver o mesmo tamanho da matriz.
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora da matriz.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// matrix.flightRemoved(graph, graph.idOf("GRU"), graph.idOf("SSA"), ForkJoinPool.commonPool());
+    ///```
+    ///
+    /// @param graph O retrato da malha já sem o voo removido.
+    /// @param from  Identificador do aeroporto de origem do voo.
+    /// @param to    Identificador do aeroporto de destino do voo.
+    /// @param pool  O pool que executa as buscas.
+    /// @return A quantidade de linhas recalculadas.
+    public int flightRemoved(RouteGraph graph, int from, int to, ForkJoinPool pool) {
+        if (graph.size() != size) throw new IllegalArgumentException("Retrato incompatível com a matriz");
+        checkId(from);
+        checkId(to);
+
+        for (int e = graph.edgeStart(from); e < graph.edgeEnd(from); e++)
+            if (graph.target(e) == to) return 0;  // Outro voo ainda liga os mesmos aeroportos
+
+        int limit = limit();
+        int[] rows = new int[size];
+        int count = 0;
+        for (int s = 0; s < size; s++) {
+            int viaFrom = get(s, from);
+            if (viaFrom != limit && viaFrom + 1 == get(s, to)) rows[count++] = s;
+        }
+        recompute(graph, rows, count, pool);
+        return count;
+    }
+
+    /// ## airportAdded
+    ///
+    /// Acrescenta um aeroporto sem voos, com o próximo identificador. A nova linha e a nova coluna ficam
+    /// inalcançáveis, exceto a distância do aeroporto para ele mesmo. Apenas a nova linha é criada: as demais
+    /// ganham a nova coluna de forma implícita. Se o tamanho ultrapassar `255`, todas as linhas passam de
+    /// `byte[]` para `short[]` (uma única vez).
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a matriz passar de `MAX_SIZE` aeroportos.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// matrix.airportAdded();
+    ///```
+    public void airportAdded() {
+        if (size + 1 > MAX_SIZE) throw new IllegalArgumentException("Malha grande demais para a matriz de trechos");
+
+        int id = size++;
+        if (byteRows != null && size > BYTE_LIMIT) {
+            // As distâncias podem passar de 254: converte as linhas para `short[]`, preservando "inalcançável"
+            shortRows = new short[size][];
+            for (int s = 0; s < id; s++) {
+                byte[] old = byteRows[s];
+                short[] row = new short[size];
+                Arrays.fill(row, (short) SHORT_LIMIT);
+                for (int t = 0; t < old.length; t++) {
+                    int d = old[t] & BYTE_LIMIT;
+                    if (d != BYTE_LIMIT) row[t] = (short) d;
+                }
+                shortRows[s] = row;
+            }
+            byteRows = null;
+            ownedRows.set(0, id);
+        } else if (byteRows != null) {
+            byteRows = Arrays.copyOf(byteRows, size);
+        } else {
+            shortRows = Arrays.copyOf(shortRows, size);
+        }
+        own(id, false);
+        set(id, id, 0);
+    }
+
+    /// ## recompute
+    ///
+    /// Refaz a BFS das linhas informadas, em paralelo.
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @param rows  As linhas a recalcular (as primeiras `count` posições são usadas).
+    /// @param count A quantidade de linhas.
+    /// @param pool  O pool que executa as buscas.
+    private void recompute(RouteGraph graph, int[] rows, int count, ForkJoinPool pool) {
+        if (count == 0) return;
+        for (int i = 0; i < count; i++)
+            own(rows[i], false);  // Antes das tarefas: `ownedRows` não é seguro para uso concorrente
+        if (count <= ROWS_PER_TASK) new RowTask(graph, rows, 0, count).compute();  // Poucas linhas: evita o pool
+        else pool.invoke(new RowTask(graph, rows, 0, count));
+    }
+
+    /// ## bfsRow
+    ///
+    /// Recalcula a linha `source` com uma BFS, usando `queue` como fila. A linha já precisa ser desta matriz.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source O aeroporto de origem da linha.
+    /// @param queue  Vetor de trabalho com `size` posições.
+    private void bfsRow(RouteGraph graph, int source, int[] queue) {
+        int limit = limit();
+        for (int t = 0; t < size; t++)
+            set(source, t, limit);
+
+        set(source, source, 0);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            int next = get(source, u) + 1;
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int v = graph.target(e);
+                if (get(source, v) != limit) continue;  // Já descoberto
+                set(source, v, next);
+                queue[tail++] = v;
+            }
+        }
+    }
+
+    /// ## allocate
+    ///
+    /// Aloca o vetor de linhas para `n` aeroportos; cada linha é criada depois, por `own`.
+    ///
+    /// @param n A quantidade de aeroportos.
+    private void allocate(int n) {
+        if (n <= BYTE_LIMIT) {
+            byteRows = new byte[n][];
+            shortRows = null;
+        } else {
+            shortRows = new short[n][];
+            byteRows = null;
+        }
+    }
+
+    /// ## own
+    ///
+    /// Garante que a linha `s` seja desta matriz e tenha `size` colunas, para que possa ser alterada. Uma linha
+    /// compartilhada (ou ainda inexistente) é substituída por um vetor novo; as colunas que faltam ficam
+    /// inalcançáveis.
+    ///
+    /// @param s    A linha.
+    /// @param keep Se as distâncias atuais devem ser copiadas (caso contrário, a linha fica toda inalcançável).
+    private void own(int s, boolean keep) {
+        if (byteRows != null) {
+            byte[] row = byteRows[s];
+            if (ownedRows.get(s) && row.length == size) return;
+            byte[] owned = new byte[size];
+            int kept = (keep && row != null) ? row.length : 0;
+            if (kept > 0) System.arraycopy(row, 0, owned, 0, kept);
+            Arrays.fill(owned, kept, size, (byte) BYTE_LIMIT);
+            byteRows[s] = owned;
+        } else {
+            short[] row = shortRows[s];
+            if (ownedRows.get(s) && row.length == size) return;
+            short[] owned = new short[size];
+            int kept = (keep && row != null) ? row.length : 0;
+            if (kept > 0) System.arraycopy(row, 0, owned, 0, kept);
+            Arrays.fill(owned, kept, size, (short) SHORT_LIMIT);
+            shortRows[s] = owned;
+        }
+        ownedRows.set(s);
+    }
+
+    /// ## limit
+    ///
+    /// @return O marcador de "inalcançável" da representação atual.
+    private int limit() {
+        return (byteRows != null) ? BYTE_LIMIT : SHORT_LIMIT;
+    }
+
+    /// ## get
+    ///
+    /// @param s A linha.
+    /// @param t A coluna.
+    /// @return A distância armazenada, sem sinal (colunas além do fim da linha são inalcançáveis).
+    private int get(int s, int t) {
+        if (byteRows != null) {
+            byte[] row = byteRows[s];
+            return (t < row.length) ? row[t] & BYTE_LIMIT : BYTE_LIMIT;
+        }
+        short[] row = shortRows[s];
+        return (t < row.length) ? row[t] & SHORT_LIMIT : SHORT_LIMIT;
+    }
+
+    /// ## set
+    ///
+    /// @param s     A linha (já desta matriz, por `own`).
+    /// @param t     A coluna.
+    /// @param value A distância a armazenar.
+    private void set(int s, int t, int value) {
+        if (byteRows != null) byteRows[s][t] = (byte) value;
+        else shortRows[s][t] = (short) value;
+    }
+
+    /// ## checkId
+    ///
+    /// @param id O identificador a validar.
+    private void checkId(int id) {
+        if (id < 0 || id >= size) throw new IndexOutOfBoundsException("Aeroporto fora da matriz");
+    }
+
+    /// ## RowTask
+    ///
+    /// Tarefa fork/join que recalcula um intervalo de linhas. Divide o intervalo ao meio até que tenha no
+    /// máximo `ROWS_PER_TASK` linhas; cada folha aloca uma única fila e a reaproveita em todas as suas BFS.
+    @SuppressWarnings("serial")  // Executada apenas no `ForkJoinPool`, nunca serializada
+    private final class RowTask extends RecursiveAction {
+
+        /// ### Campos
+        ///
+        /// - **`graph`:** O retrato CSR da malha.
+        /// - **`rows`, `from`, `to`:** As linhas `rows[from..to)` desta tarefa.
+        private final RouteGraph graph;
+        private final int[] rows;
+        private final int from;
+        private final int to;
+
+        /// ## RowTask
+        ///
+        /// @param graph O retrato CSR da malha.
+        /// @param rows  As linhas a recalcular.
+        /// @param from  Primeira posição (inclusiva) de `rows`.
+        /// @param to    Última posição (exclusiva) de `rows`.
+        RowTask(RouteGraph graph, int[] rows, int from, int to) {
+            this.graph = graph;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        /// ## compute
+        ///
+        /// Recalcula as linhas diretamente ou divide o intervalo em duas tarefas.
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RowTask(graph, rows, from, mid), new RowTask(graph, rows, mid, to));
+                return;
+            }
+
+            int[] queue = new int[size];
+            for (int i = from; i < to; i++)
+                bfsRow(graph, rows[i], queue);
+        }
+    }
+}
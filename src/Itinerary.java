@@ -0,0 +1,238 @@
+import java.util.Arrays;
+
+/// # Itinerary
+///
+/// A classe `Itinerary` representa um trajeto entre dois aeroportos: a sequência de códigos dos
+/// aeroportos visitados e o número do voo usado em cada trecho. É imutável e independente do
+/// retrato (`RouteGraph`) a partir do qual foi calculada, podendo ser guardada e comparada livremente.
+///
+/// ## Funcionalidades
+/// - **Construção (`fromEdges`):** Monta o trajeto a partir dos voos (arestas) de um `RouteGraph`.
+/// - **Consulta (`getAirportCodes`, `getFlightNumbers`, `getHops`, `getCost`):** Expõe os aeroportos, os voos, a quantidade de trechos e o custo.
+/// - **Comparação (`equals`, `hashCode`) e Representação Textual (`toString`).**
+///
+/// ## Estrutura Interna
+/// - **`airportCodes`:** Códigos dos aeroportos, da origem ao destino.
+/// - **`flightNumbers`:** Número do voo de cada trecho (`flightNumbers[i]` liga `airportCodes[i]` a `airportCodes[i + 1]`).
+/// - **`cost`:** Custo total do trajeto segundo o critério da busca que o produziu (`-1` quando não calculado).
+///
+/// ## Uso
+/// ```java
+/// Itinerary itinerary = organizer.findShortestRoute("GRU", "SSA");
+/// System.out.println(itinerary); // GRU -> GIG -> SSA (voos: 1, 2)
+///```
+public final class Itinerary {
+
+    /// ### Campos
+    ///
+    /// - **`airportCodes`:** Códigos dos aeroportos, da origem ao destino.
+    /// - **`flightNumbers`:** Número do voo de cada trecho.
+    /// - **`cost`:** Custo total do trajeto, ou `-1` quando não calculado.
+    private final String[] airportCodes;
+    private final int[] flightNumbers;
+    private final long cost;
+
+    /// ## Itinerary
+    ///
+    /// Construtor da classe `Itinerary`. Copia os vetores recebidos, garantindo a imutabilidade.
+    ///
+    /// ### Parâmetros
+    /// - **`airportCodes`:** Códigos dos aeroportos, da origem ao destino.
+    /// - **`flightNumbers`:** Número do voo de cada trecho.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se algum vetor for nulo ou se houver um número de voos diferente
+    ///   da quantidade de trechos (`airportCodes.length - 1`).
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = new Itinerary(new String[]{"GRU", "GIG"}, new int[]{1234});
+    ///```
+    ///
+    /// @param airportCodes  Códigos dos aeroportos, da origem ao destino.
+    /// @param flightNumbers Número do voo de cada trecho.
+    public Itinerary(String[] airportCodes, int[] flightNumbers) {
+        this(airportCodes, flightNumbers, -1);
+    }
+
+    /// ## Itinerary (com custo)
+    ///
+    /// Construtor da classe `Itinerary` com o custo total calculado por uma busca ponderada.
+    /// O custo não participa de `equals` nem de `hashCode`.
+    ///
+    /// @param airportCodes  Códigos dos aeroportos, da origem ao destino.
+    /// @param flightNumbers Número do voo de cada trecho.
+    /// @param cost          Custo total do trajeto, ou `-1` quando não calculado.
+    public Itinerary(String[] airportCodes, int[] flightNumbers, long cost) {
+        if (airportCodes == null || flightNumbers == null || airportCodes.length == 0 ||
+            flightNumbers.length != airportCodes.length - 1)
+            throw new IllegalArgumentException("Trajeto inválido");
+
+        this.airportCodes = airportCodes.clone();
+        this.flightNumbers = flightNumbers.clone();
+        this.cost = cost;
+    }
+
+    /// ## fromEdges
+    ///
+    /// Monta um trajeto a partir de uma sequência de voos (arestas) de um retrato `RouteGraph`.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato de onde vêm as arestas.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`edges`:** Arestas do trajeto, em ordem (as primeiras `count` posições são usadas).
+    /// - **`count`:** Quantidade de arestas do trajeto.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = Itinerary.fromEdges(graph, graph.idOf("GRU"), edges, hops);
+    ///```
+    ///
+    /// @param graph  O retrato de onde vêm as arestas.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param edges  Arestas do trajeto, em ordem.
+    /// @param count  Quantidade de arestas do trajeto.
+    /// @return O trajeto correspondente.
+    static Itinerary fromEdges(RouteGraph graph, int source, int[] edges, int count) {
+        return fromEdges(graph, source, edges, count, -1);
+    }
+
+    /// ## fromEdges (com custo)
+    ///
+    /// Monta um trajeto a partir de uma sequência de voos, registrando o custo calculado pela busca.
+    ///
+    /// @param graph  O retrato de onde vêm as arestas.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param edges  Arestas do trajeto, em ordem.
+    /// @param count  Quantidade de arestas do trajeto.
+    /// @param cost   Custo total do trajeto.
+    /// @return O trajeto correspondente.
+    static Itinerary fromEdges(RouteGraph graph, int source, int[] edges, int count, long cost) {
+        String[] codes = new String[count + 1];
+        int[] numbers = new int[count];
+
+        codes[0] = graph.codeOf(source);
+        for (int i = 0; i < count; i++) {
+            codes[i + 1] = graph.codeOf(graph.target(edges[i]));
+            numbers[i] = graph.flightNumber(edges[i]);
+        }
+
+        return new Itinerary(codes, numbers, cost);
+    }
+
+    /// ## getAirportCodes
+    ///
+    /// Retorna uma cópia dos códigos dos aeroportos do trajeto, da origem ao destino.
+    ///
+    /// @return Os códigos dos aeroportos do trajeto.
+    public String[] getAirportCodes() {
+        return airportCodes.clone();
+    }
+
+    /// ## getFlightNumbers
+    ///
+    /// Retorna uma cópia dos números dos voos de cada trecho.
+    ///
+    /// @return Os números dos voos do trajeto.
+    public int[] getFlightNumbers() {
+        return flightNumbers.clone();
+    }
+
+    /// ## getHops
+    ///
+    /// Retorna a quantidade de trechos (voos) do trajeto.
+    ///
+    /// @return A quantidade de trechos do trajeto.
+    public int getHops() {
+        return flightNumbers.length;
+    }
+
+    /// ## getCost
+    ///
+    /// Retorna o custo total do trajeto segundo o critério da busca que o produziu.
+    ///
+    /// @return O custo total, ou `-1` se o trajeto não veio de uma busca ponderada.
+    public long getCost() {
+        return cost;
+    }
+
+    /// ## getOrigin
+    ///
+    /// Retorna o código do aeroporto de origem.
+    ///
+    /// @return O código do aeroporto de origem.
+    public String getOrigin() {
+        return airportCodes[0];
+    }
+
+    /// ## getDestination
+    ///
+    /// Retorna o código do aeroporto de destino.
+    ///
+    /// @return O código do aeroporto de destino.
+    public String getDestination() {
+        return airportCodes[airportCodes.length - 1];
+    }
+
+    /// ## equals
+    ///
+    /// Dois trajetos são iguais se passam pelos mesmos aeroportos (ignorando maiúsculas/minúsculas)
+    /// usando os mesmos voos.
+    ///
+    /// @param obj O objeto a ser comparado.
+    /// @return `true` se os trajetos forem iguais, `false` caso contrário.
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || this.getClass() != obj.getClass()) return false;
+
+        Itinerary that = (Itinerary) obj;
+
+        if (!Arrays.equals(this.flightNumbers, that.flightNumbers)) return false;
+        if (this.airportCodes.length != that.airportCodes.length) return false;
+        for (int i = 0; i < airportCodes.length; i++)
+            if (!this.airportCodes[i].equalsIgnoreCase(that.airportCodes[i])) return false;
+        return true;
+    }
+
+    /// ## hashCode
+    ///
+    /// Calcula o código hash a partir dos voos e dos códigos dos aeroportos (em minúsculas).
+    ///
+    /// @return O código hash gerado para este trajeto.
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int hash = 1;
+
+        for (String code : airportCodes)
+            hash = prime * hash + code.toLowerCase().hashCode();
+        hash = prime * hash + Arrays.hashCode(flightNumbers);
+
+        if (hash < 0) hash = -hash;
+
+        return hash;
+    }
+
+    /// ## toString
+    ///
+    /// Retorna o trajeto no formato `GRU -> GIG -> SSA (voos: 1, 2)`.
+    ///
+    /// @return Uma string que representa o trajeto.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(airportCodes[0]);
+        for (int i = 1; i < airportCodes.length; i++)
+            sb.append(" -> ").append(airportCodes[i]);
+
+        if (flightNumbers.length > 0) {
+            sb.append(" (voos: ");
+            for (int i = 0; i < flightNumbers.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(flightNumbers[i]);
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+}
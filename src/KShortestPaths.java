@@ -0,0 +1,311 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/// # KShortestPaths
+///
+/// A classe `KShortestPaths` encontra os `k` melhores trajetos simples (sem repetir aeroportos) entre dois
+/// aeroportos de um `RouteGraph`, pelo algoritmo de Yen. O custo de um trajeto é a quantidade de trechos
+/// ou, quando um critério de peso é informado, a soma dos pesos dos voos.
+///
+/// ## Funcionalidades
+/// - **K melhores trajetos (`find`):** Retorna até `k` trajetos em ordem crescente de custo.
+///
+/// ## Estrutura Interna
+/// - Cada trajeto aceito gera desvios (*spur paths*): para cada aeroporto `i` do trajeto, uma busca de menor
+///   custo a partir dele, proibindo os aeroportos anteriores e os voos já usados pelos trajetos aceitos com o
+///   mesmo prefixo.
+/// - Reaproveitamento de desvios (modificação de Lawler): um trajeto que desviou do seu pai no aeroporto `d`
+///   só gera desvios a partir de `d`; os desvios anteriores já foram calculados para o pai.
+/// - As buscas de desvio reutilizam os mesmos vetores, marcados por rodada, sem realocação nem limpeza O(n).
+///
+/// ## Uso
+/// ```java
+/// List<Itinerary> routes = KShortestPaths.find(graph, gru, ssa, 5, RouteWeight.FARE);
+/// List<Itinerary> byHops = KShortestPaths.find(graph, gru, ssa, 5, null);
+///```
+public final class KShortestPaths {
+
+    /// ## KShortestPaths
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private KShortestPaths() {
+    }
+
+    /// ## find
+    ///
+    /// Encontra até `k` trajetos simples entre dois aeroportos, em ordem crescente de custo.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`k`:** Quantidade máxima de trajetos (pelo menos 1).
+    /// - **`weight`:** O critério de peso, ou `null` para contar trechos.
+    ///
+    /// ### Retorno
+    /// - **`List<Itinerary>`:** Os trajetos (com `getCost` preenchido), do melhor para o pior; menos de `k`
+    ///   se não houver trajetos suficientes. Voos sem o peso do critério são ignorados.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Calcula o melhor trajeto com Dijkstra.
+    /// 2. A partir do último trajeto aceito, gera um desvio para cada aeroporto desde o seu índice de desvio
+    ///    e guarda os trajetos candidatos (sem repetição) em uma fila de prioridade.
+    /// 3. Aceita o candidato de menor custo e repete até ter `k` trajetos ou esgotar os candidatos.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    /// - **`IllegalArgumentException`:** Se `k` for menor que 1.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// for (Itinerary itinerary : KShortestPaths.find(graph, gru, ssa, 3, null))
+    ///     System.out.println(itinerary);
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @param k      Quantidade máxima de trajetos.
+    /// @param weight O critério de peso, ou `null` para contar trechos.
+    /// @return Os trajetos encontrados, do melhor para o pior.
+    public static List<Itinerary> find(RouteGraph graph, int source, int dest, int k, RouteWeight weight) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (k < 1) throw new IllegalArgumentException("Quantidade de trajetos inválida");
+
+        List<Itinerary> result = new ArrayList<>();
+        if (source == dest) {
+            // O único trajeto simples de um aeroporto para ele mesmo é o trajeto sem trechos
+            result.add(Itinerary.fromEdges(graph, source, new int[0], 0, 0));
+            return result;
+        }
+
+        SpurSearch search = new SpurSearch(graph, weight);
+        Path first = search.shortest(source, dest, 0, new int[0], 0, 0);
+        if (first == null) return result;
+
+        List<Path> accepted = new ArrayList<>();
+        PriorityQueue<Path> candidates = new PriorityQueue<>(
+                Comparator.comparingLong(Path::cost).thenComparingInt(p -> p.edges.length).thenComparingLong(Path::order));
+        Set<Path> seen = new HashSet<>();
+        seen.add(first);
+        accepted.add(first);
+
+        int[] nodes = new int[n];
+        while (accepted.size() < k) {
+            Path last = accepted.getLast();
+            int hops = last.edges.length;
+
+            // Aeroportos do último trajeto e custo acumulado até cada um deles
+            nodes[0] = source;
+            long rootCost = 0;
+            for (int i = 0; i < last.deviation; i++) {
+                nodes[i + 1] = graph.target(last.edges[i]);
+                rootCost += search.cost(last.edges[i]);
+            }
+            for (int i = last.deviation; i < hops; i++)
+                nodes[i + 1] = graph.target(last.edges[i]);
+
+            for (int i = last.deviation; i < hops; i++) {
+                search.reset();
+                for (int j = 0; j < i; j++)
+                    search.banNode(nodes[j]);  // O desvio não pode voltar ao prefixo
+                for (Path path : accepted)
+                    if (path.edges.length > i && sharesPrefix(path, last, i))
+                        search.banEdge(path.edges[i]);  // Nem repetir a continuação de um trajeto aceito
+
+                Path candidate = search.shortest(nodes[i], dest, i, last.edges, rootCost, seen.size());
+                if (candidate != null && seen.add(candidate)) candidates.add(candidate);
+
+                rootCost += search.cost(last.edges[i]);
+            }
+
+            Path next = candidates.poll();
+            if (next == null) break;
+            accepted.add(next);
+        }
+
+        for (Path path : accepted)
+            result.add(Itinerary.fromEdges(graph, source, path.edges, path.edges.length, path.cost));
+        return result;
+    }
+
+    /// ## sharesPrefix
+    ///
+    /// Verifica se dois trajetos usam os mesmos `length` primeiros voos.
+    ///
+    /// @param a      O primeiro trajeto.
+    /// @param b      O segundo trajeto.
+    /// @param length O tamanho do prefixo.
+    /// @return `true` se os prefixos forem iguais.
+    private static boolean sharesPrefix(Path a, Path b, int length) {
+        return Arrays.equals(a.edges, 0, length, b.edges, 0, length);
+    }
+
+    /// ## Path
+    ///
+    /// Trajeto candidato: voos, custo total, índice do aeroporto em que desviou do trajeto pai e ordem
+    /// de criação (desempate estável). Dois candidatos são iguais se usam os mesmos voos.
+    ///
+    /// @param edges     Voos do trajeto.
+    /// @param cost      Custo total.
+    /// @param deviation Índice do aeroporto de desvio.
+    /// @param order     Ordem de criação.
+    private record Path(int[] edges, long cost, int deviation, long order) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Path that && Arrays.equals(edges, that.edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+
+    /// ## SpurSearch
+    ///
+    /// Dijkstra com aeroportos e voos proibidos, reaproveitado entre os desvios. Os vetores por aeroporto
+    /// são validados por um carimbo de rodada (`stamp`), de modo que começar uma nova busca custa O(1).
+    private static final class SpurSearch {
+
+        /// ### Campos
+        ///
+        /// - **`graph`, `weight`:** Retrato e critério de peso (`null` = trechos).
+        /// - **`dist`, `prevNode`, `prevEdge`, `stamp`, `round`:** Distâncias e predecessores, válidos se `stamp[v] == round`.
+        /// - **`heap`:** Fronteira da busca.
+        /// - **`bannedNodes`, `bannedEdges`:** Proibições da busca atual.
+        private final RouteGraph graph;
+        private final RouteWeight weight;
+        private final long[] dist;
+        private final int[] prevNode;
+        private final int[] prevEdge;
+        private final int[] stamp;
+        private int round;
+        private final NodeHeap heap;
+        private final BitSet bannedNodes;
+        private final BitSet bannedEdges;
+
+        /// ## SpurSearch
+        ///
+        /// @param graph  O retrato CSR da malha.
+        /// @param weight O critério de peso, ou `null` para contar trechos.
+        SpurSearch(RouteGraph graph, RouteWeight weight) {
+            int n = graph.size();
+            this.graph = graph;
+            this.weight = weight;
+            this.dist = new long[n];
+            this.prevNode = new int[n];
+            this.prevEdge = new int[n];
+            this.stamp = new int[n];
+            this.heap = new NodeHeap(n);
+            this.bannedNodes = new BitSet(n);
+            this.bannedEdges = new BitSet(graph.edgeCount());
+        }
+
+        /// ## cost
+        ///
+        /// @param e A posição do voo.
+        /// @return O custo do voo, ou `Flight.UNKNOWN_WEIGHT` se não tiver o peso do critério.
+        long cost(int e) {
+            return (weight == null) ? 1 : graph.weight(e, weight);
+        }
+
+        /// ## reset
+        ///
+        /// Remove as proibições da busca anterior.
+        void reset() {
+            bannedNodes.clear();
+            bannedEdges.clear();
+        }
+
+        /// ## banNode
+        ///
+        /// @param u O aeroporto proibido.
+        void banNode(int u) {
+            bannedNodes.set(u);
+        }
+
+        /// ## banEdge
+        ///
+        /// @param e O voo proibido.
+        void banEdge(int e) {
+            bannedEdges.set(e);
+        }
+
+        /// ## shortest
+        ///
+        /// Busca o trajeto de menor custo de `from` até `dest` respeitando as proibições e o concatena
+        /// ao prefixo `root[0..rootLength)`.
+        ///
+        /// @param from       O aeroporto de desvio.
+        /// @param dest       O aeroporto de destino.
+        /// @param rootLength A quantidade de voos do prefixo.
+        /// @param root       Os voos do trajeto pai (apenas o prefixo é usado).
+        /// @param rootCost   O custo do prefixo.
+        /// @param order      Ordem de criação do candidato.
+        /// @return O trajeto completo, ou `null` se não houver desvio.
+        Path shortest(int from, int dest, int rootLength, int[] root, long rootCost, long order) {
+            round++;
+            heap.clear();
+            visit(from, 0, -1, -1);
+            heap.offer(from, 0);
+
+            boolean found = false;
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                if (u == dest) {
+                    found = true;
+                    break;
+                }
+
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    long w = cost(e);
+                    int v = graph.target(e);
+                    if (w == Flight.UNKNOWN_WEIGHT || bannedEdges.get(e) || bannedNodes.get(v)) continue;
+
+                    long candidate = dist[u] + w;
+                    if (stamp[v] == round && candidate >= dist[v]) continue;
+
+                    visit(v, candidate, u, e);
+                    heap.offer(v, candidate);
+                }
+            }
+            if (!found) return null;
+
+            int spurHops = 0;
+            for (int v = dest; v != from; v = prevNode[v])
+                spurHops++;
+
+            int[] edges = Arrays.copyOf(root, rootLength + spurHops);
+            int i = edges.length;
+            for (int v = dest; v != from; v = prevNode[v])
+                edges[--i] = prevEdge[v];
+
+            return new Path(edges, rootCost + dist[dest], rootLength, order);
+        }
+
+        /// ## visit
+        ///
+        /// Registra a distância e o voo de chegada de um aeroporto na rodada atual.
+        ///
+        /// @param v    O aeroporto.
+        /// @param d    A distância.
+        /// @param prev O aeroporto anterior.
+        /// @param edge O voo de chegada.
+        private void visit(int v, long d, int prev, int edge) {
+            stamp[v] = round;
+            dist[v] = d;
+            prevNode[v] = prev;
+            prevEdge[v] = edge;
+        }
+    }
+}
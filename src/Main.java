@@ -52,6 +52,19 @@ public class Main {
                 System.out.println("5. Listar Trajetos entre Aeroportos");
                 System.out.println("6. Listar Aeroportos");
                 System.out.println("7. Listar Todas as Combinações Possíveis de Trajetos Entre Dois Aeroportos (Test)");
+                System.out.println("8. Listar Trajeto com Menos Conexões entre Aeroportos");
+                System.out.println("9. Listar Trajetos entre Aeroportos com Limites");
+                System.out.println("10. Contar Todas as Combinações Possíveis de Trajetos Entre Dois Aeroportos");
+                System.out.println("11. Listar Trajetos Possíveis com Voos Existentes Entre Dois Aeroportos");
+                System.out.println("12. Contar Trajetos entre Aeroportos em Paralelo");
+                System.out.println("13. Listar Trajeto de Menor Custo entre Aeroportos");
+                System.out.println("14. Listar os K Melhores Trajetos entre Aeroportos");
+                System.out.println("15. Consultar Chegada Mais Cedo com Horários de Voos");
+                System.out.println("16. Consultar Quantidade de Trechos entre Aeroportos");
+                System.out.println("17. Exibir Relatório de Conectividade da Malha");
+                System.out.println("18. Listar Opções de Trajeto por Trechos, Tarifa e Duração");
+                System.out.println("19. Cadastrar Aeroporto com Tempo Mínimo de Conexão");
+                System.out.println("20. Cadastrar Voo com Duração, Distância, Tarifa e Horário");
                 System.out.println("0. Sair");
                 System.out.print("Escolha uma opção: ");
 
@@ -84,6 +97,19 @@ public class Main {
             case 5 -> organizer.listPathsBetweenAirports(); // Lista trajetos entre aeroportos
             case 6 -> organizer.listAirports(); // Lista todos os aeroportos cadastrados
             case 7 -> handleListAllPossiblePaths(); // Chama o novo metodo de teste
+            case 8 -> organizer.listShortestRoute(); // Lista o trajeto com menos conexões
+            case 9 -> organizer.listBoundedPaths(); // Lista trajetos com limites de conexões, resultados e tempo
+            case 10 -> organizer.printAllPossiblePathsCount(); // Conta as combinações sem listá-las
+            case 11 -> handleListFeasiblePaths(); // Lista apenas as combinações com voos em todos os trechos
+            case 12 -> organizer.printParallelPathsCount(); // Conta trajetos dividindo a busca entre threads
+            case 13 -> organizer.listCheapestRoute(); // Lista o trajeto de menor duração, distância ou tarifa
+            case 14 -> organizer.listKShortestRoutes(); // Lista as k melhores alternativas de trajeto
+            case 15 -> organizer.listEarliestArrival(); // Consulta a chegada mais cedo respeitando horários e conexões
+            case 16 -> organizer.printHopDistance(); // Consulta em O(1) a matriz de trechos entre todos os pares
+            case 17 -> organizer.printConnectivityReport(); // Aponta aeroportos isolados, becos sem saída e o maior grupo conexo
+            case 18 -> organizer.listParetoRoutes(); // Lista as opções não dominadas (mais barata, mais rápida, menos conexões)
+            case 19 -> organizer.addAirportDetailed(); // Cadastra um aeroporto informando o tempo mínimo de conexão
+            case 20 -> organizer.addFlightDetailed(); // Cadastra um voo com pesos e horário semanal
             case 0 -> System.err.println("Saindo..."); // Encerra o programa
             default -> System.err.println("Opção inválida."); // Trata opções inválidas
         }
@@ -96,4 +122,12 @@ public class Main {
         // Chama a nova função para listar todas as combinações possíveis de trajetos
         organizer.listAllPossiblePaths(sourceCode, destCode);
     }
+
+    private static void handleListFeasiblePaths() {
+        String sourceCode = getNonEmptyString("Digite o código do aeroporto de origem: ");
+        String destCode = getNonEmptyString("Digite o código do aeroporto de destino: ");
+
+        // Lista apenas as combinações em que existe voo entre aeroportos consecutivos
+        organizer.listAllPossiblePaths(sourceCode, destCode, true);
+    }
 }
@@ -0,0 +1,648 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/// # NetworkSnapshot
+///
+/// A classe `NetworkSnapshot` é uma versão imutável e publicada da malha de aeroportos e voos. Leitores
+/// de qualquer thread obtêm a versão atual (por exemplo, por `FlightOrganizer.snapshot`) e trabalham sobre
+/// ela sem bloqueio: nenhuma alteração posterior é visível nela, e um voo removido em outra versão continua
+/// inteiro nesta.
+///
+/// As alterações são feitas por um `Builder` (cópia na escrita): cada lote de alterações gera uma nova versão
+/// que compartilha com a anterior tudo o que não foi tocado.
+///
+/// ## Funcionalidades
+/// - **Criação (`of`):** Copia o cadastro de aeroportos (`AirportRegistry`) para a versão inicial.
+/// - **Consulta (`idOf`, `codeOf`, `nameOf`, `flights`, ...):** Dados de cada aeroporto pelo identificador denso.
+/// - **Retrato CSR (`routeGraph`):** Construído sob demanda, uma única vez por versão, para as buscas de rotas.
+/// - **Índices derivados (`reachability`, `hopMatrix`, `timetable`, `contractionHierarchy`):** Construídos sob
+///   demanda a partir do retrato desta versão e guardados nela; um leitor que tomou esta versão consulta sempre
+///   índices coerentes com ela, mesmo que outra thread publique uma versão nova no meio da consulta.
+/// - **Alterações (`toBuilder`):** Aplica um lote de alterações e publica a próxima versão.
+///
+/// ## Estrutura Interna
+/// - **`chunks`:** Os aeroportos, em blocos de `CHUNK_SIZE` posições indexados pelo identificador denso (ordem
+///   de cadastro). Cada aeroporto é uma entrada imutável com um vetor próprio de voos.
+/// - **Compartilhamento estrutural:** Um lote copia apenas o vetor de blocos (`n / CHUNK_SIZE` posições), os
+///   blocos que alterou e os vetores de voos dos aeroportos alterados; os demais blocos e entradas são os mesmos
+///   objetos da versão anterior.
+/// - **`codeBuckets`:** Código normalizado → identificador, em baldes pelo hash do código; cada balde guarda os
+///   identificadores cujo código cai nele, e o código de cada um é lido da sua entrada. Um lote que cadastra
+///   aeroportos copia apenas o vetor de baldes e os baldes que alterou. Quando os baldes passam de
+///   `CODE_BUCKET_LOAD` códigos em média, a quantidade de baldes dobra (o que refaz o índice inteiro, mas só a
+///   cada duplicação da malha).
+/// - **Índices:** Campos `volatile` preenchidos na primeira consulta. Duas threads podem construir o mesmo índice
+///   ao mesmo tempo; os resultados são equivalentes e qualquer um deles pode ser mantido.
+///
+/// ## Uso
+/// ```java
+/// NetworkSnapshot next = snapshot.toBuilder()
+///         .addFlight("GRU", new Flight("SSA", 100))
+///         .removeFlight("GIG", 200)
+///         .build();
+///```
+public final class NetworkSnapshot {
+
+    /// ### Campos
+    ///
+    /// - **`CHUNK_BITS`, `CHUNK_SIZE`, `CHUNK_MASK`:** Tamanho dos blocos de aeroportos (64 posições).
+    /// - **`CODE_BUCKET_LOAD`:** Quantidade média de códigos por balde a partir da qual os baldes dobram.
+    /// - **`version`:** Número da versão; cada lote publicado incrementa o da versão anterior.
+    /// - **`chunks`:** Blocos de aeroportos (o último pode estar incompleto).
+    /// - **`size`:** Quantidade de aeroportos.
+    /// - **`flightCount`:** Quantidade de voos.
+    /// - **`codeBuckets`:** Baldes de identificadores pelo hash do código normalizado (nunca alterados).
+    /// - **`routeGraph`:** Retrato CSR desta versão; `null` até a primeira consulta.
+    /// - **`reachability`, `hopMatrix`, `timetable`:** Índices derivados do retrato; `null` até a primeira consulta.
+    /// - **`hierarchies`:** Hierarquia de contração de cada critério de peso (indexada por `ordinal`).
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int CODE_BUCKET_LOAD = 8;
+
+    private final long version;
+    private final Entry[][] chunks;
+    private final int size;
+    private final int flightCount;
+    private final int[][] codeBuckets;
+    private volatile RouteGraph routeGraph;
+    private volatile ReachabilityIndex reachability;
+    private volatile HopMatrix hopMatrix;
+    private volatile Timetable timetable;
+    private final AtomicReferenceArray<ContractionHierarchy> hierarchies =
+            new AtomicReferenceArray<>(RouteWeight.values().length);
+
+    /// ## NetworkSnapshot
+    ///
+    /// Construtor privado. Use `of` para a versão inicial e `toBuilder` para as seguintes.
+    private NetworkSnapshot(long version, Entry[][] chunks, int size, int flightCount, int[][] codeBuckets) {
+        this.version = version;
+        this.chunks = chunks;
+        this.size = size;
+        this.flightCount = flightCount;
+        this.codeBuckets = codeBuckets;
+    }
+
+    /// ## of
+    ///
+    /// Cria a versão inicial (versão `0`) a partir do cadastro de aeroportos, copiando os dados de cada
+    /// aeroporto e a sua lista de voos. Alterações posteriores no cadastro não afetam a versão criada.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// NetworkSnapshot snapshot = NetworkSnapshot.of(registry);
+    ///```
+    ///
+    /// @param registry O cadastro de aeroportos.
+    /// @return A versão inicial da malha.
+    public static NetworkSnapshot of(AirportRegistry registry) {
+        int n = registry.size();
+        Entry[][] chunks = new Entry[(n + CHUNK_MASK) >>> CHUNK_BITS][];
+        int size = 0;
+        int flightCount = 0;
+
+        for (Airport airport : registry.getAirports()) {
+            if (size == n) break;
+            Flight[] flights = airport.getFlights().stream().toArray(Flight[]::new);
+
+            if (chunks[size >>> CHUNK_BITS] == null) chunks[size >>> CHUNK_BITS] = new Entry[CHUNK_SIZE];
+            chunks[size >>> CHUNK_BITS][size & CHUNK_MASK] = new Entry(airport, flights);
+            flightCount += flights.length;
+            size++;
+        }
+        return new NetworkSnapshot(0, chunks, size, flightCount, indexCodes(chunks, size));
+    }
+
+    /// ## version
+    ///
+    /// @return O número desta versão.
+    public long version() {
+        return version;
+    }
+
+    /// ## size
+    ///
+    /// @return A quantidade de aeroportos.
+    public int size() {
+        return size;
+    }
+
+    /// ## flightCount
+    ///
+    /// @return A quantidade de voos (inclusive os que têm destino não cadastrado).
+    public int flightCount() {
+        return flightCount;
+    }
+
+    /// ## idOf
+    ///
+    /// Retorna o identificador denso do aeroporto com o código informado (sem diferenciar maiúsculas/minúsculas).
+    /// Os identificadores são os mesmos do `RouteGraph` desta versão.
+    ///
+    /// @param code O código do aeroporto.
+    /// @return O identificador do aeroporto ou `-1` se o código não estiver nesta versão.
+    public int idOf(String code) {
+        if (code == null) return -1;
+        return findCode(chunks, codeBuckets, AirportRegistry.normalize(code));
+    }
+
+    /// ## codeOf
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O código do aeroporto.
+    public String codeOf(int id) {
+        return entry(id).code;
+    }
+
+    /// ## nameOf
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O nome do aeroporto.
+    public String nameOf(int id) {
+        return entry(id).name;
+    }
+
+    /// ## latitude
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return A latitude do aeroporto, em graus, ou `NaN` se não informada.
+    public double latitude(int id) {
+        return entry(id).latitude;
+    }
+
+    /// ## longitude
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return A longitude do aeroporto, em graus, ou `NaN` se não informada.
+    public double longitude(int id) {
+        return entry(id).longitude;
+    }
+
+    /// ## minimumConnection
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O tempo mínimo de conexão do aeroporto, em minutos.
+    public int minimumConnection(int id) {
+        return entry(id).minimumConnection;
+    }
+
+    /// ## flights
+    ///
+    /// Retorna os voos que partem de um aeroporto, na ordem de cadastro, como uma lista imutável (sem cópia).
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return Os voos do aeroporto.
+    public List<Flight> flights(int id) {
+        return Collections.unmodifiableList(Arrays.asList(entry(id).flights));
+    }
+
+    /// ## flightArray
+    ///
+    /// Retorna o vetor de voos de um aeroporto, sem cópia. Uso interno (`RouteGraph.build`): o vetor é
+    /// compartilhado entre versões e nunca pode ser alterado.
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O vetor de voos do aeroporto.
+    Flight[] flightArray(int id) {
+        return entry(id).flights;
+    }
+
+    /// ## routeGraph
+    ///
+    /// Retorna o retrato CSR desta versão, construindo-o na primeira chamada. Como a versão é imutável, o
+    /// retrato nunca precisa ser invalidado. Duas threads podem construí-lo ao mesmo tempo na primeira consulta;
+    /// os dois resultados são equivalentes e qualquer um deles pode ser mantido.
+    ///
+    /// @return O retrato imutável desta versão.
+    public RouteGraph routeGraph() {
+        RouteGraph graph = routeGraph;
+        if (graph == null) {
+            graph = RouteGraph.build(this);
+            routeGraph = graph;
+        }
+        return graph;
+    }
+
+    /// ## reachability
+    ///
+    /// Retorna o fecho transitivo (`ReachabilityIndex`) desta versão, construindo-o na primeira chamada.
+    ///
+    /// @return O índice de alcançabilidade desta versão.
+    public ReachabilityIndex reachability() {
+        ReachabilityIndex index = reachability;
+        if (index == null) {
+            index = ReachabilityIndex.build(routeGraph());
+            reachability = index;
+        }
+        return index;
+    }
+
+    /// ## builtReachability
+    ///
+    /// @return O índice de alcançabilidade desta versão, ou `null` se ainda não foi construído.
+    ReachabilityIndex builtReachability() {
+        return reachability;
+    }
+
+    /// ## hopMatrix
+    ///
+    /// Retorna a matriz de trechos entre todos os pares desta versão, construindo-a na primeira chamada (com uma
+    /// BFS por aeroporto no `ForkJoinPool` comum), a menos que o escritor já a tenha preparado a partir da
+    /// matriz da versão anterior (`seedHopMatrix`). A matriz retornada nunca é alterada.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a versão tiver mais de `HopMatrix.MAX_SIZE` aeroportos.
+    ///
+    /// @return A matriz de trechos desta versão.
+    public HopMatrix hopMatrix() {
+        HopMatrix matrix = hopMatrix;
+        if (matrix == null) {
+            matrix = HopMatrix.build(routeGraph(), ForkJoinPool.commonPool());
+            hopMatrix = matrix;
+        }
+        return matrix;
+    }
+
+    /// ## builtHopMatrix
+    ///
+    /// @return A matriz de trechos desta versão, ou `null` se ainda não foi construída.
+    HopMatrix builtHopMatrix() {
+        return hopMatrix;
+    }
+
+    /// ## seedHopMatrix
+    ///
+    /// Guarda a matriz de trechos desta versão, calculada incrementalmente pelo escritor antes da publicação.
+    /// A matriz passa a ser compartilhada e não pode mais ser alterada.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a matriz não tiver a quantidade de aeroportos desta versão.
+    ///
+    /// @param matrix A matriz de trechos desta versão.
+    void seedHopMatrix(HopMatrix matrix) {
+        if (matrix.size() != size) throw new IllegalArgumentException("Matriz incompatível com a versão");
+        hopMatrix = matrix;
+    }
+
+    /// ## timetable
+    ///
+    /// Retorna a tabela de conexões com horários (`Timetable`) desta versão, construindo-a na primeira chamada.
+    ///
+    /// @return A tabela de conexões desta versão.
+    public Timetable timetable() {
+        Timetable table = timetable;
+        if (table == null) {
+            table = Timetable.build(routeGraph());
+            timetable = table;
+        }
+        return table;
+    }
+
+    /// ## contractionHierarchy
+    ///
+    /// Retorna a hierarquia de contração desta versão para um critério de peso, construindo-a na primeira chamada.
+    ///
+    /// @param weight O critério de peso.
+    /// @return A hierarquia de contração desta versão.
+    public ContractionHierarchy contractionHierarchy(RouteWeight weight) {
+        ContractionHierarchy hierarchy = hierarchies.get(weight.ordinal());
+        if (hierarchy == null) {
+            hierarchy = ContractionHierarchy.build(routeGraph(), weight);
+            hierarchies.set(weight.ordinal(), hierarchy);
+        }
+        return hierarchy;
+    }
+
+    /// ## useContractionHierarchy
+    ///
+    /// Passa a usar, nesta versão, uma hierarquia já construída (por exemplo, lida com `ContractionHierarchy.load`).
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a hierarquia não tiver sido construída sobre o retrato desta versão.
+    ///
+    /// @param hierarchy A hierarquia de contração.
+    public void useContractionHierarchy(ContractionHierarchy hierarchy) {
+        if (hierarchy.getGraph() != routeGraph())
+            throw new IllegalArgumentException("Hierarquia construída sobre outro retrato");
+        hierarchies.set(hierarchy.getWeight().ordinal(), hierarchy);
+    }
+
+    /// ## toBuilder
+    ///
+    /// Inicia um lote de alterações sobre esta versão. Esta versão não é alterada.
+    ///
+    /// @return Um construtor da próxima versão.
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /// ## indexCodes
+    ///
+    /// Monta os baldes de códigos dos aeroportos `0..size-1`, com a quantidade de baldes adequada ao tamanho.
+    ///
+    /// @param chunks Os blocos de aeroportos.
+    /// @param size   A quantidade de aeroportos.
+    /// @return Os baldes de identificadores.
+    private static int[][] indexCodes(Entry[][] chunks, int size) {
+        int count = 1;
+        while (count * CODE_BUCKET_LOAD < size) count <<= 1;
+
+        int[] lengths = new int[count];
+        for (int id = 0; id < size; id++)
+            lengths[bucketOf(chunks[id >>> CHUNK_BITS][id & CHUNK_MASK].key, count)]++;
+        int[][] buckets = new int[count][];
+        for (int b = 0; b < count; b++) {
+            buckets[b] = new int[lengths[b]];
+            lengths[b] = 0;
+        }
+        for (int id = 0; id < size; id++) {
+            int b = bucketOf(chunks[id >>> CHUNK_BITS][id & CHUNK_MASK].key, count);
+            buckets[b][lengths[b]++] = id;
+        }
+        return buckets;
+    }
+
+    /// ## findCode
+    ///
+    /// @param chunks  Os blocos de aeroportos.
+    /// @param buckets Os baldes de identificadores.
+    /// @param key     O código normalizado.
+    /// @return O identificador do aeroporto com o código, ou `-1`.
+    private static int findCode(Entry[][] chunks, int[][] buckets, String key) {
+        for (int id : buckets[bucketOf(key, buckets.length)])
+            if (chunks[id >>> CHUNK_BITS][id & CHUNK_MASK].key.equals(key)) return id;
+        return -1;
+    }
+
+    /// ## bucketOf
+    ///
+    /// @param key   O código normalizado.
+    /// @param count A quantidade de baldes (potência de dois).
+    /// @return O balde do código.
+    private static int bucketOf(String key, int count) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (count - 1);
+    }
+
+    /// ## entry
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return A entrada do aeroporto.
+    /// @throws IndexOutOfBoundsException Se o identificador estiver fora do intervalo `0..size-1`.
+    private Entry entry(int id) {
+        if (id < 0 || id >= size) throw new IndexOutOfBoundsException("Aeroporto fora da versão: " + id);
+        return chunks[id >>> CHUNK_BITS][id & CHUNK_MASK];
+    }
+
+    /// ## toString
+    ///
+    /// @return Uma descrição resumida da versão.
+    @Override
+    public String toString() {
+        return "NetworkSnapshot{versão=" + version + ", aeroportos=" + size + ", voos=" + flightCount + "}";
+    }
+
+    /// ## Entry
+    ///
+    /// Os dados imutáveis de um aeroporto em uma versão. Alterar os voos gera uma nova entrada; as entradas
+    /// dos aeroportos não alterados são compartilhadas entre versões.
+    private static final class Entry {
+
+        /// ### Campos
+        ///
+        /// - **`code`, `name`:** Código e nome do aeroporto.
+        /// - **`key`:** Código normalizado, usado pelos baldes de códigos.
+        /// - **`latitude`, `longitude`:** Coordenadas do aeroporto.
+        /// - **`minimumConnection`:** Tempo mínimo de conexão, em minutos.
+        /// - **`flights`:** Voos que partem do aeroporto (nunca alterado após a criação).
+        private final String code;
+        private final String key;
+        private final String name;
+        private final double latitude;
+        private final double longitude;
+        private final int minimumConnection;
+        private final Flight[] flights;
+
+        /// ## Entry
+        ///
+        /// Copia os dados do aeroporto (que é mutável) para a entrada.
+        Entry(Airport airport, Flight[] flights) {
+            this.code = airport.getCode();
+            this.key = AirportRegistry.normalize(airport.getCode());
+            this.name = airport.getName();
+            this.latitude = airport.getLatitude();
+            this.longitude = airport.getLongitude();
+            this.minimumConnection = airport.getMinimumConnectionMinutes();
+            this.flights = flights;
+        }
+
+        /// ## Entry
+        ///
+        /// Cria uma cópia de `other` com outros voos.
+        Entry(Entry other, Flight[] flights) {
+            this.code = other.code;
+            this.key = other.key;
+            this.name = other.name;
+            this.latitude = other.latitude;
+            this.longitude = other.longitude;
+            this.minimumConnection = other.minimumConnection;
+            this.flights = flights;
+        }
+    }
+
+    /// ## Builder
+    ///
+    /// Acumula um lote de alterações sobre uma versão e publica a próxima com `build`. Copia cada estrutura
+    /// apenas na primeira vez em que o lote a altera: o vetor de blocos, cada bloco tocado e o vetor de baldes de
+    /// códigos (somente se o lote cadastrar aeroportos); cada cadastro copia ainda o seu balde. Um construtor não
+    /// é seguro para uso por várias threads e não pode ser reutilizado depois de `build`.
+    ///
+    /// O construtor não verifica números de voo duplicados: isso cabe a quem mantém o índice de voos
+    /// (como o `FlightOrganizer`).
+    public static final class Builder {
+
+        /// ### Campos
+        ///
+        /// - **`base`:** A versão sobre a qual o lote é aplicado.
+        /// - **`chunks`:** Vetor de blocos do lote; é o da versão base até a primeira alteração.
+        /// - **`ownedChunks`:** Blocos já copiados por este lote (podem ser alterados diretamente).
+        /// - **`codeBuckets`:** Baldes de códigos do lote; são os da versão base até o primeiro cadastro de aeroporto.
+        /// - **`size`, `flightCount`:** Quantidades de aeroportos e voos após o lote.
+        /// - **`changes`:** Quantidade de alterações aplicadas.
+        /// - **`built`:** Indica se a próxima versão já foi publicada.
+        private final NetworkSnapshot base;
+        private Entry[][] chunks;
+        private final BitSet ownedChunks = new BitSet();
+        private int[][] codeBuckets;
+        private int size;
+        private int flightCount;
+        private int changes;
+        private boolean built;
+
+        /// ## Builder
+        ///
+        /// @param base A versão sobre a qual o lote é aplicado.
+        private Builder(NetworkSnapshot base) {
+            this.base = base;
+            this.chunks = base.chunks;
+            this.codeBuckets = base.codeBuckets;
+            this.size = base.size;
+            this.flightCount = base.flightCount;
+        }
+
+        /// ## addAirport
+        ///
+        /// Cadastra um aeroporto (com os dados atuais de `airport`, sem os seus voos), com o próximo identificador.
+        ///
+        /// ### Exceções
+        /// - **`IllegalArgumentException`:** Se o código já estiver cadastrado.
+        /// - **`IllegalStateException`:** Se o lote já tiver sido publicado.
+        ///
+        /// @param airport O aeroporto a ser cadastrado.
+        /// @return Este construtor.
+        public Builder addAirport(Airport airport) {
+            checkOpen();
+            String key = AirportRegistry.normalize(airport.getCode());
+            if (findCode(chunks, codeBuckets, key) >= 0)
+                throw new IllegalArgumentException("Código de aeroporto já existe: " + key);
+
+            int id = size;
+            set(size++, new Entry(airport, new Flight[0]));
+            if (size > codeBuckets.length * CODE_BUCKET_LOAD) {
+                codeBuckets = indexCodes(chunks, size);  // Baldes cheios: dobra a quantidade (já inclui o novo código)
+            } else {
+                if (codeBuckets == base.codeBuckets) codeBuckets = codeBuckets.clone();
+                int b = bucketOf(key, codeBuckets.length);
+                int[] bucket = Arrays.copyOf(codeBuckets[b], codeBuckets[b].length + 1);  // O balde anterior é compartilhado
+                bucket[bucket.length - 1] = id;
+                codeBuckets[b] = bucket;
+            }
+            changes++;
+            return this;
+        }
+
+        /// ## addFlight
+        ///
+        /// Acrescenta um voo ao final da lista de voos do aeroporto de origem.
+        ///
+        /// ### Exceções
+        /// - **`IllegalArgumentException`:** Se a origem não estiver cadastrada.
+        /// - **`IllegalStateException`:** Se o lote já tiver sido publicado.
+        ///
+        /// @param originCode O código do aeroporto de origem.
+        /// @param flight     O voo.
+        /// @return Este construtor.
+        public Builder addFlight(String originCode, Flight flight) {
+            checkOpen();
+            int id = idOf(originCode);
+            if (id < 0) throw new IllegalArgumentException("Aeroporto de origem não encontrado: " + originCode);
+
+            Entry entry = get(id);
+            Flight[] flights = Arrays.copyOf(entry.flights, entry.flights.length + 1);
+            flights[entry.flights.length] = flight;
+            set(id, new Entry(entry, flights));
+            flightCount++;
+            changes++;
+            return this;
+        }
+
+        /// ## removeFlight
+        ///
+        /// Remove o voo com o número informado da lista de voos do aeroporto de origem, preservando a ordem dos
+        /// demais. Nada muda se o voo não estiver nessa lista.
+        ///
+        /// ### Exceções
+        /// - **`IllegalStateException`:** Se o lote já tiver sido publicado.
+        ///
+        /// @param originCode   O código do aeroporto de origem.
+        /// @param flightNumber O número do voo.
+        /// @return Este construtor.
+        public Builder removeFlight(String originCode, int flightNumber) {
+            checkOpen();
+            int id = idOf(originCode);
+            if (id < 0) return this;
+
+            Entry entry = get(id);
+            int index = 0;
+            while (index < entry.flights.length && entry.flights[index].getFlightNumber() != flightNumber)
+                index++;
+            if (index == entry.flights.length) return this;  // O voo não parte deste aeroporto
+
+            Flight[] flights = new Flight[entry.flights.length - 1];
+            System.arraycopy(entry.flights, 0, flights, 0, index);
+            System.arraycopy(entry.flights, index + 1, flights, index, flights.length - index);
+            set(id, new Entry(entry, flights));
+            flightCount--;
+            changes++;
+            return this;
+        }
+
+        /// ## changes
+        ///
+        /// @return A quantidade de alterações aplicadas ao lote.
+        public int changes() {
+            return changes;
+        }
+
+        /// ## build
+        ///
+        /// Publica a próxima versão. Um lote sem alterações devolve a própria versão base.
+        ///
+        /// ### Exceções
+        /// - **`IllegalStateException`:** Se o lote já tiver sido publicado.
+        ///
+        /// @return A nova versão (ou a versão base, se nada mudou).
+        public NetworkSnapshot build() {
+            checkOpen();
+            built = true;
+            if (changes == 0) return base;
+            return new NetworkSnapshot(base.version + 1, chunks, size, flightCount, codeBuckets);
+        }
+
+        /// ## idOf
+        ///
+        /// @param code O código do aeroporto.
+        /// @return O identificador do aeroporto no lote, ou `-1`.
+        private int idOf(String code) {
+            if (code == null) return -1;
+            return findCode(chunks, codeBuckets, AirportRegistry.normalize(code));
+        }
+
+        /// ## get
+        ///
+        /// @param id O identificador do aeroporto.
+        /// @return A entrada atual do aeroporto no lote.
+        private Entry get(int id) {
+            return chunks[id >>> CHUNK_BITS][id & CHUNK_MASK];
+        }
+
+        /// ## set
+        ///
+        /// Substitui a entrada de um aeroporto, copiando antes o vetor de blocos e o bloco, se este lote
+        /// ainda não os tiver copiado.
+        ///
+        /// @param id    O identificador do aeroporto (no máximo `size`).
+        /// @param entry A nova entrada.
+        private void set(int id, Entry entry) {
+            int chunk = id >>> CHUNK_BITS;
+            if (chunks == base.chunks || chunk >= chunks.length)
+                chunks = Arrays.copyOf(chunks, Math.max(chunks.length, chunk + 1));
+            if (!ownedChunks.get(chunk)) {
+                chunks[chunk] = (chunks[chunk] == null) ? new Entry[CHUNK_SIZE] : chunks[chunk].clone();
+                ownedChunks.set(chunk);
+            }
+            chunks[chunk][id & CHUNK_MASK] = entry;
+        }
+
+        /// ## checkOpen
+        ///
+        /// @throws IllegalStateException Se o lote já tiver sido publicado.
+        private void checkOpen() {
+            if (built) throw new IllegalStateException("Lote já publicado");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.Arrays;
+
+/// # NodeHeap
+///
+/// A classe `NodeHeap` é uma fila de prioridade mínima (heap binário) de aeroportos, indexada pelo
+/// identificador denso do `RouteGraph`. Guarda apenas vetores primitivos (`int` para os aeroportos e
+/// `long` para as prioridades), sem objetos por entrada, e permite diminuir a prioridade de um aeroporto
+/// que já está no heap (`decrease-key`) em O(log n), de modo que cada aeroporto aparece no máximo uma vez.
+///
+/// ## Funcionalidades
+/// - **Inserção ou atualização (`offer`):** Insere o aeroporto ou diminui sua prioridade.
+/// - **Remoção do mínimo (`poll`):** Remove e retorna o aeroporto de menor prioridade.
+/// - **Consulta (`isEmpty`, `contains`, `peekPriority`) e reaproveitamento (`clear`).**
+///
+/// ## Estrutura Interna
+/// - **`nodes`:** Aeroportos do heap, na ordem do heap binário.
+/// - **`priorities`:** Prioridade de cada posição de `nodes`.
+/// - **`positions`:** Posição de cada aeroporto em `nodes` (`-1` = fora do heap).
+///
+/// ## Uso
+/// ```java
+/// NodeHeap heap = new NodeHeap(graph.size());
+/// heap.offer(source, 0);
+/// while (!heap.isEmpty()) {
+///     long d = heap.peekPriority();
+///     int u = heap.poll();
+/// }
+///```
+final class NodeHeap {
+
+    /// ### Campos
+    ///
+    /// - **`nodes`, `priorities`:** O heap binário, em vetores paralelos.
+    /// - **`positions`:** Posição de cada aeroporto no heap, ou `-1`.
+    /// - **`size`:** Quantidade de aeroportos no heap.
+    private final int[] nodes;
+    private final long[] priorities;
+    private final int[] positions;
+    private int size;
+
+    /// ## NodeHeap
+    ///
+    /// Cria um heap vazio para aeroportos de identificador `0` a `capacity - 1`.
+    ///
+    /// @param capacity A quantidade de aeroportos do retrato.
+    NodeHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.priorities = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /// ## isEmpty
+    ///
+    /// @return `true` se o heap não tem aeroportos.
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// ## contains
+    ///
+    /// @param node O identificador do aeroporto.
+    /// @return `true` se o aeroporto está no heap.
+    boolean contains(int node) {
+        return positions[node] >= 0;
+    }
+
+    /// ## peekPriority
+    ///
+    /// Retorna a menor prioridade do heap, sem removê-la.
+    ///
+    /// @return A prioridade do aeroporto no topo do heap.
+    long peekPriority() {
+        return priorities[0];
+    }
+
+    /// ## offer
+    ///
+    /// Insere o aeroporto com a prioridade informada ou, se já estiver no heap com prioridade maior,
+    /// diminui sua prioridade. Uma prioridade maior que a atual é ignorada.
+    ///
+    /// @param node     O identificador do aeroporto.
+    /// @param priority A prioridade.
+    void offer(int node, long priority) {
+        int i = positions[node];
+        if (i < 0) {
+            i = size++;
+            nodes[i] = node;
+            positions[node] = i;
+        } else if (priority >= priorities[i]) {
+            return;  // Já está no heap com prioridade igual ou menor
+        }
+        priorities[i] = priority;
+        siftUp(i);
+    }
+
+    /// ## poll
+    ///
+    /// Remove e retorna o aeroporto de menor prioridade.
+    ///
+    /// ### Exceções
+    /// - **`IllegalStateException`:** Se o heap estiver vazio.
+    ///
+    /// @return O identificador do aeroporto removido.
+    int poll() {
+        if (size == 0) throw new IllegalStateException("Heap vazio");
+
+        int top = nodes[0];
+        positions[top] = -1;
+        size--;
+        if (size > 0) {
+            move(size, 0);  // O último elemento ocupa a raiz e desce até sua posição
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /// ## clear
+    ///
+    /// Esvazia o heap em tempo proporcional à quantidade de aeroportos que ainda estão nele, permitindo
+    /// reaproveitá-lo em buscas sucessivas sem realocar os vetores.
+    void clear() {
+        for (int i = 0; i < size; i++)
+            positions[nodes[i]] = -1;
+        size = 0;
+    }
+
+    /// ## siftUp
+    ///
+    /// Sobe o elemento da posição `i` enquanto sua prioridade for menor que a do pai.
+    ///
+    /// @param i A posição do elemento.
+    private void siftUp(int i) {
+        int node = nodes[i];
+        long priority = priorities[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) break;
+            move(parent, i);
+            i = parent;
+        }
+        place(node, priority, i);
+    }
+
+    /// ## siftDown
+    ///
+    /// Desce o elemento da posição `i` enquanto algum filho tiver prioridade menor.
+    ///
+    /// @param i A posição do elemento.
+    private void siftDown(int i) {
+        int node = nodes[i];
+        long priority = priorities[i];
+        int half = size >>> 1;  // Posições a partir daqui não têm filhos
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) child++;
+            if (priority <= priorities[child]) break;
+            move(child, i);
+            i = child;
+        }
+        place(node, priority, i);
+    }
+
+    /// ## move
+    ///
+    /// Copia o elemento da posição `from` para a posição `to`, atualizando `positions`.
+    ///
+    /// @param from A posição de origem.
+    /// @param to   A posição de destino.
+    private void move(int from, int to) {
+        place(nodes[from], priorities[from], to);
+    }
+
+    /// ## place
+    ///
+    /// Grava um elemento em uma posição do heap, atualizando `positions`.
+    ///
+    /// @param node     O identificador do aeroporto.
+    /// @param priority A prioridade.
+    /// @param i        A posição.
+    private void place(int node, long priority, int i) {
+        nodes[i] = node;
+        priorities[i] = priority;
+        positions[node] = i;
+    }
+}
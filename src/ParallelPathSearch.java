@@ -0,0 +1,284 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/// # ParallelPathSearch
+///
+/// A classe `ParallelPathSearch` enumera os trajetos simples entre dois aeroportos de um `RouteGraph`
+/// em paralelo, com um `ForkJoinPool`. A árvore de busca é dividida nos primeiros trechos a partir da
+/// origem (até `SPLIT_DEPTH` níveis): cada subárvore vira uma tarefa independente, com o seu próprio
+/// conjunto de visitados, e é percorrida sequencialmente por uma busca em profundidade com pilha explícita.
+/// Os trajetos são contados em um `LongAdder` e, opcionalmente, entregues a um consumidor concorrente.
+///
+/// ## Funcionalidades
+/// - **Contagem (`count`):** Conta os trajetos sem construí-los.
+/// - **Enumeração (`forEach`):** Entrega cada trajeto a um consumidor seguro para várias threads.
+///
+/// ## Uso
+/// ```java
+/// long total = ParallelPathSearch.count(graph, gru, ssa, 6, ForkJoinPool.commonPool());
+/// Queue<Itinerary> sink = new ConcurrentLinkedQueue<>();
+/// ParallelPathSearch.forEach(graph, gru, ssa, 6, ForkJoinPool.commonPool(), sink::add);
+///```
+public final class ParallelPathSearch {
+
+    /// ### Campos
+    ///
+    /// - **`SPLIT_DEPTH`:** Quantidade de níveis (trechos a partir da origem) em que a busca é dividida em tarefas.
+    private static final int SPLIT_DEPTH = 2;
+
+    /// ## ParallelPathSearch
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private ParallelPathSearch() {
+    }
+
+    /// ## count
+    ///
+    /// Conta, em paralelo, os trajetos simples entre dois aeroportos com no máximo `maxHops` trechos.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`maxHops`:** Quantidade máxima de trechos por trajeto (pelo menos 1).
+    /// - **`pool`:** O pool que executa as tarefas.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    /// - **`IllegalArgumentException`:** Se `maxHops` for menor que 1.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param maxHops Quantidade máxima de trechos por trajeto.
+    /// @param pool    O pool que executa as tarefas.
+    /// @return A quantidade de trajetos.
+    public static long count(RouteGraph graph, int source, int dest, int maxHops, ForkJoinPool pool) {
+        return run(graph, source, dest, maxHops, pool, null);
+    }
+
+    /// ## forEach
+    ///
+    /// Enumera, em paralelo, os trajetos simples entre dois aeroportos com no máximo `maxHops` trechos.
+    /// O consumidor é chamado por várias threads ao mesmo tempo e em ordem indeterminada; deve ser seguro
+    /// para uso concorrente (por exemplo, `ConcurrentLinkedQueue::add`).
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`maxHops`:** Quantidade máxima de trechos por trajeto (pelo menos 1).
+    /// - **`pool`:** O pool que executa as tarefas.
+    /// - **`sink`:** Consumidor concorrente dos trajetos.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    /// - **`IllegalArgumentException`:** Se `maxHops` for menor que 1 ou se o consumidor for nulo.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param maxHops Quantidade máxima de trechos por trajeto.
+    /// @param pool    O pool que executa as tarefas.
+    /// @param sink    Consumidor concorrente dos trajetos.
+    /// @return A quantidade de trajetos entregues.
+    public static long forEach(RouteGraph graph, int source, int dest, int maxHops, ForkJoinPool pool, Consumer<Itinerary> sink) {
+        if (sink == null) throw new IllegalArgumentException("Consumidor não pode ser nulo");
+        return run(graph, source, dest, maxHops, pool, sink);
+    }
+
+    /// ## run
+    ///
+    /// Valida os parâmetros e executa a tarefa raiz no pool.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param maxHops Quantidade máxima de trechos por trajeto.
+    /// @param pool    O pool que executa as tarefas.
+    /// @param sink    Consumidor dos trajetos, ou `null` para apenas contar.
+    /// @return A quantidade de trajetos.
+    private static long run(RouteGraph graph, int source, int dest, int maxHops, ForkJoinPool pool, Consumer<Itinerary> sink) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (maxHops < 1) throw new IllegalArgumentException("Número máximo de conexões inválido");
+
+        LongAdder found = new LongAdder();
+        if (source == dest) {
+            // O único trajeto simples de um aeroporto para ele mesmo é o trajeto sem trechos
+            if (sink != null) sink.accept(Itinerary.fromEdges(graph, source, new int[0], 0));
+            return 1;
+        }
+
+        Search search = new Search(graph, source, dest, Math.min(maxHops, n - 1), found, sink);
+        pool.invoke(new PathTask(search, new int[0], source));
+        return found.sum();
+    }
+
+    /// ## Search
+    ///
+    /// Parâmetros compartilhados (somente leitura) por todas as tarefas de uma mesma busca.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param maxHops Quantidade máxima de trechos por trajeto.
+    /// @param found   Contador concorrente de trajetos.
+    /// @param sink    Consumidor dos trajetos, ou `null` para apenas contar.
+    private record Search(RouteGraph graph, int source, int dest, int maxHops, LongAdder found, Consumer<Itinerary> sink) {
+
+        /// ## report
+        ///
+        /// Registra um trajeto encontrado.
+        ///
+        /// @param edges Voos do trajeto (as primeiras `count` posições).
+        /// @param count Quantidade de voos do trajeto.
+        void report(int[] edges, int count) {
+            found.increment();
+            if (sink != null) sink.accept(Itinerary.fromEdges(graph, source, edges, count));
+        }
+    }
+
+    /// ## PathTask
+    ///
+    /// Tarefa que explora a subárvore de trajetos que começam por um prefixo fixo de voos.
+    @SuppressWarnings("serial")  // Executada apenas no `ForkJoinPool`, nunca serializada
+    private static final class PathTask extends RecursiveAction {
+
+        /// ### Campos
+        ///
+        /// - **`search`:** Parâmetros compartilhados da busca.
+        /// - **`prefix`:** Voos do prefixo, a partir da origem.
+        /// - **`last`:** Aeroporto em que o prefixo termina.
+        private final Search search;
+        private final int[] prefix;
+        private final int last;
+
+        /// ## PathTask
+        ///
+        /// @param search Parâmetros compartilhados da busca.
+        /// @param prefix Voos do prefixo, a partir da origem.
+        /// @param last   Aeroporto em que o prefixo termina.
+        PathTask(Search search, int[] prefix, int last) {
+            this.search = search;
+            this.prefix = prefix;
+            this.last = last;
+        }
+
+        /// ## compute
+        ///
+        /// Nos primeiros `SPLIT_DEPTH` níveis, cria uma tarefa filha para cada voo que estende o prefixo;
+        /// abaixo disso, percorre a subárvore sequencialmente.
+        @Override
+        protected void compute() {
+            if (prefix.length >= SPLIT_DEPTH || prefix.length + 1 >= search.maxHops) {
+                new SubtreeWalker(search, prefix, last).walk();
+                return;
+            }
+
+            RouteGraph graph = search.graph;
+            List<PathTask> children = new ArrayList<>();
+            for (int e = graph.edgeStart(last); e < graph.edgeEnd(last); e++) {
+                int v = graph.target(e);
+                if (v == search.source || onPrefix(v)) continue;  // Evita ciclos
+
+                int[] extended = Arrays.copyOf(prefix, prefix.length + 1);
+                extended[prefix.length] = e;
+                if (v == search.dest) search.report(extended, extended.length);
+                else children.add(new PathTask(search, extended, v));
+            }
+            invokeAll(children);
+        }
+
+        /// ## onPrefix
+        ///
+        /// Verifica se o aeroporto já aparece como destino de algum voo do prefixo.
+        ///
+        /// @param v O identificador do aeroporto.
+        /// @return `true` se o aeroporto já está no prefixo.
+        private boolean onPrefix(int v) {
+            for (int e : prefix)
+                if (search.graph.target(e) == v) return true;
+            return false;
+        }
+    }
+
+    /// ## SubtreeWalker
+    ///
+    /// Busca em profundidade sequencial, com pilha explícita e visitados próprios, a partir de um prefixo.
+    private static final class SubtreeWalker {
+
+        /// ### Campos
+        ///
+        /// - **`search`:** Parâmetros compartilhados da busca.
+        /// - **`edges`:** Voos do trajeto atual (prefixo seguido da parte explorada).
+        /// - **`nodes`, `cursors`:** Aeroporto e próximo voo a tentar em cada nível.
+        /// - **`onPath`:** Aeroportos do trajeto atual.
+        /// - **`base`:** Quantidade de voos do prefixo (nível a partir do qual a busca desempilha).
+        private final Search search;
+        private final int[] edges;
+        private final int[] nodes;
+        private final int[] cursors;
+        private final BitSet onPath;
+        private final int base;
+
+        /// ## SubtreeWalker
+        ///
+        /// @param search Parâmetros compartilhados da busca.
+        /// @param prefix Voos do prefixo, a partir da origem.
+        /// @param last   Aeroporto em que o prefixo termina.
+        SubtreeWalker(Search search, int[] prefix, int last) {
+            int capacity = search.maxHops + 1;
+            this.search = search;
+            this.edges = new int[capacity];
+            this.nodes = new int[capacity];
+            this.cursors = new int[capacity];
+            this.onPath = new BitSet(search.graph.size());
+            this.base = prefix.length;
+
+            System.arraycopy(prefix, 0, edges, 0, prefix.length);
+            onPath.set(search.source);
+            for (int e : prefix)
+                onPath.set(search.graph.target(e));
+
+            nodes[base] = last;
+            cursors[base] = search.graph.edgeStart(last);
+        }
+
+        /// ## walk
+        ///
+        /// Percorre todos os trajetos da subárvore, registrando os que chegam ao destino.
+        void walk() {
+            RouteGraph graph = search.graph;
+            int depth = base;
+            while (depth >= base) {
+                int u = nodes[depth];
+                if (depth < search.maxHops && cursors[depth] < graph.edgeEnd(u)) {
+                    int e = cursors[depth]++;
+                    int v = graph.target(e);
+                    if (onPath.get(v)) continue;  // Evita ciclos
+
+                    edges[depth] = e;
+                    if (v == search.dest) {
+                        search.report(edges, depth + 1);
+                    } else if (depth + 1 < search.maxHops) {
+                        depth++;
+                        nodes[depth] = v;
+                        cursors[depth] = graph.edgeStart(v);
+                        onPath.set(v);
+                    }
+                } else {
+                    if (depth > base) onPath.clear(u);  // Backtracking (o fim do prefixo permanece marcado)
+                    depth--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,374 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/// # ParetoSearch
+///
+/// A classe `ParetoSearch` encontra as opções de trajeto não dominadas entre dois aeroportos segundo três
+/// critérios ao mesmo tempo: quantidade de trechos, tarifa total e duração total. Uma opção domina outra se
+/// não é pior em nenhum critério; o resultado reúne, por exemplo, a opção mais barata, a mais rápida, a com
+/// menos conexões e os compromissos entre elas.
+///
+/// ## Funcionalidades
+/// - **Fronteira de Pareto (`find`):** Busca multicritério por rótulos (*label-setting*), com limite de
+///   rótulos por aeroporto.
+///
+/// ## Estrutura Interna
+/// - **Rótulos:** Cada rótulo é um trajeto parcial até um aeroporto, guardado em vetores primitivos paralelos
+///   (aeroporto, trechos, tarifa, duração, rótulo anterior e voo), sem objetos por rótulo.
+/// - **Fronteiras:** Cada aeroporto guarda os rótulos não dominados que chegaram até ele. Um rótulo novo é
+///   descartado se for dominado por algum deles (ou por algum rótulo do destino); caso contrário, remove os
+///   que ele domina.
+/// - **Ordem lexicográfica:** Os rótulos são expandidos na ordem (tarifa, duração, trechos), por um heap
+///   binário de identificadores de rótulo. Como todo voo aumenta os trechos e não diminui os demais
+///   critérios, um rótulo expandido nunca é dominado depois: cada rótulo é expandido no máximo uma vez.
+/// - **Limite por aeroporto:** Uma fronteira cheia não aceita rótulos novos. Isso mantém a busca rápida em
+///   malhas densas, ao custo de poder omitir opções; o resultado continua sem opções dominadas entre si.
+///
+/// ## Uso
+/// ```java
+/// for (ParetoSearch.Option option : ParetoSearch.find(graph, gru, ssa, ParetoSearch.DEFAULT_MAX_LABELS))
+///     System.out.println(option);
+///```
+public final class ParetoSearch {
+
+    /// ### Campos
+    ///
+    /// - **`DEFAULT_MAX_LABELS`:** Limite padrão de rótulos por aeroporto.
+    public static final int DEFAULT_MAX_LABELS = 32;
+
+    /// ## ParetoSearch
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private ParetoSearch() {
+    }
+
+    /// ## find
+    ///
+    /// Encontra as opções não dominadas (trechos, tarifa e duração) de um aeroporto para outro.
+    ///
+    /// ### Retorno
+    /// - **`List<Option>`:** As opções, em ordem crescente de tarifa (depois duração e trechos); vazia se não
+    ///   houver trajeto. Voos sem tarifa ou sem duração são ignorados.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Cria o rótulo inicial na origem e o coloca no heap.
+    /// 2. Retira o menor rótulo (em ordem lexicográfica) ainda não dominado e estende-o por cada voo de saída.
+    /// 3. Cada extensão passa pela poda de dominância (fronteira do aeroporto, fronteira do destino e
+    ///    limite de rótulos) antes de entrar no heap.
+    /// 4. Ao esvaziar o heap, monta uma opção para cada rótulo da fronteira do destino.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    /// - **`IllegalArgumentException`:** Se o limite de rótulos for menor que 1.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// List<ParetoSearch.Option> options = ParetoSearch.find(graph, graph.idOf("GRU"), graph.idOf("SSA"), 16);
+    ///```
+    ///
+    /// @param graph     O retrato CSR da malha.
+    /// @param source    Identificador do aeroporto de origem.
+    /// @param dest      Identificador do aeroporto de destino.
+    /// @param maxLabels Quantidade máxima de rótulos guardados por aeroporto.
+    /// @return As opções não dominadas.
+    public static List<Option> find(RouteGraph graph, int source, int dest, int maxLabels) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (maxLabels < 1) throw new IllegalArgumentException("Limite de rótulos inválido");
+
+        return new Search(graph, dest, maxLabels).run(source);
+    }
+
+    /// ## Search
+    ///
+    /// Estado de uma busca: a tabela de rótulos, as fronteiras de cada aeroporto e o heap.
+    private static final class Search {
+
+        /// ### Campos
+        ///
+        /// - **`graph`, `dest`, `maxLabels`:** O retrato, o destino e o limite de rótulos por aeroporto.
+        /// - **`node`, `hops`, `fare`, `minutes`, `parent`, `edge`, `dead`, `count`:** Tabela de rótulos.
+        /// - **`front`, `frontSize`:** Rótulos não dominados de cada aeroporto.
+        /// - **`heap`, `heapSize`:** Heap binário de rótulos, em ordem lexicográfica.
+        private final RouteGraph graph;
+        private final int dest;
+        private final int maxLabels;
+        private int[] node = new int[64];
+        private int[] hops = new int[64];
+        private long[] fare = new long[64];
+        private long[] minutes = new long[64];
+        private int[] parent = new int[64];
+        private int[] edge = new int[64];
+        private boolean[] dead = new boolean[64];
+        private int count;
+        private final int[][] front;
+        private final int[] frontSize;
+        private int[] heap = new int[64];
+        private int heapSize;
+
+        /// ## Search
+        ///
+        /// @param graph     O retrato CSR da malha.
+        /// @param dest      Identificador do aeroporto de destino.
+        /// @param maxLabels Quantidade máxima de rótulos por aeroporto.
+        private Search(RouteGraph graph, int dest, int maxLabels) {
+            this.graph = graph;
+            this.dest = dest;
+            this.maxLabels = maxLabels;
+            this.front = new int[graph.size()][];
+            this.frontSize = new int[graph.size()];
+        }
+
+        /// ## run
+        ///
+        /// Executa a busca a partir da origem.
+        ///
+        /// @param source Identificador do aeroporto de origem.
+        /// @return As opções não dominadas até o destino.
+        private List<Option> run(int source) {
+            offer(source, 0, 0, 0, -1, -1);
+
+            while (heapSize > 0) {
+                int label = poll();
+                if (dead[label]) continue;  // Dominado depois de entrar no heap
+                int u = node[label];
+                if (u == dest) continue;    // Estender além do destino só piora todos os critérios
+
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int flightFare = graph.weight(e, RouteWeight.FARE);
+                    int flightMinutes = graph.weight(e, RouteWeight.DURATION);
+                    if (flightFare == Flight.UNKNOWN_WEIGHT || flightMinutes == Flight.UNKNOWN_WEIGHT) continue;
+
+                    offer(graph.target(e), hops[label] + 1, fare[label] + flightFare,
+                          minutes[label] + flightMinutes, label, e);
+                }
+            }
+
+            int size = frontSize[dest];
+            int[] labels = (size == 0) ? new int[0] : Arrays.copyOf(front[dest], size);
+            List<Option> options = new ArrayList<>(size);
+            for (int label : sortLexicographically(labels))
+                options.add(toOption(label));
+            return options;
+        }
+
+        /// ## offer
+        ///
+        /// Cria um rótulo, se ele não for dominado, e o coloca no heap.
+        ///
+        /// ### Fluxo de Operações
+        /// 1. Descarta o rótulo se algum rótulo do destino ou do próprio aeroporto for tão bom quanto ele
+        ///    em todos os critérios.
+        /// 2. Remove da fronteira do aeroporto os rótulos que ele domina, marcando-os como mortos.
+        /// 3. Descarta o rótulo se a fronteira estiver cheia; caso contrário, inclui-o na fronteira e no heap.
+        private void offer(int v, int h, long f, long m, int from, int e) {
+            if (dominated(dest, h, f, m) || (v != dest && dominated(v, h, f, m))) return;
+
+            int size = frontSize[v];
+            for (int i = 0; i < size; ) {
+                int other = front[v][i];
+                if (h <= hops[other] && f <= fare[other] && m <= minutes[other]) {
+                    dead[other] = true;
+                    front[v][i] = front[v][--size];  // Troca com o último
+                } else {
+                    i++;
+                }
+            }
+            frontSize[v] = size;
+            if (size == maxLabels) return;  // Fronteira cheia: o rótulo é descartado
+
+            if (front[v] == null) front[v] = new int[Math.min(4, maxLabels)];
+            else if (size == front[v].length) front[v] = Arrays.copyOf(front[v], Math.min(size * 2, maxLabels));
+            int label = newLabel(v, h, f, m, from, e);
+            front[v][frontSize[v]++] = label;
+            push(label);
+        }
+
+        /// ## dominated
+        ///
+        /// @return `true` se algum rótulo da fronteira de `v` for tão bom quanto `(h, f, m)` em todos os critérios.
+        private boolean dominated(int v, int h, long f, long m) {
+            for (int i = 0; i < frontSize[v]; i++) {
+                int other = front[v][i];
+                if (hops[other] <= h && fare[other] <= f && minutes[other] <= m) return true;
+            }
+            return false;
+        }
+
+        /// ## newLabel
+        ///
+        /// Inclui um rótulo na tabela.
+        ///
+        /// @return O identificador do rótulo.
+        private int newLabel(int v, int h, long f, long m, int from, int e) {
+            if (count == node.length) {
+                int capacity = count * 2;
+                node = Arrays.copyOf(node, capacity);
+                hops = Arrays.copyOf(hops, capacity);
+                fare = Arrays.copyOf(fare, capacity);
+                minutes = Arrays.copyOf(minutes, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                edge = Arrays.copyOf(edge, capacity);
+                dead = Arrays.copyOf(dead, capacity);
+            }
+            node[count] = v;
+            hops[count] = h;
+            fare[count] = f;
+            minutes[count] = m;
+            parent[count] = from;
+            edge[count] = e;
+            return count++;
+        }
+
+        /// ## less
+        ///
+        /// @return `true` se o rótulo `a` vem antes de `b` na ordem (tarifa, duração, trechos).
+        private boolean less(int a, int b) {
+            if (fare[a] != fare[b]) return fare[a] < fare[b];
+            if (minutes[a] != minutes[b]) return minutes[a] < minutes[b];
+            return hops[a] < hops[b];
+        }
+
+        /// ## push
+        ///
+        /// Insere um rótulo no heap.
+        private void push(int label) {
+            if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+            int i = heapSize++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!less(label, heap[up])) break;
+                heap[i] = heap[up];
+                i = up;
+            }
+            heap[i] = label;
+        }
+
+        /// ## poll
+        ///
+        /// Remove e retorna o menor rótulo do heap.
+        private int poll() {
+            int top = heap[0];
+            int last = heap[--heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) break;
+                if (child + 1 < heapSize && less(heap[child + 1], heap[child])) child++;
+                if (!less(heap[child], last)) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            if (heapSize > 0) heap[i] = last;
+            return top;
+        }
+
+        /// ## sortLexicographically
+        ///
+        /// Ordena os rótulos do destino por tarifa, duração e trechos (poucos rótulos: ordenação por inserção).
+        private int[] sortLexicographically(int[] labels) {
+            for (int i = 1; i < labels.length; i++) {
+                int label = labels[i];
+                int j = i - 1;
+                while (j >= 0 && less(label, labels[j])) {
+                    labels[j + 1] = labels[j];
+                    j--;
+                }
+                labels[j + 1] = label;
+            }
+            return labels;
+        }
+
+        /// ## toOption
+        ///
+        /// Monta a opção de um rótulo do destino, seguindo os rótulos anteriores até a origem.
+        private Option toOption(int label) {
+            int[] edges = new int[hops[label]];
+            int source = node[label];
+            for (int l = label, i = edges.length - 1; parent[l] >= 0; l = parent[l], i--) {
+                edges[i] = edge[l];
+                source = node[parent[l]];
+            }
+            Itinerary itinerary = Itinerary.fromEdges(graph, source, edges, edges.length, fare[label]);
+            return new Option(itinerary, fare[label], minutes[label]);
+        }
+    }
+
+    /// ## Option
+    ///
+    /// Uma opção de trajeto da fronteira de Pareto, com os três critérios.
+    public static final class Option {
+
+        /// ### Campos
+        ///
+        /// - **`itinerary`:** O trajeto (com a tarifa total em `getCost`).
+        /// - **`fare`, `minutes`:** Tarifa e duração totais.
+        private final Itinerary itinerary;
+        private final long fare;
+        private final long minutes;
+
+        /// ## Option
+        ///
+        /// @param itinerary O trajeto.
+        /// @param fare      A tarifa total.
+        /// @param minutes   A duração total, em minutos.
+        private Option(Itinerary itinerary, long fare, long minutes) {
+            this.itinerary = itinerary;
+            this.fare = fare;
+            this.minutes = minutes;
+        }
+
+        /// ## getItinerary
+        ///
+        /// @return O trajeto da opção.
+        public Itinerary getItinerary() {
+            return itinerary;
+        }
+
+        /// ## getHops
+        ///
+        /// @return A quantidade de trechos.
+        public int getHops() {
+            return itinerary.getHops();
+        }
+
+        /// ## getFare
+        ///
+        /// @return A tarifa total.
+        public long getFare() {
+            return fare;
+        }
+
+        /// ## getMinutes
+        ///
+        /// @return A duração total, em minutos.
+        public long getMinutes() {
+            return minutes;
+        }
+
+        /// ## dominates
+        ///
+        /// Informa se esta opção é tão boa quanto `other` em todos os critérios e melhor em algum.
+        ///
+        /// @param other A outra opção.
+        /// @return `true` se esta opção domina `other`.
+        public boolean dominates(Option other) {
+            boolean noWorse = getHops() <= other.getHops() && fare <= other.fare && minutes <= other.minutes;
+            boolean better = getHops() < other.getHops() || fare < other.fare || minutes < other.minutes;
+            return noWorse && better;
+        }
+
+        /// ## toString
+        ///
+        /// Retorna a opção no formato `GRU -> GIG -> SSA - 2 trecho(s), R$ 850, 190 min`.
+        ///
+        /// @return Uma string que representa a opção.
+        @Override
+        public String toString() {
+            return itinerary + " - " + getHops() + " trecho(s), " + RouteWeight.FARE.getUnit() + " " + fare + ", "
+                   + minutes + " " + RouteWeight.DURATION.getUnit();
+        }
+    }
+}
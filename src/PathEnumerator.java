@@ -0,0 +1,234 @@
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/// # PathEnumerator
+///
+/// A classe `PathEnumerator` enumera, de forma preguiçosa, os trajetos simples (sem repetir aeroportos)
+/// entre dois aeroportos de um retrato `RouteGraph`. Cada chamada a `next` retoma a busca em profundidade
+/// do ponto onde parou, usando uma pilha explícita em vetores primitivos em vez de recursão; a memória
+/// usada é proporcional à profundidade do trajeto, e quem consome os resultados pode parar a qualquer momento.
+///
+/// ## Funcionalidades
+/// - **Limite de conexões (`maxHops`):** Não explora trajetos com mais trechos que o limite.
+/// - **Limite de resultados (`maxResults`):** Encerra após produzir a quantidade máxima de trajetos.
+/// - **Limite de tempo (`timeout`):** Encerra a busca quando o prazo expira (consultável por `isTimedOut`).
+///
+/// ## Estrutura Interna
+/// - **`nodes`:** Aeroporto em cada profundidade do trajeto atual.
+/// - **`cursors`:** Próximo voo a ser tentado em cada profundidade.
+/// - **`edges`:** Voo usado para sair do aeroporto de cada profundidade.
+/// - **`onPath`:** Aeroportos presentes no trajeto atual.
+///
+/// ## Uso
+/// ```java
+/// PathEnumerator paths = new PathEnumerator(graph, gru, ssa, 4, 100, Duration.ofSeconds(2));
+/// while (paths.hasNext()) System.out.println(paths.next());
+///```
+public final class PathEnumerator implements Iterator<Itinerary> {
+
+    /// ### Campos
+    ///
+    /// - **`CLOCK_CHECK_INTERVAL`:** Quantidade de passos entre consultas ao relógio (máscara de bits).
+    /// - **`graph`, `source`, `dest`:** Retrato e extremos da busca.
+    /// - **`maxHops`, `maxResults`, `deadline`:** Limites da busca (`deadline` em `System.nanoTime`; `Long.MAX_VALUE` = sem prazo).
+    /// - **`nodes`, `cursors`, `edges`, `onPath`, `depth`:** Estado da pilha explícita.
+    /// - **`produced`:** Quantidade de trajetos já produzidos.
+    /// - **`pending`:** Próximo trajeto já calculado por `hasNext` e ainda não entregue.
+    /// - **`exhausted`, `timedOut`, `steps`:** Controle de término da busca.
+    private static final int CLOCK_CHECK_INTERVAL = 1023;
+
+    private final RouteGraph graph;
+    private final int source;
+    private final int dest;
+    private final int maxHops;
+    private final long maxResults;
+    private final long deadline;
+
+    private final int[] nodes;
+    private final int[] cursors;
+    private final int[] edges;
+    private final BitSet onPath;
+    private int depth;
+
+    private long produced;
+    private Itinerary pending;
+    private boolean exhausted;
+    private boolean timedOut;
+    private long steps;
+
+    /// ## PathEnumerator
+    ///
+    /// Construtor da classe `PathEnumerator`. Prepara a pilha explícita a partir do aeroporto de origem;
+    /// nenhum trajeto é calculado até a primeira chamada a `hasNext` ou `next`.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`maxHops`:** Quantidade máxima de trechos por trajeto (pelo menos 1).
+    /// - **`maxResults`:** Quantidade máxima de trajetos produzidos (pelo menos 1).
+    /// - **`timeout`:** Prazo total da enumeração, ou `null` para não limitar o tempo.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    /// - **`IllegalArgumentException`:** Se `maxHops` ou `maxResults` forem menores que 1.
+    ///
+    /// @param graph      O retrato CSR da malha.
+    /// @param source     Identificador do aeroporto de origem.
+    /// @param dest       Identificador do aeroporto de destino.
+    /// @param maxHops    Quantidade máxima de trechos por trajeto.
+    /// @param maxResults Quantidade máxima de trajetos produzidos.
+    /// @param timeout    Prazo total da enumeração, ou `null` para não limitar o tempo.
+    public PathEnumerator(RouteGraph graph, int source, int dest, int maxHops, long maxResults, Duration timeout) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (maxHops < 1) throw new IllegalArgumentException("Número máximo de conexões inválido");
+        if (maxResults < 1) throw new IllegalArgumentException("Número máximo de resultados inválido");
+
+        this.graph = graph;
+        this.source = source;
+        this.dest = dest;
+        this.maxHops = maxHops;
+        this.maxResults = maxResults;
+        this.deadline = deadlineOf(timeout);
+
+        // Um trajeto simples tem no máximo n - 1 trechos; a pilha nunca passa de min(n, maxHops) níveis
+        int capacity = Math.max(1, Math.min(n, maxHops));
+        this.nodes = new int[capacity];
+        this.cursors = new int[capacity];
+        this.edges = new int[capacity];
+        this.onPath = new BitSet(n);
+
+        if (source == dest) {
+            // O único trajeto simples de um aeroporto para ele mesmo é o trajeto sem trechos
+            this.pending = Itinerary.fromEdges(graph, source, edges, 0);
+            this.produced = 1;
+            this.depth = -1;
+        } else {
+            this.nodes[0] = source;
+            this.cursors[0] = graph.edgeStart(source);
+            this.onPath.set(source);
+            this.depth = 0;
+        }
+    }
+
+    /// ## hasNext
+    ///
+    /// Verifica se há outro trajeto, calculando-o se ainda não foi calculado.
+    ///
+    /// @return `true` se houver outro trajeto dentro dos limites, `false` caso contrário.
+    @Override
+    public boolean hasNext() {
+        if (pending == null && !exhausted) pending = advance();
+        return pending != null;
+    }
+
+    /// ## next
+    ///
+    /// Retorna o próximo trajeto.
+    ///
+    /// ### Exceções
+    /// - **`NoSuchElementException`:** Se não houver mais trajetos.
+    ///
+    /// @return O próximo trajeto.
+    @Override
+    public Itinerary next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Itinerary next = pending;
+        pending = null;
+        return next;
+    }
+
+    /// ## isTimedOut
+    ///
+    /// Informa se a enumeração foi interrompida pelo limite de tempo.
+    ///
+    /// @return `true` se o prazo expirou antes do fim da busca.
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /// ## isTruncated
+    ///
+    /// Informa se a enumeração foi interrompida por algum limite (resultados ou tempo) antes de
+    /// esgotar a busca. Só é conclusivo depois que `hasNext` retornou `false`.
+    ///
+    /// @return `true` se a busca foi interrompida antes de terminar.
+    public boolean isTruncated() {
+        return timedOut || (produced >= maxResults && depth >= 0);
+    }
+
+    /// ## advance
+    ///
+    /// Retoma a busca em profundidade até encontrar o próximo trajeto ou esgotar a busca.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. No topo da pilha, tenta o próximo voo do aeroporto atual (se o limite de trechos permitir).
+    /// 2. Se o voo chega ao destino, produz o trajeto; se chega a um aeroporto fora do trajeto, empilha-o.
+    /// 3. Sem voos restantes, desempilha o aeroporto (backtracking).
+    /// 4. A cada `CLOCK_CHECK_INTERVAL + 1` passos consulta o relógio para respeitar o prazo.
+    ///
+    /// @return O próximo trajeto, ou `null` se a busca terminou.
+    private Itinerary advance() {
+        if (produced >= maxResults) {
+            exhausted = true;
+            return null;
+        }
+
+        while (depth >= 0) {
+            if ((++steps & CLOCK_CHECK_INTERVAL) == 0 && System.nanoTime() - deadline > 0) {
+                timedOut = true;
+                break;
+            }
+
+            int u = nodes[depth];
+            if (depth < maxHops && cursors[depth] < graph.edgeEnd(u)) {
+                int e = cursors[depth]++;
+                int v = graph.target(e);
+                if (onPath.get(v)) continue;  // Evita ciclos
+
+                edges[depth] = e;
+                if (v == dest) {
+                    produced++;
+                    return Itinerary.fromEdges(graph, source, edges, depth + 1);
+                }
+
+                if (depth + 1 < maxHops) {  // Só empilha se ainda couber mais um trecho
+                    depth++;
+                    nodes[depth] = v;
+                    cursors[depth] = graph.edgeStart(v);
+                    onPath.set(v);
+                }
+            } else {
+                onPath.clear(u);  // Backtracking
+                depth--;
+            }
+        }
+
+        exhausted = true;
+        return null;
+    }
+
+    /// ## deadlineOf
+    ///
+    /// Converte o prazo em um instante de `System.nanoTime`.
+    ///
+    /// @param timeout O prazo, ou `null` para não limitar o tempo.
+    /// @return O instante limite, ou um instante inalcançável se não houver prazo.
+    private static long deadlineOf(Duration timeout) {
+        long now = System.nanoTime();
+        if (timeout == null) return now + Long.MAX_VALUE;  // Diferença nunca fica positiva
+        if (timeout.isNegative()) return now;
+
+        long nanos;
+        try {
+            nanos = timeout.toNanos();
+        } catch (ArithmeticException overflow) {
+            nanos = Long.MAX_VALUE;  // Prazo maior que ~292 anos: equivale a não ter prazo
+        }
+        return now + nanos;
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+
+/// # ReachabilityIndex
+///
+/// A classe `ReachabilityIndex` é o fecho transitivo de um `RouteGraph`: responde em O(1) se existe algum
+/// trajeto de um aeroporto para outro, sem executar busca. As consultas de rotas a usam para rejeitar de
+/// imediato pares sem trajeto, antes de iniciar buscas ou enumerações potencialmente caras.
+///
+/// ## Funcionalidades
+/// - **Construção (`build`):** Calcula as componentes fortemente conexas (`StronglyConnectedComponents`) e o
+///   fecho da condensação.
+/// - **Alcançabilidade (`isReachable`):** Informa se há trajeto entre dois aeroportos, em O(1).
+/// - **Componentes (`getComponents`):** Expõe as componentes usadas pelo índice.
+///
+/// ## Estrutura Interna
+/// - Aeroportos de uma mesma componente fortemente conexa alcançam uns aos outros, então o fecho é guardado
+///   apenas entre componentes: `k` conjuntos de bits de `k` bits, em um único `long[]` de `k * words` palavras.
+/// - As componentes são numeradas em ordem topológica reversa da condensação: toda componente alcançada a
+///   partir de `c` tem número menor que `c`. Assim, o fecho de `c` é a união dos fechos (já prontos) das
+///   componentes vizinhas, uma operação de `words` palavras.
+/// - **`components`:** Componente de cada aeroporto.
+/// - **`closure`:** Componentes alcançáveis a partir de cada componente (inclusive ela mesma).
+///
+/// ## Uso
+/// ```java
+/// ReachabilityIndex index = ReachabilityIndex.build(graph);
+/// if (!index.isReachable(graph.idOf("GRU"), graph.idOf("SSA"))) System.out.println("Sem trajeto");
+///```
+public final class ReachabilityIndex {
+
+    /// ### Campos
+    ///
+    /// - **`graph`:** O retrato a partir do qual o índice foi construído.
+    /// - **`components`:** Componentes fortemente conexas do retrato.
+    /// - **`words`:** Quantidade de palavras `long` de cada linha do fecho.
+    /// - **`closure`:** Fecho transitivo da condensação, uma linha de `words` palavras por componente.
+    private final RouteGraph graph;
+    private final StronglyConnectedComponents components;
+    private final int words;
+    private final long[] closure;
+
+    /// ## ReachabilityIndex
+    ///
+    /// Construtor privado. Use `build` para gerar o índice a partir de um retrato.
+    private ReachabilityIndex(RouteGraph graph, StronglyConnectedComponents components, int words, long[] closure) {
+        this.graph = graph;
+        this.components = components;
+        this.words = words;
+        this.closure = closure;
+    }
+
+    /// ## build
+    ///
+    /// Gera o índice de alcançabilidade de um retrato.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Encontra as componentes fortemente conexas com `StronglyConnectedComponents.compute`, em O(V + E).
+    /// 2. Percorre as componentes na ordem de conclusão; para cada uma, marca a si mesma e une as linhas
+    ///    das componentes vizinhas. Cada vizinha é unida uma única vez por componente.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se o fecho não couber em um vetor Java (mais de ~370 mil componentes).
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// ReachabilityIndex index = ReachabilityIndex.build(RouteGraph.build(registry));
+    ///```
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @return O índice de alcançabilidade.
+    public static ReachabilityIndex build(RouteGraph graph) {
+        StronglyConnectedComponents components = StronglyConnectedComponents.compute(graph);
+        int k = components.count();
+
+        int words = (k + 63) >>> 6;
+        if ((long) k * words > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Malha grande demais para o índice de alcançabilidade");
+        long[] closure = new long[k * words];
+        int[] merged = new int[k];  // Última componente que já uniu cada vizinha (evita uniões repetidas)
+        Arrays.fill(merged, -1);
+
+        for (int c = 0; c < k; c++) {
+            int row = c * words;
+            closure[row + (c >>> 6)] |= 1L << c;
+
+            int end = components.memberStart(c) + components.size(c);
+            for (int i = components.memberStart(c); i < end; i++) {
+                int u = components.member(i);
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int d = components.componentOf(graph.target(e));
+                    if (d == c || merged[d] == c) continue;
+                    merged[d] = c;
+
+                    int other = d * words;  // d < c: a linha de d já está completa
+                    for (int w = 0; w < words; w++)
+                        closure[row + w] |= closure[other + w];
+                }
+            }
+        }
+
+        return new ReachabilityIndex(graph, components, words, closure);
+    }
+
+    /// ## getGraph
+    ///
+    /// Retorna o retrato a partir do qual o índice foi construído.
+    ///
+    /// @return O retrato CSR da malha.
+    public RouteGraph getGraph() {
+        return graph;
+    }
+
+    /// ## isReachable
+    ///
+    /// Informa se existe trajeto de `source` para `dest`, em O(1). Um aeroporto sempre alcança a si mesmo.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// boolean reachable = index.isReachable(graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return `true` se houver trajeto.
+    public boolean isReachable(int source, int dest) {
+        int from = components.componentOf(source);
+        int to = components.componentOf(dest);
+        return (closure[from * words + (to >>> 6)] & (1L << to)) != 0;
+    }
+
+    /// ## getComponents
+    ///
+    /// @return As componentes fortemente conexas do retrato.
+    public StronglyConnectedComponents getComponents() {
+        return components;
+    }
+}
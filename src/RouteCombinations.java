@@ -0,0 +1,261 @@
+import java.math.BigInteger;
+import java.util.BitSet;
+
+/// # RouteCombinations
+///
+/// A classe `RouteCombinations` gera, sem materializar listas, todas as sequências ordenadas de aeroportos
+/// intermediários usadas por `FlightOrganizer.listAllPossiblePaths`: para cada tamanho `k` de `0` a `n`,
+/// cada combinação de `k` intermediários (em ordem lexicográfica) e cada permutação dessa combinação
+/// (pelo algoritmo de próxima permutação lexicográfica, no próprio vetor). A ordem produzida é a mesma
+/// da geração anterior por `combine` e `permute`, mas a memória usada é O(n) em vez de O(n!·n).
+///
+/// ## Funcionalidades
+/// - **Geração (`forEach`):** Entrega cada sequência a um `Visitor`, reaproveitando o mesmo vetor.
+/// - **Contagem (`count`):** Calcula a quantidade total de sequências pela fórmula fechada Σ n!/(n−k)!.
+/// - **Somente trajetos voáveis (`forEachFeasible`):** Gera apenas as sequências em que existe voo entre
+///   aeroportos consecutivos, descartando um ramo assim que falta um trecho.
+///
+/// ## Uso
+/// ```java
+/// RouteCombinations.forEach(intermediates.length, (route, length) -> {
+///     // route[0..length-1] contém os índices dos intermediários, na ordem do trajeto
+///     return true; // continua a geração
+/// });
+/// BigInteger total = RouteCombinations.count(intermediates.length);
+///```
+public final class RouteCombinations {
+
+    /// ## Visitor
+    ///
+    /// Recebe cada sequência gerada. O vetor `route` é reutilizado entre chamadas e não deve ser guardado
+    /// nem alterado; apenas as `length` primeiras posições são válidas.
+    @FunctionalInterface
+    public interface Visitor {
+
+        /// ## visit
+        ///
+        /// Processa uma sequência de índices de intermediários.
+        ///
+        /// @param route  Os índices dos intermediários, na ordem do trajeto.
+        /// @param length A quantidade de intermediários da sequência.
+        /// @return `true` para continuar a geração, `false` para interrompê-la.
+        boolean visit(int[] route, int length);
+    }
+
+    /// ## RouteCombinations
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private RouteCombinations() {
+    }
+
+    /// ## forEach
+    ///
+    /// Gera todas as sequências ordenadas de intermediários distintos, de tamanho `0` a `n`.
+    ///
+    /// ### Parâmetros
+    /// - **`n`:** Quantidade de aeroportos intermediários disponíveis.
+    /// - **`visitor`:** Recebe cada sequência gerada.
+    ///
+    /// ### Retorno
+    /// - **`long`:** A quantidade de sequências entregues ao `visitor`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Para cada tamanho `k`, começa pela combinação `[0, 1, ..., k-1]`.
+    /// 2. Copia a combinação para o vetor `route` (já em ordem crescente, a primeira permutação) e entrega,
+    ///    com `nextPermutation`, todas as permutações em ordem lexicográfica.
+    /// 3. Avança para a próxima combinação com `nextCombination` até esgotar as combinações de tamanho `k`.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `n` for negativo.
+    ///
+    /// @param n       Quantidade de aeroportos intermediários disponíveis.
+    /// @param visitor Recebe cada sequência gerada.
+    /// @return A quantidade de sequências entregues ao `visitor`.
+    public static long forEach(int n, Visitor visitor) {
+        if (n < 0) throw new IllegalArgumentException("Quantidade de intermediários inválida");
+
+        int[] combination = new int[n];
+        int[] route = new int[n];
+        long visited = 0;
+
+        for (int k = 0; k <= n; k++) {
+            for (int i = 0; i < k; i++)
+                combination[i] = i;  // Primeira combinação de tamanho k
+
+            do {
+                System.arraycopy(combination, 0, route, 0, k);
+                do {
+                    visited++;
+                    if (!visitor.visit(route, k)) return visited;
+                } while (nextPermutation(route, k));
+            } while (nextCombination(combination, k, n));
+        }
+
+        return visited;
+    }
+
+    /// ## forEachFeasible
+    ///
+    /// Gera as sequências de intermediários para as quais existe voo em todos os trechos, da origem ao destino.
+    /// Cada trecho é verificado contra a adjacência do retrato enquanto a sequência é construída: em vez de
+    /// gerar todas as permutações e descartar as inviáveis, a sequência só é estendida por aeroportos
+    /// alcançáveis por um voo direto, de modo que o trabalho é limitado pela conectividade real da malha.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`visitor`:** Recebe cada sequência; aqui `route` contém identificadores de aeroportos do retrato.
+    ///
+    /// ### Retorno
+    /// - **`long`:** A quantidade de sequências entregues ao `visitor`.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Mantém uma pilha explícita de aeroportos, com o próximo voo a tentar em cada nível.
+    /// 2. Para cada voo do topo da pilha: se chega ao destino, entrega a sequência atual; se chega a um
+    ///    aeroporto ainda fora da sequência, empilha-o como próximo intermediário.
+    /// 3. Voos paralelos (`RouteGraph.isParallel`) são ignorados, pois produziriam a mesma sequência de aeroportos.
+    /// 4. Sem voos restantes, desempilha o aeroporto (o ramo termina no primeiro trecho inexistente).
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param visitor Recebe cada sequência de intermediários.
+    /// @return A quantidade de sequências entregues ao `visitor`.
+    public static long forEachFeasible(RouteGraph graph, int source, int dest, Visitor visitor) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+
+        int[] route = new int[n];    // Intermediários da sequência atual
+        int[] nodes = new int[n];    // Aeroporto em cada nível (nodes[0] = origem)
+        int[] cursors = new int[n];  // Próximo voo a tentar em cada nível
+        BitSet onRoute = new BitSet(n);
+        long visited = 0;
+
+        int depth = 0;
+        nodes[0] = source;
+        cursors[0] = graph.edgeStart(source);
+        onRoute.set(source);
+
+        while (depth >= 0) {
+            int u = nodes[depth];
+            if (cursors[depth] < graph.edgeEnd(u)) {
+                int e = cursors[depth]++;
+                int v = graph.target(e);
+                if (graph.isParallel(e) || onRoute.get(v)) continue;  // Trecho repetido ou aeroporto já usado
+
+                if (v == dest) {
+                    visited++;
+                    if (!visitor.visit(route, depth)) return visited;
+                    continue;
+                }
+
+                route[depth] = v;  // v passa a ser o próximo intermediário
+                depth++;
+                nodes[depth] = v;
+                cursors[depth] = graph.edgeStart(v);
+                onRoute.set(v);
+            } else {
+                onRoute.clear(u);  // Backtracking
+                depth--;
+            }
+        }
+
+        return visited;
+    }
+
+    /// ## count
+    ///
+    /// Calcula a quantidade de sequências geradas por `forEach`, sem gerá-las: Σ (k = 0..n) n!/(n−k)!.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Acumula os arranjos `n!/(n−k)!` incrementalmente: cada termo é o anterior multiplicado por `n − k + 1`.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se `n` for negativo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// RouteCombinations.count(3); // 1 + 3 + 6 + 6 = 16
+    ///```
+    ///
+    /// @param n Quantidade de aeroportos intermediários disponíveis.
+    /// @return A quantidade total de sequências.
+    public static BigInteger count(int n) {
+        if (n < 0) throw new IllegalArgumentException("Quantidade de intermediários inválida");
+
+        BigInteger total = BigInteger.ONE;  // k = 0: a sequência vazia (trajeto direto)
+        BigInteger arrangements = BigInteger.ONE;
+        for (int k = 1; k <= n; k++) {
+            arrangements = arrangements.multiply(BigInteger.valueOf(n - k + 1));
+            total = total.add(arrangements);
+        }
+        return total;
+    }
+
+    /// ## nextPermutation
+    ///
+    /// Transforma as `length` primeiras posições de `values` na próxima permutação em ordem lexicográfica.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Procura, da direita para a esquerda, a primeira posição `i` com `values[i] < values[i + 1]`.
+    /// 2. Se não existir, a permutação atual é a última.
+    /// 3. Troca `values[i]` pelo menor elemento maior que ele à sua direita e inverte o sufixo após `i`.
+    ///
+    /// @param values O vetor com a permutação atual.
+    /// @param length A quantidade de posições consideradas.
+    /// @return `true` se havia uma próxima permutação, `false` se a atual era a última.
+    static boolean nextPermutation(int[] values, int length) {
+        int i = length - 2;
+        while (i >= 0 && values[i] >= values[i + 1])
+            i--;
+        if (i < 0) return false;
+
+        int j = length - 1;
+        while (values[j] <= values[i])
+            j--;
+        swap(values, i, j);
+
+        for (int left = i + 1, right = length - 1; left < right; left++, right--)
+            swap(values, left, right);
+        return true;
+    }
+
+    /// ## nextCombination
+    ///
+    /// Avança as `k` primeiras posições de `combination` para a próxima combinação crescente de `k`
+    /// elementos entre `0` e `n − 1`, em ordem lexicográfica.
+    ///
+    /// @param combination A combinação atual (crescente).
+    /// @param k           O tamanho da combinação.
+    /// @param n           A quantidade de elementos disponíveis.
+    /// @return `true` se havia uma próxima combinação, `false` se a atual era a última.
+    static boolean nextCombination(int[] combination, int k, int n) {
+        int i = k - 1;
+        while (i >= 0 && combination[i] == n - k + i)
+            i--;  // Posições que já estão no valor máximo
+        if (i < 0) return false;
+
+        combination[i]++;
+        for (int j = i + 1; j < k; j++)
+            combination[j] = combination[j - 1] + 1;
+        return true;
+    }
+
+    /// ## swap
+    ///
+    /// Troca duas posições de um vetor.
+    ///
+    /// @param values O vetor.
+    /// @param i      A primeira posição.
+    /// @param j      A segunda posição.
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+}
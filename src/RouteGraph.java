@@ -0,0 +1,596 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/// # RouteGraph
+///
+/// A classe `RouteGraph` é um retrato imutável (congelado) da malha de aeroportos e voos, no formato
+/// de linhas esparsas comprimidas (CSR). Cada aeroporto recebe um identificador inteiro denso (`0..n-1`,
+/// na ordem de cadastro) e os voos são armazenados em vetores primitivos `int[]`, agrupados pelo
+/// aeroporto de origem. As buscas de rotas trabalham sobre esses identificadores, sem consultar
+/// códigos `String` nem percorrer listas encadeadas a cada passo.
+///
+/// ## Funcionalidades
+/// - **Construção (`build`):** Gera o retrato a partir do cadastro de aeroportos (`AirportRegistry`) ou de uma
+///   versão publicada da malha (`NetworkSnapshot`).
+/// - **Identificadores (`idOf`, `codeOf`, `nameOf`):** Convertem entre códigos e identificadores densos.
+/// - **Adjacência (`edgeStart`, `edgeEnd`, `target`, `flightNumber`):** Percorrem os voos de um aeroporto.
+/// - **Adjacência reversa (`inEdgeStart`, `inEdgeEnd`, `inEdge`, `source`):** Percorrem os voos que chegam a um
+///   aeroporto, para buscas no sentido contrário (por exemplo, a busca bidirecional).
+/// - **Voos paralelos (`isParallel`):** Identifica voos que repetem um par origem/destino já servido por outro voo.
+/// - **Pesos (`weight`) e coordenadas (`latitude`, `longitude`):** Alimentam as buscas ponderadas e a heurística do A*.
+/// - **Coerência dos pesos (`minWeightPerKm`):** Menor razão entre o peso de um voo e a distância de círculo máximo
+///   entre seus aeroportos, que limita a heurística do A* para que ela nunca supere o custo real.
+/// - **Horários (`schedule`, `minimumConnection`):** Alimentam a tabela de conexões (`Timetable`).
+///
+/// ## Estrutura Interna
+/// - **`codes`, `names`:** Código e nome de cada aeroporto, indexados pelo identificador.
+/// - **`offsets`:** Os voos do aeroporto `u` ocupam as posições `offsets[u]` até `offsets[u + 1] - 1`.
+/// - **`targets`, `flightNumbers`:** Destino e número de cada voo, na ordem das listas de voos.
+/// - **`sources`:** Origem de cada voo.
+/// - **`inOffsets`, `inEdges`:** CSR reverso: os voos que chegam ao aeroporto `v` são `inEdges[inOffsets[v]]`
+///   até `inEdges[inOffsets[v + 1] - 1]`, guardados pela sua posição nos vetores de voos.
+/// - **`parallel`:** Voos cujo par origem/destino já aparece em um voo anterior da mesma origem.
+/// - **`durations`, `distances`, `fares`:** Pesos de cada voo (`Flight.UNKNOWN_WEIGHT` quando não informados).
+/// - **`latitudes`, `longitudes`:** Coordenadas de cada aeroporto, em graus (`NaN` quando não informadas).
+/// - **`minWeightsPerKm`:** Para cada critério de peso (indexado por `ordinal`), a menor razão peso/km entre os voos.
+/// - **`schedules`, `minimumConnections`:** Horário de cada voo (ou `null`) e tempo mínimo de conexão de cada aeroporto.
+/// - **`slotKeys`, `slotIds`:** Tabela hash (sondagem linear) de código normalizado para identificador.
+///
+/// ## Uso
+/// ```java
+/// RouteGraph graph = RouteGraph.build(registry);
+/// int gru = graph.idOf("GRU");
+/// for (int e = graph.edgeStart(gru); e < graph.edgeEnd(gru); e++)
+///     System.out.println(graph.flightNumber(e) + " -> " + graph.codeOf(graph.target(e)));
+///```
+public final class RouteGraph {
+
+    /// ### Campos
+    ///
+    /// - **`codes`:** Código de cada aeroporto.
+    /// - **`names`:** Nome de cada aeroporto.
+    /// - **`offsets`:** Início dos voos de cada aeroporto nos vetores de arestas (tamanho `n + 1`).
+    /// - **`targets`:** Identificador do aeroporto de destino de cada voo.
+    /// - **`flightNumbers`:** Número de cada voo.
+    /// - **`sources`:** Identificador do aeroporto de origem de cada voo.
+    /// - **`inOffsets`:** Início dos voos de chegada de cada aeroporto em `inEdges` (tamanho `n + 1`).
+    /// - **`inEdges`:** Posição de cada voo, agrupada pelo aeroporto de destino.
+    /// - **`parallel`:** Marca os voos que repetem o destino de um voo anterior da mesma origem.
+    /// - **`durations`, `distances`, `fares`:** Pesos de cada voo.
+    /// - **`latitudes`, `longitudes`:** Coordenadas de cada aeroporto.
+    /// - **`minWeightsPerKm`:** Menor razão peso/km de cada critério de peso.
+    /// - **`schedules`:** Horário de cada voo, ou `null`.
+    /// - **`minimumConnections`:** Tempo mínimo de conexão de cada aeroporto, em minutos.
+    /// - **`slotKeys`:** Códigos normalizados da tabela hash; `null` indica posição livre.
+    /// - **`slotIds`:** Identificador associado a cada posição de `slotKeys`.
+    /// - **`EARTH_RADIUS_KM`:** Raio médio da Terra, usado nas distâncias de círculo máximo.
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final String[] codes;
+    private final String[] names;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] flightNumbers;
+    private final int[] sources;
+    private final int[] inOffsets;
+    private final int[] inEdges;
+    private final BitSet parallel;
+    private final int[] durations;
+    private final int[] distances;
+    private final int[] fares;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] minWeightsPerKm;
+    private final FlightSchedule[] schedules;
+    private final int[] minimumConnections;
+    private final String[] slotKeys;
+    private final int[] slotIds;
+
+    /// ## RouteGraph
+    ///
+    /// Construtor privado. Use `build` para gerar um retrato a partir do cadastro de aeroportos.
+    private RouteGraph(
+            String[] codes,
+            String[] names,
+            int[] offsets,
+            int[] targets,
+            int[] flightNumbers,
+            int[] sources,
+            int[] inOffsets,
+            int[] inEdges,
+            BitSet parallel,
+            int[] durations,
+            int[] distances,
+            int[] fares,
+            double[] latitudes,
+            double[] longitudes,
+            double[] minWeightsPerKm,
+            FlightSchedule[] schedules,
+            int[] minimumConnections,
+            String[] slotKeys,
+            int[] slotIds
+    ) {
+        this.codes = codes;
+        this.names = names;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.flightNumbers = flightNumbers;
+        this.sources = sources;
+        this.inOffsets = inOffsets;
+        this.inEdges = inEdges;
+        this.parallel = parallel;
+        this.durations = durations;
+        this.distances = distances;
+        this.fares = fares;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.minWeightsPerKm = minWeightsPerKm;
+        this.schedules = schedules;
+        this.minimumConnections = minimumConnections;
+        this.slotKeys = slotKeys;
+        this.slotIds = slotIds;
+    }
+
+    /// ## build
+    ///
+    /// Gera um retrato CSR a partir do cadastro de aeroportos.
+    ///
+    /// ### Parâmetros
+    /// - **`registry`:** O cadastro de aeroportos (e, por meio dele, os voos de cada aeroporto).
+    ///
+    /// ### Retorno
+    /// - **`RouteGraph`:** O retrato imutável da malha.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Atribui identificadores densos aos aeroportos na ordem de cadastro e monta a tabela de códigos.
+    /// 2. Conta os voos de cada aeroporto para calcular `offsets` (soma de prefixos).
+    /// 3. Preenche `targets`, `flightNumbers` e os pesos, preservando a ordem das listas de voos.
+    ///    Voos cujo destino não está cadastrado são descartados. Sem distância informada, usa a
+    ///    distância de círculo máximo entre os aeroportos, quando ambos têm coordenadas.
+    /// 4. Marca em `parallel` os voos cujo destino já foi visto na mesma origem.
+    /// 5. Monta o CSR reverso (voos agrupados pelo destino) com uma contagem e uma soma de prefixos.
+    /// 6. Calcula, para cada critério de peso, a menor razão entre o peso de um voo e a distância de círculo
+    ///    máximo entre seus aeroportos (`minWeightPerKm`).
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// RouteGraph graph = RouteGraph.build(registry);
+    ///```
+    ///
+    /// @param registry O cadastro de aeroportos.
+    /// @return O retrato imutável da malha.
+    public static RouteGraph build(AirportRegistry registry) {
+        int n = registry.size();
+        String[] codes = new String[n];
+        String[] names = new String[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        int[] minimumConnections = new int[n];
+        Flight[][] flights = new Flight[n][];
+
+        // Identificadores densos na ordem de cadastro
+        int id = 0;
+        for (Airport airport : registry.getAirports()) {
+            if (id == n) break;
+            codes[id] = airport.getCode();
+            names[id] = airport.getName();
+            latitudes[id] = airport.getLatitude();
+            longitudes[id] = airport.getLongitude();
+            minimumConnections[id] = airport.getMinimumConnectionMinutes();
+            flights[id] = airport.getFlights().stream().toArray(Flight[]::new);
+            id++;
+        }
+        return assemble(codes, names, latitudes, longitudes, minimumConnections, flights);
+    }
+
+    /// ## build
+    ///
+    /// Gera um retrato CSR a partir de uma versão publicada da malha (`NetworkSnapshot`). Os identificadores
+    /// são os do próprio retrato publicado, que segue a ordem de cadastro; o resultado é idêntico ao de
+    /// `build(AirportRegistry)` sobre um cadastro com os mesmos aeroportos e voos.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// RouteGraph graph = RouteGraph.build(organizer.snapshot());
+    ///```
+    ///
+    /// @param snapshot A versão publicada da malha.
+    /// @return O retrato imutável da malha.
+    public static RouteGraph build(NetworkSnapshot snapshot) {
+        int n = snapshot.size();
+        String[] codes = new String[n];
+        String[] names = new String[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        int[] minimumConnections = new int[n];
+        Flight[][] flights = new Flight[n][];
+        for (int id = 0; id < n; id++) {
+            codes[id] = snapshot.codeOf(id);
+            names[id] = snapshot.nameOf(id);
+            latitudes[id] = snapshot.latitude(id);
+            longitudes[id] = snapshot.longitude(id);
+            minimumConnections[id] = snapshot.minimumConnection(id);
+            flights[id] = snapshot.flightArray(id);  // Vetor compartilhado: apenas lido
+        }
+        return assemble(codes, names, latitudes, longitudes, minimumConnections, flights);
+    }
+
+    /// ## assemble
+    ///
+    /// Monta o retrato a partir dos dados de cada aeroporto, já indexados pelo identificador denso
+    /// (passos 1 a 6 de `build`).
+    ///
+    /// @param codes              Código de cada aeroporto.
+    /// @param names              Nome de cada aeroporto.
+    /// @param latitudes          Latitude de cada aeroporto.
+    /// @param longitudes         Longitude de cada aeroporto.
+    /// @param minimumConnections Tempo mínimo de conexão de cada aeroporto.
+    /// @param flights            Voos de cada aeroporto, na ordem de cadastro.
+    /// @return O retrato imutável da malha.
+    private static RouteGraph assemble(String[] codes, String[] names, double[] latitudes, double[] longitudes,
+                                       int[] minimumConnections, Flight[][] flights) {
+        int n = codes.length;
+
+        // Tabela de códigos com fator de carga de no máximo 1/2
+        int capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;
+        String[] slotKeys = new String[capacity];
+        int[] slotIds = new int[capacity];
+        for (int u = 0; u < n; u++) {
+            String key = AirportRegistry.normalize(codes[u]);
+            int slot = hash(key) & (capacity - 1);
+            while (slotKeys[slot] != null)
+                slot = (slot + 1) & (capacity - 1);
+            slotKeys[slot] = key;
+            slotIds[slot] = u;
+        }
+
+        // Primeira passagem: conta os voos válidos de cada aeroporto
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            for (Flight flight : flights[u]) {
+                if (lookup(slotKeys, slotIds, flight.getDestinationCode()) >= 0)
+                    offsets[u + 1]++;
+            }
+        }
+        for (int u = 0; u < n; u++)
+            offsets[u + 1] += offsets[u];  // Soma de prefixos
+
+        // Segunda passagem: preenche destinos, números de voo e pesos
+        int[] targets = new int[offsets[n]];
+        int[] flightNumbers = new int[offsets[n]];
+        int[] durations = new int[offsets[n]];
+        int[] distances = new int[offsets[n]];
+        int[] fares = new int[offsets[n]];
+        FlightSchedule[] schedules = new FlightSchedule[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            int e = offsets[u];
+            for (Flight flight : flights[u]) {
+                int v = lookup(slotKeys, slotIds, flight.getDestinationCode());
+                if (v >= 0) {
+                    targets[e] = v;
+                    flightNumbers[e] = flight.getFlightNumber();
+                    durations[e] = flight.getBlockMinutes();
+                    fares[e] = flight.getFare();
+                    schedules[e] = flight.getSchedule();
+                    distances[e] = flight.getDistanceKm();
+                    if (distances[e] == Flight.UNKNOWN_WEIGHT && !Double.isNaN(latitudes[u]) && !Double.isNaN(latitudes[v]))
+                        distances[e] = (int) Math.round(greatCircleKm(latitudes[u], longitudes[u], latitudes[v], longitudes[v]));
+                    e++;
+                }
+            }
+        }
+
+        // Marca os voos paralelos: lastSeen[v] guarda a última origem que já tinha um voo para v
+        BitSet parallel = new BitSet(targets.length);
+        int[] lastSeen = new int[n];
+        Arrays.fill(lastSeen, -1);
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (lastSeen[targets[e]] == u) parallel.set(e);
+                else lastSeen[targets[e]] = u;
+            }
+        }
+
+        // CSR reverso: conta os voos que chegam a cada aeroporto e distribui as posições
+        int[] sources = new int[targets.length];
+        int[] inOffsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                sources[e] = u;
+                inOffsets[targets[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++)
+            inOffsets[v + 1] += inOffsets[v];  // Soma de prefixos
+        int[] inEdges = new int[targets.length];
+        int[] fill = Arrays.copyOf(inOffsets, n);
+        for (int e = 0; e < targets.length; e++)
+            inEdges[fill[targets[e]]++] = e;
+
+        // Menor razão peso/km de cada critério; um voo com peso e sem coordenadas em uma das pontas zera a razão
+        int[][] weights = new int[RouteWeight.values().length][];
+        weights[RouteWeight.DURATION.ordinal()] = durations;
+        weights[RouteWeight.DISTANCE.ordinal()] = distances;
+        weights[RouteWeight.FARE.ordinal()] = fares;
+        double[] minWeightsPerKm = new double[weights.length];
+        Arrays.fill(minWeightsPerKm, Double.POSITIVE_INFINITY);
+        for (int e = 0; e < targets.length; e++) {
+            int u = sources[e];
+            int v = targets[e];
+            double km = (Double.isNaN(latitudes[u]) || Double.isNaN(latitudes[v]))
+                    ? Double.NaN
+                    : greatCircleKm(latitudes[u], longitudes[u], latitudes[v], longitudes[v]);
+            for (int w = 0; w < weights.length; w++) {
+                if (weights[w][e] == Flight.UNKNOWN_WEIGHT) continue;  // Voo ignorado pelas buscas deste critério
+                if (Double.isNaN(km)) minWeightsPerKm[w] = 0;
+                else if (km > 0) minWeightsPerKm[w] = Math.min(minWeightsPerKm[w], (double) weights[w][e] / km);
+            }
+        }
+
+        return new RouteGraph(
+                codes, names, offsets, targets, flightNumbers, sources, inOffsets, inEdges, parallel,
+                durations, distances, fares, latitudes, longitudes, minWeightsPerKm, schedules, minimumConnections,
+                slotKeys, slotIds
+        );
+    }
+
+    /// ## size
+    ///
+    /// Retorna a quantidade de aeroportos do retrato.
+    ///
+    /// @return A quantidade de aeroportos.
+    public int size() {
+        return codes.length;
+    }
+
+    /// ## edgeCount
+    ///
+    /// Retorna a quantidade de voos do retrato.
+    ///
+    /// @return A quantidade de voos.
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /// ## idOf
+    ///
+    /// Retorna o identificador denso do aeroporto com o código informado (sem diferenciar maiúsculas/minúsculas).
+    ///
+    /// @param code O código do aeroporto.
+    /// @return O identificador do aeroporto ou `-1` se o código não estiver no retrato.
+    public int idOf(String code) {
+        if (code == null) return -1;
+        return lookup(slotKeys, slotIds, code);
+    }
+
+    /// ## codeOf
+    ///
+    /// Retorna o código do aeroporto com o identificador informado.
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O código do aeroporto.
+    public String codeOf(int id) {
+        return codes[id];
+    }
+
+    /// ## nameOf
+    ///
+    /// Retorna o nome do aeroporto com o identificador informado.
+    ///
+    /// @param id O identificador do aeroporto.
+    /// @return O nome do aeroporto.
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    /// ## edgeStart
+    ///
+    /// Retorna a posição do primeiro voo do aeroporto `u` nos vetores de arestas.
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return A posição do primeiro voo de `u`.
+    public int edgeStart(int u) {
+        return offsets[u];
+    }
+
+    /// ## edgeEnd
+    ///
+    /// Retorna a posição seguinte ao último voo do aeroporto `u` nos vetores de arestas.
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return A posição seguinte ao último voo de `u`.
+    public int edgeEnd(int u) {
+        return offsets[u + 1];
+    }
+
+    /// ## target
+    ///
+    /// Retorna o identificador do aeroporto de destino do voo `e`.
+    ///
+    /// @param e A posição do voo nos vetores de arestas.
+    /// @return O identificador do aeroporto de destino.
+    public int target(int e) {
+        return targets[e];
+    }
+
+    /// ## flightNumber
+    ///
+    /// Retorna o número do voo `e`.
+    ///
+    /// @param e A posição do voo nos vetores de arestas.
+    /// @return O número do voo.
+    public int flightNumber(int e) {
+        return flightNumbers[e];
+    }
+
+    /// ## isParallel
+    ///
+    /// Indica se o voo `e` repete o par origem/destino de um voo anterior da mesma origem. Buscas que
+    /// trabalham com sequências de aeroportos (e não de voos) podem ignorar esses voos.
+    ///
+    /// @param e A posição do voo nos vetores de arestas.
+    /// @return `true` se um voo anterior da mesma origem já vai para o mesmo destino.
+    public boolean isParallel(int e) {
+        return parallel.get(e);
+    }
+
+    /// ## weight
+    ///
+    /// Retorna o peso do voo `e` segundo o critério informado.
+    ///
+    /// @param e      A posição do voo nos vetores de arestas.
+    /// @param weight O critério de peso.
+    /// @return O peso do voo, ou `Flight.UNKNOWN_WEIGHT` se não informado.
+    public int weight(int e, RouteWeight weight) {
+        return switch (weight) {
+            case DURATION -> durations[e];
+            case DISTANCE -> distances[e];
+            case FARE -> fares[e];
+        };
+    }
+
+    /// ## minWeightPerKm
+    ///
+    /// Retorna a menor razão entre o peso de um voo e a distância de círculo máximo entre seus aeroportos, entre
+    /// todos os voos do retrato que têm o peso informado. Nenhum trajeto custa menos que essa razão vezes a
+    /// distância de círculo máximo entre as suas pontas, então uma estimativa do A* limitada por ela nunca supera
+    /// o custo real, mesmo que os pesos digitados não sejam coerentes com as coordenadas.
+    ///
+    /// @param weight O critério de peso.
+    /// @return A razão (`0` se algum voo com o peso informado ligar um aeroporto sem coordenadas;
+    ///         `POSITIVE_INFINITY` se nenhum voo limitar a razão).
+    public double minWeightPerKm(RouteWeight weight) {
+        return minWeightsPerKm[weight.ordinal()];
+    }
+
+    /// ## hasCoordinates
+    ///
+    /// Informa se o aeroporto `u` tem coordenadas.
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return `true` se o aeroporto tem coordenadas.
+    public boolean hasCoordinates(int u) {
+        return !Double.isNaN(latitudes[u]);
+    }
+
+    /// ## latitude
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return A latitude do aeroporto em graus, ou `NaN` se não informada.
+    public double latitude(int u) {
+        return latitudes[u];
+    }
+
+    /// ## longitude
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return A longitude do aeroporto em graus, ou `NaN` se não informada.
+    public double longitude(int u) {
+        return longitudes[u];
+    }
+
+    /// ## schedule
+    ///
+    /// @param e A posição do voo nos vetores de arestas.
+    /// @return O horário do voo, ou `null` se o voo não tem horário.
+    public FlightSchedule schedule(int e) {
+        return schedules[e];
+    }
+
+    /// ## inEdgeStart
+    ///
+    /// Retorna a primeira posição dos voos que chegam ao aeroporto `v` no CSR reverso.
+    ///
+    /// @param v O identificador do aeroporto.
+    /// @return A posição inicial (inclusiva) dos voos de chegada.
+    public int inEdgeStart(int v) {
+        return inOffsets[v];
+    }
+
+    /// ## inEdgeEnd
+    ///
+    /// Retorna a posição seguinte à do último voo que chega ao aeroporto `v` no CSR reverso.
+    ///
+    /// @param v O identificador do aeroporto.
+    /// @return A posição final (exclusiva) dos voos de chegada.
+    public int inEdgeEnd(int v) {
+        return inOffsets[v + 1];
+    }
+
+    /// ## inEdge
+    ///
+    /// Converte uma posição do CSR reverso na posição do voo, aceita por `target`, `source`, `weight` etc.
+    ///
+    /// @param i A posição no CSR reverso.
+    /// @return A posição do voo.
+    public int inEdge(int i) {
+        return inEdges[i];
+    }
+
+    /// ## source
+    ///
+    /// @param e A posição do voo.
+    /// @return O identificador do aeroporto de origem do voo.
+    public int source(int e) {
+        return sources[e];
+    }
+
+    /// ## minimumConnection
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return O tempo mínimo de conexão do aeroporto, em minutos.
+    public int minimumConnection(int u) {
+        return minimumConnections[u];
+    }
+
+    /// ## greatCircleKm
+    ///
+    /// Calcula a distância de círculo máximo entre dois pontos (fórmula de haversine), em quilômetros.
+    ///
+    /// @param lat1 Latitude do primeiro ponto, em graus.
+    /// @param lon1 Longitude do primeiro ponto, em graus.
+    /// @param lat2 Latitude do segundo ponto, em graus.
+    /// @param lon2 Longitude do segundo ponto, em graus.
+    /// @return A distância em quilômetros.
+    static double greatCircleKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /// ## lookup
+    ///
+    /// Procura um código na tabela hash de códigos.
+    ///
+    /// @param slotKeys Códigos normalizados da tabela.
+    /// @param slotIds  Identificadores associados.
+    /// @param code     O código procurado (não normalizado).
+    /// @return O identificador do aeroporto ou `-1` se não for encontrado.
+    private static int lookup(String[] slotKeys, int[] slotIds, String code) {
+        String key = AirportRegistry.normalize(code);
+        int mask = slotKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (slotKeys[slot] != null) {
+            if (slotKeys[slot].equals(key)) return slotIds[slot];
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /// ## hash
+    ///
+    /// Espalha os bits altos do `hashCode` da chave.
+    ///
+    /// @param key A chave normalizada.
+    /// @return O hash espalhado.
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
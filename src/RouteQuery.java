@@ -0,0 +1,24 @@
+/// # RouteQuery
+///
+/// Uma consulta de rota em lote: o par de códigos de origem e destino. Usada por
+/// `FlightOrganizer.findRoutes`, que responde listas (ou fluxos) de consultas de uma só vez.
+///
+/// ## Uso
+/// ```java
+/// List<RouteQuery> queries = List.of(new RouteQuery("GRU", "SSA"), new RouteQuery("GRU", "BSB"));
+/// List<Itinerary> routes = organizer.findRoutes(queries, RouteWeight.FARE);
+///```
+///
+/// @param origin      Código do aeroporto de origem.
+/// @param destination Código do aeroporto de destino.
+public record RouteQuery(String origin, String destination) {
+
+    /// ## RouteQuery
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se algum dos códigos for `null`.
+    public RouteQuery {
+        if (origin == null || destination == null)
+            throw new IllegalArgumentException("Código de origem ou destino não pode ser nulo");
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/// # RouteQueryCache
+///
+/// A classe `RouteQueryCache` guarda os resultados das consultas de rotas mais recentes, indexados por
+/// origem, destino, tipo de consulta e limites. Uma consulta repetida custa uma única busca na tabela hash.
+/// A cache é invalidada pela versão da malha: cada acesso informa a versão (`NetworkSnapshot.version`) sobre a
+/// qual o resultado foi ou será calculado. Um acesso com uma versão mais nova descarta todos os resultados; um
+/// acesso com uma versão mais antiga (um leitor que ainda consulta a versão anterior) não usa nem altera a cache.
+///
+/// ## Funcionalidades
+/// - **Consulta com cálculo sob demanda (`computeIfAbsent`):** Retorna o resultado guardado ou calcula e guarda
+///   o novo resultado (inclusive `null`, para consultas sem trajeto).
+/// - **Listagens (`lookupTranscript`, `storeTranscript`):** Guarda as linhas exibidas por uma listagem, para
+///   reexibi-las sem refazer a busca.
+///
+/// ## Estrutura Interna
+/// - **`entries`:** `LinkedHashMap` em ordem de acesso; ao passar de `capacity` entradas, a menos usada
+///   recentemente (LRU) é descartada.
+/// - **`version`:** Versão da malha a que as entradas pertencem; só avança.
+/// - A cache pode ser usada por várias threads: o acesso às entradas é sincronizado, mas o cálculo de uma
+///   consulta ausente é feito fora do bloqueio, de modo que consultas diferentes não esperam umas pelas outras.
+///
+/// ## Uso
+/// ```java
+/// RouteQueryCache cache = new RouteQueryCache(256);
+/// RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.SHORTEST, "GRU", "SSA", 0, 0);
+/// Itinerary itinerary = cache.computeIfAbsent(version, key, () -> RouteSearch.shortestHops(graph, gru, ssa));
+///```
+public final class RouteQueryCache {
+
+    /// ## Kind
+    ///
+    /// Tipos de consulta guardados na cache.
+    public enum Kind {
+        PATHS, ALL_COMBINATIONS, FEASIBLE_COMBINATIONS, SHORTEST, CHEAPEST, CHEAPEST_A_STAR,
+        K_SHORTEST, EARLIEST_ARRIVAL, PARALLEL_COUNT, PARETO
+    }
+
+    /// ## Key
+    ///
+    /// Chave de uma consulta. Os códigos são normalizados, de modo que `gru` e `GRU` usam a mesma entrada.
+    ///
+    /// @param kind        O tipo de consulta.
+    /// @param origin      Código normalizado do aeroporto de origem.
+    /// @param destination Código normalizado do aeroporto de destino.
+    /// @param limit       Primeiro limite ou parâmetro da consulta (por exemplo, `k` ou o instante de partida).
+    /// @param option      Segundo parâmetro da consulta (por exemplo, o critério de peso).
+    public record Key(Kind kind, String origin, String destination, long limit, long option) {
+
+        /// ## Key
+        ///
+        /// Normaliza os códigos dos aeroportos.
+        public Key {
+            origin = AirportRegistry.normalize(origin);
+            destination = AirportRegistry.normalize(destination);
+        }
+    }
+
+    /// ### Campos
+    ///
+    /// - **`DEFAULT_CAPACITY`:** Quantidade padrão de consultas guardadas.
+    /// - **`MAX_TRANSCRIPT_LINES`:** Listagens com mais linhas que isso não são guardadas.
+    /// - **`NO_RESULT`:** Marca uma consulta já calculada cujo resultado é `null`.
+    /// - **`capacity`, `entries`, `version`:** Capacidade, entradas em ordem de acesso e versão da malha.
+    /// - **`hits`, `misses`:** Contadores de acertos e falhas, para acompanhamento.
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int MAX_TRANSCRIPT_LINES = 10_000;
+    private static final Object NO_RESULT = new Object();
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Object> entries;
+    private long version;
+    private long hits;
+    private long misses;
+
+    /// ## RouteQueryCache
+    ///
+    /// Cria uma cache vazia com a capacidade informada.
+    ///
+    /// ### Exceções
+    /// - **`IllegalArgumentException`:** Se a capacidade for menor que 1.
+    ///
+    /// @param capacity A quantidade máxima de consultas guardadas.
+    public RouteQueryCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade da cache inválida");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > RouteQueryCache.this.capacity;  // Descarta a entrada menos usada recentemente
+            }
+        };
+    }
+
+    /// ## computeIfAbsent
+    ///
+    /// Retorna o resultado guardado para a consulta ou, se não houver (ou se a malha mudou), calcula-o com
+    /// `query` e o guarda. Resultados `null` também são guardados. O resultado só é guardado se `version`
+    /// ainda for a versão da cache ao final do cálculo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = cache.computeIfAbsent(version, key, () -> RouteSearch.shortestHops(graph, gru, ssa));
+    ///```
+    ///
+    /// @param version A versão da malha sobre a qual `query` calcula o resultado.
+    /// @param key     A chave da consulta.
+    /// @param query   O cálculo da consulta.
+    /// @param <T>     O tipo do resultado.
+    /// @return O resultado da consulta.
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(long version, Key key, Supplier<T> query) {
+        Object cached = lookup(version, key);
+        if (cached != null) return (cached == NO_RESULT) ? null : (T) cached;
+
+        T result = query.get();  // Fora do bloqueio
+        store(version, key, (result == null) ? NO_RESULT : result);
+        return result;
+    }
+
+    /// ## lookupTranscript
+    ///
+    /// Retorna as linhas guardadas de uma listagem.
+    ///
+    /// @param version A versão da malha consultada pela listagem.
+    /// @param key     A chave da listagem.
+    /// @return As linhas exibidas pela listagem, ou `null` se não estiverem na cache.
+    @SuppressWarnings("unchecked")
+    public synchronized List<String> lookupTranscript(long version, Key key) {
+        Object cached = checkVersion(version) ? entries.get(key) : null;
+        if (cached instanceof List<?>) {
+            hits++;
+            return (List<String>) cached;
+        }
+        misses++;
+        return null;
+    }
+
+    /// ## storeTranscript
+    ///
+    /// Guarda as linhas de uma listagem, se ela estiver completa (não passou de `MAX_TRANSCRIPT_LINES`).
+    ///
+    /// @param version    A versão da malha em que a listagem foi calculada.
+    /// @param key        A chave da listagem.
+    /// @param transcript As linhas exibidas.
+    public void storeTranscript(long version, Key key, Transcript transcript) {
+        if (transcript.isComplete()) store(version, key, List.copyOf(transcript.lines));
+    }
+
+    /// ## size
+    ///
+    /// @return A quantidade de consultas guardadas.
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /// ## getHits
+    ///
+    /// @return A quantidade de consultas respondidas pela cache.
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /// ## getMisses
+    ///
+    /// @return A quantidade de consultas que precisaram ser calculadas.
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /// ## lookup
+    ///
+    /// @param version A versão da malha consultada.
+    /// @param key     A chave da consulta.
+    /// @return O valor guardado (`NO_RESULT` para resultados `null`), ou `null` se não houver.
+    private synchronized Object lookup(long version, Key key) {
+        Object cached = checkVersion(version) ? entries.get(key) : null;
+        if (cached != null) hits++;
+        else misses++;
+        return cached;
+    }
+
+    /// ## store
+    ///
+    /// Guarda um valor, desde que a versão em que ele foi calculado ainda seja a versão da cache.
+    ///
+    /// @param version A versão da malha em que o valor foi calculado.
+    /// @param key     A chave da consulta.
+    /// @param value   O valor a guardar.
+    private synchronized void store(long version, Key key, Object value) {
+        if (checkVersion(version)) entries.put(key, value);
+    }
+
+    /// ## checkVersion
+    ///
+    /// Descarta todas as entradas se a versão informada for mais nova que a da cache.
+    ///
+    /// @param version A versão da malha do acesso.
+    /// @return `true` se a versão informada é a versão da cache; `false` se for mais antiga.
+    private boolean checkVersion(long version) {
+        if (version > this.version) {
+            entries.clear();
+            this.version = version;
+        }
+        return version == this.version;
+    }
+
+    /// ## Transcript
+    ///
+    /// Saída de uma listagem: exibe cada linha e a registra, até `MAX_TRANSCRIPT_LINES` linhas. Acima disso,
+    /// continua exibindo, mas deixa de registrar e a listagem não é guardada.
+    public static final class Transcript {
+
+        /// ### Campos
+        ///
+        /// - **`lines`:** As linhas registradas.
+        /// - **`complete`:** `false` se alguma linha deixou de ser registrada.
+        private final List<String> lines = new ArrayList<>();
+        private boolean complete = true;
+
+        /// ## println
+        ///
+        /// Exibe a linha e a registra.
+        ///
+        /// @param line A linha a exibir.
+        public void println(Object line) {
+            String text = String.valueOf(line);
+            System.out.println(text);
+            if (!complete) return;
+            if (lines.size() < MAX_TRANSCRIPT_LINES) lines.add(text);
+            else {
+                complete = false;  // Grande demais para a cache: descarta o que já foi registrado
+                lines.clear();
+            }
+        }
+
+        /// ## isComplete
+        ///
+        /// @return `true` se todas as linhas exibidas foram registradas.
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+}
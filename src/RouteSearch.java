@@ -0,0 +1,537 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/// # RouteSearch
+///
+/// A classe `RouteSearch` reúne as buscas de rotas executadas sobre o retrato CSR da malha
+/// (`RouteGraph`). As buscas trabalham apenas com identificadores inteiros e vetores primitivos,
+/// e devolvem os resultados como `Itinerary`.
+///
+/// ## Funcionalidades
+/// - **Menor número de conexões (`shortestHops`):** Busca em largura (BFS) em O(V + E).
+/// - **Menor custo (`cheapest`):** Algoritmo de Dijkstra com heap binário indexado, em O((V + E) log V).
+/// - **Menor custo guiado (`cheapestAStar`):** A* com a distância de círculo máximo até o destino como heurística.
+/// - **Buscas bidirecionais (`shortestHopsBidirectional`, `cheapestBidirectional`):** Avançam a partir da origem
+///   e, pelo CSR reverso, a partir do destino, até as duas buscas se encontrarem. Em malhas com grandes hubs,
+///   cada lado só precisa chegar até o hub, visitando uma pequena fração dos aeroportos.
+///
+/// ## Uso
+/// ```java
+/// RouteGraph graph = RouteGraph.build(registry);
+/// Itinerary itinerary = RouteSearch.shortestHops(graph, graph.idOf("GRU"), graph.idOf("SSA"));
+///```
+public final class RouteSearch {
+
+    /// ### Campos
+    ///
+    /// - **`MAX_GROUND_SPEED_KMH`:** Velocidade de solo máxima considerada pela heurística de duração;
+    ///   um voo digitado mais rápido que isso reduz a taxa da heurística (`estimateRate`).
+    private static final double MAX_GROUND_SPEED_KMH = 1200;
+
+    /// ## RouteSearch
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private RouteSearch() {
+    }
+
+    /// ## shortestHops
+    ///
+    /// Encontra um trajeto com o menor número de trechos (conexões) entre dois aeroportos,
+    /// usando busca em largura (BFS).
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    ///
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto ótimo em número de trechos, ou `null` se o destino for inalcançável.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Usa um vetor `int[]` como fila: cada aeroporto entra na fila no máximo uma vez, então
+    ///    `n` posições bastam e não há deslocamento de elementos ao desenfileirar.
+    /// 2. Para cada aeroporto desenfileirado, percorre seus voos e registra, para cada destino ainda
+    ///    não descoberto, o aeroporto e o voo pelos quais foi alcançado.
+    /// 3. Interrompe a busca assim que o destino é descoberto e reconstrói o trajeto pelos predecessores.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = RouteSearch.shortestHops(graph, graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return Um trajeto com o menor número de trechos, ou `null` se o destino for inalcançável.
+    public static Itinerary shortestHops(RouteGraph graph, int source, int dest) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+
+        int[] prevNode = new int[n];  // Aeroporto a partir do qual cada aeroporto foi descoberto
+        int[] prevEdge = new int[n];  // Voo usado para descobrir cada aeroporto (-1 = não descoberto)
+        Arrays.fill(prevEdge, -1);
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        boolean found = (source == dest);
+        prevEdge[source] = Integer.MAX_VALUE;  // Marca a origem como descoberta
+
+        while (head < tail && !found) {
+            int u = queue[head++];
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int v = graph.target(e);
+                if (prevEdge[v] != -1) continue;  // Já descoberto
+
+                prevEdge[v] = e;
+                prevNode[v] = u;
+                if (v == dest) {
+                    found = true;
+                    break;
+                }
+                queue[tail++] = v;
+            }
+        }
+
+        if (!found) return null;
+
+        // Conta os trechos e reconstrói o trajeto do destino para a origem
+        int hops = 0;
+        for (int v = dest; v != source; v = prevNode[v])
+            hops++;
+
+        int[] edges = new int[hops];
+        int i = hops;
+        for (int v = dest; v != source; v = prevNode[v])
+            edges[--i] = prevEdge[v];
+
+        return Itinerary.fromEdges(graph, source, edges, hops);
+    }
+
+    /// ## shortestHopsBidirectional
+    ///
+    /// Encontra um trajeto com o menor número de trechos por busca em largura bidirecional: uma BFS para a
+    /// frente, a partir da origem, e outra para trás, a partir do destino, pelos voos de chegada.
+    ///
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto ótimo em número de trechos (com a mesma quantidade de trechos de
+    ///   `shortestHops`), ou `null` se o destino for inalcançável.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Em cada rodada, expande uma camada inteira do lado com a menor fronteira.
+    /// 2. Cada aeroporto descoberto que já foi alcançado pelo outro lado é um ponto de encontro candidato;
+    ///    guarda o de menor soma das duas distâncias.
+    /// 3. Ao fim da primeira camada que produz um encontro, o melhor candidato é ótimo: nenhuma camada
+    ///    anterior encontrou o outro lado, então não há trajeto mais curto.
+    /// 4. Reconstrói a primeira metade pelos voos de chegada da busca direta e a segunda pelos voos de
+    ///    saída da busca reversa.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = RouteSearch.shortestHopsBidirectional(graph, graph.idOf("GRU"), graph.idOf("SSA"));
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return Um trajeto com o menor número de trechos, ou `null` se o destino for inalcançável.
+    public static Itinerary shortestHopsBidirectional(RouteGraph graph, int source, int dest) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (source == dest) return Itinerary.fromEdges(graph, source, new int[0], 0);
+
+        int[] forwardDist = new int[n];   // Trechos desde a origem (-1 = não descoberto)
+        int[] backwardDist = new int[n];  // Trechos até o destino (-1 = não descoberto)
+        int[] forwardEdge = new int[n];   // Voo pelo qual a busca direta chegou a cada aeroporto
+        int[] backwardEdge = new int[n];  // Voo pelo qual a busca reversa saiu de cada aeroporto
+        Arrays.fill(forwardDist, -1);
+        Arrays.fill(backwardDist, -1);
+
+        int[] forwardQueue = new int[n];
+        int[] backwardQueue = new int[n];
+        int forwardHead = 0;
+        int forwardTail = 0;
+        int backwardHead = 0;
+        int backwardTail = 0;
+        forwardQueue[forwardTail++] = source;
+        backwardQueue[backwardTail++] = dest;
+        forwardDist[source] = 0;
+        backwardDist[dest] = 0;
+
+        int best = Integer.MAX_VALUE;
+        int meet = -1;
+        while (meet < 0 && forwardHead < forwardTail && backwardHead < backwardTail) {
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int layerEnd = forwardTail;  // Expande a camada atual inteira
+                for (; forwardHead < layerEnd; forwardHead++) {
+                    int u = forwardQueue[forwardHead];
+                    for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                        int v = graph.target(e);
+                        if (forwardDist[v] != -1) continue;
+
+                        forwardDist[v] = forwardDist[u] + 1;
+                        forwardEdge[v] = e;
+                        forwardQueue[forwardTail++] = v;
+                        if (backwardDist[v] != -1 && forwardDist[v] + backwardDist[v] < best) {
+                            best = forwardDist[v] + backwardDist[v];
+                            meet = v;
+                        }
+                    }
+                }
+            } else {
+                int layerEnd = backwardTail;
+                for (; backwardHead < layerEnd; backwardHead++) {
+                    int v = backwardQueue[backwardHead];
+                    for (int i = graph.inEdgeStart(v); i < graph.inEdgeEnd(v); i++) {
+                        int e = graph.inEdge(i);
+                        int u = graph.source(e);
+                        if (backwardDist[u] != -1) continue;
+
+                        backwardDist[u] = backwardDist[v] + 1;
+                        backwardEdge[u] = e;
+                        backwardQueue[backwardTail++] = u;
+                        if (forwardDist[u] != -1 && forwardDist[u] + backwardDist[u] < best) {
+                            best = forwardDist[u] + backwardDist[u];
+                            meet = u;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (meet < 0) return null;
+        return join(graph, source, dest, meet, forwardEdge, backwardEdge, best, -1);
+    }
+
+    /// ## cheapest
+    ///
+    /// Encontra o trajeto de menor custo entre dois aeroportos segundo um critério de peso, usando o
+    /// algoritmo de Dijkstra.
+    ///
+    /// ### Parâmetros
+    /// - **`graph`:** O retrato CSR da malha.
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`weight`:** O critério de peso (duração, distância ou tarifa).
+    ///
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto de menor custo (com `getCost` preenchido), ou `null` se o destino for
+    ///   inalcançável por voos com o peso informado.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Mantém a menor distância conhecida de cada aeroporto em um `long[]` e a fronteira em um `NodeHeap`.
+    /// 2. Remove do heap o aeroporto de menor distância e relaxa seus voos; voos sem o peso informado
+    ///    (`Flight.UNKNOWN_WEIGHT`) são ignorados.
+    /// 3. Interrompe a busca quando o destino sai do heap e reconstrói o trajeto pelos predecessores.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = RouteSearch.cheapest(graph, graph.idOf("GRU"), graph.idOf("SSA"), RouteWeight.FARE);
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @param weight O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se o destino for inalcançável.
+    public static Itinerary cheapest(RouteGraph graph, int source, int dest, RouteWeight weight) {
+        return weightedSearch(graph, source, dest, weight, false);
+    }
+
+    /// ## cheapestAStar
+    ///
+    /// Encontra o trajeto de menor custo entre dois aeroportos usando A*: igual a `cheapest`, mas a fronteira
+    /// é ordenada pela distância já percorrida mais uma estimativa otimista do restante, calculada pela
+    /// distância de círculo máximo até o destino. Com coordenadas, explora menos aeroportos que Dijkstra.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. A estimativa é a distância de círculo máximo (`DISTANCE`) ou o tempo para percorrê-la a
+    ///    `MAX_GROUND_SPEED_KMH` (`DURATION`); para `FARE`, ou sem coordenadas, é zero (equivale a Dijkstra).
+    /// 2. A taxa por km da estimativa nunca passa de `RouteGraph.minWeightPerKm`: se algum voo tiver peso menor
+    ///    que a sua distância (ou tempo de voo) de círculo máximo, a estimativa encolhe na mesma proporção, e o
+    ///    resultado continua ótimo. Um voo com peso entre aeroportos sem coordenadas reduz a busca a Dijkstra.
+    /// 3. Um aeroporto já removido do heap volta a ele se for alcançado por um caminho mais barato, o que
+    ///    mantém o resultado ótimo mesmo quando a estimativa não é consistente.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = RouteSearch.cheapestAStar(graph, graph.idOf("GRU"), graph.idOf("SSA"), RouteWeight.DISTANCE);
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @param weight O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se o destino for inalcançável.
+    public static Itinerary cheapestAStar(RouteGraph graph, int source, int dest, RouteWeight weight) {
+        return weightedSearch(graph, source, dest, weight, true);
+    }
+
+    /// ## cheapestBidirectional
+    ///
+    /// Encontra o trajeto de menor custo entre dois aeroportos com o algoritmo de Dijkstra bidirecional:
+    /// uma busca a partir da origem e outra, pelos voos de chegada, a partir do destino.
+    ///
+    /// ### Retorno
+    /// - **`Itinerary`:** Um trajeto de menor custo (com `getCost` preenchido, igual ao de `cheapest`), ou
+    ///   `null` se o destino for inalcançável por voos com o peso informado.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Em cada passo, remove o aeroporto do lado cujo heap tem a menor prioridade e relaxa seus voos
+    ///    (de saída, na busca direta; de chegada, na reversa). Voos sem o peso informado são ignorados.
+    /// 2. Cada voo relaxado que liga um aeroporto alcançado pelos dois lados atualiza `mu`, o custo do
+    ///    melhor trajeto completo conhecido.
+    /// 3. Encerra quando a soma dos topos dos dois heaps atinge `mu`: nenhum trajeto ainda não visto pode
+    ///    custar menos.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Itinerary itinerary = RouteSearch.cheapestBidirectional(graph, graph.idOf("GRU"), graph.idOf("SSA"), RouteWeight.FARE);
+    ///```
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @param weight O critério de peso.
+    /// @return Um trajeto de menor custo, ou `null` se o destino for inalcançável.
+    public static Itinerary cheapestBidirectional(RouteGraph graph, int source, int dest, RouteWeight weight) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+        if (source == dest) return Itinerary.fromEdges(graph, source, new int[0], 0, 0);
+
+        long[] forwardDist = new long[n];
+        long[] backwardDist = new long[n];
+        Arrays.fill(forwardDist, Long.MAX_VALUE);
+        Arrays.fill(backwardDist, Long.MAX_VALUE);
+        int[] forwardEdge = new int[n];
+        int[] backwardEdge = new int[n];
+        BitSet forwardDone = new BitSet(n);
+        BitSet backwardDone = new BitSet(n);
+
+        NodeHeap forward = new NodeHeap(n);
+        NodeHeap backward = new NodeHeap(n);
+        forwardDist[source] = 0;
+        backwardDist[dest] = 0;
+        forward.offer(source, 0);
+        backward.offer(dest, 0);
+
+        long mu = Long.MAX_VALUE;  // Custo do melhor trajeto completo conhecido
+        int meet = -1;
+        while (!forward.isEmpty() && !backward.isEmpty()) {
+            long forwardTop = forward.peekPriority();
+            long backwardTop = backward.peekPriority();
+            if (mu != Long.MAX_VALUE && forwardTop + backwardTop >= mu) break;  // Nenhum trajeto restante é melhor
+
+            if (forwardTop <= backwardTop) {
+                int u = forward.poll();
+                forwardDone.set(u);
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int w = graph.weight(e, weight);
+                    if (w == Flight.UNKNOWN_WEIGHT) continue;
+
+                    int v = graph.target(e);
+                    long candidate = forwardDist[u] + w;
+                    if (backwardDist[v] != Long.MAX_VALUE && candidate + backwardDist[v] < mu) {
+                        mu = candidate + backwardDist[v];
+                        meet = v;
+                        forwardEdge[v] = e;  // O encontro em v passa por este voo
+                    }
+                    if (forwardDone.get(v) || candidate >= forwardDist[v]) continue;
+
+                    forwardDist[v] = candidate;
+                    forwardEdge[v] = e;
+                    forward.offer(v, candidate);
+                }
+            } else {
+                int v = backward.poll();
+                backwardDone.set(v);
+                for (int i = graph.inEdgeStart(v); i < graph.inEdgeEnd(v); i++) {
+                    int e = graph.inEdge(i);
+                    int w = graph.weight(e, weight);
+                    if (w == Flight.UNKNOWN_WEIGHT) continue;
+
+                    int u = graph.source(e);
+                    long candidate = backwardDist[v] + w;
+                    if (forwardDist[u] != Long.MAX_VALUE && candidate + forwardDist[u] < mu) {
+                        mu = candidate + forwardDist[u];
+                        meet = u;
+                        backwardEdge[u] = e;  // O encontro em u passa por este voo
+                    }
+                    if (backwardDone.get(u) || candidate >= backwardDist[u]) continue;
+
+                    backwardDist[u] = candidate;
+                    backwardEdge[u] = e;
+                    backward.offer(u, candidate);
+                }
+            }
+        }
+
+        if (meet < 0) return null;
+        return join(graph, source, dest, meet, forwardEdge, backwardEdge, -1, mu);
+    }
+
+    /// ## weightedSearch
+    ///
+    /// Implementação comum de Dijkstra e A*.
+    ///
+    /// @param graph   O retrato CSR da malha.
+    /// @param source  Identificador do aeroporto de origem.
+    /// @param dest    Identificador do aeroporto de destino.
+    /// @param weight  O critério de peso.
+    /// @param guided  `true` para usar a heurística de círculo máximo (A*).
+    /// @return Um trajeto de menor custo, ou `null` se o destino for inalcançável.
+    private static Itinerary weightedSearch(RouteGraph graph, int source, int dest, RouteWeight weight, boolean guided) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        double rate = guided ? estimateRate(graph, weight) : 0;  // Custo mínimo por km de círculo máximo
+        guided = rate > 0;
+        long[] estimate = guided ? new long[n] : null;  // Heurística de cada aeroporto (-1 = não calculada)
+        if (guided) Arrays.fill(estimate, -1);
+
+        int[] prevNode = new int[n];
+        int[] prevEdge = new int[n];
+
+        NodeHeap heap = new NodeHeap(n);
+        dist[source] = 0;
+        heap.offer(source, guided ? estimate(graph, source, dest, rate, estimate) : 0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            if (u == dest) break;  // O destino sai do heap com o custo final
+
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int w = graph.weight(e, weight);
+                if (w == Flight.UNKNOWN_WEIGHT) continue;  // Voo sem o peso do critério
+
+                int v = graph.target(e);
+                long candidate = dist[u] + w;
+                if (candidate >= dist[v]) continue;
+
+                dist[v] = candidate;
+                prevNode[v] = u;
+                prevEdge[v] = e;
+                heap.offer(v, guided ? candidate + estimate(graph, v, dest, rate, estimate) : candidate);
+            }
+        }
+
+        if (dist[dest] == Long.MAX_VALUE) return null;
+
+        int hops = 0;
+        for (int v = dest; v != source; v = prevNode[v])
+            hops++;
+
+        int[] edges = new int[hops];
+        int i = hops;
+        for (int v = dest; v != source; v = prevNode[v])
+            edges[--i] = prevEdge[v];
+
+        return Itinerary.fromEdges(graph, source, edges, hops, dist[dest]);
+    }
+
+    /// ## join
+    ///
+    /// Reconstrói o trajeto de uma busca bidirecional: da origem ao ponto de encontro pelos voos de chegada
+    /// da busca direta e do ponto de encontro ao destino pelos voos de saída da busca reversa.
+    ///
+    /// @param graph        O retrato CSR da malha.
+    /// @param source       Identificador do aeroporto de origem.
+    /// @param dest         Identificador do aeroporto de destino.
+    /// @param meet         O ponto de encontro.
+    /// @param forwardEdge  Voo de chegada de cada aeroporto na busca direta.
+    /// @param backwardEdge Voo de saída de cada aeroporto na busca reversa.
+    /// @param hops         A quantidade de trechos, ou `-1` para contá-la.
+    /// @param cost         O custo total do trajeto, ou `-1` se não for uma busca ponderada.
+    /// @return O trajeto completo.
+    private static Itinerary join(
+            RouteGraph graph,
+            int source,
+            int dest,
+            int meet,
+            int[] forwardEdge,
+            int[] backwardEdge,
+            int hops,
+            long cost
+    ) {
+        int head = 0;
+        for (int v = meet; v != source; v = graph.source(forwardEdge[v]))
+            head++;
+        if (hops < 0) {
+            hops = head;
+            for (int u = meet; u != dest; u = graph.target(backwardEdge[u]))
+                hops++;
+        }
+
+        int[] edges = new int[hops];
+        int i = head;
+        for (int v = meet; v != source; v = graph.source(forwardEdge[v]))
+            edges[--i] = forwardEdge[v];
+        i = head;
+        for (int u = meet; u != dest; u = graph.target(backwardEdge[u]))
+            edges[i++] = backwardEdge[u];
+
+        return Itinerary.fromEdges(graph, source, edges, hops, cost);
+    }
+
+    /// ## estimateRate
+    ///
+    /// Calcula o custo mínimo por km de círculo máximo usado pela heurística: `1` (`DISTANCE`) ou
+    /// `60 / MAX_GROUND_SPEED_KMH` minutos (`DURATION`), limitado pela menor razão peso/km dos voos do retrato.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param weight O critério de peso.
+    /// @return A taxa (`0` para `FARE` ou quando nenhuma estimativa positiva é segura).
+    private static double estimateRate(RouteGraph graph, RouteWeight weight) {
+        double nominal = switch (weight) {
+            case DISTANCE -> 1;
+            case DURATION -> 60 / MAX_GROUND_SPEED_KMH;
+            case FARE -> 0;
+        };
+        return Math.min(nominal, graph.minWeightPerKm(weight));
+    }
+
+    /// ## estimate
+    ///
+    /// Calcula (uma única vez por aeroporto) a estimativa otimista do custo de `u` até o destino.
+    ///
+    /// @param graph    O retrato CSR da malha.
+    /// @param u        O aeroporto.
+    /// @param dest     O aeroporto de destino.
+    /// @param rate     O custo mínimo por km (`estimateRate`).
+    /// @param estimate Estimativas já calculadas (`-1` = não calculada).
+    /// @return A estimativa, que nunca supera o custo real: todo voo custa pelo menos `rate` por km de círculo
+    ///         máximo, e a distância de círculo máximo obedece à desigualdade triangular.
+    private static long estimate(RouteGraph graph, int u, int dest, double rate, long[] estimate) {
+        if (estimate[u] >= 0) return estimate[u];
+
+        long h = 0;
+        if (graph.hasCoordinates(u) && graph.hasCoordinates(dest)) {
+            double km = RouteGraph.greatCircleKm(
+                    graph.latitude(u), graph.longitude(u), graph.latitude(dest), graph.longitude(dest));
+            h = (long) Math.floor(km * rate);
+        }
+        return estimate[u] = h;
+    }
+}
@@ -0,0 +1,69 @@
+/// # RouteWeight
+///
+/// A enumeração `RouteWeight` define o critério usado para classificar trajetos nas buscas ponderadas
+/// (`RouteSearch.cheapest`, `RouteSearch.cheapestAStar`): cada voo contribui com o peso correspondente
+/// e o melhor trajeto é o de menor soma.
+///
+/// ## Valores
+/// - **`DURATION`:** Duração dos voos, em minutos.
+/// - **`DISTANCE`:** Distância voada, em quilômetros.
+/// - **`FARE`:** Tarifa dos voos, em reais.
+///
+/// ## Uso
+/// ```java
+/// Itinerary itinerary = organizer.findCheapestRoute("GRU", "SSA", RouteWeight.DURATION);
+/// System.out.println(itinerary.getCost() + " " + RouteWeight.DURATION.getUnit());
+///```
+public enum RouteWeight {
+    DURATION("Duração", "min"),
+    DISTANCE("Distância", "km"),
+    FARE("Tarifa", "R$");
+
+    /// ### Campos
+    ///
+    /// - **`label`:** Nome do critério, para exibição.
+    /// - **`unit`:** Unidade do peso, para exibição.
+    private final String label;
+    private final String unit;
+
+    /// ## RouteWeight
+    ///
+    /// @param label Nome do critério.
+    /// @param unit  Unidade do peso.
+    RouteWeight(String label, String unit) {
+        this.label = label;
+        this.unit = unit;
+    }
+
+    /// ## getLabel
+    ///
+    /// Retorna o nome do critério, para exibição.
+    ///
+    /// @return O nome do critério.
+    public String getLabel() {
+        return label;
+    }
+
+    /// ## getUnit
+    ///
+    /// Retorna a unidade do peso, para exibição.
+    ///
+    /// @return A unidade do peso.
+    public String getUnit() {
+        return unit;
+    }
+
+    /// ## of
+    ///
+    /// Retorna o peso de um voo segundo este critério.
+    ///
+    /// @param flight O voo.
+    /// @return O peso do voo, ou `Flight.UNKNOWN_WEIGHT` se não informado.
+    public int of(Flight flight) {
+        return switch (this) {
+            case DURATION -> flight.getBlockMinutes();
+            case DISTANCE -> flight.getDistanceKm();
+            case FARE -> flight.getFare();
+        };
+    }
+}
@@ -0,0 +1,191 @@
+import java.util.Arrays;
+
+/// # StronglyConnectedComponents
+///
+/// A classe `StronglyConnectedComponents` divide os aeroportos de um `RouteGraph` em componentes fortemente
+/// conexas: grupos em que cada aeroporto alcança todos os outros. É calculada pelo algoritmo de Tarjan em
+/// O(V + E), com uma pilha explícita no lugar da recursão, de modo que malhas grandes (ou longas cadeias de
+/// voos) não estouram a pilha de chamadas.
+///
+/// ## Funcionalidades
+/// - **Construção (`compute`):** Executa o algoritmo de Tarjan sobre o retrato.
+/// - **Consulta (`componentOf`, `count`, `size`, `members`):** Componente de cada aeroporto e membros de cada componente.
+///
+/// ## Estrutura Interna
+/// - As componentes são numeradas na ordem em que o algoritmo as conclui, que é uma ordem topológica reversa
+///   da condensação: todo voo entre componentes diferentes sai de uma componente de número maior para uma
+///   de número menor.
+/// - **`component`:** Componente de cada aeroporto.
+/// - **`starts`, `members`:** Os aeroportos da componente `c` ocupam `members[starts[c]..starts[c + 1])`.
+///
+/// ## Uso
+/// ```java
+/// StronglyConnectedComponents components = StronglyConnectedComponents.compute(graph);
+/// int c = components.componentOf(graph.idOf("GRU"));
+/// System.out.println("GRU está em um grupo de " + components.size(c) + " aeroportos");
+///```
+public final class StronglyConnectedComponents {
+
+    /// ### Campos
+    ///
+    /// - **`component`:** Componente de cada aeroporto.
+    /// - **`starts`:** Início dos membros de cada componente em `members` (tamanho `count + 1`).
+    /// - **`members`:** Aeroportos agrupados por componente.
+    private final int[] component;
+    private final int[] starts;
+    private final int[] members;
+
+    /// ## StronglyConnectedComponents
+    ///
+    /// Construtor privado. Use `compute` para calcular as componentes de um retrato.
+    private StronglyConnectedComponents(int[] component, int[] starts, int[] members) {
+        this.component = component;
+        this.starts = starts;
+        this.members = members;
+    }
+
+    /// ## compute
+    ///
+    /// Calcula as componentes fortemente conexas de um retrato.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Percorre a malha em profundidade com o algoritmo de Tarjan, simulando a recursão com uma pilha de
+    ///    chamadas e o próximo voo a examinar de cada aeroporto.
+    /// 2. Quando um aeroporto conclui com `low == index`, desempilha os aeroportos da sua componente.
+    /// 3. Agrupa os aeroportos por componente (contagem e soma de prefixos, como os `offsets` do `RouteGraph`).
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// StronglyConnectedComponents components = StronglyConnectedComponents.compute(RouteGraph.build(registry));
+    ///```
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @return As componentes fortemente conexas.
+    public static StronglyConnectedComponents compute(RouteGraph graph) {
+        int n = graph.size();
+        int[] component = new int[n];
+        int[] index = new int[n];     // Ordem de descoberta + 1 (0 = não visitado)
+        int[] low = new int[n];       // Menor índice alcançável pela subárvore
+        int[] stack = new int[n];     // Pilha de aeroportos ainda sem componente
+        int[] callStack = new int[n]; // Pilha de chamadas simulada
+        int[] nextEdge = new int[n];  // Próximo voo a examinar de cada aeroporto na pilha de chamadas
+        boolean[] onStack = new boolean[n];
+        int counter = 0;
+        int top = 0;
+        int count = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != 0) continue;
+
+            int depth = 0;
+            callStack[depth++] = root;
+            index[root] = low[root] = ++counter;
+            nextEdge[root] = graph.edgeStart(root);
+            stack[top++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int u = callStack[depth - 1];
+                if (nextEdge[u] < graph.edgeEnd(u)) {
+                    int v = graph.target(nextEdge[u]++);
+                    if (index[v] == 0) {
+                        // "Chamada recursiva" para v
+                        index[v] = low[v] = ++counter;
+                        nextEdge[v] = graph.edgeStart(v);
+                        stack[top++] = v;
+                        onStack[v] = true;
+                        callStack[depth++] = v;
+                    } else if (onStack[v]) {
+                        low[u] = Math.min(low[u], index[v]);
+                    }
+                    continue;
+                }
+
+                // Todos os voos de u examinados: "retorna" ao chamador
+                depth--;
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    low[parent] = Math.min(low[parent], low[u]);
+                }
+
+                if (low[u] == index[u]) {
+                    // u é a raiz de uma componente: desempilha seus membros
+                    int v;
+                    do {
+                        v = stack[--top];
+                        onStack[v] = false;
+                        component[v] = count;
+                    } while (v != u);
+                    count++;
+                }
+            }
+        }
+
+        // Agrupa os aeroportos por componente
+        int[] starts = new int[count + 1];
+        for (int u = 0; u < n; u++)
+            starts[component[u] + 1]++;
+        for (int c = 0; c < count; c++)
+            starts[c + 1] += starts[c];  // Soma de prefixos
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(starts, count);
+        for (int u = 0; u < n; u++)
+            members[fill[component[u]]++] = u;
+
+        return new StronglyConnectedComponents(component, starts, members);
+    }
+
+    /// ## componentOf
+    ///
+    /// @param u O identificador do aeroporto.
+    /// @return A componente do aeroporto.
+    public int componentOf(int u) {
+        return component[u];
+    }
+
+    /// ## count
+    ///
+    /// @return A quantidade de componentes.
+    public int count() {
+        return starts.length - 1;
+    }
+
+    /// ## size
+    ///
+    /// @param c A componente.
+    /// @return A quantidade de aeroportos da componente.
+    public int size(int c) {
+        return starts[c + 1] - starts[c];
+    }
+
+    /// ## members
+    ///
+    /// Retorna os aeroportos de uma componente.
+    ///
+    /// @param c A componente.
+    /// @return Os identificadores dos aeroportos da componente, em ordem crescente.
+    public int[] members(int c) {
+        return Arrays.copyOfRange(members, starts[c], starts[c + 1]);
+    }
+
+    /// ## memberStart
+    ///
+    /// Início dos membros da componente `c` no vetor interno; usado para percorrer os membros sem cópia.
+    ///
+    /// @param c A componente.
+    /// @return A posição do primeiro membro.
+    int memberStart(int c) {
+        return starts[c];
+    }
+
+    /// ## member
+    ///
+    /// @param i A posição no vetor interno de membros.
+    /// @return O aeroporto nessa posição.
+    int member(int i) {
+        return members[i];
+    }
+}
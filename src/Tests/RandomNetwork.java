@@ -0,0 +1,260 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/// # RandomNetwork
+///
+/// Apoio dos testes das buscas: gera malhas pequenas e aleatórias e calcula as respostas esperadas por
+/// força bruta (Floyd–Warshall, buscas em largura e enumeração de todos os trajetos simples), sem
+/// reaproveitar nada das classes testadas além do `RouteGraph`.
+///
+/// ## Malha Gerada
+/// - Aeroportos `A0`, `A1`, ... com coordenadas em uma região de cerca de 3 mil km e tempo mínimo de
+///   conexão aleatório.
+/// - Voos entre pares aleatórios (com voos paralelos), com duração e distância nunca menores que as
+///   estimativas do A* e, às vezes, um peso não informado ou nenhum horário.
+final class RandomNetwork {
+
+    /// ### Campos
+    ///
+    /// - **`INFINITY`:** Custo dos pares sem trajeto.
+    static final long INFINITY = Long.MAX_VALUE / 4;
+
+    /// ## RandomNetwork
+    ///
+    /// Construtor privado: a classe possui apenas metodos estáticos.
+    private RandomNetwork() {
+    }
+
+    /// ## generate
+    ///
+    /// Gera uma malha aleatória.
+    ///
+    /// @param random   O gerador.
+    /// @param airports Quantidade de aeroportos.
+    /// @param flights  Quantidade de voos.
+    /// @return O cadastro com os aeroportos e os voos.
+    static AirportRegistry generate(SplittableRandom random, int airports, int flights) {
+        AirportRegistry registry = new AirportRegistry();
+        for (int i = 0; i < airports; i++) addAirport(registry, random);
+        for (int number = 1; number <= flights && airports > 1; number++) addFlight(registry, random, number);
+        return registry;
+    }
+
+    /// ## addAirport
+    ///
+    /// Acrescenta um aeroporto aleatório, com o próximo código livre.
+    ///
+    /// @param registry O cadastro.
+    /// @param random   O gerador.
+    /// @return O aeroporto cadastrado.
+    static Airport addAirport(AirportRegistry registry, SplittableRandom random) {
+        Airport airport = new Airport("Aeroporto " + registry.size(), "A" + registry.size());
+        airport.setCoordinates(random.nextDouble(-30, -5), random.nextDouble(-60, -35));
+        airport.setMinimumConnectionMinutes(random.nextInt(4) * 30);
+        registry.add(airport);
+        return registry.find(airport.getCode());  // O cadastro guarda uma cópia do aeroporto
+    }
+
+    /// ## addFlight
+    ///
+    /// Acrescenta um voo aleatório entre dois aeroportos distintos do cadastro.
+    ///
+    /// @param registry O cadastro (com pelo menos dois aeroportos).
+    /// @param random   O gerador.
+    /// @param number   O número do voo.
+    /// @return Os códigos de origem e de destino do voo.
+    static String[] addFlight(AirportRegistry registry, SplittableRandom random, int number) {
+        int n = registry.size();
+        int u = random.nextInt(n);
+        int v = random.nextInt(n - 1);
+        if (v >= u) v++;
+        Airport from = registry.find("A" + u);
+        Airport to = registry.find("A" + v);
+
+        double km = RouteGraph.greatCircleKm(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+        int minutes = (int) Math.ceil(km * 60 / 800) + random.nextInt(120);
+        int distance = (int) Math.ceil(km) + random.nextInt(300);
+        int fare = 1 + random.nextInt(900);
+        switch (random.nextInt(12)) {  // Às vezes um dos pesos não é informado
+            case 0 -> minutes = Flight.UNKNOWN_WEIGHT;
+            case 1 -> distance = Flight.UNKNOWN_WEIGHT;
+            case 2 -> fare = Flight.UNKNOWN_WEIGHT;
+            default -> {
+            }
+        }
+
+        FlightSchedule schedule = null;
+        if (random.nextInt(4) != 0) {
+            int departure = random.nextInt(FlightSchedule.MINUTES_PER_DAY);
+            int block = (minutes > 0) ? minutes : 30 + random.nextInt(300);
+            schedule = new FlightSchedule(departure, departure + block, 1 + random.nextInt(FlightSchedule.EVERY_DAY));
+        }
+        from.getFlights().addLast(new Flight(to.getCode(), number, minutes, distance, fare, schedule));
+        return new String[]{from.getCode(), to.getCode()};
+    }
+
+    /// ## allPairs
+    ///
+    /// Calcula o menor custo entre todos os pares por Floyd–Warshall, ignorando voos sem o peso do critério.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param weight O critério de peso, ou `null` para contar trechos.
+    /// @return Os custos (`INFINITY` = sem trajeto).
+    static long[][] allPairs(RouteGraph graph, RouteWeight weight) {
+        int n = graph.size();
+        long[][] dist = new long[n][n];
+        for (int u = 0; u < n; u++) {
+            Arrays.fill(dist[u], INFINITY);
+            dist[u][u] = 0;
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                long w = edgeCost(graph, e, weight);
+                if (w >= 0) dist[u][graph.target(e)] = Math.min(dist[u][graph.target(e)], w);
+            }
+        }
+        for (int k = 0; k < n; k++)
+            for (int i = 0; i < n; i++)
+                for (int j = 0; j < n; j++)
+                    if (dist[i][k] + dist[k][j] < dist[i][j]) dist[i][j] = dist[i][k] + dist[k][j];
+        return dist;
+    }
+
+    /// ## reachability
+    ///
+    /// Calcula, por uma busca em largura a partir de cada aeroporto, quais aeroportos cada um alcança.
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @return `reach[u][v]` é `true` se houver trajeto de `u` para `v` (um aeroporto sempre alcança a si mesmo).
+    static boolean[][] reachability(RouteGraph graph) {
+        int n = graph.size();
+        boolean[][] reach = new boolean[n][n];
+        int[] queue = new int[n];
+        for (int s = 0; s < n; s++) {
+            int head = 0;
+            int tail = 0;
+            reach[s][s] = true;
+            queue[tail++] = s;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.target(e);
+                    if (!reach[s][v]) {
+                        reach[s][v] = true;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+        return reach;
+    }
+
+    /// ## simplePaths
+    ///
+    /// Enumera todos os trajetos simples (sem repetir aeroportos) de `source` para `dest`, como sequências
+    /// de voos; voos paralelos geram trajetos distintos.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador do aeroporto de origem.
+    /// @param dest   Identificador do aeroporto de destino.
+    /// @return Os trajetos, cada um como as posições dos seus voos no retrato.
+    static List<int[]> simplePaths(RouteGraph graph, int source, int dest) {
+        List<int[]> paths = new ArrayList<>();
+        boolean[] visited = new boolean[graph.size()];
+        visited[source] = true;
+        collect(graph, source, dest, new int[graph.size()], 0, visited, paths);
+        return paths;
+    }
+
+    /// ## collect
+    ///
+    /// Busca em profundidade de `simplePaths`.
+    private static void collect(RouteGraph graph, int u, int dest, int[] edges, int depth, boolean[] visited, List<int[]> paths) {
+        if (u == dest) {
+            paths.add(Arrays.copyOf(edges, depth));
+            return;
+        }
+        for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+            int v = graph.target(e);
+            if (visited[v]) continue;
+            visited[v] = true;
+            edges[depth] = e;
+            collect(graph, v, dest, edges, depth + 1, visited, paths);
+            visited[v] = false;
+        }
+    }
+
+    /// ## cost
+    ///
+    /// Soma o custo de uma sequência de voos.
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param edges  As posições dos voos.
+    /// @param weight O critério de peso, ou `null` para contar trechos.
+    /// @return O custo, ou `-1` se algum voo não tiver o peso do critério.
+    static long cost(RouteGraph graph, int[] edges, RouteWeight weight) {
+        long total = 0;
+        for (int e : edges) {
+            long w = edgeCost(graph, e, weight);
+            if (w < 0) return -1;
+            total += w;
+        }
+        return total;
+    }
+
+    /// ## edgeCost
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param e      A posição do voo.
+    /// @param weight O critério de peso, ou `null` para contar trechos.
+    /// @return O peso do voo (`1` por trecho), ou `-1` se não informado.
+    static long edgeCost(RouteGraph graph, int e, RouteWeight weight) {
+        if (weight == null) return 1;
+        int w = graph.weight(e, weight);
+        return (w == Flight.UNKNOWN_WEIGHT) ? -1 : w;
+    }
+
+    /// ## edgesOf
+    ///
+    /// Confere um trajeto contra o retrato e devolve os voos que ele usa: cada voo precisa sair do aeroporto
+    /// anterior e chegar ao seguinte.
+    ///
+    /// @param graph     O retrato CSR da malha.
+    /// @param itinerary O trajeto.
+    /// @param source    Identificador esperado da origem.
+    /// @param dest      Identificador esperado do destino.
+    /// @return As posições dos voos, ou `null` se o trajeto não for válido.
+    static int[] edgesOf(RouteGraph graph, Itinerary itinerary, int source, int dest) {
+        String[] codes = itinerary.getAirportCodes();
+        int[] numbers = itinerary.getFlightNumbers();
+        if (codes.length != numbers.length + 1) return null;
+        if (graph.idOf(codes[0]) != source || graph.idOf(codes[codes.length - 1]) != dest) return null;
+
+        int[] edges = new int[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            int u = graph.idOf(codes[i]);
+            int v = graph.idOf(codes[i + 1]);
+            edges[i] = -1;
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++)
+                if (graph.flightNumber(e) == numbers[i] && graph.target(e) == v) edges[i] = e;
+            if (edges[i] < 0) return null;
+        }
+        return edges;
+    }
+
+    /// ## isSimple
+    ///
+    /// @param graph  O retrato CSR da malha.
+    /// @param source Identificador da origem.
+    /// @param edges  As posições dos voos.
+    /// @return `true` se o trajeto não repete aeroportos.
+    static boolean isSimple(RouteGraph graph, int source, int[] edges) {
+        boolean[] visited = new boolean[graph.size()];
+        visited[source] = true;
+        for (int e : edges) {
+            if (visited[graph.target(e)]) return false;
+            visited[graph.target(e)] = true;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/// # TestAirportRegistry
+///
+/// Confere o índice hash do `AirportRegistry` contra um `HashMap` em sequências aleatórias de cadastros, com
+/// códigos repetidos em maiúsculas, minúsculas e com espaços, e buscas por códigos presentes e ausentes. A
+/// cada passo confere também o tamanho e a ordem de cadastro da lista de aeroportos.
+public class TestAirportRegistry {
+
+    private static final String LETRAS = "ABCDE";
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int operacoes = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 100; rodada++) {
+            AirportRegistry registry = new AirportRegistry();
+            Map<String, Airport> esperado = new HashMap<>();
+            List<Airport> ordem = new ArrayList<>();
+
+            for (int passo = 0; passo < 300; passo++) {
+                operacoes++;
+                String code = randomCode(random);
+                String key = code.trim().toUpperCase(Locale.ROOT);
+
+                if (random.nextInt(3) == 0) {
+                    boolean adicionado = registry.add(new Airport("Aeroporto " + passo, code));
+                    boolean novo = !esperado.containsKey(key);
+                    if (adicionado != novo) {
+                        System.out.println("add(\"" + code + "\"): esperado " + novo + ", obtido " + adicionado);
+                        divergencias++;
+                        continue;
+                    }
+                    if (novo) {
+                        Airport stored = registry.getAirports().getLast();
+                        esperado.put(key, stored);
+                        ordem.add(stored);
+                    }
+                } else {
+                    Airport encontrado = registry.find(code);
+                    if (encontrado != esperado.get(key)) {  // Mesma instância guardada na lista
+                        System.out.println("find(\"" + code + "\"): esperado " + esperado.get(key) + ", obtido " + encontrado);
+                        divergencias++;
+                    }
+                }
+
+                if (!confere(registry, ordem)) divergencias++;
+            }
+
+            if (registry.find(null) != null) {
+                System.out.println("find(null) deveria retornar null");
+                divergencias++;
+            }
+        }
+
+        System.out.println("Testando AirportRegistry contra HashMap");
+        System.out.println("Operações:    " + operacoes);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Código de 1 a 3 letras, com maiúsculas e minúsculas misturadas e às vezes espaços ao redor
+    private static String randomCode(SplittableRandom random) {
+        StringBuilder code = new StringBuilder();
+        int length = 1 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            char letra = LETRAS.charAt(random.nextInt(LETRAS.length()));
+            code.append(random.nextBoolean() ? letra : Character.toLowerCase(letra));
+        }
+        if (random.nextInt(5) == 0) code.insert(0, ' ').append("  ");
+        return code.toString();
+    }
+
+    // Confere o tamanho e a ordem de cadastro, e se cada aeroporto da lista é encontrado pelo próprio código
+    private static boolean confere(AirportRegistry registry, List<Airport> ordem) {
+        if (registry.size() != ordem.size() || registry.getAirports().getTamanho() != ordem.size()) {
+            System.out.println("size(): esperado " + ordem.size() + ", obtido " + registry.size());
+            return false;
+        }
+        int i = 0;
+        for (Airport airport : registry.getAirports()) {
+            if (airport != ordem.get(i++) || registry.find(airport.getCode()) != airport) {
+                System.out.println("Lista fora da ordem de cadastro na posição " + (i - 1));
+                return false;
+            }
+        }
+        return true;
+    }
+}
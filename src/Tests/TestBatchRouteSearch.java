@@ -0,0 +1,71 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/// # TestBatchRouteSearch
+///
+/// Confere `BatchRouteSearch` contra as consultas individuais de `RouteSearch` (`shortestHops` e `cheapest`) e
+/// contra Floyd–Warshall, em lotes aleatórios sobre malhas aleatórias: consultas repetidas, da origem para ela
+/// mesma e com identificadores negativos (que devem ficar sem trajeto), com origens suficientes para que o lote
+/// seja dividido entre as tarefas do pool.
+public class TestBatchRouteSearch {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 1 + random.nextInt(20);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(3 * n + 1)));
+
+            int q = random.nextInt(80);
+            int[] sources = new int[q];
+            int[] dests = new int[q];
+            for (int i = 0; i < q; i++) {
+                sources[i] = (random.nextInt(20) == 0) ? -1 : random.nextInt(n);
+                dests[i] = (random.nextInt(20) == 0) ? -1 : random.nextInt(n);
+            }
+
+            RouteWeight[] criterios = {null, RouteWeight.DURATION, RouteWeight.DISTANCE, RouteWeight.FARE};
+            for (RouteWeight weight : criterios) {
+                long[][] dist = RandomNetwork.allPairs(graph, weight);
+                Itinerary[] routes = BatchRouteSearch.run(graph, sources, dests, weight, pool);
+                for (int i = 0; i < q; i++) {
+                    consultas++;
+                    if (!confere(graph, sources[i], dests[i], weight, dist, routes[i])) divergencias++;
+                }
+            }
+        }
+        pool.shutdown();
+
+        System.out.println("Testando BatchRouteSearch contra RouteSearch e Floyd-Warshall");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere o trajeto do lote contra a consulta individual: mesmo custo (os trajetos podem diferir nos empates)
+    private static boolean confere(RouteGraph graph, int s, int t, RouteWeight weight, long[][] dist, Itinerary batch) {
+        boolean ok;
+        Itinerary individual = null;
+        if (s < 0 || t < 0) {
+            ok = batch == null;
+        } else {
+            individual = (weight == null) ? RouteSearch.shortestHops(graph, s, t) : RouteSearch.cheapest(graph, s, t, weight);
+            if (dist[s][t] == RandomNetwork.INFINITY) {
+                ok = batch == null && individual == null;
+            } else {
+                int[] edges = (batch == null) ? null : RandomNetwork.edgesOf(graph, batch, s, t);
+                int[] esperados = (individual == null) ? null : RandomNetwork.edgesOf(graph, individual, s, t);
+                ok = edges != null && esperados != null
+                     && RandomNetwork.cost(graph, edges, weight) == dist[s][t]
+                     && RandomNetwork.cost(graph, esperados, weight) == dist[s][t]
+                     && (weight == null || batch.getCost() == individual.getCost());
+            }
+        }
+        if (!ok)
+            System.out.println("run(" + s + " -> " + t + ", " + weight + "): lote " + batch + ", individual " + individual);
+        return ok;
+    }
+}
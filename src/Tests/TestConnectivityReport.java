@@ -0,0 +1,139 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/// # TestConnectivityReport
+///
+/// Confere `StronglyConnectedComponents` e `ConnectivityReport` contra a alcançabilidade mútua calculada por
+/// buscas em largura, em malhas aleatórias de 1 a 150 aeroportos (algumas com voos para o próprio aeroporto):
+/// dois aeroportos estão na mesma componente exatamente quando um alcança o outro e vice-versa, todo voo entre
+/// componentes vai de um número maior para um menor, e cada categoria do relatório segue a sua definição.
+public class TestConnectivityReport {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int malhas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 1 + random.nextInt(rodada % 2 == 0 ? 10 : 150);
+            AirportRegistry registry = RandomNetwork.generate(random, n, random.nextInt(2 * n + 1));
+            if (rodada % 3 == 0) {  // Voos para o próprio aeroporto não conectam nada
+                String code = "A" + random.nextInt(n);
+                registry.find(code).getFlights().addLast(new Flight(code, 10_000 + rodada));
+            }
+            RouteGraph graph = RouteGraph.build(registry);
+            boolean[][] reach = RandomNetwork.reachability(graph);
+            StronglyConnectedComponents components = StronglyConnectedComponents.compute(graph);
+
+            malhas++;
+            if (!confereComponentes(graph, reach, components)
+                || !confereRelatorio(graph, reach, ConnectivityReport.analyze(graph, components)))
+                divergencias++;
+        }
+
+        System.out.println("Testando StronglyConnectedComponents e ConnectivityReport contra buscas em largura");
+        System.out.println("Malhas:       " + malhas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere a partição, os membros de cada componente e a ordem topológica reversa
+    private static boolean confereComponentes(RouteGraph graph, boolean[][] reach, StronglyConnectedComponents components) {
+        int n = graph.size();
+        int membros = 0;
+        for (int c = 0; c < components.count(); c++) {
+            int[] members = components.members(c);
+            membros += members.length;
+            for (int i = 0; i < members.length; i++) {
+                if (components.componentOf(members[i]) != c || (i > 0 && members[i - 1] >= members[i])) {
+                    System.out.println("members(" + c + ") incoerente: " + Arrays.toString(members));
+                    return false;
+                }
+            }
+            if (components.size(c) != members.length) {
+                System.out.println("size(" + c + "): esperado " + members.length + ", obtido " + components.size(c));
+                return false;
+            }
+        }
+        if (membros != n) {
+            System.out.println("As componentes somam " + membros + " de " + n + " aeroportos");
+            return false;
+        }
+
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                boolean mutuos = reach[u][v] && reach[v][u];
+                if ((components.componentOf(u) == components.componentOf(v)) != mutuos) {
+                    System.out.println(graph.codeOf(u) + " e " + graph.codeOf(v) + ": mutuamente alcançáveis = " + mutuos
+                                       + ", componentes " + components.componentOf(u) + " e " + components.componentOf(v));
+                    return false;
+                }
+            }
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                if (components.componentOf(graph.target(e)) > components.componentOf(u)) {
+                    System.out.println("Voo " + graph.codeOf(u) + " -> " + graph.codeOf(graph.target(e))
+                                       + " sobe na ordem das componentes");
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Recalcula cada categoria pela definição, a partir da alcançabilidade mútua
+    private static boolean confereRelatorio(RouteGraph graph, boolean[][] reach, ConnectivityReport report) {
+        int n = graph.size();
+        boolean[] hasFlights = new boolean[n];
+        boolean[] sendsOut = new boolean[n];    // A componente do aeroporto tem voos para outras componentes
+        boolean[] receivesIn = new boolean[n];  // A componente do aeroporto recebe voos de outras componentes
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                int v = graph.target(e);
+                if (v == u) continue;
+                hasFlights[u] = hasFlights[v] = true;
+                if (reach[v][u]) continue;  // Mesma componente
+                for (int w = 0; w < n; w++) {
+                    if (reach[u][w] && reach[w][u]) sendsOut[w] = true;
+                    if (reach[v][w] && reach[w][v]) receivesIn[w] = true;
+                }
+            }
+        }
+
+        List<String> isolated = new ArrayList<>();
+        List<String> deadEnds = new ArrayList<>();
+        List<String> origins = new ArrayList<>();
+        List<String> largest = new ArrayList<>();
+        for (int u = 0; u < n; u++) {
+            if (!hasFlights[u]) isolated.add(graph.codeOf(u));
+            else if (receivesIn[u] && !sendsOut[u]) deadEnds.add(graph.codeOf(u));
+            else if (sendsOut[u] && !receivesIn[u]) origins.add(graph.codeOf(u));
+
+            List<String> component = new ArrayList<>();
+            for (int v = 0; v < n; v++)
+                if (reach[u][v] && reach[v][u]) component.add(graph.codeOf(v));
+            if (component.size() > largest.size()) largest = component;  // Primeira maior, na ordem de cadastro
+        }
+
+        int componentes = 0;
+        for (int u = 0; u < n; u++) {
+            boolean primeiro = true;  // u é o primeiro aeroporto da sua componente
+            for (int v = 0; v < u && primeiro; v++)
+                primeiro = !(reach[u][v] && reach[v][u]);
+            if (primeiro) componentes++;
+        }
+
+        boolean ok = report.getAirportCount() == n
+                     && report.getComponentCount() == componentes
+                     && Arrays.asList(report.getIsolatedAirports()).equals(isolated)
+                     && Arrays.asList(report.getDeadEndAirports()).equals(deadEnds)
+                     && Arrays.asList(report.getUnreachableOrigins()).equals(origins)
+                     && Arrays.asList(report.getLargestComponent()).equals(largest);
+        if (!ok)
+            System.out.println("Relatório divergente em uma malha de " + n + " aeroportos:" + System.lineSeparator()
+                               + report + System.lineSeparator() + "Esperado: isolados " + isolated + ", becos "
+                               + deadEnds + ", origens " + origins + ", maior grupo " + largest);
+        return ok;
+    }
+}
@@ -0,0 +1,97 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/// # TestContractionHierarchy
+///
+/// Confere as consultas da `ContractionHierarchy` contra Floyd–Warshall em malhas pequenas e aleatórias,
+/// para cada critério de peso, antes e depois de gravar a hierarquia e lê-la de volta. Confere também se
+/// os trajetos desempacotados existem no retrato e têm o custo informado, e se `load` recusa arquivos com
+/// um arco adulterado (peso ou destino).
+public class TestContractionHierarchy {
+
+    public static void main(String[] args) throws IOException {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        Path file = Files.createTempFile("hierarquia", ".ch");
+        int consultas = 0;
+        int divergencias = 0;
+        int adulteracoes = 0;
+        int aceitas = 0;
+
+        try {
+            for (int rodada = 0; rodada < 200; rodada++) {
+                int n = 2 + random.nextInt(11);
+                RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(4 * n + 1)));
+
+                for (RouteWeight weight : RouteWeight.values()) {
+                    long[][] dist = RandomNetwork.allPairs(graph, weight);
+                    ContractionHierarchy hierarchy = ContractionHierarchy.build(graph, weight);
+                    hierarchy.save(file);
+                    ContractionHierarchy loaded = ContractionHierarchy.load(file, graph);
+                    if (n > 1 && adulteraArco(file, n, random)) {
+                        adulteracoes++;
+                        try {
+                            ContractionHierarchy.load(file, graph);
+                            aceitas++;
+                        } catch (IOException e) {
+                            // Esperado: o arco adulterado não corresponde ao retrato
+                        }
+                    }
+
+                    for (int s = 0; s < n; s++) {
+                        for (int t = 0; t < n; t++) {
+                            if (s == t) continue;
+                            consultas++;
+                            if (!confere(graph, s, t, weight, dist[s][t], hierarchy.query(s, t), "build")) divergencias++;
+                            if (!confere(graph, s, t, weight, dist[s][t], loaded.query(s, t), "load")) divergencias++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        System.out.println("Testando ContractionHierarchy contra Floyd-Warshall");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Arquivos adulterados: " + adulteracoes + ", aceitos por load: " + aceitas);
+        System.out.println("Resultado:    " + (divergencias == 0 && aceitas == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Altera o peso ou o destino de um arco aleatório do arquivo gravado por save; retorna false se não houver arcos
+    private static boolean adulteraArco(Path file, int n, SplittableRandom random) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));  // DataOutputStream grava em big-endian
+        int arcos = 24 + 4 * n;  // Cabeçalho (assinatura, tamanho, voos, resumo, critério) e ordem de contração
+        int quantidade = buffer.getInt(arcos);
+        if (quantidade == 0) return false;
+
+        int arco = arcos + 4 + 28 * random.nextInt(quantidade);  // Origem, destino, peso, voo e os dois arcos do atalho
+        if (random.nextBoolean()) {
+            buffer.putLong(arco + 8, buffer.getLong(arco + 8) + 1);
+        } else {
+            buffer.putInt(arco + 4, (buffer.getInt(arco + 4) + 1 + random.nextInt(n - 1)) % n);  // Outro aeroporto
+        }
+        Files.write(file, buffer.array());
+        return true;
+    }
+
+    // Confere o custo do trajeto desempacotado e se ele existe de fato no retrato
+    private static boolean confere(RouteGraph graph, int s, int t, RouteWeight weight, long esperado, Itinerary itinerary, String origem) {
+        boolean ok;
+        if (esperado == RandomNetwork.INFINITY) {
+            ok = itinerary == null;
+        } else {
+            int[] edges = (itinerary == null) ? null : RandomNetwork.edgesOf(graph, itinerary, s, t);
+            ok = edges != null
+                 && RandomNetwork.cost(graph, edges, weight) == esperado
+                 && itinerary.getCost() == esperado;
+        }
+        if (!ok)
+            System.out.println(origem + ": query(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + weight + "): esperado "
+                               + (esperado == RandomNetwork.INFINITY ? "sem trajeto" : esperado) + ", obtido " + itinerary);
+        return ok;
+    }
+}
@@ -0,0 +1,76 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/// # TestFlightIndex
+///
+/// Confere o `FlightIndex` contra um `HashMap` em sequências aleatórias de inclusões, substituições, remoções e
+/// reinclusões. Os números vêm de um conjunto pequeno (com zero, negativos e números sequenciais), para que as
+/// remoções com deslocamento para trás aconteçam no meio de agrupamentos e depois de redimensionamentos. A cada
+/// passo, todos os números do conjunto são consultados.
+public class TestFlightIndex {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        Airport[] owners = new Airport[5];
+        for (int i = 0; i < owners.length; i++) owners[i] = new Airport("Aeroporto " + i, "A" + i);
+        int operacoes = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 50; rodada++) {
+            int[] numbers = new int[20 + random.nextInt(200)];
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = switch (random.nextInt(3)) {
+                    case 0 -> i;  // Sequenciais, a partir de zero
+                    case 1 -> -random.nextInt(1000);
+                    default -> random.nextInt();
+                };
+            }
+
+            FlightIndex index = new FlightIndex();
+            Map<Integer, Airport> esperado = new HashMap<>();
+
+            for (int passo = 0; passo < 600; passo++) {
+                operacoes++;
+                int number = numbers[random.nextInt(numbers.length)];
+                if (random.nextInt(5) < 3) {
+                    Airport owner = owners[random.nextInt(owners.length)];
+                    index.put(number, owner);
+                    esperado.put(number, owner);
+                } else {
+                    Airport removido = index.remove(number);
+                    if (removido != esperado.remove(number)) {
+                        System.out.println("remove(" + number + "): dono incorreto " + removido);
+                        divergencias++;
+                    }
+                }
+
+                if (!confere(index, esperado, numbers)) {
+                    divergencias++;
+                    break;  // O índice divergiu: os passos seguintes repetiriam a mesma divergência
+                }
+            }
+        }
+
+        System.out.println("Testando FlightIndex contra HashMap");
+        System.out.println("Operações:    " + operacoes);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere o tamanho e a consulta de cada número do conjunto
+    private static boolean confere(FlightIndex index, Map<Integer, Airport> esperado, int[] numbers) {
+        if (index.size() != esperado.size()) {
+            System.out.println("size(): esperado " + esperado.size() + ", obtido " + index.size());
+            return false;
+        }
+        for (int number : numbers) {
+            Airport owner = esperado.get(number);
+            if (index.get(number) != owner || index.contains(number) != (owner != null)) {
+                System.out.println("get(" + number + "): esperado " + owner + ", obtido " + index.get(number));
+                return false;
+            }
+        }
+        return true;
+    }
+}
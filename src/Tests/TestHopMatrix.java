@@ -0,0 +1,116 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/// # TestHopMatrix
+///
+/// Confere a `HopMatrix` mantida incrementalmente (`airportAdded`, `flightAdded` e `flightRemoved`) contra
+/// uma matriz reconstruída do zero e contra Floyd–Warshall a cada alteração de uma malha aleatória. Metade das
+/// alterações é feita sobre uma cópia (`copy`), como na publicação de versões, e a versão anterior, que
+/// compartilha linhas com a cópia, é conferida de novo. Também cobre a passagem de `byte[]` para `short[]` ao
+/// ultrapassar 255 aeroportos e o isolamento de `copy`.
+public class TestHopMatrix {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int alteracoes = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 100; rodada++) {
+            AirportRegistry registry = RandomNetwork.generate(random, 2 + random.nextInt(8), random.nextInt(12));
+            RouteGraph anterior = RouteGraph.build(registry);
+            HopMatrix matrix = HopMatrix.build(anterior, pool);
+            int number = 1000;
+
+            for (int passo = 0; passo < 40; passo++) {
+                int operacao = random.nextInt(10);
+                HopMatrix versao = matrix;
+                boolean copia = random.nextBoolean();
+                if (copia) matrix = matrix.copy();  // A versão anterior continua sendo consultada
+                RouteGraph graph;
+                if (operacao == 0) {
+                    RandomNetwork.addAirport(registry, random);
+                    matrix.airportAdded();
+                    graph = RouteGraph.build(registry);
+                } else if (operacao < 6) {
+                    String[] route = RandomNetwork.addFlight(registry, random, number++);
+                    graph = RouteGraph.build(registry);
+                    matrix.flightAdded(graph.idOf(route[0]), graph.idOf(route[1]));
+                } else {
+                    String[] route = removeRandomFlight(registry, random);
+                    if (route == null) continue;
+                    graph = RouteGraph.build(registry);
+                    matrix.flightRemoved(graph, graph.idOf(route[0]), graph.idOf(route[1]), pool);
+                }
+                alteracoes++;
+                if (!confere(matrix, graph, pool)) divergencias++;
+                if (copia && !confere(versao, anterior, pool)) divergencias++;  // Linhas compartilhadas intactas
+                anterior = graph;
+            }
+        }
+
+        System.out.println("Testando HopMatrix incremental contra a reconstrução e Floyd-Warshall");
+        System.out.println("Alterações:   " + alteracoes);
+        System.out.println("Divergências: " + divergencias);
+
+        // Uma cadeia A0 -> A1 -> ... cresce além de 255 aeroportos, forçando a troca para short[]
+        AirportRegistry cadeia = new AirportRegistry();
+        RandomNetwork.addAirport(cadeia, random);
+        HopMatrix matrix = HopMatrix.build(RouteGraph.build(cadeia), pool);
+        HopMatrix versao200 = null;
+        for (int i = 1; i < 300; i++) {
+            if (i == 200) versao200 = matrix;
+            if (i % 2 == 0) matrix = matrix.copy();  // Parte da cadeia cresce sobre cópias, inclusive a troca de tipo
+            RandomNetwork.addAirport(cadeia, random);
+            matrix.airportAdded();
+            cadeia.find("A" + (i - 1)).getFlights().addLast(new Flight("A" + i, i));
+            matrix.flightAdded(i - 1, i);
+        }
+        RouteGraph graph = RouteGraph.build(cadeia);
+        boolean cadeiaOk = confere(matrix, graph, pool) && matrix.hops(0, 299) == 299
+                           && versao200.size() == 200 && versao200.hops(0, 199) == 199
+                           && versao200.hops(199, 0) == HopMatrix.UNREACHABLE;
+        System.out.println("Cadeia de 300:  " + cadeiaOk + " (A0 -> A299 = " + matrix.hops(0, 299) + ")");
+
+        // A cópia não é afetada pelas alterações feitas na original
+        HopMatrix copia = matrix.copy();
+        cadeia.find("A149").getFlights().removeFirst();
+        matrix.flightRemoved(RouteGraph.build(cadeia), 149, 150, pool);
+        boolean copiaOk = copia.hops(0, 299) == 299 && matrix.hops(0, 299) == HopMatrix.UNREACHABLE;
+        System.out.println("Cópia isolada:  " + copiaOk);
+
+        boolean ok = divergencias == 0 && cadeiaOk && copiaOk;
+        System.out.println("Resultado:      " + (ok ? "OK" : "FALHOU"));
+    }
+
+    // Remove um voo aleatório do cadastro e devolve os códigos de origem e destino
+    private static String[] removeRandomFlight(AirportRegistry registry, SplittableRandom random) {
+        for (int tentativa = 0; tentativa < 10; tentativa++) {
+            Airport airport = registry.find("A" + random.nextInt(registry.size()));
+            if (airport.getFlights().isEmpty()) continue;
+            int indice = random.nextInt(airport.getFlights().getTamanho());
+            Flight flight = airport.getFlights().get(indice);
+            airport.getFlights().removeAt(indice);
+            return new String[]{airport.getCode(), flight.getDestinationCode()};
+        }
+        return null;
+    }
+
+    // Compara a matriz com a reconstruída do zero e com as distâncias de Floyd-Warshall
+    private static boolean confere(HopMatrix matrix, RouteGraph graph, ForkJoinPool pool) {
+        HopMatrix rebuilt = HopMatrix.build(graph, pool);
+        long[][] hops = RandomNetwork.allPairs(graph, null);
+        if (matrix.size() != graph.size()) return false;
+        for (int s = 0; s < graph.size(); s++) {
+            for (int t = 0; t < graph.size(); t++) {
+                int esperado = (hops[s][t] == RandomNetwork.INFINITY) ? HopMatrix.UNREACHABLE : (int) hops[s][t];
+                if (matrix.hops(s, t) != esperado || rebuilt.hops(s, t) != esperado) {
+                    System.out.println("hops(" + graph.codeOf(s) + ", " + graph.codeOf(t) + "): esperado " + esperado
+                                       + ", incremental " + matrix.hops(s, t) + ", reconstruída " + rebuilt.hops(s, t));
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/// # TestKShortestPaths
+///
+/// Confere `KShortestPaths.find` contra a enumeração de todos os trajetos simples em malhas pequenas e
+/// aleatórias: os custos devem ser os `k` menores, em ordem, e os trajetos devem ser simples e distintos.
+public class TestKShortestPaths {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 2 + random.nextInt(7);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(3 * n + 1)));
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s == t) continue;
+                    List<int[]> todos = RandomNetwork.simplePaths(graph, s, t);
+                    for (RouteWeight weight : new RouteWeight[]{null, RouteWeight.DURATION, RouteWeight.DISTANCE, RouteWeight.FARE}) {
+                        int k = 1 + random.nextInt(8);
+                        consultas++;
+                        if (!confere(graph, s, t, k, weight, todos)) divergencias++;
+                    }
+                }
+            }
+        }
+
+        System.out.println("Testando KShortestPaths contra a enumeração de trajetos simples");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere os k trajetos encontrados contra os custos de todos os trajetos simples
+    private static boolean confere(RouteGraph graph, int s, int t, int k, RouteWeight weight, List<int[]> todos) {
+        List<Long> custos = new ArrayList<>();
+        for (int[] path : todos) {
+            long cost = RandomNetwork.cost(graph, path, weight);
+            if (cost >= 0) custos.add(cost);
+        }
+        custos.sort(null);
+        List<Long> esperado = custos.subList(0, Math.min(k, custos.size()));
+
+        List<Itinerary> encontrados = KShortestPaths.find(graph, s, t, k, weight);
+        List<Long> obtido = new ArrayList<>();
+        Set<List<Integer>> distintos = new HashSet<>();
+        boolean ok = true;
+        for (Itinerary itinerary : encontrados) {
+            int[] edges = RandomNetwork.edgesOf(graph, itinerary, s, t);
+            if (edges == null || !RandomNetwork.isSimple(graph, s, edges)) {
+                ok = false;
+                continue;
+            }
+            long cost = RandomNetwork.cost(graph, edges, weight);
+            if (cost != itinerary.getCost()) ok = false;
+            obtido.add(cost);
+
+            List<Integer> chave = new ArrayList<>();
+            for (int e : edges) chave.add(e);
+            if (!distintos.add(chave)) ok = false;  // Trajeto repetido
+        }
+        ok &= obtido.equals(esperado);
+
+        if (!ok)
+            System.out.println("find(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + k + ", " + weight + "): esperado "
+                               + esperado + ", obtido " + encontrados);
+        return ok;
+    }
+}
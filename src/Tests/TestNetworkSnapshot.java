@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/// # TestNetworkSnapshot
+///
+/// Confere o isolamento das versões de `NetworkSnapshot` contra cópias completas (listas comuns) de cada versão.
+/// Cada lote parte de uma das últimas versões publicadas (não só da mais recente), cadastra aeroportos e
+/// acrescenta e remove voos; depois de cada publicação, todas as versões guardadas são conferidas de novo, para
+/// garantir que os blocos, entradas e baldes de códigos compartilhados não foram alterados. As maiores malhas
+/// passam de 200 aeroportos, atravessando vários blocos e duplicações dos baldes de códigos.
+public class TestNetworkSnapshot {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int lotes = 0;
+        int divergencias = 0;
+        int maior = 0;
+
+        for (int rodada = 0; rodada < 20; rodada++) {
+            AirportRegistry registry = RandomNetwork.generate(random, random.nextInt(10), 0);
+            List<NetworkSnapshot> versoes = new ArrayList<>();
+            List<List<Modelo>> modelos = new ArrayList<>();
+            versoes.add(NetworkSnapshot.of(registry));
+            modelos.add(modeloDe(registry));
+            int number = 1;
+
+            for (int lote = 0; lote < 80; lote++) {
+                int base = versoes.size() - 1 - random.nextInt(Math.min(4, versoes.size()));  // Às vezes uma versão antiga
+                NetworkSnapshot.Builder builder = versoes.get(base).toBuilder();
+                List<Modelo> modelo = new ArrayList<>();
+                for (Modelo airport : modelos.get(base)) modelo.add(airport.copy());
+
+                int alteracoes = random.nextInt(40);
+                for (int i = 0; i < alteracoes; i++) {
+                    int operacao = random.nextInt(4);
+                    if (operacao == 0 || modelo.size() < 2) {
+                        Airport airport = new Airport("Aeroporto " + number, "N" + number++);
+                        builder.addAirport(airport);
+                        modelo.add(new Modelo(airport.getCode(), airport.getName()));
+                    } else if (operacao < 3) {
+                        Modelo from = modelo.get(random.nextInt(modelo.size()));
+                        Flight flight = new Flight(modelo.get(random.nextInt(modelo.size())).code, number++);
+                        builder.addFlight(random.nextBoolean() ? from.code : from.code.toLowerCase(Locale.ROOT), flight);
+                        from.flights.add(flight);
+                    } else {
+                        Modelo from = modelo.get(random.nextInt(modelo.size()));
+                        if (from.flights.isEmpty()) {
+                            builder.removeFlight(from.code, -1);  // Voo inexistente: nada muda
+                            continue;
+                        }
+                        Flight flight = from.flights.remove(random.nextInt(from.flights.size()));
+                        builder.removeFlight(from.code, flight.getFlightNumber());
+                    }
+                }
+
+                NetworkSnapshot next = builder.build();
+                long esperada = (builder.changes() == 0) ? versoes.get(base).version() : versoes.get(base).version() + 1;
+                lotes++;
+                if (next.version() != esperada) {
+                    System.out.println("Versão " + next.version() + ", esperada " + esperada);
+                    divergencias++;
+                }
+                try {
+                    builder.addAirport(new Airport("Reaproveitado", "R" + lote));
+                    System.out.println("Construtor aceitou alterações depois de build");
+                    divergencias++;
+                } catch (IllegalStateException esperado) {
+                    // Um lote publicado não pode ser reaproveitado
+                }
+
+                versoes.add(next);
+                modelos.add(modelo);
+                for (int v = 0; v < versoes.size(); v++)
+                    if (!confere(versoes.get(v), modelos.get(v))) divergencias++;
+            }
+            maior = Math.max(maior, versoes.get(versoes.size() - 1).size());
+
+            // Código já cadastrado (sem diferenciar maiúsculas) e origem desconhecida são rejeitados
+            NetworkSnapshot ultima = versoes.get(versoes.size() - 1);
+            lotes++;
+            if (ultima.size() > 0 && !rejeita(() -> ultima.toBuilder().addAirport(new Airport("Repetido", ultima.codeOf(0).toLowerCase(Locale.ROOT)))))
+                divergencias++;
+            if (!rejeita(() -> ultima.toBuilder().addFlight("XYZ", new Flight("A0", 1))))
+                divergencias++;
+        }
+
+        System.out.println("Testando o isolamento das versões de NetworkSnapshot");
+        System.out.println("Lotes:        " + lotes);
+        System.out.println("Maior versão: " + maior + " aeroportos");
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere tamanho, quantidade de voos, códigos, nomes, voos e retrato de uma versão contra o seu modelo
+    private static boolean confere(NetworkSnapshot snapshot, List<Modelo> modelo) {
+        int voos = 0;
+        for (Modelo airport : modelo) voos += airport.flights.size();
+        if (snapshot.size() != modelo.size() || snapshot.flightCount() != voos) {
+            System.out.println(snapshot + ": esperado " + modelo.size() + " aeroportos e " + voos + " voos");
+            return false;
+        }
+
+        for (int id = 0; id < modelo.size(); id++) {
+            Modelo airport = modelo.get(id);
+            if (!snapshot.codeOf(id).equals(airport.code) || !snapshot.nameOf(id).equals(airport.name)
+                || snapshot.idOf(airport.code) != id || snapshot.idOf(" " + airport.code.toLowerCase(Locale.ROOT)) != id
+                || !snapshot.flights(id).equals(airport.flights)) {
+                System.out.println(snapshot + ": aeroporto " + id + " divergente, esperado " + airport.code + " com voos "
+                                   + airport.flights + ", obtido " + snapshot.codeOf(id) + " com voos " + snapshot.flights(id));
+                return false;
+            }
+        }
+        if (snapshot.idOf("N0") != -1 || snapshot.idOf("N" + Integer.MAX_VALUE) != -1 || snapshot.idOf(null) != -1) {
+            System.out.println(snapshot + ": código ausente encontrado");
+            return false;
+        }
+
+        RouteGraph graph = snapshot.routeGraph();
+        for (int id = 0; id < modelo.size(); id++) {
+            if (graph.idOf(modelo.get(id).code) != id || graph.edgeEnd(id) - graph.edgeStart(id) != modelo.get(id).flights.size()) {
+                System.out.println(snapshot + ": retrato divergente no aeroporto " + modelo.get(id).code);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Informa se a alteração foi rejeitada com IllegalArgumentException
+    private static boolean rejeita(Runnable alteracao) {
+        try {
+            alteracao.run();
+        } catch (IllegalArgumentException esperado) {
+            return true;
+        }
+        System.out.println("Alteração inválida aceita pelo construtor");
+        return false;
+    }
+
+    private static List<Modelo> modeloDe(AirportRegistry registry) {
+        List<Modelo> modelo = new ArrayList<>();
+        for (Airport airport : registry.getAirports()) modelo.add(new Modelo(airport.getCode(), airport.getName()));
+        return modelo;
+    }
+
+    // Cópia completa dos dados de um aeroporto em uma versão
+    private static final class Modelo {
+        private final String code;
+        private final String name;
+        private final List<Flight> flights = new ArrayList<>();
+
+        Modelo(String code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        Modelo copy() {
+            Modelo copy = new Modelo(code, name);
+            copy.flights.addAll(flights);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/// # TestParallelPathSearch
+///
+/// Confere a contagem e a enumeração paralelas de `ParallelPathSearch` contra a enumeração recursiva de todos
+/// os trajetos simples, para todos os pares de aeroportos e limites aleatórios de trechos. Os trajetos entregues
+/// (em ordem indeterminada) precisam ser exatamente os esperados, cada um uma única vez. As malhas vão de
+/// aleatórias e esparsas a quase completas, para que a divisão em tarefas aconteça em vários níveis.
+public class TestParallelPathSearch {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 200; rodada++) {
+            int n = 1 + random.nextInt(8);
+            int flights = (rodada % 4 == 0) ? n * n : random.nextInt(3 * n + 1);  // Algumas malhas bem densas
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, flights));
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    consultas++;
+                    int maxHops = 1 + random.nextInt(n);
+                    if (!confere(graph, s, t, maxHops, pool)) divergencias++;
+                }
+            }
+        }
+        pool.shutdown();
+
+        System.out.println("Testando ParallelPathSearch contra a enumeração recursiva");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere a contagem e os trajetos entregues, comparados como listas ordenadas de voos
+    private static boolean confere(RouteGraph graph, int s, int t, int maxHops, ForkJoinPool pool) {
+        List<String> esperado = new ArrayList<>();
+        for (int[] edges : RandomNetwork.simplePaths(graph, s, t))
+            if (edges.length <= maxHops) esperado.add(Arrays.toString(edges));
+        Collections.sort(esperado);
+
+        long contados = ParallelPathSearch.count(graph, s, t, maxHops, pool);
+        Queue<Itinerary> sink = new ConcurrentLinkedQueue<>();
+        long entregues = ParallelPathSearch.forEach(graph, s, t, maxHops, pool, sink::add);
+
+        List<String> obtido = new ArrayList<>();
+        for (Itinerary itinerary : sink) {
+            int[] edges = RandomNetwork.edgesOf(graph, itinerary, s, t);
+            obtido.add(edges == null ? "inválido: " + itinerary : Arrays.toString(edges));
+        }
+        Collections.sort(obtido);
+
+        if (contados != esperado.size() || entregues != esperado.size() || !obtido.equals(esperado)) {
+            System.out.println("ParallelPathSearch(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + maxHops
+                               + "): count " + contados + ", forEach " + entregues + ", esperado " + esperado.size());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/// # TestParetoSearch
+///
+/// Confere `ParetoSearch.find` contra a fronteira de Pareto calculada sobre todos os trajetos simples em
+/// malhas pequenas e aleatórias. As opções são comparadas pelo vetor (trechos, tarifa, duração); com o limite
+/// de rótulos folgado, a busca deve devolver exatamente os vetores não dominados.
+public class TestParetoSearch {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 2 + random.nextInt(7);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(3 * n + 1)));
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s == t) continue;
+                    consultas++;
+                    if (!confere(graph, s, t)) divergencias++;
+                }
+            }
+        }
+
+        System.out.println("Testando ParetoSearch contra a enumeração de trajetos simples");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Compara os vetores das opções encontradas com a fronteira calculada por força bruta
+    private static boolean confere(RouteGraph graph, int s, int t) {
+        List<List<Long>> vetores = new ArrayList<>();
+        for (int[] path : RandomNetwork.simplePaths(graph, s, t)) {
+            long fare = RandomNetwork.cost(graph, path, RouteWeight.FARE);
+            long minutes = RandomNetwork.cost(graph, path, RouteWeight.DURATION);
+            if (fare >= 0 && minutes >= 0) vetores.add(List.of((long) path.length, fare, minutes));
+        }
+        List<List<Long>> esperado = new ArrayList<>();
+        for (List<Long> v : vetores)
+            if (vetores.stream().noneMatch(w -> domina(w, v)) && !esperado.contains(v)) esperado.add(v);
+
+        List<ParetoSearch.Option> options = ParetoSearch.find(graph, s, t, 1024);
+        List<List<Long>> obtido = new ArrayList<>();
+        boolean ok = true;
+        for (ParetoSearch.Option option : options) {
+            int[] edges = RandomNetwork.edgesOf(graph, option.getItinerary(), s, t);
+            List<Long> v = List.of((long) option.getHops(), option.getFare(), option.getMinutes());
+            if (edges == null
+                || edges.length != option.getHops()
+                || RandomNetwork.cost(graph, edges, RouteWeight.FARE) != option.getFare()
+                || RandomNetwork.cost(graph, edges, RouteWeight.DURATION) != option.getMinutes()
+                || obtido.contains(v)) ok = false;
+            obtido.add(v);
+        }
+        ok &= obtido.size() == esperado.size() && obtido.containsAll(esperado);
+
+        if (!ok)
+            System.out.println("find(" + graph.codeOf(s) + ", " + graph.codeOf(t) + "): esperado " + esperado + ", obtido " + obtido);
+        return ok;
+    }
+
+    // Informa se o vetor a domina o vetor b (não é pior em nenhum critério e é diferente)
+    private static boolean domina(List<Long> a, List<Long> b) {
+        for (int i = 0; i < a.size(); i++)
+            if (a.get(i) > b.get(i)) return false;
+        return !a.equals(b);
+    }
+}
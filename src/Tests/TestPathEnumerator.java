@@ -0,0 +1,95 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/// # TestPathEnumerator
+///
+/// Confere o `PathEnumerator` contra a enumeração recursiva de todos os trajetos simples em malhas pequenas e
+/// aleatórias, para todos os pares de aeroportos e limites aleatórios de trechos e de resultados: os trajetos
+/// produzidos precisam ser exatamente os primeiros trajetos da busca em profundidade que cabem no limite de
+/// trechos, na mesma ordem. Também confere a interrupção por tempo em uma malha completa.
+public class TestPathEnumerator {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 1 + random.nextInt(8);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(3 * n + 1)));
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    consultas++;
+                    int maxHops = 1 + random.nextInt(n);
+                    long maxResults = random.nextBoolean() ? Long.MAX_VALUE : 1 + random.nextInt(6);
+                    if (!confere(graph, s, t, maxHops, maxResults)) divergencias++;
+                }
+            }
+        }
+
+        // Malha completa com muitos trajetos e prazo zero: a busca para sozinha e só entrega trajetos válidos
+        int n = 12;
+        AirportRegistry registry = new AirportRegistry();
+        for (int i = 0; i < n; i++) RandomNetwork.addAirport(registry, random);
+        int number = 1;
+        for (int u = 0; u < n; u++)
+            for (int v = 0; v < n; v++)
+                if (u != v) registry.find("A" + u).getFlights().addLast(new Flight("A" + v, number++));
+        RouteGraph graph = RouteGraph.build(registry);
+        PathEnumerator paths = new PathEnumerator(graph, 0, n - 1, n, Long.MAX_VALUE, Duration.ZERO);
+        long produzidos = 0;
+        while (paths.hasNext()) {
+            Itinerary itinerary = paths.next();
+            int[] edges = RandomNetwork.edgesOf(graph, itinerary, 0, n - 1);
+            if (edges == null || !RandomNetwork.isSimple(graph, 0, edges)) {
+                System.out.println("Trajeto inválido antes do prazo: " + itinerary);
+                divergencias++;
+            }
+            produzidos++;
+        }
+        consultas++;
+        if (!paths.isTimedOut() || !paths.isTruncated()) {
+            System.out.println("Prazo zero: esperado interrompido por tempo após " + produzidos + " trajetos");
+            divergencias++;
+        }
+
+        System.out.println("Testando PathEnumerator contra a enumeração recursiva");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere a sequência produzida e o indicador de interrupção
+    private static boolean confere(RouteGraph graph, int s, int t, int maxHops, long maxResults) {
+        List<int[]> esperados = new ArrayList<>();
+        for (int[] edges : RandomNetwork.simplePaths(graph, s, t))
+            if (edges.length <= maxHops) esperados.add(edges);
+
+        PathEnumerator paths = new PathEnumerator(graph, s, t, maxHops, maxResults, null);
+        int i = 0;
+        while (paths.hasNext()) {
+            Itinerary itinerary = paths.next();
+            int[] edges = RandomNetwork.edgesOf(graph, itinerary, s, t);
+            if (i >= esperados.size() || i >= maxResults || edges == null || !Arrays.equals(edges, esperados.get(i))) {
+                System.out.println("PathEnumerator(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + maxHops + ", "
+                                   + maxResults + "): trajeto " + i + " inesperado: " + itinerary);
+                return false;
+            }
+            i++;
+        }
+
+        long total = esperados.size();
+        // Com exatamente maxResults trajetos a busca para sem saber se há outro, e qualquer resposta é aceita
+        boolean truncamentoOk = (total == maxResults) || paths.isTruncated() == (total > maxResults);
+        if (i != Math.min(total, maxResults) || paths.isTimedOut() || !truncamentoOk) {
+            System.out.println("PathEnumerator(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + maxHops + ", "
+                               + maxResults + "): " + i + " de " + total + " trajetos, truncado = " + paths.isTruncated());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+import java.util.SplittableRandom;
+
+/// # TestReachabilityIndex
+///
+/// Confere o `ReachabilityIndex` contra buscas em largura a partir de cada aeroporto, para todos os pares, em
+/// malhas aleatórias de 1 a 200 aeroportos. As malhas esparsas têm muitas componentes, de modo que as linhas do
+/// fecho ocupam várias palavras `long`.
+public class TestReachabilityIndex {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        long consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 200; rodada++) {
+            int n = 1 + random.nextInt(rodada % 2 == 0 ? 12 : 200);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(2 * n + 1)));
+            boolean[][] reach = RandomNetwork.reachability(graph);
+            ReachabilityIndex index = ReachabilityIndex.build(graph);
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    consultas++;
+                    if (index.isReachable(s, t) != reach[s][t]) {
+                        System.out.println("isReachable(" + graph.codeOf(s) + ", " + graph.codeOf(t) + "): esperado "
+                                           + reach[s][t] + " em uma malha de " + n + " aeroportos");
+                        divergencias++;
+                    }
+                }
+            }
+        }
+
+        System.out.println("Testando ReachabilityIndex contra buscas em largura");
+        System.out.println("Pares consultados: " + consultas);
+        System.out.println("Divergências:      " + divergencias);
+        System.out.println("Resultado:         " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+}
@@ -0,0 +1,160 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/// # TestRouteCombinations
+///
+/// Confere a geração no próprio vetor de `RouteCombinations.forEach` contra a geração recursiva de todos os
+/// arranjos (ordenados por tamanho, combinação e permutação, a ordem da geração anterior por `combine` e
+/// `permute`), a fórmula fechada de `count` e a interrupção pelo `Visitor`. Em malhas pequenas e aleatórias,
+/// confere `forEachFeasible` contra os arranjos de `forEach` filtrados pela existência de voo em cada trecho
+/// e contra a enumeração recursiva de trajetos simples (sem repetir a sequência de aeroportos dos voos paralelos).
+public class TestRouteCombinations {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int n = 0; n <= 7; n++) {
+            List<int[]> esperado = arrangements(n);
+            List<int[]> obtido = new ArrayList<>();
+            long entregues = RouteCombinations.forEach(n, (route, length) -> obtido.add(Arrays.copyOf(route, length)));
+
+            consultas++;
+            if (entregues != esperado.size() || !iguais(esperado, obtido)) {
+                System.out.println("forEach(" + n + "): " + obtido.size() + " sequências, esperado " + esperado.size());
+                divergencias++;
+            }
+            consultas++;
+            if (!RouteCombinations.count(n).equals(BigInteger.valueOf(esperado.size()))) {
+                System.out.println("count(" + n + "): esperado " + esperado.size() + ", obtido " + RouteCombinations.count(n));
+                divergencias++;
+            }
+
+            // Interrompe a geração em cada posição possível
+            for (int limite = 1; limite <= esperado.size(); limite += 1 + limite / 4) {
+                List<int[]> prefixo = new ArrayList<>();
+                int parar = limite;
+                long parcial = RouteCombinations.forEach(n, (route, length) -> {
+                    prefixo.add(Arrays.copyOf(route, length));
+                    return prefixo.size() < parar;
+                });
+                consultas++;
+                if (parcial != limite || !iguais(esperado.subList(0, limite), prefixo)) {
+                    System.out.println("forEach(" + n + ") interrompido em " + limite + ": entregou " + parcial);
+                    divergencias++;
+                }
+            }
+        }
+
+        consultas++;
+        if (!RouteCombinations.count(20).equals(new BigInteger("6613313319248080001"))) {
+            System.out.println("count(20): obtido " + RouteCombinations.count(20));
+            divergencias++;
+        }
+
+        for (int rodada = 0; rodada < 200; rodada++) {
+            int n = 2 + random.nextInt(6);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(3 * n + 1)));
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s == t) continue;
+                    consultas++;
+                    if (!confereViaveis(graph, s, t)) divergencias++;
+                }
+            }
+        }
+
+        System.out.println("Testando RouteCombinations contra a geração recursiva");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Confere forEachFeasible: a ordem é a da busca em profundidade, e o conjunto é o dos arranjos voáveis
+    private static boolean confereViaveis(RouteGraph graph, int s, int t) {
+        Set<List<Integer>> esperado = new LinkedHashSet<>();  // Trajetos simples, na ordem da busca, sem repetir
+        for (int[] edges : RandomNetwork.simplePaths(graph, s, t)) {
+            List<Integer> route = new ArrayList<>();
+            for (int i = 0; i + 1 < edges.length; i++) route.add(graph.target(edges[i]));
+            esperado.add(route);
+        }
+
+        int[] intermediates = new int[graph.size() - 2];
+        for (int u = 0, i = 0; u < graph.size(); u++)
+            if (u != s && u != t) intermediates[i++] = u;
+        Set<List<Integer>> voaveis = new LinkedHashSet<>();
+        RouteCombinations.forEach(intermediates.length, (route, length) -> {
+            List<Integer> airports = new ArrayList<>();
+            for (int i = 0; i < length; i++) airports.add(intermediates[route[i]]);
+            if (flyable(graph, s, airports, t)) voaveis.add(airports);
+            return true;
+        });
+
+        List<List<Integer>> obtido = new ArrayList<>();
+        long entregues = RouteCombinations.forEachFeasible(graph, s, t, (route, length) -> {
+            List<Integer> airports = new ArrayList<>();
+            for (int i = 0; i < length; i++) airports.add(route[i]);
+            return obtido.add(airports);
+        });
+
+        if (entregues != obtido.size() || !obtido.equals(new ArrayList<>(esperado)) || !voaveis.equals(esperado)) {
+            System.out.println("forEachFeasible(" + graph.codeOf(s) + ", " + graph.codeOf(t) + "): obtido " + obtido
+                               + ", esperado " + esperado + " (arranjos voáveis " + voaveis + ")");
+            return false;
+        }
+        return true;
+    }
+
+    // Informa se há voo direto entre cada par de aeroportos consecutivos do trajeto
+    private static boolean flyable(RouteGraph graph, int s, List<Integer> airports, int t) {
+        int u = s;
+        for (int i = 0; i <= airports.size(); i++) {
+            int v = (i < airports.size()) ? airports.get(i) : t;
+            boolean found = false;
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u) && !found; e++)
+                found = graph.target(e) == v;
+            if (!found) return false;
+            u = v;
+        }
+        return true;
+    }
+
+    // Todos os arranjos de 0 a n elementos distintos de [0, n), ordenados por tamanho, pela combinação
+    // (elementos em ordem crescente) e, dentro da combinação, pela própria sequência
+    private static List<int[]> arrangements(int n) {
+        List<int[]> all = new ArrayList<>();
+        collect(n, new int[n], 0, new boolean[n], all);
+        Comparator<int[]> porCombinacao = Comparator.comparing(route -> {
+            int[] sorted = route.clone();
+            Arrays.sort(sorted);
+            return sorted;
+        }, Arrays::compare);
+        all.sort(Comparator.<int[]>comparingInt(route -> route.length).thenComparing(porCombinacao).thenComparing(Arrays::compare));
+        return all;
+    }
+
+    private static void collect(int n, int[] route, int length, boolean[] used, List<int[]> all) {
+        all.add(Arrays.copyOf(route, length));
+        for (int i = 0; i < n; i++) {
+            if (used[i]) continue;
+            used[i] = true;
+            route[length] = i;
+            collect(n, route, length + 1, used, all);
+            used[i] = false;
+        }
+    }
+
+    private static boolean iguais(List<int[]> a, List<int[]> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++)
+            if (!Arrays.equals(a.get(i), b.get(i))) return false;
+        return true;
+    }
+}
@@ -0,0 +1,207 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/// # TestRouteQueryCache
+///
+/// Confere a `RouteQueryCache` contra um modelo simples (uma lista em ordem de uso e um `HashMap`) em sequências
+/// aleatórias de consultas e listagens com versões da malha antigas, atuais e novas: uma versão nova descarta
+/// tudo, uma versão antiga não usa nem altera a cache, resultados `null` também são guardados e, acima da
+/// capacidade, sai a entrada menos usada recentemente. Também confere que um resultado calculado enquanto a
+/// malha mudou não é guardado, que códigos em minúsculas usam a mesma entrada e que listagens grandes demais
+/// não são guardadas.
+public class TestRouteQueryCache {
+
+    private static final String[] CODES = {"GRU", "gru", "SSA", " ssa ", "GIG", "BSB"};
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        PrintStream out = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        int operacoes = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 200; rodada++) {
+            int capacity = 1 + random.nextInt(8);
+            RouteQueryCache cache = new RouteQueryCache(capacity);
+            Modelo modelo = new Modelo(capacity);
+            long version = 0;
+
+            for (int passo = 0; passo < 300; passo++) {
+                operacoes++;
+                if (random.nextInt(8) == 0) version++;  // A malha mudou
+                long v = Math.max(0, version - random.nextInt(2));  // Às vezes um leitor da versão anterior
+                RouteQueryCache.Key key = randomKey(random);
+
+                String erro = null;
+                if (random.nextInt(4) > 0) {
+                    int[] calculos = {0};
+                    long versaoDoCalculo = v;
+                    Object obtido = cache.computeIfAbsent(v, key, () -> {
+                        calculos[0]++;
+                        return valueOf(versaoDoCalculo, key);
+                    });
+                    Object esperado = modelo.computeIfAbsent(v, key);
+                    boolean calculado = modelo.calculou;
+                    if (!equal(obtido, esperado) || (calculos[0] == 1) != calculado)
+                        erro = "computeIfAbsent(" + v + ", " + key + "): obtido " + obtido + " (" + calculos[0]
+                               + " cálculos), esperado " + esperado + (calculado ? " calculado" : " guardado");
+                } else if (random.nextBoolean()) {
+                    List<String> obtido = cache.lookupTranscript(v, key);
+                    Object esperado = modelo.lookupTranscript(v, key);
+                    if (!equal(obtido, esperado))
+                        erro = "lookupTranscript(" + v + ", " + key + "): obtido " + obtido + ", esperado " + esperado;
+                } else {
+                    RouteQueryCache.Transcript transcript = new RouteQueryCache.Transcript();
+                    int linhas = random.nextInt(4);
+                    System.setOut(discard);
+                    for (int i = 0; i < linhas; i++) transcript.println(key + " linha " + i);
+                    System.setOut(out);
+                    cache.storeTranscript(v, key, transcript);
+                    modelo.storeTranscript(v, key, linhas);
+                }
+
+                if (erro == null && (cache.size() != modelo.ordem.size() || cache.getHits() != modelo.hits
+                                     || cache.getMisses() != modelo.misses))
+                    erro = "Tamanho, acertos e falhas: obtido " + cache.size() + "/" + cache.getHits() + "/"
+                           + cache.getMisses() + ", esperado " + modelo.ordem.size() + "/" + modelo.hits + "/" + modelo.misses;
+                if (erro != null) {
+                    System.out.println(erro);
+                    divergencias++;
+                    break;  // O modelo deixou de representar a cache
+                }
+            }
+        }
+
+        // Um resultado calculado enquanto a malha mudou não é guardado
+        RouteQueryCache cache = new RouteQueryCache(4);
+        RouteQueryCache.Key key = new RouteQueryCache.Key(RouteQueryCache.Kind.SHORTEST, "GRU", "SSA", 0, 0);
+        RouteQueryCache.Key outra = new RouteQueryCache.Key(RouteQueryCache.Kind.SHORTEST, "SSA", "GRU", 0, 0);
+        cache.computeIfAbsent(1, key, () -> cache.computeIfAbsent(2, outra, () -> "versão 2"));
+        operacoes++;
+        if (cache.size() != 1 || !"recalculado".equals(cache.computeIfAbsent(2, key, () -> "recalculado"))) {
+            System.out.println("Resultado da versão 1 guardado depois da versão 2");
+            divergencias++;
+        }
+
+        // Códigos em minúsculas e com espaços usam a mesma entrada
+        RouteQueryCache.Key mesma = new RouteQueryCache.Key(RouteQueryCache.Kind.SHORTEST, " gru", "ssa ", 0, 0);
+        operacoes++;
+        if (!"recalculado".equals(cache.computeIfAbsent(2, mesma, () -> "outra entrada"))) {
+            System.out.println("Chave " + mesma + " não reaproveitou a entrada de " + key);
+            divergencias++;
+        }
+
+        // Uma listagem grande demais é exibida, mas não é guardada
+        RouteQueryCache.Transcript transcript = new RouteQueryCache.Transcript();
+        System.setOut(discard);
+        for (int i = 0; i <= RouteQueryCache.MAX_TRANSCRIPT_LINES; i++) transcript.println(i);
+        System.setOut(out);
+        cache.storeTranscript(2, key, transcript);
+        operacoes++;
+        if (transcript.isComplete() || cache.lookupTranscript(2, key) != null) {
+            System.out.println("Listagem com mais de " + RouteQueryCache.MAX_TRANSCRIPT_LINES + " linhas foi guardada");
+            divergencias++;
+        }
+
+        System.out.println("Testando RouteQueryCache contra um modelo LRU com versões");
+        System.out.println("Operações:    " + operacoes);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    private static RouteQueryCache.Key randomKey(SplittableRandom random) {
+        RouteQueryCache.Kind kind = (random.nextBoolean()) ? RouteQueryCache.Kind.SHORTEST : RouteQueryCache.Kind.CHEAPEST;
+        return new RouteQueryCache.Key(kind, CODES[random.nextInt(CODES.length)], CODES[random.nextInt(CODES.length)],
+                random.nextInt(2), 0);
+    }
+
+    // Resultado de uma consulta em uma versão da malha; algumas consultas não têm trajeto
+    private static String valueOf(long version, RouteQueryCache.Key key) {
+        return ((key.hashCode() + version) % 4 == 0) ? null : "versão " + version + ": " + key;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return (a == null) ? b == null : a.equals(b);
+    }
+
+    // Modelo da cache: chaves em ordem de uso (a primeira é a menos usada recentemente) e valores guardados
+    private static final class Modelo {
+        private static final Object SEM_TRAJETO = new Object();
+
+        private final int capacity;
+        private final List<RouteQueryCache.Key> ordem = new ArrayList<>();
+        private final Map<RouteQueryCache.Key, Object> valores = new HashMap<>();
+        private long version;
+        private long hits;
+        private long misses;
+        private boolean calculou;
+
+        Modelo(int capacity) {
+            this.capacity = capacity;
+        }
+
+        Object computeIfAbsent(long v, RouteQueryCache.Key key) {
+            Object guardado = get(v, key);
+            calculou = guardado == null;
+            if (!calculou) return (guardado == SEM_TRAJETO) ? null : guardado;
+
+            Object valor = valueOf(v, key);
+            put(v, key, (valor == null) ? SEM_TRAJETO : valor);
+            return valor;
+        }
+
+        Object lookupTranscript(long v, RouteQueryCache.Key key) {
+            Object guardado = atualiza(v) ? valores.get(key) : null;
+            if (guardado instanceof List<?>) {
+                usa(key);
+                hits++;
+                return guardado;
+            }
+            if (guardado != null) usa(key);  // Resultado de consulta: a listagem não está guardada
+            misses++;
+            return null;
+        }
+
+        void storeTranscript(long v, RouteQueryCache.Key key, int linhas) {
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < linhas; i++) lines.add(key + " linha " + i);
+            put(v, key, lines);
+        }
+
+        private Object get(long v, RouteQueryCache.Key key) {
+            Object guardado = atualiza(v) ? valores.get(key) : null;
+            if (guardado != null) {
+                usa(key);
+                hits++;
+            } else {
+                misses++;
+            }
+            return guardado;
+        }
+
+        private void put(long v, RouteQueryCache.Key key, Object valor) {
+            if (!atualiza(v)) return;
+            if (valores.put(key, valor) == null && ordem.size() == capacity) valores.remove(ordem.remove(0));
+            usa(key);
+        }
+
+        private void usa(RouteQueryCache.Key key) {
+            ordem.remove(key);
+            ordem.add(key);
+        }
+
+        private boolean atualiza(long v) {
+            if (v > version) {
+                ordem.clear();
+                valores.clear();
+                version = v;
+            }
+            return v == version;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.SplittableRandom;
+
+/// # TestRouteSearch
+///
+/// Confere as buscas de `RouteSearch` (BFS, BFS bidirecional, Dijkstra, A* e Dijkstra bidirecional) contra
+/// Floyd–Warshall em malhas pequenas e aleatórias, para todos os pares de aeroportos. Parte das malhas
+/// recebe atalhos com pesos menores que a distância de círculo máximo (incoerentes com as coordenadas), que a
+/// heurística do A* precisa tolerar.
+public class TestRouteSearch {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 2 + random.nextInt(9);
+            AirportRegistry registry = RandomNetwork.generate(random, n, random.nextInt(3 * n + 1));
+            if (rodada % 3 == 0) {
+                int atalhos = 1 + random.nextInt(3);
+                for (int i = 0; i < atalhos; i++) addShortcut(registry, random, 1000 + i);
+            }
+            RouteGraph graph = RouteGraph.build(registry);
+            n = graph.size();
+            long[][] hops = RandomNetwork.allPairs(graph, null);
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s == t) continue;
+                    consultas++;
+                    if (!confere(graph, s, t, null, hops[s][t], RouteSearch.shortestHops(graph, s, t), "shortestHops"))
+                        divergencias++;
+                    if (!confere(graph, s, t, null, hops[s][t], RouteSearch.shortestHopsBidirectional(graph, s, t), "shortestHopsBidirectional"))
+                        divergencias++;
+                }
+            }
+
+            for (RouteWeight weight : RouteWeight.values()) {
+                long[][] dist = RandomNetwork.allPairs(graph, weight);
+                for (int s = 0; s < n; s++) {
+                    for (int t = 0; t < n; t++) {
+                        if (s == t) continue;
+                        consultas++;
+                        if (!confere(graph, s, t, weight, dist[s][t], RouteSearch.cheapest(graph, s, t, weight), "cheapest"))
+                            divergencias++;
+                        if (!confere(graph, s, t, weight, dist[s][t], RouteSearch.cheapestAStar(graph, s, t, weight), "cheapestAStar"))
+                            divergencias++;
+                        if (!confere(graph, s, t, weight, dist[s][t], RouteSearch.cheapestBidirectional(graph, s, t, weight), "cheapestBidirectional"))
+                            divergencias++;
+                    }
+                }
+            }
+        }
+
+        // Voo direto caro e trajeto barato por um aeroporto longe do destino: a estimativa em M não pode barrá-lo
+        AirportRegistry registry = new AirportRegistry();
+        String[] codes = {"S", "T", "M"};
+        double[][] coordinates = {{0, 0}, {0, 10}, {40, 50}};
+        for (int i = 0; i < codes.length; i++) {
+            Airport airport = new Airport("Aeroporto " + codes[i], codes[i]);
+            airport.setCoordinates(coordinates[i][0], coordinates[i][1]);
+            registry.add(airport);
+        }
+        registry.find("S").getFlights().addLast(new Flight("T", 1, 2000, 2000, 2000, null));
+        registry.find("S").getFlights().addLast(new Flight("M", 2, 1, 1, 1, null));
+        registry.find("M").getFlights().addLast(new Flight("T", 3, 1, 1, 1, null));
+        RouteGraph graph = RouteGraph.build(registry);
+        for (RouteWeight weight : RouteWeight.values()) {
+            consultas++;
+            if (!confere(graph, graph.idOf("S"), graph.idOf("T"), weight, 2, RouteSearch.cheapestAStar(graph, graph.idOf("S"), graph.idOf("T"), weight), "cheapestAStar"))
+                divergencias++;
+        }
+
+        System.out.println("Testando RouteSearch contra Floyd-Warshall");
+        System.out.println("Pares consultados: " + consultas);
+        System.out.println("Divergências:      " + divergencias);
+        System.out.println("Resultado:         " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Acrescenta um voo de pesos mínimos entre dois aeroportos aleatórios, às vezes a partir de um aeroporto novo
+    // sem coordenadas
+    private static void addShortcut(AirportRegistry registry, SplittableRandom random, int number) {
+        int n = registry.size();
+        int u = random.nextInt(n);
+        int v = random.nextInt(n - 1);
+        if (v >= u) v++;
+        String from = "A" + u;
+        if (random.nextInt(4) == 0) {
+            from = "A" + n;
+            registry.add(new Airport("Aeroporto " + n, from));
+            registry.find("A" + u).getFlights().addLast(new Flight(from, number + 100, 1, 1, 1, null));
+        }
+        registry.find(from).getFlights().addLast(new Flight("A" + v, number, 1, 1, 1, null));
+    }
+
+    // Confere o custo do trajeto encontrado e se ele existe de fato no retrato
+    private static boolean confere(RouteGraph graph, int s, int t, RouteWeight weight, long esperado, Itinerary itinerary, String busca) {
+        boolean ok;
+        if (esperado == RandomNetwork.INFINITY) {
+            ok = itinerary == null;
+        } else {
+            int[] edges = (itinerary == null) ? null : RandomNetwork.edgesOf(graph, itinerary, s, t);
+            ok = edges != null
+                 && RandomNetwork.cost(graph, edges, weight) == esperado
+                 && (weight == null || itinerary.getCost() == esperado);
+        }
+        if (!ok)
+            System.out.println(busca + "(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + weight + "): esperado "
+                               + (esperado == RandomNetwork.INFINITY ? "sem trajeto" : esperado) + ", obtido " + itinerary);
+        return ok;
+    }
+}
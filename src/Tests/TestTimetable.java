@@ -0,0 +1,107 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/// # TestTimetable
+///
+/// Confere a varredura de conexões (`Timetable.earliestArrival`) contra uma relaxação exaustiva sobre todas
+/// as partidas das duas semanas cobertas pela tabela, em malhas pequenas e aleatórias. Confere também se cada
+/// viagem devolvida respeita os horários dos voos e o tempo mínimo de conexão dos aeroportos.
+public class TestTimetable {
+
+    private static final int DAYS = 2 * FlightSchedule.DAYS_PER_WEEK;
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(args.length > 0 ? Long.parseLong(args[0]) : 2024);
+        int consultas = 0;
+        int divergencias = 0;
+
+        for (int rodada = 0; rodada < 300; rodada++) {
+            int n = 2 + random.nextInt(9);
+            RouteGraph graph = RouteGraph.build(RandomNetwork.generate(random, n, random.nextInt(4 * n + 1)));
+            Timetable timetable = Timetable.build(graph);
+
+            for (int s = 0; s < n; s++) {
+                for (int t = 0; t < n; t++) {
+                    if (s == t) continue;
+                    long departAfter = random.nextLong(3L * Timetable.MINUTES_PER_WEEK);
+                    consultas++;
+                    if (!confere(graph, timetable, s, t, departAfter)) divergencias++;
+                }
+            }
+        }
+
+        System.out.println("Testando Timetable (CSA) contra a relaxação exaustiva");
+        System.out.println("Consultas:    " + consultas);
+        System.out.println("Divergências: " + divergencias);
+        System.out.println("Resultado:    " + (divergencias == 0 ? "OK" : "FALHOU"));
+    }
+
+    // Chegada mais cedo por relaxação repetida de todas as partidas até não haver melhora
+    private static long bruteForce(RouteGraph graph, int s, int t, int start) {
+        int n = graph.size();
+        long[] arrival = new long[n];
+        long[] ready = new long[n];
+        Arrays.fill(arrival, Long.MAX_VALUE);
+        Arrays.fill(ready, Long.MAX_VALUE);
+        arrival[s] = start;
+        ready[s] = start;
+
+        boolean mudou = true;
+        while (mudou) {
+            mudou = false;
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    FlightSchedule schedule = graph.schedule(e);
+                    if (schedule == null || ready[u] == Long.MAX_VALUE) continue;
+                    int v = graph.target(e);
+                    for (int day = 0; day < DAYS; day++) {
+                        if (!schedule.operatesOn(day % FlightSchedule.DAYS_PER_WEEK)) continue;
+                        long departure = (long) day * FlightSchedule.MINUTES_PER_DAY + schedule.getDepartureMinute();
+                        long arrive = (long) day * FlightSchedule.MINUTES_PER_DAY + schedule.getArrivalMinute();
+                        if (departure >= ready[u] && arrive < arrival[v]) {
+                            arrival[v] = arrive;
+                            ready[v] = arrive + graph.minimumConnection(v);
+                            mudou = true;
+                        }
+                    }
+                }
+            }
+        }
+        return arrival[t];
+    }
+
+    // Compara a chegada e confere se a viagem é embarcável perna a perna
+    private static boolean confere(RouteGraph graph, Timetable timetable, int s, int t, long departAfter) {
+        long weekOffset = Math.floorDiv(departAfter, Timetable.MINUTES_PER_WEEK) * Timetable.MINUTES_PER_WEEK;
+        long esperado = bruteForce(graph, s, t, (int) (departAfter - weekOffset));
+        Timetable.Journey journey = timetable.earliestArrival(s, t, departAfter);
+
+        boolean ok;
+        if (esperado == Long.MAX_VALUE) {
+            ok = journey == null;
+        } else if (journey == null) {
+            ok = false;
+        } else {
+            int[] edges = RandomNetwork.edgesOf(graph, journey.getItinerary(), s, t);
+            ok = edges != null && journey.getArrivalTime() == weekOffset + esperado;
+            long pronto = departAfter;
+            for (int leg = 0; ok && leg < edges.length; leg++) {
+                FlightSchedule schedule = graph.schedule(edges[leg]);
+                long departure = journey.getDepartureTime(leg);
+                long minuteOfWeek = Math.floorMod(departure, Timetable.MINUTES_PER_WEEK);
+                int day = (int) (minuteOfWeek / FlightSchedule.MINUTES_PER_DAY);
+                ok = schedule != null
+                     && departure >= pronto
+                     && schedule.operatesOn(day)
+                     && minuteOfWeek % FlightSchedule.MINUTES_PER_DAY == schedule.getDepartureMinute()
+                     && journey.getArrivalTime(leg) - departure == schedule.getArrivalMinute() - schedule.getDepartureMinute();
+                pronto = journey.getArrivalTime(leg) + graph.minimumConnection(graph.target(edges[leg]));
+            }
+        }
+
+        if (!ok)
+            System.out.println("earliestArrival(" + graph.codeOf(s) + ", " + graph.codeOf(t) + ", " + departAfter + "): esperado "
+                               + (esperado == Long.MAX_VALUE ? "sem viagem" : weekOffset + esperado) + ", obtido " + journey);
+        return ok;
+    }
+}
@@ -0,0 +1,334 @@
+import java.util.Arrays;
+
+/// # Timetable
+///
+/// A classe `Timetable` é a tabela de conexões (partidas concretas de voos) de um `RouteGraph`, usada pelo
+/// algoritmo de varredura de conexões (*Connection Scan Algorithm*, CSA) para responder à pergunta "qual a
+/// chegada mais cedo em B saindo de A a partir do instante t?". Os instantes são minutos desde segunda-feira
+/// 00:00 (`epoch minutes` semanais); como os horários se repetem toda semana, a tabela cobre duas semanas
+/// e qualquer instante é levado para a primeira semana antes da busca.
+///
+/// ## Funcionalidades
+/// - **Construção (`build`):** Expande os horários semanais dos voos em conexões, ordenadas pela partida.
+/// - **Chegada mais cedo (`earliestArrival`):** Uma única varredura linear das conexões a partir de `t`,
+///   respeitando o tempo mínimo de conexão de cada aeroporto.
+///
+/// ## Estrutura Interna
+/// - **`departureStops`, `arrivalStops`:** Aeroportos de partida e de chegada de cada conexão.
+/// - **`departureTimes`, `arrivalTimes`:** Instantes de partida e de chegada de cada conexão.
+/// - **`edges`:** Voo (posição no `RouteGraph`) de cada conexão.
+///
+/// ## Uso
+/// ```java
+/// Timetable timetable = Timetable.build(graph);
+/// Timetable.Journey journey = timetable.earliestArrival(gru, ssa, 8 * 60);  // segunda-feira, 08:00
+///```
+public final class Timetable {
+
+    /// ### Campos
+    ///
+    /// - **`MINUTES_PER_WEEK`:** Período de repetição dos horários.
+    /// - **`HORIZON_WEEKS`:** Semanas cobertas pela tabela; viagens com mais de uma semana não são encontradas.
+    /// - **`graph`:** O retrato a partir do qual a tabela foi construída.
+    /// - **`departureStops`, `arrivalStops`, `departureTimes`, `arrivalTimes`, `edges`:** As conexões, ordenadas pela partida.
+    public static final int MINUTES_PER_WEEK = FlightSchedule.DAYS_PER_WEEK * FlightSchedule.MINUTES_PER_DAY;
+    private static final int HORIZON_WEEKS = 2;
+
+    private final RouteGraph graph;
+    private final int[] departureStops;
+    private final int[] arrivalStops;
+    private final int[] departureTimes;
+    private final int[] arrivalTimes;
+    private final int[] edges;
+
+    /// ## Timetable
+    ///
+    /// Construtor privado. Use `build` para gerar a tabela a partir de um retrato.
+    private Timetable(RouteGraph graph, int[] departureStops, int[] arrivalStops, int[] departureTimes, int[] arrivalTimes, int[] edges) {
+        this.graph = graph;
+        this.departureStops = departureStops;
+        this.arrivalStops = arrivalStops;
+        this.departureTimes = departureTimes;
+        this.arrivalTimes = arrivalTimes;
+        this.edges = edges;
+    }
+
+    /// ## build
+    ///
+    /// Gera a tabela de conexões de um retrato.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Para cada voo com horário e cada dia de operação nas `HORIZON_WEEKS` semanas, cria uma conexão.
+    ///    Voos sem horário não participam da tabela.
+    /// 2. Ordena as conexões pelo instante de partida, empacotando `(partida, índice)` em um `long[]`
+    ///    para ordenar vetores primitivos sem objetos intermediários.
+    ///
+    /// ### Exceções
+    /// Nenhuma exceção lançada diretamente neste metodo.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Timetable timetable = Timetable.build(RouteGraph.build(registry));
+    ///```
+    ///
+    /// @param graph O retrato CSR da malha.
+    /// @return A tabela de conexões.
+    public static Timetable build(RouteGraph graph) {
+        int days = HORIZON_WEEKS * FlightSchedule.DAYS_PER_WEEK;
+
+        // Primeira passagem: conta as conexões
+        int count = 0;
+        for (int e = 0; e < graph.edgeCount(); e++) {
+            FlightSchedule schedule = graph.schedule(e);
+            if (schedule != null) count += HORIZON_WEEKS * Integer.bitCount(schedule.getOperatingDays());
+        }
+
+        int[] fromStops = new int[count];
+        int[] toStops = new int[count];
+        int[] departures = new int[count];
+        int[] arrivals = new int[count];
+        int[] flights = new int[count];
+        long[] order = new long[count];
+
+        // Segunda passagem: expande os dias de operação
+        int c = 0;
+        for (int u = 0; u < graph.size(); u++) {
+            for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                FlightSchedule schedule = graph.schedule(e);
+                if (schedule == null) continue;
+
+                for (int day = 0; day < days; day++) {
+                    if (!schedule.operatesOn(day % FlightSchedule.DAYS_PER_WEEK)) continue;
+
+                    int dayStart = day * FlightSchedule.MINUTES_PER_DAY;
+                    fromStops[c] = u;
+                    toStops[c] = graph.target(e);
+                    departures[c] = dayStart + schedule.getDepartureMinute();
+                    arrivals[c] = dayStart + schedule.getArrivalMinute();
+                    flights[c] = e;
+                    order[c] = ((long) departures[c] << 32) | c;  // Ordena por partida, depois por índice
+                    c++;
+                }
+            }
+        }
+        Arrays.sort(order);
+
+        int[] departureStops = new int[count];
+        int[] arrivalStops = new int[count];
+        int[] departureTimes = new int[count];
+        int[] arrivalTimes = new int[count];
+        int[] edges = new int[count];
+        for (int i = 0; i < count; i++) {
+            int j = (int) order[i];  // Índice original (32 bits baixos)
+            departureStops[i] = fromStops[j];
+            arrivalStops[i] = toStops[j];
+            departureTimes[i] = departures[j];
+            arrivalTimes[i] = arrivals[j];
+            edges[i] = flights[j];
+        }
+
+        return new Timetable(graph, departureStops, arrivalStops, departureTimes, arrivalTimes, edges);
+    }
+
+    /// ## getGraph
+    ///
+    /// Retorna o retrato a partir do qual a tabela foi construída.
+    ///
+    /// @return O retrato CSR da malha.
+    public RouteGraph getGraph() {
+        return graph;
+    }
+
+    /// ## connectionCount
+    ///
+    /// @return A quantidade de conexões da tabela.
+    public int connectionCount() {
+        return departureTimes.length;
+    }
+
+    /// ## earliestArrival
+    ///
+    /// Encontra a viagem que chega mais cedo ao destino, partindo da origem no instante `departAfter` ou depois.
+    ///
+    /// ### Parâmetros
+    /// - **`source`:** Identificador do aeroporto de origem.
+    /// - **`dest`:** Identificador do aeroporto de destino.
+    /// - **`departAfter`:** Instante mínimo de partida, em minutos desde segunda-feira 00:00 (qualquer semana).
+    ///
+    /// ### Retorno
+    /// - **`Journey`:** A viagem de chegada mais cedo, ou `null` se o destino não for alcançável dentro do horizonte.
+    ///
+    /// ### Fluxo de Operações
+    /// 1. Leva `departAfter` para a primeira semana e localiza, por busca binária, a primeira conexão que parte depois dele.
+    /// 2. Percorre as conexões em ordem de partida. Uma conexão pode ser usada se o aeroporto de partida já está
+    ///    pronto: na origem, a partir de `departAfter`; nos demais, a partir da chegada mais o tempo mínimo de conexão.
+    /// 3. Cada conexão usável que melhora a chegada no seu aeroporto de destino é registrada como a conexão de chegada.
+    /// 4. Encerra assim que as partidas passam da melhor chegada ao destino e reconstrói a viagem pelas conexões de chegada.
+    ///
+    /// ### Exceções
+    /// - **`IndexOutOfBoundsException`:** Se algum identificador estiver fora do retrato.
+    ///
+    /// ### Exemplo
+    /// ```java
+    /// Timetable.Journey journey = timetable.earliestArrival(gru, ssa, 2 * 24 * 60 + 6 * 60); // quarta-feira, 06:00
+    ///```
+    ///
+    /// @param source      Identificador do aeroporto de origem.
+    /// @param dest        Identificador do aeroporto de destino.
+    /// @param departAfter Instante mínimo de partida.
+    /// @return A viagem de chegada mais cedo, ou `null` se não houver.
+    public Journey earliestArrival(int source, int dest, long departAfter) {
+        int n = graph.size();
+        if (source < 0 || source >= n || dest < 0 || dest >= n)
+            throw new IndexOutOfBoundsException("Aeroporto fora do retrato");
+
+        long weekOffset = Math.floorDiv(departAfter, MINUTES_PER_WEEK) * MINUTES_PER_WEEK;
+        int start = (int) (departAfter - weekOffset);
+        if (source == dest) return new Journey(graph, source, new int[0], new long[0], new long[0], departAfter);
+
+        int[] arrival = new int[n];  // Chegada mais cedo conhecida em cada aeroporto
+        int[] ready = new int[n];    // Instante a partir do qual se pode embarcar em cada aeroporto
+        int[] inbound = new int[n];  // Conexão de chegada em cada aeroporto (-1 = não alcançado)
+        Arrays.fill(arrival, Integer.MAX_VALUE);
+        Arrays.fill(ready, Integer.MAX_VALUE);
+        Arrays.fill(inbound, -1);
+        arrival[source] = start;
+        ready[source] = start;
+
+        for (int c = firstDepartureAtOrAfter(start); c < departureTimes.length; c++) {
+            int departure = departureTimes[c];
+            if (departure >= arrival[dest]) break;  // Nenhuma conexão posterior chega antes
+
+            int from = departureStops[c];
+            if (ready[from] > departure) continue;  // Ainda não é possível embarcar
+
+            int to = arrivalStops[c];
+            if (arrivalTimes[c] < arrival[to]) {
+                arrival[to] = arrivalTimes[c];
+                ready[to] = arrivalTimes[c] + graph.minimumConnection(to);
+                inbound[to] = c;
+            }
+        }
+
+        if (inbound[dest] < 0) return null;
+
+        int legs = 0;
+        for (int v = dest; v != source; v = departureStops[inbound[v]])
+            legs++;
+
+        int[] legEdges = new int[legs];
+        long[] departures = new long[legs];
+        long[] arrivals = new long[legs];
+        int i = legs;
+        for (int v = dest; v != source; v = departureStops[inbound[v]]) {
+            int c = inbound[v];
+            i--;
+            legEdges[i] = edges[c];
+            departures[i] = weekOffset + departureTimes[c];
+            arrivals[i] = weekOffset + arrivalTimes[c];
+        }
+
+        return new Journey(graph, source, legEdges, departures, arrivals, departAfter);
+    }
+
+    /// ## firstDepartureAtOrAfter
+    ///
+    /// Busca binária da primeira conexão que parte no instante `time` ou depois.
+    ///
+    /// @param time O instante.
+    /// @return O índice da conexão, ou `connectionCount()` se não houver.
+    private int firstDepartureAtOrAfter(int time) {
+        int lo = 0;
+        int hi = departureTimes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (departureTimes[mid] < time) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /// ## Journey
+    ///
+    /// Viagem com horários: o trajeto (`Itinerary`, cujo custo é a duração total em minutos a partir do
+    /// instante de consulta) e os instantes de partida e chegada de cada trecho.
+    public static final class Journey {
+
+        /// ### Campos
+        ///
+        /// - **`itinerary`:** O trajeto.
+        /// - **`departures`, `arrivals`:** Instantes de partida e de chegada de cada trecho.
+        /// - **`requestedDeparture`:** O instante de consulta.
+        private final Itinerary itinerary;
+        private final long[] departures;
+        private final long[] arrivals;
+        private final long requestedDeparture;
+
+        /// ## Journey
+        ///
+        /// @param graph              O retrato de onde vêm os voos.
+        /// @param source             Identificador do aeroporto de origem.
+        /// @param edges              Voos de cada trecho.
+        /// @param departures         Instantes de partida de cada trecho.
+        /// @param arrivals           Instantes de chegada de cada trecho.
+        /// @param requestedDeparture O instante de consulta.
+        private Journey(RouteGraph graph, int source, int[] edges, long[] departures, long[] arrivals, long requestedDeparture) {
+            long arrival = (edges.length == 0) ? requestedDeparture : arrivals[edges.length - 1];
+            this.itinerary = Itinerary.fromEdges(graph, source, edges, edges.length, arrival - requestedDeparture);
+            this.departures = departures;
+            this.arrivals = arrivals;
+            this.requestedDeparture = requestedDeparture;
+        }
+
+        /// ## getItinerary
+        ///
+        /// @return O trajeto da viagem.
+        public Itinerary getItinerary() {
+            return itinerary;
+        }
+
+        /// ## getDepartureTime
+        ///
+        /// @param leg O índice do trecho.
+        /// @return O instante de partida do trecho.
+        public long getDepartureTime(int leg) {
+            return departures[leg];
+        }
+
+        /// ## getArrivalTime
+        ///
+        /// @param leg O índice do trecho.
+        /// @return O instante de chegada do trecho.
+        public long getArrivalTime(int leg) {
+            return arrivals[leg];
+        }
+
+        /// ## getArrivalTime
+        ///
+        /// @return O instante de chegada ao destino.
+        public long getArrivalTime() {
+            return (arrivals.length == 0) ? requestedDeparture : arrivals[arrivals.length - 1];
+        }
+
+        /// ## toString
+        ///
+        /// Retorna a viagem, um trecho por linha, no formato `Voo 1: GRU seg 08:00 -> GIG seg 09:05`.
+        ///
+        /// @return Uma string que representa a viagem.
+        @Override
+        public String toString() {
+            String[] codes = itinerary.getAirportCodes();
+            int[] numbers = itinerary.getFlightNumbers();
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < numbers.length; i++) {
+                if (i > 0) sb.append(System.lineSeparator());
+                sb.append("Voo ").append(numbers[i]).append(": ")
+                  .append(codes[i]).append(' ').append(FlightSchedule.formatTime(departures[i]))
+                  .append(" -> ")
+                  .append(codes[i + 1]).append(' ').append(FlightSchedule.formatTime(arrivals[i]));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package estruturas.LinkedList.Disordered;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
+public class DoubleLinkedListCircularDisordered<X> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -88,6 +96,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
     public Node primeiro;
     public Node ultimo;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public DoubleLinkedListCircularDisordered() {
         primeiro = null;
@@ -119,6 +128,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
             novo.anterior = novo; // O novo nó aponta para si mesmo
             ultimo = novo;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -128,6 +138,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         primeiro.anterior = novo; // Atualiza o anterior do primeiro nó para o novo nó
         ultimo = novo;
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -142,6 +153,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
             novo.anterior = novo; // O novo nó aponta para si mesmo
             ultimo = novo;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -152,6 +164,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         primeiro = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -180,6 +193,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         temp.anterior = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int indice) {
@@ -211,6 +225,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -219,6 +234,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         primeiro = primeiro.proximo;
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -228,6 +244,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -236,6 +253,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         ultimo = ultimo.anterior;
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int indice) {
@@ -259,6 +277,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         temp.proximo.anterior = temp.anterior;
 
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -295,6 +314,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         primeiro = null;
         ultimo = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     public void reverse() {
@@ -311,6 +331,7 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         Node aux = primeiro;
         primeiro = ultimo;
         ultimo = aux;
+        modificacoes++;
     }
 
     public void rotate(int passos) {
@@ -325,6 +346,59 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
             primeiro = primeiro.proximo;
             ultimo = ultimo.proximo;
         }
+        modificacoes++;
+    }
+
+    public void sort(Comparator<X> comparador) {
+        if (comparador == null) throw new IllegalArgumentException("Comparador ausente");
+        if (tamanho < 2) return;
+
+        ultimo.proximo = null; // Abre o círculo; relink volta a fechá-lo
+        Node sentinela = new Node(); // Nó auxiliar que antecede a lista durante a ordenação
+        sentinela.proximo = primeiro;
+        try {
+            ordenacao().sortSegment(sentinela, tamanho, comparador);
+        } finally {
+            relink(sentinela.proximo); // Mesmo se o comparador lançar uma exceção, nenhum nó é perdido
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        // Ordem natural dos elementos (lança ClassCastException se não forem Comparable)
+        sort((a, b) -> ((Comparable<X>) a).compareTo(b));
+    }
+
+    // Acesso aos nós desta lista para o merge sort compartilhado (MergeSort);
+    // o círculo fica aberto durante a ordenação e os ponteiros 'anterior' são refeitos por relink
+    private MergeSort<Node, X> ordenacao() {
+        return new MergeSort<>() {
+            Node proximo(Node no) {
+                return no.proximo;
+            }
+
+            void ligar(Node no, Node proximo) {
+                no.proximo = proximo;
+            }
+
+            X elemento(Node no) {
+                return no.elemento;
+            }
+        };
+    }
+
+    // Atualiza o primeiro e o último nó, refaz os ponteiros 'anterior' e fecha novamente o círculo depois da ordenação
+    private void relink(Node cabeca) {
+        primeiro = cabeca;
+        Node aux = primeiro;
+        while (aux.proximo != null) {
+            aux.proximo.anterior = aux;
+            aux = aux.proximo;
+        }
+        ultimo = aux;
+        ultimo.proximo = primeiro;
+        primeiro.anterior = ultimo;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -423,4 +497,45 @@ public class DoubleLinkedListCircularDisordered<X> implements Cloneable {
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre "tamanho" nós a partir do primeiro (o limite também encerra a volta do círculo) e falha rápido
+        // (ConcurrentModificationException) se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,18 @@
 package estruturas.LinkedList.Disordered;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class DoubleLinkedListDisordered<X> implements Cloneable {
+public class DoubleLinkedListDisordered<X> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -83,6 +91,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
 
     public Node primeiro;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public DoubleLinkedListDisordered() {
         primeiro = null;
@@ -115,6 +124,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
             novo.anterior = null;
             novo.proximo = null;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -127,6 +137,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         novo.proximo = null;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -140,6 +151,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
             primeiro.anterior = null;
             primeiro.proximo = null;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -148,6 +160,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         primeiro = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -176,6 +189,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         temp.proximo = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int index) {
@@ -211,6 +225,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         if (primeiro.proximo == null) {
             primeiro = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -218,6 +233,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         primeiro.anterior = null;
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -226,6 +242,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         if (primeiro.proximo == null) {
             primeiro = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -235,6 +252,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
 
         temp.proximo = null;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int indice) {
@@ -258,6 +276,7 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         temp.proximo.anterior = temp;
 
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -293,6 +312,53 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
     public void clear() {
         primeiro = null;
         tamanho = 0;
+        modificacoes++;
+    }
+
+    public void sort(Comparator<X> comparador) {
+        if (comparador == null) throw new IllegalArgumentException("Comparador ausente");
+        if (primeiro == null || primeiro.proximo == null) return;
+
+        Node sentinela = new Node(); // Nó auxiliar que antecede a lista durante a ordenação
+        sentinela.proximo = primeiro;
+        try {
+            ordenacao().sortSegment(sentinela, tamanho, comparador);
+        } finally {
+            relink(sentinela.proximo); // Mesmo se o comparador lançar uma exceção, nenhum nó é perdido
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        // Ordem natural dos elementos (lança ClassCastException se não forem Comparable)
+        sort((a, b) -> ((Comparable<X>) a).compareTo(b));
+    }
+
+    // Acesso aos nós desta lista para o merge sort compartilhado (MergeSort);
+    // os ponteiros 'anterior' são refeitos por relink
+    private MergeSort<Node, X> ordenacao() {
+        return new MergeSort<>() {
+            Node proximo(Node no) {
+                return no.proximo;
+            }
+
+            void ligar(Node no, Node proximo) {
+                no.proximo = proximo;
+            }
+
+            X elemento(Node no) {
+                return no.elemento;
+            }
+        };
+    }
+
+    // Atualiza o primeiro nó e refaz os ponteiros 'anterior' depois que a ordenação religou a lista
+    private void relink(Node cabeca) {
+        primeiro = cabeca;
+        primeiro.anterior = null;
+        for (Node aux = primeiro; aux.proximo != null; aux = aux.proximo)
+            aux.proximo.anterior = aux;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -386,4 +452,45 @@ public class DoubleLinkedListDisordered<X> implements Cloneable {
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre a lista a partir do primeiro nó e falha rápido (ConcurrentModificationException)
+        // se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
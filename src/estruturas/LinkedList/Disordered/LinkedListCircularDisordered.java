@@ -1,10 +1,18 @@
 package estruturas.LinkedList.Disordered;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class LinkedListCircularDisordered<X> implements Cloneable {
+public class LinkedListCircularDisordered<X> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -78,6 +86,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
     public Node primeiro;
     public Node ultimo;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public LinkedListCircularDisordered() {
         primeiro = null;
@@ -105,6 +114,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
             ultimo = novo;
             novo.proximo = primeiro;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -113,6 +123,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         ultimo.proximo = primeiro;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -130,6 +141,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         ultimo.proximo = primeiro;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -157,6 +169,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         temp.proximo = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     public X getFirst() {
@@ -189,12 +202,14 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
         primeiro = primeiro.proximo;
         ultimo.proximo = primeiro;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -204,6 +219,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -215,6 +231,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         ultimo = temp;
         ultimo.proximo = primeiro;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int posicao) {
@@ -236,6 +253,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
 
         temp.proximo = temp.proximo.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -270,6 +288,7 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         primeiro = null;
         ultimo = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     public void rotate(int passos){
@@ -289,6 +308,56 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         ultimo.proximo = null;
         oldLast.proximo = primeiro;
         primeiro = novoHead;
+        modificacoes++;
+    }
+
+    public void sort(Comparator<X> comparador) {
+        if (comparador == null) throw new IllegalArgumentException("Comparador ausente");
+        if (tamanho < 2) return;
+
+        ultimo.proximo = null; // Abre o círculo; relink volta a fechá-lo
+        Node sentinela = new Node(); // Nó auxiliar que antecede a lista durante a ordenação
+        sentinela.proximo = primeiro;
+        try {
+            ordenacao().sortSegment(sentinela, tamanho, comparador);
+        } finally {
+            relink(sentinela.proximo); // Mesmo se o comparador lançar uma exceção, nenhum nó é perdido
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sort() {
+        // Ordem natural dos elementos (lança ClassCastException se não forem Comparable)
+        sort((a, b) -> ((Comparable<X>) a).compareTo(b));
+    }
+
+    // Acesso aos nós desta lista para o merge sort compartilhado (MergeSort);
+    // o círculo fica aberto durante a ordenação
+    private MergeSort<Node, X> ordenacao() {
+        return new MergeSort<>() {
+            Node proximo(Node no) {
+                return no.proximo;
+            }
+
+            void ligar(Node no, Node proximo) {
+                no.proximo = proximo;
+            }
+
+            X elemento(Node no) {
+                return no.elemento;
+            }
+        };
+    }
+
+    // Atualiza o primeiro e o último nó e fecha novamente o círculo depois da ordenação
+    private void relink(Node cabeca) {
+        primeiro = cabeca;
+        Node aux = primeiro;
+        while (aux.proximo != null)
+            aux = aux.proximo;
+        ultimo = aux;
+        ultimo.proximo = primeiro;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -389,4 +458,45 @@ public class LinkedListCircularDisordered<X> implements Cloneable {
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre "tamanho" nós a partir do primeiro (o limite também encerra a volta do círculo) e falha rápido
+        // (ConcurrentModificationException) se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -2,13 +2,26 @@ package estruturas.LinkedList.Disordered;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
 
-public class LinkedListDisordered<X> implements Cloneable {
+public class LinkedListDisordered<X> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -87,10 +100,15 @@ public class LinkedListDisordered<X> implements Cloneable {
     }
 
     public Node primeiro;
+    public Node ultimo;  // Último nó da lista, mantido por todos os métodos que alteram a lista
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
+
+    private static final int LIMIAR_PARALELO = 1 << 13;  // Tamanho mínimo de cada trecho na ordenação paralela
 
     public LinkedListDisordered() {
         this.primeiro = null;
+        this.ultimo = null;
         this.tamanho = 0;
     }
 
@@ -98,6 +116,10 @@ public class LinkedListDisordered<X> implements Cloneable {
         return primeiro;
     }
 
+    public Node getUltimo() {
+        return ultimo;
+    }
+
     public int getTamanho() {
         return this.tamanho;
     }
@@ -111,8 +133,10 @@ public class LinkedListDisordered<X> implements Cloneable {
 
         no.proximo = primeiro;  // Define o próximo nó do no nó como o atual primeiro nó da lista
         primeiro = no;// Atualiza o primeiro nó da lista para ser o no nó
+        if (ultimo == null) ultimo = no;  // Em uma lista vazia, o novo nó também é o último
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -124,18 +148,17 @@ public class LinkedListDisordered<X> implements Cloneable {
         // Se a lista estiver vazia, define o no nó como o primeiro nó da lista
         if (primeiro == null) {
             primeiro = no;
+            ultimo = no;
             tamanho++;
+            modificacoes++;
             return;
         }
 
-        Node aux = primeiro; // Se a lista não estiver vazia, encontra o último nó e adiciona o no nó após ele
-
-        while (aux.proximo != null)
-            aux = aux.proximo;
-
-        aux.proximo = no;
+        ultimo.proximo = no; // Se a lista não estiver vazia, encadeia o no nó após o último, sem percorrer a lista
+        ultimo = no;
 
         tamanho++;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -167,11 +190,14 @@ public class LinkedListDisordered<X> implements Cloneable {
         aux.proximo = novo;
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int indice) {
         if (indice < 0 || indice > this.tamanho) throw new IndexOutOfBoundsException("Index out of bounds");
 
+        if (indice == tamanho - 1) return ultimo.elemento; // O último elemento é obtido sem percorrer a lista
+
         // Inicia a busca a partir do primeiro nó
         Node aux = primeiro;
 
@@ -188,23 +214,18 @@ public class LinkedListDisordered<X> implements Cloneable {
     }
 
     public X getLast() {
-        if (primeiro == null) return null;
-
-        Node aux = primeiro; // Inicia a busca pelo último nó a partir do primeiro nó
-
-        // Percorre a lista até encontrar o último nó
-        while (aux.proximo != null)
-            aux = aux.proximo;
-
-        return aux.elemento; // Retorna o elemento do último nó encontrado
+        if (ultimo == null) return null;
+        return ultimo.elemento; // Retorna o elemento do último nó da lista
     }
 
     public void removeFirst() {
         if (primeiro == null) throw new IllegalStateException("Lista vazia");
 
         primeiro = primeiro.proximo;// Atualiza o primeiro nó para ser o próximo nó da lista
+        if (primeiro == null) ultimo = null; // A lista ficou vazia
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -212,19 +233,23 @@ public class LinkedListDisordered<X> implements Cloneable {
 
         // Verifica se há apenas um nó na lista
         if (primeiro.proximo == null) {
-            primeiro = null; // Se sim, define o primeiro nó como nulo
+            primeiro = null; // Se sim, define o primeiro e o último nó como nulos
+            ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
-        // Se houver mais de um nó na lista, encontra o penúltimo nó
+        // Se houver mais de um nó na lista, encontra o penúltimo nó (a lista só é encadeada em um sentido)
         Node aux = primeiro;
-        while (aux.proximo.proximo != null)
+        while (aux.proximo != ultimo)
             aux = aux.proximo;
 
         aux.proximo = null; // Define o próximo nó do penúltimo como nulo, removendo o último nó
+        ultimo = aux; // O penúltimo passa a ser o último
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int indice) {
@@ -248,9 +273,117 @@ public class LinkedListDisordered<X> implements Cloneable {
         for (int i = 0; i < indice - 1; i++)
             aux = aux.proximo;
 
-        // Remove o elemento atualizando as referências dos nós adjacentes
-        aux.proximo = aux.proximo.proximo;
+        removeAfter(aux); // Remove o elemento atualizando as referências dos nós adjacentes
+    }
+
+    public X removeAfter(Node anterior) {
+        // Remove o nó seguinte a "anterior" (ou o primeiro nó, se "anterior" for nulo) sem percorrer a lista
+        Node removido = (anterior == null) ? primeiro : anterior.proximo;
+        if (removido == null) throw new IllegalStateException("Não há nó a ser removido");
+
+        if (anterior == null) primeiro = removido.proximo;
+        else anterior.proximo = removido.proximo;
+
+        if (removido == ultimo) ultimo = anterior; // Removeu o último nó: o anterior passa a ser o último
+        removido.proximo = null;
         tamanho--;
+        modificacoes++;
+
+        return removido.elemento;
+    }
+
+    public boolean removeIf(Predicate<? super X> filtro) {
+        if (filtro == null) throw new IllegalArgumentException("Filtro não pode ser nulo");
+
+        // Percorre a lista uma única vez, guardando o nó anterior para remover cada nó em O(1)
+        Node anterior = null;
+        Node atual = primeiro;
+        boolean removeu = false;
+        while (atual != null) {
+            Node proximoNo = atual.proximo;
+            if (filtro.test(atual.elemento)) {
+                removeAfter(anterior);
+                removeu = true;
+            } else {
+                anterior = atual;
+            }
+            atual = proximoNo;
+        }
+        return removeu;
+    }
+
+    public X removeFirstMatch(Predicate<? super X> filtro) {
+        if (filtro == null) throw new IllegalArgumentException("Filtro não pode ser nulo");
+
+        // Percorre a lista até o primeiro elemento aceito pelo filtro e o remove sem nova travessia
+        Node anterior = null;
+        for (Node atual = primeiro; atual != null; atual = atual.proximo) {
+            if (filtro.test(atual.elemento)) return removeAfter(anterior);
+            anterior = atual;
+        }
+        return null; // Nenhum elemento aceito pelo filtro
+    }
+
+    @Override
+    public Iterator<X> iterator() {
+        return new Iterador();
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato e falha rápida (usa o Iterador); trySplit separa lotes crescentes de elementos em vetores,
+        // que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Iterador que falha rápido (ConcurrentModificationException) se a lista for alterada por fora dele
+    // e que remove o último elemento retornado em O(1)
+    private class Iterador implements Iterator<X> {
+        private Node seguinte = primeiro;  // Próximo nó a ser retornado
+        private Node visitado = null;  // Nó imediatamente anterior a "seguinte" na lista
+        private Node anteriorAoRetornado = null;  // Nó anterior ao último retornado
+        private boolean podeRemover = false;
+        private int modificacoesEsperadas = modificacoes;
+
+        @Override
+        public boolean hasNext() {
+            return seguinte != null;
+        }
+
+        @Override
+        public X next() {
+            verificaModificacoes();
+            if (seguinte == null) throw new NoSuchElementException();
+
+            anteriorAoRetornado = visitado;
+            visitado = seguinte;
+            seguinte = seguinte.proximo;
+            podeRemover = true;
+            return visitado.elemento;
+        }
+
+        @Override
+        public void remove() {
+            if (!podeRemover) throw new IllegalStateException("next() não foi chamado ou o elemento já foi removido");
+            verificaModificacoes();
+
+            removeAfter(anteriorAoRetornado); // Desencadeia o último nó retornado
+            visitado = anteriorAoRetornado; // O nó anterior a "seguinte" passa a ser o anterior ao removido
+            podeRemover = false;
+            modificacoesEsperadas = modificacoes;
+        }
+
+        private void verificaModificacoes() {
+            if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+        }
     }
 
     public int indexOf(X elemento) {
@@ -326,7 +459,9 @@ public class LinkedListDisordered<X> implements Cloneable {
 
     public void clear() {
         primeiro = null;
+        ultimo = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     public void reverse() {
@@ -345,93 +480,181 @@ public class LinkedListDisordered<X> implements Cloneable {
             atual = proximoNo;         // Atualiza o nó atual para o próximo nó
         }
 
+        ultimo = primeiro; // O antigo primeiro nó passa a ser o último
         primeiro = anterior; // Atualiza o ponteiro da cabeça para o último nó (que era o primeiro nó)
+        modificacoes++;
     }
 
     public void sort(Comparator<X> comparador) {
+        if (comparador == null) throw new IllegalArgumentException("Comparador ausente");
         if (primeiro == null || primeiro.proximo == null) return;
 
-        Node current = primeiro; // Inicializa o nó atual como o primeiro nó da lista
-        Node index; // Nó para percorrer a lista a partir do nó atual
-        X temp; // Variável temporária para trocar elementos durante a ordenação
-
-        // Percorre a lista para realizar a ordenação
-        while (current != null) {
-            index = current.proximo; // Define o nó índice para começar a busca pelo próximo nó
-
-            // Percorre a lista a partir do próximo nó do nó atual
-            while (index != null) {
-                // Compara os elementos dos nós atual e índice usando o comparador fornecido
-                if (comparador.compare(current.elemento, index.elemento) > 0) {
-                    // Se o elemento do nó atual for maior do que o elemento do nó índice, troca os elementos
-                    temp = current.elemento;
-                    current.elemento = index.elemento;
-                    index.elemento = temp;
-                }
-                index = index.proximo; // Move para o próximo nó na lista
-            }
-            current = current.proximo; // Move para o próximo nó na lista
+        Node sentinela = new Node(); // Nó auxiliar que antecede a lista durante a ordenação
+        sentinela.proximo = primeiro;
+        try {
+            ordenacao().sortSegment(sentinela, tamanho, comparador);
+        } finally {
+            relink(sentinela.proximo); // Mesmo se o comparador lançar uma exceção, nenhum nó é perdido
         }
     }
 
     @SuppressWarnings("unchecked")
     public void sort() {
-        // Verifica se a lista está vazia ou contém apenas um elemento, se sim, não há necessidade de ordenação
-        if (primeiro == null || primeiro.proximo == null) return;
+        // Ordem natural dos elementos (lança ClassCastException se não forem Comparable)
+        sort((a, b) -> ((Comparable<X>) a).compareTo(b));
+    }
 
-        Node atual = primeiro; // Inicializa o nó atual como o primeiro nó da lista
-        Node indice; // Nó para percorrer a lista a partir do nó atual
-        X temp; // Variável temporária para trocar elementos durante a ordenação
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<X> comparador) {
+        if (comparador == null) throw new IllegalArgumentException("Comparador ausente");
 
-        // Percorre a lista para realizar a ordenação
-        while (atual != null) {
-            indice = atual.proximo; // Define o nó índice para começar a busca pelo próximo nó
-
-            // Percorre a lista a partir do próximo nó do nó atual
-            while (indice != null) {
-                // Compara os elementos dos nós atual e índice usando compareTo
-                if (((Comparable<X>) atual.elemento).compareTo(indice.elemento) > 0) {
-                    // Se o elemento do nó atual for maior do que o elemento do nó índice, troca os elementos
-                    temp = atual.elemento;
-                    atual.elemento = indice.elemento;
-                    indice.elemento = temp;
-                }
-                indice = indice.proximo; // Move para o próximo nó na lista
-            }
-            atual = atual.proximo; // Move para o próximo nó na lista
+        // Listas pequenas não compensam o custo de dividir o trabalho entre threads
+        int partes = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, tamanho / LIMIAR_PARALELO);
+        if (partes < 2) {
+            sort(comparador);
+            return;
         }
+
+        // Corta a lista em trechos consecutivos, cada um antecedido pelo seu próprio nó sentinela
+        Node[] sentinelas = (Node[]) new LinkedListDisordered<?>.Node[partes];
+        int[] quantidades = new int[partes];
+        Node aux = primeiro;
+        for (int i = 0; i < partes; i++) {
+            quantidades[i] = tamanho / partes + (i < tamanho % partes ? 1 : 0);
+            sentinelas[i] = new Node();
+            sentinelas[i].proximo = aux;
+            for (int j = 1; j < quantidades[i]; j++)
+                aux = aux.proximo;
+            Node proximoTrecho = aux.proximo;
+            aux.proximo = null;
+            aux = proximoTrecho;
+        }
+
+        // Ordena os trechos em paralelo e os intercala dois a dois; o comparador deve poder ser usado por várias threads
+        AtomicReference<RuntimeException> falha = new AtomicReference<>();
+        ForkJoinPool.commonPool().invoke(new SortTask(sentinelas, quantidades, 0, partes, comparador, falha));
+
+        // Em caso de falha, alguns trechos podem não ter sido intercalados: emenda todos para não perder nós
+        Node cauda = sentinelas[0];
+        for (Node sentinela : sentinelas) {
+            cauda.proximo = sentinela.proximo;
+            while (cauda.proximo != null)
+                cauda = cauda.proximo;
+        }
+        relink(sentinelas[0].proximo);
+
+        if (falha.get() != null) throw falha.get();
     }
 
-    public void shuffle() {
-        if (primeiro == null || primeiro.proximo == null) return;
+    @SuppressWarnings("unchecked")
+    public void parallelSort() {
+        parallelSort((a, b) -> ((Comparable<X>) a).compareTo(b));
+    }
 
-        Node atual = primeiro; // Inicializa o nó atual como o primeiro nó da lista
-        Node indice;// Nó para percorrer a lista a partir do nó atual
-        X temp; // Variável temporária para trocar elementos durante o embaralhamento
+    // Acesso aos nós desta lista para o merge sort compartilhado (MergeSort)
+    private MergeSort<Node, X> ordenacao() {
+        return new MergeSort<>() {
+            Node proximo(Node no) {
+                return no.proximo;
+            }
 
-        int indiceAleatorio; // Variável para armazenar um índice aleatório (0 ou 1)
+            void ligar(Node no, Node proximo) {
+                no.proximo = proximo;
+            }
 
-        // Percorre a lista para realizar o embaralhamento
-        while (atual != null) {
-            indice = atual.proximo;// Define o nó índice para começar a busca pelo próximo nó
+            X elemento(Node no) {
+                return no.elemento;
+            }
+        };
+    }
+
+    // Atualiza o primeiro e o último nó depois que a ordenação religou a lista
+    private void relink(Node cabeca) {
+        primeiro = cabeca;
+        Node aux = cabeca;
+        while (aux.proximo != null)
+            aux = aux.proximo;
+        ultimo = aux;
+        modificacoes++;
+    }
 
-            // Percorre a lista a partir do próximo nó do nó atual
-            while (indice != null) {
-                indiceAleatorio = (int) (Math.random() * 1000) % 2; // Gera um índice aleatório (0 ou 1)
+    // Tarefa que ordena os trechos [de, ate) e deixa o resultado intercalado no trecho 'de'
+    @SuppressWarnings("serial") // Executada apenas no ForkJoinPool, nunca serializada
+    private final class SortTask extends RecursiveAction {
+        private final Node[] sentinelas;
+        private final int[] quantidades;
+        private final int de;
+        private final int ate;
+        private final Comparator<? super X> comparador;
+        private final AtomicReference<RuntimeException> falha;
+
+        SortTask(Node[] sentinelas, int[] quantidades, int de, int ate,
+                 Comparator<? super X> comparador, AtomicReference<RuntimeException> falha) {
+            this.sentinelas = sentinelas;
+            this.quantidades = quantidades;
+            this.de = de;
+            this.ate = ate;
+            this.comparador = comparador;
+            this.falha = falha;
+        }
 
-                // Se o índice aleatório for 0, troca os elementos entre o nó atual e o nó índice
-                if (indiceAleatorio == 0) {
-                    temp = atual.elemento;
-                    atual.elemento = indice.elemento;
-                    indice.elemento = temp;
+        @Override
+        protected void compute() {
+            // As exceções são guardadas em vez de propagadas, para que todas as tarefas terminem antes da religação
+            try {
+                if (ate - de == 1) {
+                    ordenacao().sortSegment(sentinelas[de], quantidades[de], comparador);
+                    return;
                 }
 
-                indice = indice.proximo; // Move para o próximo nó na lista
+                int meio = (de + ate) >>> 1;
+                invokeAll(new SortTask(sentinelas, quantidades, de, meio, comparador, falha),
+                          new SortTask(sentinelas, quantidades, meio, ate, comparador, falha));
+                if (falha.get() != null) return;
+
+                Node direita = sentinelas[meio].proximo;
+                sentinelas[meio].proximo = null;
+                ordenacao().merge(sentinelas[de].proximo, direita, sentinelas[de], comparador);
+            } catch (RuntimeException e) {
+                falha.compareAndSet(null, e);
             }
-            atual = atual.proximo; // Move para o próximo nó na lista
         }
     }
 
+    public void shuffle() {
+        shuffle(ThreadLocalRandom.current()); // Gerador da própria thread: sem disputa entre threads
+    }
+
+    @SuppressWarnings("unchecked")
+    public void shuffle(RandomGenerator gerador) {
+        if (gerador == null) throw new IllegalArgumentException("Gerador de números aleatórios ausente");
+        if (primeiro == null || primeiro.proximo == null) return;
+
+        // Copia os nós para um vetor
+        Node[] nos = (Node[]) new LinkedListDisordered<?>.Node[tamanho];
+        Node aux = primeiro;
+        for (int i = 0; i < tamanho; i++) {
+            nos[i] = aux;
+            aux = aux.proximo;
+        }
+
+        // Fisher–Yates: cada posição, de trás para frente, recebe um dos nós ainda não sorteados (permutação uniforme)
+        for (int i = tamanho - 1; i > 0; i--) {
+            int j = gerador.nextInt(i + 1);
+            Node temp = nos[i];
+            nos[i] = nos[j];
+            nos[j] = temp;
+        }
+
+        // Religa os nós na nova ordem
+        for (int i = 0; i < tamanho - 1; i++)
+            nos[i].proximo = nos[i + 1];
+        nos[tamanho - 1].proximo = null;
+        primeiro = nos[0];
+        ultimo = nos[tamanho - 1];
+        modificacoes++;
+    }
+
     public Object[] toArray() {
         Object[] array = new Object[tamanho]; // Cria um array de objetos com o tamanho da lista
         Node aux = primeiro; // Inicializa um nó auxiliar para percorrer a lista
@@ -485,6 +708,7 @@ public class LinkedListDisordered<X> implements Cloneable {
         // Se o primeiro nó do modelo for nulo, cria uma lista vazia
         if (modelo.primeiro == null) {
             this.primeiro = null;
+            this.ultimo = null;
             this.tamanho = 0;
             return;
         }
@@ -497,12 +721,13 @@ public class LinkedListDisordered<X> implements Cloneable {
         // Copia os elementos restantes da lista encadeada do modelo para a nova lista
         while (auxiliar.proximo != null) {
             auxiliar = auxiliar.proximo;
-            copia.proximo = new Node((X) verifyAndCopy(auxiliar));
+            copia.proximo = new Node((X) verifyAndCopy(auxiliar.elemento));
             copia = copia.proximo;
         }
+        this.ultimo = copia; // O último nó copiado é o último da nova lista
 
         // Copia o tamanho da lista do modelo para a nova lista
-        this.tamanho = (int) verifyAndCopy(modelo.tamanho);
+        this.tamanho = modelo.tamanho;
     }
 
     @Override
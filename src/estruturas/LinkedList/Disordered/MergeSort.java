@@ -0,0 +1,76 @@
+package estruturas.LinkedList.Disordered;
+
+import java.util.Comparator;
+
+// Merge sort de baixo para cima compartilhado pelas listas desordenadas: intercala sequências de largura 1, 2, 4, ...
+// religando apenas os ponteiros 'proximo', sem memória extra. Cada lista informa como acessar os seus nós e,
+// ao final, refaz o que for próprio dela (último nó, ponteiros 'anterior', círculo).
+abstract class MergeSort<N, X> {
+
+    abstract N proximo(N no);
+
+    abstract void ligar(N no, N proximo);
+
+    abstract X elemento(N no);
+
+    // O trecho começa em proximo(sentinela) e termina em null; ao final (ou se o comparador lançar uma exceção),
+    // proximo(sentinela) continua encadeando todos os nós do trecho.
+    final void sortSegment(N sentinela, int quantidade, Comparator<? super X> comparador) {
+        for (int largura = 1; largura < quantidade; largura *= 2) {
+            N restante = proximo(sentinela);
+            N cauda = sentinela;
+
+            while (restante != null) {
+                N esquerda = restante;
+                N direita = split(esquerda, largura);
+                restante = split(direita, largura);
+                try {
+                    cauda = merge(esquerda, direita, cauda, comparador);
+                } catch (RuntimeException e) {
+                    // merge já anexou as duas sequências à cauda; falta religar o que ainda não foi visitado
+                    while (proximo(cauda) != null)
+                        cauda = proximo(cauda);
+                    ligar(cauda, restante);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Separa os primeiros 'quantidade' nós a partir de 'inicio' e retorna o início do restante (ou null)
+    final N split(N inicio, int quantidade) {
+        for (int i = 1; inicio != null && i < quantidade; i++)
+            inicio = proximo(inicio);
+        if (inicio == null) return null;
+
+        N restante = proximo(inicio);
+        ligar(inicio, null);
+        return restante;
+    }
+
+    // Intercala duas sequências ordenadas após 'cauda' e retorna o último nó intercalado.
+    // Em empates o nó da esquerda vem primeiro, o que mantém a ordenação estável.
+    final N merge(N esquerda, N direita, N cauda, Comparator<? super X> comparador) {
+        try {
+            while (esquerda != null && direita != null) {
+                if (comparador.compare(elemento(direita), elemento(esquerda)) < 0) {
+                    ligar(cauda, direita);
+                    direita = proximo(direita);
+                } else {
+                    ligar(cauda, esquerda);
+                    esquerda = proximo(esquerda);
+                }
+                cauda = proximo(cauda);
+            }
+        } finally {
+            // Anexa o que sobrou das duas sequências (também quando o comparador falha)
+            ligar(cauda, esquerda);
+            while (proximo(cauda) != null)
+                cauda = proximo(cauda);
+            ligar(cauda, direita);
+            while (proximo(cauda) != null)
+                cauda = proximo(cauda);
+        }
+        return cauda;
+    }
+}
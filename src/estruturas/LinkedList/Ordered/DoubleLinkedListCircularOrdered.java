@@ -1,10 +1,17 @@
 package estruturas.LinkedList.Ordered;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements Cloneable {
+public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -88,6 +95,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
     public Node primeiro;
     public Node ultimo;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public DoubleLinkedListCircularOrdered() {
         this.primeiro = null;
@@ -119,6 +127,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
             primeiro.anterior = ultimo;
             ultimo.proximo = primeiro;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -136,6 +145,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
                 primeiro = novoNo;
             }
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -146,6 +156,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         ultimo = novoNo;
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int indice) {
@@ -177,6 +188,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -185,6 +197,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         primeiro = primeiro.proximo;
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -194,6 +207,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -202,6 +216,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         ultimo = ultimo.anterior;
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int posicao) {
@@ -225,6 +240,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         temp.proximo.anterior = temp.anterior;
 
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -263,6 +279,7 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         this.primeiro = null;
         this.ultimo = null;
         this.tamanho = 0;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -372,4 +389,45 @@ public class DoubleLinkedListCircularOrdered<X extends Comparable<X>> implements
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre "tamanho" nós a partir do primeiro (o limite também encerra a volta do círculo) e falha rápido
+        // (ConcurrentModificationException) se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
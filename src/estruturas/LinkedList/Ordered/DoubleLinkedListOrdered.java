@@ -1,10 +1,17 @@
 package estruturas.LinkedList.Ordered;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneable {
+public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -83,6 +90,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
 
     public Node primeiro;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public DoubleLinkedListOrdered() {
         this.primeiro = null;
@@ -104,6 +112,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
         if (this.primeiro == null) { // Se a lista estiver vazia
             this.primeiro = novo;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -131,6 +140,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
         }
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int index) {
@@ -166,6 +176,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
 
         primeiro = primeiro.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -186,6 +197,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
         }
 
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int index) {
@@ -211,6 +223,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
 
         anterior.proximo = temp.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -250,6 +263,7 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
     public void clear() {
         primeiro = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -350,4 +364,45 @@ public class DoubleLinkedListOrdered<X extends Comparable<X>> implements Cloneab
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre a lista a partir do primeiro nó e falha rápido (ConcurrentModificationException)
+        // se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -1,10 +1,17 @@
 package estruturas.LinkedList.Ordered;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class LinkedListCircularOrdered<X extends Comparable<X>> implements Cloneable {
+public class LinkedListCircularOrdered<X extends Comparable<X>> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -78,6 +85,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
     public Node primeiro;
     public Node ultimo;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public LinkedListCircularOrdered() {
         primeiro = null;
@@ -102,6 +110,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
             ultimo = novo;
             novo.proximo = primeiro;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -110,6 +119,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
             primeiro = novo;
             ultimo.proximo = primeiro;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -118,6 +128,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
             ultimo = novo;
             ultimo.proximo = primeiro;
             tamanho++;
+            modificacoes++;
             return;
         }
 
@@ -129,6 +140,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
         novo.proximo = temp.proximo;
         temp.proximo = novo;
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int posicao) {
@@ -161,12 +173,14 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
         primeiro = primeiro.proximo;
         ultimo.proximo = primeiro;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeLast() {
@@ -176,6 +190,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
             primeiro = null;
             ultimo = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -187,6 +202,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
         ultimo = temp;
         ultimo.proximo = primeiro;
         tamanho--;
+        modificacoes++;
     }
 
     public void removeAt(int posicao) {
@@ -209,6 +225,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
 
         temp.proximo = temp.proximo.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -239,6 +256,7 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
         primeiro = null;
         ultimo = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -337,4 +355,45 @@ public class LinkedListCircularOrdered<X extends Comparable<X>> implements Clone
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre "tamanho" nós a partir do primeiro (o limite também encerra a volta do círculo) e falha rápido
+        // (ConcurrentModificationException) se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package estruturas.LinkedList.Ordered;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
+public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable, Iterable<X> {
 
     public class Node implements Cloneable {
         public X elemento;
@@ -78,6 +85,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
 
     public Node primeiro;
     public int tamanho;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public LinkedListOrdered() {
         primeiro = null;
@@ -112,6 +120,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
         }
 
         tamanho++;
+        modificacoes++;
     }
 
     public X get(int indice) {
@@ -148,6 +157,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
 
         primeiro = primeiro.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public void deleteLast() {
@@ -156,6 +166,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
         if (primeiro.proximo == null) {
             primeiro = null;
             tamanho--;
+            modificacoes++;
             return;
         }
 
@@ -169,6 +180,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
 
         anterior.proximo = null;
         tamanho--;
+        modificacoes++;
     }
 
     public void deleteAt(int indice) {
@@ -194,6 +206,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
 
         anterior.proximo = atual.proximo;
         tamanho--;
+        modificacoes++;
     }
 
     public boolean contains(X elemento) {
@@ -233,6 +246,7 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
     public void clear() {
         primeiro = null;
         tamanho = 0;
+        modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -325,4 +339,45 @@ public class LinkedListOrdered<X extends Comparable<X>> implements Cloneable {
         result.append("]");
         return result.toString();
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Percorre a lista a partir do primeiro nó e falha rápido (ConcurrentModificationException)
+        // se a lista for alterada durante a iteração
+        return new Iterator<>() {
+            private Node atual = primeiro;
+            private int restantes = tamanho;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0 && atual != null;
+            }
+
+            @Override
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+
+                X elemento = atual.elemento;
+                atual = atual.proximo;
+                restantes--;
+                return elemento;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
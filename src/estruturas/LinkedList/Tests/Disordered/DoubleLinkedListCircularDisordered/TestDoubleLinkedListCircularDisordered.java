@@ -2,6 +2,12 @@ package estruturas.LinkedList.Tests.Disordered.DoubleLinkedListCircularDisordere
 
 import estruturas.LinkedList.Disordered.DoubleLinkedListCircularDisordered;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
 public class TestDoubleLinkedListCircularDisordered {
 
     // Metodo para verificar se a lista é duplamente ligada
@@ -39,6 +45,19 @@ public class TestDoubleLinkedListCircularDisordered {
         return anteriorDoPrimeiroApontaUltimo && proximoDoUltimoApontaPrimeiro;
     }
 
+    // Metodo para verificar, depois da ordenação, o último nó, os ponteiros 'anterior' e se o círculo foi fechado novamente
+    public static <X> boolean verificaUltimoAnterioresECirculo(DoubleLinkedListCircularDisordered<X> lista) {
+        if (lista.primeiro == null) return lista.ultimo == null && lista.tamanho == 0;
+
+        // Depois de 'tamanho - 1' passos a partir do primeiro nó, deve-se chegar ao último
+        DoubleLinkedListCircularDisordered<X>.Node atual = lista.primeiro;
+        for (int i = 1; i < lista.tamanho; i++) {
+            if (atual == lista.ultimo || atual.proximo == null || atual.proximo.anterior != atual) return false;
+            atual = atual.proximo;
+        }
+        return atual == lista.ultimo && verificaCircularidade(lista);
+    }
+
     public static void main(String[] args) {
         DoubleLinkedListCircularDisordered<Integer> int_list = new DoubleLinkedListCircularDisordered<>();
         int_list.addFirst(1);
@@ -144,5 +163,57 @@ public class TestDoubleLinkedListCircularDisordered {
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
         int_list2.removeAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
+
+        System.out.println();
+        System.out.println("Testando sort estável");
+        DoubleLinkedListCircularDisordered<String> palavras = new DoubleLinkedListCircularDisordered<>();
+        for (String palavra : new String[]{"uva", "kiwi", "pera", "figo", "caju", "lima", "maçã"})
+            palavras.addLast(palavra);
+        palavras.sort(Comparator.comparingInt(String::length)); // Empates mantêm a ordem de inserção
+        System.out.println("sort(comprimento):    " + palavras + " " + verificaUltimoAnterioresECirculo(palavras));
+
+        DoubleLinkedListCircularDisordered<Integer> numeros = new DoubleLinkedListCircularDisordered<>();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 10_000; i++)
+            numeros.addLast(aleatorio.nextInt(1000));
+        List<Integer> esperado = new ArrayList<>(numeros.stream().toList());
+        Comparator<Integer> porDezena = Comparator.comparingInt(n -> n / 10); // Muitos empates com valores distintos
+        esperado.sort(porDezena); // List.sort também é estável
+        numeros.sort(porDezena);
+        System.out.println("sort estável:         " + numeros.stream().toList().equals(esperado) + " " + verificaUltimoAnterioresECirculo(numeros));
+        numeros.sort();
+        esperado.sort(null);
+        System.out.println("sort natural:         " + numeros.stream().toList().equals(esperado) + " " + verificaUltimoAnterioresECirculo(numeros));
+
+        DoubleLinkedListCircularDisordered<Integer> unitaria = new DoubleLinkedListCircularDisordered<>();
+        unitaria.addLast(7);
+        unitaria.sort();
+        System.out.println("sort com um elemento: " + unitaria + " " + verificaUltimoAnterioresECirculo(unitaria));
+
+        try {
+            numeros.sort((a, b) -> {
+                if (a == 500) throw new IllegalStateException("comparador falhou");
+                return Integer.compare(b, a);
+            });
+            System.out.println("Falha do comparador não propagada");
+        } catch (IllegalStateException e) {
+            List<Integer> restantes = new ArrayList<>(numeros.stream().toList());
+            restantes.sort(null);
+            System.out.println("Falha do comparador:  " + e.getMessage() + ", nenhum nó perdido = "
+                               + restantes.equals(esperado) + " " + verificaUltimoAnterioresECirculo(numeros));
+        }
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        DoubleLinkedListCircularDisordered<Integer> iterada = new DoubleLinkedListCircularDisordered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.addLast(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.addLast(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
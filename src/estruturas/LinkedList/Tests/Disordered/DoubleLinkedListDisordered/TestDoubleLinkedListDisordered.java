@@ -2,6 +2,12 @@ package estruturas.LinkedList.Tests.Disordered.DoubleLinkedListDisordered;
 
 import estruturas.LinkedList.Disordered.DoubleLinkedListDisordered;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
 public class TestDoubleLinkedListDisordered {
 
     // metodo para verificar se a lista está duplamente ligada
@@ -46,6 +52,19 @@ public class TestDoubleLinkedListDisordered {
         return false;
     }
 
+    // Metodo para verificar, depois da ordenação, os ponteiros 'anterior' e o tamanho guardado pela lista
+    public static <X> boolean verificaAnterioresETamanho(DoubleLinkedListDisordered<X> lista) {
+        if (lista.primeiro == null) return lista.tamanho == 0;
+        if (lista.primeiro.anterior != null) return false; // O primeiro nó não tem anterior
+
+        int tamanho = 1;
+        for (DoubleLinkedListDisordered<X>.Node atual = lista.primeiro; atual.proximo != null; atual = atual.proximo) {
+            if (atual.proximo.anterior != atual) return false;
+            tamanho++;
+        }
+        return tamanho == lista.tamanho;
+    }
+
     public static void main(String[] args) {
         DoubleLinkedListDisordered<Integer> int_list = new DoubleLinkedListDisordered<>();
         int_list.addLast(1);
@@ -127,5 +146,57 @@ public class TestDoubleLinkedListDisordered {
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
         int_list2.removeAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
+
+        System.out.println();
+        System.out.println("Testando sort estável");
+        DoubleLinkedListDisordered<String> palavras = new DoubleLinkedListDisordered<>();
+        for (String palavra : new String[]{"uva", "kiwi", "pera", "figo", "caju", "lima", "maçã"})
+            palavras.addLast(palavra);
+        palavras.sort(Comparator.comparingInt(String::length)); // Empates mantêm a ordem de inserção
+        System.out.println("sort(comprimento):    " + palavras + " " + verificaAnterioresETamanho(palavras));
+
+        DoubleLinkedListDisordered<Integer> numeros = new DoubleLinkedListDisordered<>();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 10_000; i++)
+            numeros.addLast(aleatorio.nextInt(1000));
+        List<Integer> esperado = new ArrayList<>(numeros.stream().toList());
+        Comparator<Integer> porDezena = Comparator.comparingInt(n -> n / 10); // Muitos empates com valores distintos
+        esperado.sort(porDezena); // List.sort também é estável
+        numeros.sort(porDezena);
+        System.out.println("sort estável:         " + numeros.stream().toList().equals(esperado) + " " + verificaAnterioresETamanho(numeros));
+        numeros.sort();
+        esperado.sort(null);
+        System.out.println("sort natural:         " + numeros.stream().toList().equals(esperado) + " " + verificaAnterioresETamanho(numeros));
+
+        DoubleLinkedListDisordered<Integer> unitaria = new DoubleLinkedListDisordered<>();
+        unitaria.addLast(7);
+        unitaria.sort();
+        System.out.println("sort com um elemento: " + unitaria + " " + verificaAnterioresETamanho(unitaria));
+
+        try {
+            numeros.sort((a, b) -> {
+                if (a == 500) throw new IllegalStateException("comparador falhou");
+                return Integer.compare(b, a);
+            });
+            System.out.println("Falha do comparador não propagada");
+        } catch (IllegalStateException e) {
+            List<Integer> restantes = new ArrayList<>(numeros.stream().toList());
+            restantes.sort(null);
+            System.out.println("Falha do comparador:  " + e.getMessage() + ", nenhum nó perdido = "
+                               + restantes.equals(esperado) + " " + verificaAnterioresETamanho(numeros));
+        }
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        DoubleLinkedListDisordered<Integer> iterada = new DoubleLinkedListDisordered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.addLast(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.addLast(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,12 @@ package estruturas.LinkedList.Tests.Disordered.LinkedListCircularDisordered;
 
 import estruturas.LinkedList.Disordered.LinkedListCircularDisordered;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
 public class TestLinkedListCircularDisordered {
 
     // metodo para verificar se a lista é circular
@@ -47,6 +53,19 @@ public class TestLinkedListCircularDisordered {
         return true;
     }
 
+    // Metodo para verificar, depois da ordenação, o último nó e se o círculo foi fechado novamente
+    public static <X> boolean verificaUltimoECirculo(LinkedListCircularDisordered<X> lista) {
+        if (lista.primeiro == null) return lista.ultimo == null && lista.tamanho == 0;
+
+        // Depois de 'tamanho - 1' passos a partir do primeiro nó, deve-se chegar ao último, que aponta para o primeiro
+        LinkedListCircularDisordered<X>.Node atual = lista.primeiro;
+        for (int i = 1; i < lista.tamanho; i++) {
+            if (atual == lista.ultimo || atual.proximo == null) return false;
+            atual = atual.proximo;
+        }
+        return atual == lista.ultimo && lista.ultimo.proximo == lista.primeiro;
+    }
+
     public static void main(String[] args) {
         LinkedListCircularDisordered<Integer> int_list = new LinkedListCircularDisordered<>();
         int_list.addLast(1);
@@ -160,6 +179,56 @@ public class TestLinkedListCircularDisordered {
         int_list2.removeAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
 
+        System.out.println();
+        System.out.println("Testando sort estável");
+        LinkedListCircularDisordered<String> palavras = new LinkedListCircularDisordered<>();
+        for (String palavra : new String[]{"uva", "kiwi", "pera", "figo", "caju", "lima", "maçã"})
+            palavras.addLast(palavra);
+        palavras.sort(Comparator.comparingInt(String::length)); // Empates mantêm a ordem de inserção
+        System.out.println("sort(comprimento):    " + palavras + " " + verificaUltimoECirculo(palavras));
+
+        LinkedListCircularDisordered<Integer> numeros = new LinkedListCircularDisordered<>();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 10_000; i++)
+            numeros.addLast(aleatorio.nextInt(1000));
+        List<Integer> esperado = new ArrayList<>(numeros.stream().toList());
+        Comparator<Integer> porDezena = Comparator.comparingInt(n -> n / 10); // Muitos empates com valores distintos
+        esperado.sort(porDezena); // List.sort também é estável
+        numeros.sort(porDezena);
+        System.out.println("sort estável:         " + numeros.stream().toList().equals(esperado) + " " + verificaUltimoECirculo(numeros));
+        numeros.sort();
+        esperado.sort(null);
+        System.out.println("sort natural:         " + numeros.stream().toList().equals(esperado) + " " + verificaUltimoECirculo(numeros));
+
+        LinkedListCircularDisordered<Integer> unitaria = new LinkedListCircularDisordered<>();
+        unitaria.addLast(7);
+        unitaria.sort();
+        System.out.println("sort com um elemento: " + unitaria + " " + verificaUltimoECirculo(unitaria));
+
+        try {
+            numeros.sort((a, b) -> {
+                if (a == 500) throw new IllegalStateException("comparador falhou");
+                return Integer.compare(b, a);
+            });
+            System.out.println("Falha do comparador não propagada");
+        } catch (IllegalStateException e) {
+            List<Integer> restantes = new ArrayList<>(numeros.stream().toList());
+            restantes.sort(null);
+            System.out.println("Falha do comparador:  " + e.getMessage() + ", nenhum nó perdido = "
+                               + restantes.equals(esperado) + " " + verificaUltimoECirculo(numeros));
+        }
 
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        LinkedListCircularDisordered<Integer> iterada = new LinkedListCircularDisordered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.addLast(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.addLast(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
-}
\ No newline at end of file
+}
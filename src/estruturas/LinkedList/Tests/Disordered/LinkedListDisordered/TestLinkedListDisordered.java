@@ -3,7 +3,14 @@ package estruturas.LinkedList.Tests.Disordered.LinkedListDisordered;
 import estruturas.LinkedList.Disordered.LinkedListDisordered;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
 
 import static java.util.Comparator.comparing;
 
@@ -44,6 +51,17 @@ public class TestLinkedListDisordered {
         return count;
     }
 
+    // Metodo para verificar se o último nó e o tamanho guardados pela lista correspondem aos nós encadeados
+    public static <X> boolean verificaUltimoETamanho(LinkedListDisordered<X> lista) {
+        LinkedListDisordered<X>.Node ultimo = null;
+        int tamanho = 0;
+        for (LinkedListDisordered<X>.Node current = lista.primeiro; current != null; current = current.proximo) {
+            ultimo = current;
+            tamanho++;
+        }
+        return lista.ultimo == ultimo && lista.tamanho == tamanho;
+    }
+
     public static void main(String[] args) {
         LinkedListDisordered<Integer> int_list = new LinkedListDisordered<>();
         int_list.addLast(1);
@@ -345,6 +363,120 @@ public class TestLinkedListDisordered {
         int firstIndexOf2 = numbers5.indexOf(2);
         System.out.println("firstIndexOf2:  " + firstIndexOf2);
 
+        System.out.println("Testando o último nó");
+        LinkedListDisordered<Integer> numbers6 = new LinkedListDisordered<>();
+        for (int i = 1; i <= 5; i++)
+            numbers6.addLast(i);
+        System.out.println("addLast:        " + numbers6 + " " + verificaUltimoETamanho(numbers6));
+        numbers6.reverse();
+        System.out.println("reverse:        " + numbers6 + " " + verificaUltimoETamanho(numbers6));
+        numbers6.removeLast();
+        System.out.println("removeLast:     " + numbers6 + " " + verificaUltimoETamanho(numbers6));
+        numbers6.removeAfter(numbers6.primeiro.proximo.proximo);
+        System.out.println("removeAfter:    " + numbers6 + " " + verificaUltimoETamanho(numbers6));
+        numbers6.removeAfter(null);
+        System.out.println("removeAfter:    " + numbers6 + " " + verificaUltimoETamanho(numbers6));
+        numbers6.addLast(6);
+        System.out.println("addLast:        " + numbers6 + " último = " + numbers6.getLast() + " " + verificaUltimoETamanho(numbers6));
+        LinkedListDisordered<Integer> numbers7 = new LinkedListDisordered<>(numbers6);
+        System.out.println("cópia:          " + numbers7 + " " + verificaUltimoETamanho(numbers7));
+        LinkedListDisordered<Integer> numbers8 = numbers6.subList(1, 3);
+        System.out.println("subList(1, 3):  " + numbers8 + " " + verificaUltimoETamanho(numbers8));
+        numbers6.clear();
+        numbers6.addFirst(7);
+        System.out.println("clear/addFirst: " + numbers6 + " último = " + numbers6.getLast() + " " + verificaUltimoETamanho(numbers6));
+
+        System.out.println("Testando iterator, removeIf e removeFirstMatch");
+        LinkedListDisordered<Integer> numbers9 = new LinkedListDisordered<>();
+        for (int i = 1; i <= 10; i++)
+            numbers9.addLast(i);
+        Iterator<Integer> iterador = numbers9.iterator();
+        while (iterador.hasNext()) {
+            if (iterador.next() % 3 == 0) iterador.remove(); // Remove os múltiplos de 3 no cursor
+        }
+        System.out.println("iterator.remove:  " + numbers9 + " " + verificaUltimoETamanho(numbers9));
+        boolean removeuPares = numbers9.removeIf(n -> n % 2 == 0);
+        System.out.println("removeIf(pares):  " + numbers9 + " " + removeuPares + " " + verificaUltimoETamanho(numbers9));
+        Integer removido = numbers9.removeFirstMatch(n -> n > 5);
+        System.out.println("removeFirstMatch: " + numbers9 + " removido = " + removido + " " + verificaUltimoETamanho(numbers9));
+        Integer nenhum = numbers9.removeFirstMatch(n -> n > 100);
+        System.out.println("removeFirstMatch: " + numbers9 + " removido = " + nenhum);
+        try {
+            for (Iterator<Integer> it = numbers9.iterator(); it.hasNext(); ) {
+                if (it.next() == 1) numbers9.addLast(11); // Alteração fora do iterador
+            }
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
+        try {
+            numbers9.iterator().remove();
+        } catch (IllegalStateException e) {
+            System.out.println("remove() antes de next(): " + e.getMessage());
+        }
+
+        System.out.println();
+        System.out.println("Testando for-each, stream e parallelStream");
+        LinkedListDisordered<Integer> numbers10 = new LinkedListDisordered<>();
+        for (int i = 1; i <= 1000; i++)
+            numbers10.addLast(i);
+        int somaForEach = 0;
+        for (int n : numbers10)
+            somaForEach += n;
+        System.out.println("Soma (for-each):      " + somaForEach);
+        System.out.println("Soma (stream):        " + numbers10.stream().mapToInt(Integer::intValue).sum());
+        System.out.println("Soma (parallelStream): " + numbers10.parallelStream().mapToInt(Integer::intValue).sum());
+        System.out.println("Ordem preservada:     " + numbers10.parallelStream().toList().equals(numbers10.stream().toList()));
+        System.out.println("Tamanho estimado:     " + numbers10.spliterator().estimateSize());
+
+        System.out.println();
+        System.out.println("Testando sort estável e parallelSort");
+        LinkedListDisordered<String> palavras = new LinkedListDisordered<>();
+        for (String palavra : new String[]{"uva", "kiwi", "pera", "figo", "caju", "lima", "maçã"})
+            palavras.addLast(palavra);
+        palavras.sort(Comparator.comparingInt(String::length)); // Empates mantêm a ordem de inserção
+        System.out.println("sort(comprimento):    " + palavras + " " + verificaUltimoETamanho(palavras));
+        LinkedListDisordered<Integer> numbers11 = new LinkedListDisordered<>();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 100_000; i++)
+            numbers11.addLast(aleatorio.nextInt(1000));
+        List<Integer> esperado = new ArrayList<>(numbers11.toList());
+        esperado.sort(null);
+        numbers11.parallelSort();
+        System.out.println("parallelSort ordenado: " + numbers11.toList().equals(esperado) + " " + verificaUltimoETamanho(numbers11));
+        numbers11.reverse();
+        numbers11.sort();
+        System.out.println("sort após reverse:     " + numbers11.toList().equals(esperado) + " " + verificaUltimoETamanho(numbers11));
+
+        System.out.println();
+        System.out.println("Testando shuffle com gerador informado");
+        LinkedListDisordered<Integer> embaralhada1 = new LinkedListDisordered<>();
+        LinkedListDisordered<Integer> embaralhada2 = new LinkedListDisordered<>();
+        for (int i = 0; i < 10; i++) {
+            embaralhada1.addLast(i);
+            embaralhada2.addLast(i);
+        }
+        embaralhada1.shuffle(new SplittableRandom(7));
+        embaralhada2.shuffle(new SplittableRandom(7)); // Mesma semente, mesma permutação
+        System.out.println("shuffle(semente 7):   " + embaralhada1 + " " + verificaUltimoETamanho(embaralhada1));
+        System.out.println("Reprodutível:         " + embaralhada1.equals(embaralhada2));
+        embaralhada1.sort();
+        System.out.println("Mesmos elementos:     " + embaralhada1);
+
+        // Frequência de cada uma das 6 permutações de [0, 1, 2]: todas devem ficar perto de 1/6
+        Map<String, Integer> frequencias = new TreeMap<>();
+        SplittableRandom gerador = new SplittableRandom(2024);
+        for (int i = 0; i < 60_000; i++) {
+            LinkedListDisordered<Integer> tres = new LinkedListDisordered<>();
+            tres.addLast(0);
+            tres.addLast(1);
+            tres.addLast(2);
+            tres.shuffle(gerador);
+            frequencias.merge(tres.toString(), 1, Integer::sum);
+        }
+        boolean uniforme = frequencias.size() == 6 && frequencias.values().stream().allMatch(n -> Math.abs(n - 10_000) < 500);
+        System.out.println("Permutações:          " + frequencias.size() + " uniforme = " + uniforme);
+
 
     }
 }
\ No newline at end of file
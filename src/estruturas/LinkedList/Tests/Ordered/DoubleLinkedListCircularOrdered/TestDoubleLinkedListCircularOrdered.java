@@ -2,6 +2,8 @@ package estruturas.LinkedList.Tests.Ordered.DoubleLinkedListCircularOrdered;
 
 import estruturas.LinkedList.Ordered.DoubleLinkedListCircularOrdered;
 
+import java.util.ConcurrentModificationException;
+
 public class TestDoubleLinkedListCircularOrdered {
 
     // metodo para verificar se todos os nós estão corretamente duplamente ligados
@@ -235,6 +237,18 @@ public class TestDoubleLinkedListCircularOrdered {
         System.out.println("int_list2.size(): " + int_list2.getTamanho());
         int_list2.removeAt(0);
         System.out.println("int_list2.size(): " + int_list2.getTamanho());
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        DoubleLinkedListCircularOrdered<Integer> iterada = new DoubleLinkedListCircularOrdered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.add(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.add(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
-
@@ -2,6 +2,8 @@ package estruturas.LinkedList.Tests.Ordered.DoubleLinkedListOrdered;
 
 import estruturas.LinkedList.Ordered.DoubleLinkedListOrdered;
 
+import java.util.ConcurrentModificationException;
+
 public class TestDoubleLinkedListOrdered {
 
     // metodo para verificar se todos os nós estão corretamente duplamente ligados
@@ -200,5 +202,18 @@ public class TestDoubleLinkedListOrdered {
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
         int_list2.removeAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        DoubleLinkedListOrdered<Integer> iterada = new DoubleLinkedListOrdered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.add(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.add(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
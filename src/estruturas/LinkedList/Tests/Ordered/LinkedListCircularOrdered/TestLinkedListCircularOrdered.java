@@ -2,6 +2,8 @@ package estruturas.LinkedList.Tests.Ordered.LinkedListCircularOrdered;
 
 import estruturas.LinkedList.Ordered.LinkedListCircularOrdered;
 
+import java.util.ConcurrentModificationException;
+
 public class TestLinkedListCircularOrdered {
 
     // metodo para verificar se a lista é circular
@@ -212,5 +214,17 @@ public class TestLinkedListCircularOrdered {
         int_list2.removeAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
 
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        LinkedListCircularOrdered<Integer> iterada = new LinkedListCircularOrdered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.add(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.add(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
@@ -2,6 +2,8 @@ package estruturas.LinkedList.Tests.Ordered.LinkedListOrdered;
 
 import estruturas.LinkedList.Ordered.LinkedListOrdered;
 
+import java.util.ConcurrentModificationException;
+
 public class TestLinkedListOrdered {
 
     // metodo para verificar se a lista é simplesmente encadeada
@@ -174,5 +176,18 @@ public class TestLinkedListOrdered {
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
         int_list2.deleteAt(0);
         System.out.println("int_list2.getTamanho(): " + int_list2.getTamanho());
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        LinkedListOrdered<Integer> iterada = new LinkedListOrdered<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.add(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 2) iterada.add(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
@@ -1,14 +1,22 @@
 package estruturas.Queue;
 
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class Queue<X> implements Cloneable {
+public class Queue<X> implements Cloneable, Iterable<X> {
 
     private Object[] elemento;
     private final int tamanhoInicial;
     private int ultimo = -1;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public Queue() {
         this.tamanhoInicial = 10;
@@ -29,6 +37,7 @@ public class Queue<X> implements Cloneable {
 
         this.ultimo++;
         this.elemento[this.ultimo] = verifyAndCopy(x);
+        this.modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -53,6 +62,7 @@ public class Queue<X> implements Cloneable {
 
         this.elemento[this.ultimo] = null;
         this.ultimo--;
+        this.modificacoes++;
 
         if (this.elemento.length > this.tamanhoInicial &&
                 this.ultimo + 1 <= Math.round((float) this.elemento.length / 4))
@@ -159,4 +169,42 @@ public class Queue<X> implements Cloneable {
         if (this.isEmpty()) return "[]";
         return "[" + this.elemento[0] + "]";
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Do início (próximo a sair) para o fim da fila; falha rápido (ConcurrentModificationException)
+        // se a fila for alterada durante a iteração, pois dequeue desloca os elementos no vetor
+        return new Iterator<>() {
+            private int atual = 0;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return atual <= ultimo;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (atual > ultimo) throw new NoSuchElementException();
+                return (X) elemento[atual++];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato e falha rápida (usa o iterador, sem expor o vetor); trySplit separa lotes crescentes
+        // de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), this.ultimo + 1, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -4,12 +4,15 @@ import estruturas.LinkedList.Disordered.LinkedListDisordered;
 
 import java.util.ArrayList;
 import java.util.EmptyStackException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class QueueWithLinkedListDisordered<X> implements Cloneable {
+public class QueueWithLinkedListDisordered<X> implements Cloneable, Iterable<X> {
 
     // FIFO - First In First Out
     private LinkedListDisordered<X> elemento;
@@ -206,4 +209,22 @@ public class QueueWithLinkedListDisordered<X> implements Cloneable {
         if (isEmpty()) return "[]";
         else return "[" + this.peek() + "]";
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        return this.elemento.iterator(); // Do início (próximo a sair) para o fim da fila
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        return this.elemento.spliterator();
+    }
+
+    public Stream<X> stream() {
+        return this.elemento.stream();
+    }
+
+    public Stream<X> parallelStream() {
+        return this.elemento.parallelStream();
+    }
 }
\ No newline at end of file
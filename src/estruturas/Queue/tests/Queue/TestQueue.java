@@ -1,4 +1,43 @@
 package estruturas.Queue.tests.Queue;
 
+import estruturas.Queue.Queue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+
 public class TestQueue {
+    public static void main(String[] args) {
+        Queue<Integer> queue = new Queue<>(5);
+        for (int i = 1; i <= 5; i++)
+            queue.enqueue(i);
+
+        System.out.println("queue.peek():    " + queue);
+        System.out.println("queue.toArray(): " + queue.toArray());
+
+        StringBuilder emOrdem = new StringBuilder();
+        for (Integer numero : queue)
+            emOrdem.append(numero).append(' ');
+        System.out.println("for-each:        " + emOrdem.toString().trim());
+        System.out.println("Soma (parallelStream): " + queue.parallelStream().mapToInt(Integer::intValue).sum());
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        try {
+            for (Integer numero : queue)
+                if (numero == 2) queue.dequeue();
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
+
+        // O spliterator não pode enxergar o deslocamento feito por dequeue no vetor da fila
+        Spliterator<Integer> spliterator = queue.spliterator();
+        queue.dequeue();
+        try {
+            spliterator.tryAdvance(numero -> System.out.println("Spliterator após dequeue: " + numero));
+            System.out.println("Alteração antes do spliterator não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração antes do spliterator detectada: ConcurrentModificationException");
+        }
+    }
 }
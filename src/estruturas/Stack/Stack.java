@@ -1,14 +1,22 @@
 package estruturas.Stack;
 
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class Stack<X> implements Cloneable {
+public class Stack<X> implements Cloneable, Iterable<X> {
 
     private Object[] elemento;
     private final int tamanhoInicial;
     private int ultimo = -1;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     public Stack() {
         this.tamanhoInicial = 10;
@@ -29,6 +37,7 @@ public class Stack<X> implements Cloneable {
 
         this.ultimo++;
         this.elemento[this.ultimo] = verifyAndCopy(x);
+        this.modificacoes++;
     }
 
     @SuppressWarnings("unchecked")
@@ -50,6 +59,7 @@ public class Stack<X> implements Cloneable {
 
         this.elemento[this.ultimo] = null;
         this.ultimo--;
+        this.modificacoes++;
 
         // Preciso garantir que nunca a pilha ficaria com um tamanho menor que o seu tamanho inicial
         if (this.elemento.length > this.tamanhoInicial &&
@@ -157,4 +167,41 @@ public class Stack<X> implements Cloneable {
         if (this.isEmpty()) return "[]";
         return "[" + this.elemento[this.ultimo] + "]";
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        // Do topo (próximo a sair) para a base, na mesma ordem de toArray; falha rápido
+        // (ConcurrentModificationException) se a pilha for alterada durante a iteração
+        return new Iterator<>() {
+            private int atual = ultimo;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return atual >= 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public X next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (atual < 0) throw new NoSuchElementException();
+                return (X) elemento[atual--];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        // Tamanho exato; trySplit separa lotes crescentes de elementos em vetores, que as demais threads processam
+        return Spliterators.spliterator(iterator(), this.ultimo + 1, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    public Stream<X> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<X> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -5,12 +5,15 @@ import estruturas.LinkedList.Disordered.LinkedListDisordered;
 
 import java.util.ArrayList;
 import java.util.EmptyStackException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
-public class StackWithLinkedListDisordered<X> implements Cloneable {
+public class StackWithLinkedListDisordered<X> implements Cloneable, Iterable<X> {
 
     // LIFO - Last In First Out
     private LinkedListDisordered<X> elemento;
@@ -230,6 +233,24 @@ public class StackWithLinkedListDisordered<X> implements Cloneable {
         if (isEmpty()) return "[]";
         else return "[" + this.peek() + "]";
     }
+
+    @Override
+    public Iterator<X> iterator() {
+        return this.elemento.iterator(); // Do topo (próximo a sair) para a base: o topo é o início da lista
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        return this.elemento.spliterator();
+    }
+
+    public Stream<X> stream() {
+        return this.elemento.stream();
+    }
+
+    public Stream<X> parallelStream() {
+        return this.elemento.parallelStream();
+    }
 }
 /*
  * 1 - boolean empty(): Verifica se a pilha está vazia.
@@ -2,6 +2,8 @@ package estruturas.Stack.tests.Stack;
 
 import estruturas.Stack.Stack;
 
+import java.util.ConcurrentModificationException;
+
 public class TestStack {
     public static void main(String[] args) {
         Stack<Integer> stack = new Stack<Integer>(5);
@@ -40,5 +42,18 @@ public class TestStack {
 
         System.out.println("stack.isEmpty(): " + stack.isEmpty());
         System.out.println("stack.isFull():  " + stack.isFull());
+
+        System.out.println();
+        System.out.println("Testando iterador que falha rápido");
+        Stack<Integer> iterada = new Stack<>(5);
+        for (int i = 1; i <= 5; i++)
+            iterada.push(i);
+        try {
+            for (Integer numero : iterada)
+                if (numero == 4) iterada.pop();
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
     }
 }
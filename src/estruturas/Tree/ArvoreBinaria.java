@@ -3,8 +3,17 @@ package estruturas.Tree;
 import estruturas.LinkedList.Ordered.LinkedListOrdered;
 
 import java.lang.reflect.Array;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
 
@@ -14,9 +23,10 @@ import static estruturas.ShallowOrDeepCopy.ShallowOrDeepCopy.verifyAndCopy;
  *
  * @param <T> O tipo de dado armazenado na árvore, que deve implementar a interface `Comparable`.
  */
-public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
+public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable, Iterable<T> {
 
     private No<T> raiz;
+    private int modificacoes;  // Contador de alterações estruturais, usado pelos iteradores para falhar rápido
 
     /**
      * Construtor padrão que inicializa uma árvore binária vazia.
@@ -57,6 +67,7 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
         if (contem(valor)) throw new IllegalArgumentException("Valor repetido"); // Verifica se já existe
         No<T> novoNo = (No<T>) verifyAndCopy(new No<>(valor));
         raiz = inserir(raiz, novoNo);
+        modificacoes++;
     }
 
     /**
@@ -88,6 +99,7 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
     public void remova(T valor) throws Exception {
         if (valor == null) throw new Exception("Informação ausente");
         raiz = remova(raiz, valor);
+        modificacoes++;
     }
 
     /**
@@ -504,6 +516,7 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
      */
     public void balancear() {
         raiz = balancear(raiz);
+        modificacoes++;
     }
 
     /**
@@ -589,6 +602,7 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
      */
     public void espelhar() {
         espelhar(raiz);
+        modificacoes++;
     }
 
     /**
@@ -733,6 +747,7 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
      */
     public void limpar() {
         raiz = null;
+        modificacoes++;
     }
 
     /**
@@ -870,4 +885,86 @@ public class ArvoreBinaria<T extends Comparable<T>> implements Cloneable {
 
         return sb.toString();
     }
+
+    /**
+     * Retorna um iterador que percorre os valores da árvore em ordem (in-order), ou seja, em ordem crescente
+     * (decrescente depois de espelhar). Usa uma pilha explícita com no máximo a altura da árvore, sem recursão e
+     * sem copiar os valores, e falha rápido (ConcurrentModificationException) se a árvore for alterada durante a
+     * iteração.
+     *
+     * @return Um iterador sobre os valores da árvore, em ordem.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<No<T>> pilha = new ArrayDeque<>();
+            private final int modificacoesEsperadas = modificacoes;
+
+            {
+                empilharEsquerda(raiz);
+            }
+
+            private void empilharEsquerda(No<T> no) {
+                for (; no != null; no = no.getEsquerda())
+                    pilha.push(no);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pilha.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modificacoes != modificacoesEsperadas) throw new ConcurrentModificationException();
+                if (pilha.isEmpty()) throw new NoSuchElementException();
+
+                No<T> no = pilha.pop();
+                empilharEsquerda(no.getDireita()); // O próximo valor é o menor da subárvore direita
+                return no.getValor();
+            }
+        };
+    }
+
+    /**
+     * Retorna um Spliterator de tamanho exato sobre os valores da árvore, na ordem do iterador e sem repetições.
+     * Não informa SORTED: depois de espelhar, a ordem do iterador é decrescente. O tamanho é contado na criação;
+     * trySplit separa lotes de valores, de tamanho crescente, em vetores, que as demais threads processam.
+     *
+     * @return Um Spliterator sobre os valores da árvore.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        int caracteristicas = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return Spliterators.spliterator(iterator(), contarNos(raiz), caracteristicas);
+    }
+
+    /**
+     * Retorna um Stream sequencial sobre os valores da árvore, na ordem do iterador.
+     *
+     * @return Um Stream sequencial sobre os valores da árvore.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Retorna um Stream paralelo sobre os valores da árvore.
+     *
+     * @return Um Stream paralelo sobre os valores da árvore.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * metodo recursivo privado para contar os nós da subárvore a partir de um determinado nó.
+     *
+     * @param no O nó atual da recursão.
+     * @return A quantidade de nós da subárvore.
+     */
+    private int contarNos(No<T> no) {
+        if (no == null) return 0;
+        return 1 + contarNos(no.getEsquerda()) + contarNos(no.getDireita());
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package estruturas.Tree.tests;
 import estruturas.Tree.ArvoreBinaria;
 
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 
 public class TestArvoreBinaria {
     public static void main(String[] args) throws Exception {
@@ -71,12 +72,38 @@ public class TestArvoreBinaria {
         System.out.println("Travessia  pre-order (Array):       " + Arrays.toString(arvore.preOrderToArray()));
         System.out.println("Travessia post-order (Array):       " + Arrays.toString(arvore.postOrderToArray()));
 
+        System.out.println("Testes de iteração");
+        StringBuilder emOrdem = new StringBuilder();
+        for (Integer valor : arvore)
+            emOrdem.append(valor).append(' ');
+        System.out.println("Travessia   in-order (for-each):    " + emOrdem.toString().trim());
+        System.out.println("Soma (stream):                      " + arvore.stream().mapToInt(Integer::intValue).sum());
+        System.out.println("Soma (parallelStream):              " + arvore.parallelStream().mapToInt(Integer::intValue).sum());
+
         System.out.println("Espelhando a árvore...");
         arvore.espelhar();
         System.out.println("Árvore espelhada:    " + arvore);
 
         System.out.println("Altura:             " + arvore.altura());
 
+        StringBuilder espelhada = new StringBuilder();
+        for (Integer valor : arvore)
+            espelhada.append(valor).append(' ');
+        System.out.println("Travessia   in-order (espelhada):   " + espelhada.toString().trim());
+        System.out.println("Ordenada (stream().sorted()):       " + arvore.stream().sorted().toList());
+
+        System.out.println("Testando iterador que falha rápido");
+        ArvoreBinaria<Integer> iterada = new ArvoreBinaria<>();
+        for (int i = 1; i <= 5; i++)
+            iterada.inserir(i);
+        try {
+            for (Integer valor : iterada)
+                if (valor == 2) iterada.inserir(99);
+            System.out.println("Alteração durante a iteração não detectada");
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Alteração durante a iteração detectada: ConcurrentModificationException");
+        }
+
         System.out.println("\n2. Removendo elementos da árvore:");
         arvore.remova(50);
         System.out.println("Removendo 50: " + arvore);